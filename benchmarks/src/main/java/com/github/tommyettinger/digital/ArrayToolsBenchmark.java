@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the in-place shuffles, reversals, and fills in {@link ArrayTools} on arrays of different sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayToolsBenchmark {
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    private final Random random = new Random(123456789L);
+    private int[] ints;
+    private long[] longs;
+    private String[] strings;
+    private float[][] grid;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ints = ArrayTools.range(size);
+        longs = new long[size];
+        strings = new String[size];
+        for (int i = 0; i < size; i++) {
+            longs[i] = random.nextLong();
+            strings[i] = String.valueOf(i);
+        }
+        int side = (int) Math.sqrt(size);
+        grid = new float[side][side];
+    }
+
+    @Benchmark
+    public int[] shuffleInts() {
+        return ArrayTools.shuffle(ints, random);
+    }
+
+    @Benchmark
+    public long[] shuffleLongs() {
+        return ArrayTools.shuffle(longs, random);
+    }
+
+    @Benchmark
+    public String[] shuffleObjects() {
+        return ArrayTools.shuffle(strings, random);
+    }
+
+    @Benchmark
+    public int[] reverseInts() {
+        return ArrayTools.reverse(ints);
+    }
+
+    @Benchmark
+    public float[][] fill2D() {
+        ArrayTools.fill(grid, 1.5f);
+        return grid;
+    }
+}
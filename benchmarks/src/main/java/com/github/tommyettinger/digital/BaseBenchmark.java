@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the stateless encoding methods in {@link Base} with the older approach that wrote every number into one
+ * {@code char[]} buffer owned by the Base (which isn't safe to share between threads). Run with {@code -t 4} or
+ * similar to see how each approach behaves when several threads encode at once. Decoding with
+ * {@link Base#readLong(CharSequence)} and the bulk {@link Base#join(String, long[])} and
+ * {@link Base#longSplit(String, String)} are measured over the same 1024 numbers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(1024)
+public class BaseBenchmark {
+    @Param({"BASE10", "BASE16", "BASE86"})
+    public String baseName;
+
+    private Base base;
+    private SingleBuffer legacy;
+    private long[] numbers;
+    private String[] encoded;
+    private String joined;
+    private final StringBuilder builder = new StringBuilder(80);
+    private final char[] buffer = new char[80];
+
+    /**
+     * The encoding approach Base used before it became stateless, kept here only for comparison.
+     */
+    static final class SingleBuffer {
+        private final char[] toEncoded;
+        private final int base, length8Byte;
+        private final char negativeSign;
+        private final char[] progress;
+
+        SingleBuffer(Base other) {
+            toEncoded = other.toEncoded;
+            base = other.base;
+            negativeSign = other.negativeSign;
+            length8Byte = (int) Math.ceil(Math.log(0x1p64) / Math.log(base));
+            progress = new char[length8Byte + 1];
+        }
+
+        StringBuilder appendUnsigned(StringBuilder builder, long number) {
+            final int len = length8Byte - 1;
+            final int halfBase = base >>> 1;
+            for (int i = 0; i <= len; i++) {
+                long quotient = (number >>> 1) / halfBase;
+                progress[len - i] = toEncoded[(int) (number - quotient * base)];
+                number = quotient;
+            }
+            return builder.append(progress, 0, length8Byte);
+        }
+
+        StringBuilder appendSigned(StringBuilder builder, long number) {
+            int run = length8Byte;
+            final long sign = number >> -1;
+            number = -(number + sign ^ sign);
+            for (; ; run--) {
+                progress[run] = toEncoded[(int) -(number % base)];
+                if ((number /= base) == 0)
+                    break;
+            }
+            if (sign != 0) {
+                progress[--run] = negativeSign;
+            }
+            return builder.append(progress, run, length8Byte + 1 - run);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        base = (Base) Base.class.getField(baseName).get(null);
+        legacy = new SingleBuffer(base);
+        Random random = new Random(123456789L);
+        numbers = new long[1024];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = random.nextLong() >> random.nextInt(64);
+        }
+        encoded = new String[numbers.length];
+        for (int i = 0; i < numbers.length; i++) {
+            encoded[i] = base.signed(numbers[i]);
+        }
+        joined = base.join(",", numbers);
+    }
+
+    @Benchmark
+    public void appendSignedLegacy(Blackhole bh) {
+        for (long n : numbers) {
+            builder.setLength(0);
+            bh.consume(legacy.appendSigned(builder, n).length());
+        }
+    }
+
+    @Benchmark
+    public void appendSignedBuilder(Blackhole bh) {
+        for (long n : numbers) {
+            builder.setLength(0);
+            bh.consume(base.appendSigned(builder, n).length());
+        }
+    }
+
+    @Benchmark
+    public void appendSignedArray(Blackhole bh) {
+        for (long n : numbers) {
+            bh.consume(base.appendSigned(buffer, 0, n));
+        }
+    }
+
+    @Benchmark
+    public void appendUnsignedLegacy(Blackhole bh) {
+        for (long n : numbers) {
+            builder.setLength(0);
+            bh.consume(legacy.appendUnsigned(builder, n).length());
+        }
+    }
+
+    @Benchmark
+    public void appendUnsignedBuilder(Blackhole bh) {
+        for (long n : numbers) {
+            builder.setLength(0);
+            bh.consume(base.appendUnsigned(builder, n).length());
+        }
+    }
+
+    @Benchmark
+    public void appendUnsignedArray(Blackhole bh) {
+        for (long n : numbers) {
+            bh.consume(base.appendUnsigned(buffer, 0, n));
+        }
+    }
+
+    @Benchmark
+    public void signedString(Blackhole bh) {
+        for (long n : numbers) {
+            bh.consume(base.signed(n));
+        }
+    }
+
+    @Benchmark
+    public void readLong(Blackhole bh) {
+        for (String s : encoded) {
+            bh.consume(base.readLong(s));
+        }
+    }
+
+    @Benchmark
+    public String join() {
+        return base.join(",", numbers);
+    }
+
+    @Benchmark
+    public long[] longSplit() {
+        return base.longSplit(joined, ",");
+    }
+}
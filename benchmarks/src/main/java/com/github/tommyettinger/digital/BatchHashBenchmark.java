@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the batch methods like {@link Hasher#hashAll(CharSequence[], int[])} with calling the single-key methods in
+ * a loop, on 1024 short keys with lengths from 0 to {@code maxLength - 1}. Results are reported per key.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(1024)
+public class BatchHashBenchmark {
+    @Param({"8", "32"})
+    public int maxLength;
+
+    private final String[] strings = new String[1024];
+    private final int[][] arrays = new int[1024][];
+    private final long[] longs = new long[1024];
+    private final long[] singleLong = new long[1];
+    private final int[] out32 = new int[1024];
+    private final long[] out64 = new long[1024];
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(123456789L);
+        for (int i = 0; i < 1024; i++) {
+            char[] chars = new char[random.nextInt(maxLength)];
+            for (int j = 0; j < chars.length; j++) chars[j] = (char) (random.nextInt(26) + 'a');
+            strings[i] = String.valueOf(chars);
+            arrays[i] = new int[random.nextInt(maxLength)];
+            for (int j = 0; j < arrays[i].length; j++) arrays[i][j] = random.nextInt();
+            longs[i] = random.nextLong();
+        }
+    }
+
+    @Benchmark
+    public int[] stringsSingle() {
+        for (int i = 0; i < 1024; i++) out32[i] = Hasher.astaroth.hash(strings[i]);
+        return out32;
+    }
+
+    @Benchmark
+    public int[] stringsBatch() {
+        return Hasher.astaroth.hashAll(strings, out32);
+    }
+
+    @Benchmark
+    public long[] strings64Single() {
+        for (int i = 0; i < 1024; i++) out64[i] = Hasher.astaroth.hash64(strings[i]);
+        return out64;
+    }
+
+    @Benchmark
+    public long[] strings64Batch() {
+        return Hasher.astaroth.hash64All(strings, out64);
+    }
+
+    @Benchmark
+    public int[] intArraysSingle() {
+        for (int i = 0; i < 1024; i++) out32[i] = Hasher.astaroth.hash(arrays[i]);
+        return out32;
+    }
+
+    @Benchmark
+    public int[] intArraysBatch() {
+        return Hasher.astaroth.hashAll(arrays, out32);
+    }
+
+    @Benchmark
+    public long[] longsSingle() {
+        for (int i = 0; i < 1024; i++) {
+            singleLong[0] = longs[i];
+            out64[i] = Hasher.astaroth.hash64(singleLong);
+        }
+        return out64;
+    }
+
+    @Benchmark
+    public long[] longsBatch() {
+        return Hasher.astaroth.hash64All(longs, out64);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the bit-level conversions in {@link BitConversion}, which are used throughout the hashing and encoding
+ * code. Each benchmark processes 1024 inputs, so results are reported per call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(1024)
+public class BitConversionBenchmark {
+    private final float[] floats = new float[1024];
+    private final double[] doubles = new double[1024];
+    private final int[] ints = new int[1024];
+    private final byte[] bytes = new byte[1024 + 8];
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(123456789L);
+        for (int i = 0; i < 1024; i++) {
+            floats[i] = random.nextFloat();
+            doubles[i] = random.nextDouble();
+            ints[i] = random.nextInt();
+        }
+        random.nextBytes(bytes);
+    }
+
+    @Benchmark
+    public int floatToIntBits() {
+        int sum = 0;
+        for (float f : floats) sum += BitConversion.floatToIntBits(f);
+        return sum;
+    }
+
+    @Benchmark
+    public float intBitsToFloat() {
+        float sum = 0f;
+        for (int n : ints) sum += BitConversion.intBitsToFloat(n);
+        return sum;
+    }
+
+    @Benchmark
+    public long doubleToLongBits() {
+        long sum = 0L;
+        for (double d : doubles) sum += BitConversion.doubleToLongBits(d);
+        return sum;
+    }
+
+    @Benchmark
+    public int doubleToMixedIntBits() {
+        int sum = 0;
+        for (double d : doubles) sum += BitConversion.doubleToMixedIntBits(d);
+        return sum;
+    }
+
+    @Benchmark
+    public int lowestOneBit() {
+        int sum = 0;
+        for (int n : ints) sum += BitConversion.lowestOneBit(n);
+        return sum;
+    }
+
+    @Benchmark
+    public long readLongLE() {
+        long sum = 0L;
+        for (int i = 0; i < 1024; i++) sum += BitConversion.readLongLE(bytes, i);
+        return sum;
+    }
+}
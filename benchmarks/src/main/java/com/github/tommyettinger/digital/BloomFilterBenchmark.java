@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares lookups in {@link BloomFilter} and {@link BlockedBloomFilter} with a naive Bloom filter that hashes each
+ * item once per probe, using a different predefined Hasher each time. Every filter holds {@link #items} Strings and
+ * aims for a 1% false positive rate; half of the lookups are for items that were added. Scores are lookups per
+ * second. Run {@link #main(String[])} to print the false positive rate each filter actually gets.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BloomFilterBenchmark {
+    private static final double RATE = 0.01;
+
+    /**
+     * A Bloom filter that hashes an item separately for each probe.
+     */
+    public static final class NaiveBloomFilter {
+        private final long[] bits;
+        private final long numBits;
+        private final int hashes;
+
+        public NaiveBloomFilter(long expectedItems, double falsePositiveRate) {
+            long n = BloomFilter.optimalBits(expectedItems, falsePositiveRate);
+            bits = new long[(int) (n + 63 >>> 6)];
+            numBits = (long) bits.length << 6;
+            hashes = BloomFilter.optimalHashes(expectedItems, numBits);
+        }
+
+        public void add(CharSequence item) {
+            for (int i = 0; i < hashes; i++) {
+                long index = Long.remainderUnsigned(Hasher.predefined[i].hash64(item), numBits);
+                bits[(int) (index >>> 6)] |= 1L << index;
+            }
+        }
+
+        public boolean mightContain(CharSequence item) {
+            for (int i = 0; i < hashes; i++) {
+                long index = Long.remainderUnsigned(Hasher.predefined[i].hash64(item), numBits);
+                if ((bits[(int) (index >>> 6)] & 1L << index) == 0L) return false;
+            }
+            return true;
+        }
+    }
+
+    @Param({"100000", "10000000"})
+    public int items;
+
+    private BloomFilter standard;
+    private BlockedBloomFilter blocked;
+    private NaiveBloomFilter naive;
+    private String[] queries;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        standard = new BloomFilter(Hasher.omega, items, RATE);
+        blocked = new BlockedBloomFilter(Hasher.omega, items, RATE);
+        naive = new NaiveBloomFilter(items, RATE);
+        for (int i = 0; i < items; i++) {
+            String item = "item" + i;
+            standard.add(item);
+            blocked.add(item);
+            naive.add(item);
+        }
+        queries = new String[1 << 16];
+        for (int i = 0; i < queries.length; i++) {
+            long r = Hasher.randomize2(i);
+            queries[i] = ((r & 1L) == 0L ? "item" : "other") + ((r >>> 1) % items);
+        }
+    }
+
+    @Benchmark
+    public boolean standard() {
+        return standard.mightContain(queries[index++ & 0xFFFF]);
+    }
+
+    @Benchmark
+    public boolean blocked() {
+        return blocked.mightContain(queries[index++ & 0xFFFF]);
+    }
+
+    @Benchmark
+    public boolean naive() {
+        return naive.mightContain(queries[index++ & 0xFFFF]);
+    }
+
+    /**
+     * Prints the false positive rate and size of each filter for a few target rates.
+     *
+     * @param args ignored
+     */
+    public static void main(String[] args) {
+        final int n = 1000000, trials = 2000000;
+        for (double rate : new double[]{0.1, 0.01, 0.001, 0.0001}) {
+            BloomFilter standard = new BloomFilter(Hasher.omega, n, rate);
+            BlockedBloomFilter blocked = new BlockedBloomFilter(Hasher.omega, n, rate);
+            NaiveBloomFilter naive = new NaiveBloomFilter(n, rate);
+            for (int i = 0; i < n; i++) {
+                String item = "item" + i;
+                standard.add(item);
+                blocked.add(item);
+                naive.add(item);
+            }
+            int s = 0, b = 0, v = 0;
+            for (int i = 0; i < trials; i++) {
+                String item = "other" + i;
+                if (standard.mightContain(item)) s++;
+                if (blocked.mightContain(item)) b++;
+                if (naive.mightContain(item)) v++;
+            }
+            System.out.printf("target %.4f%%: standard %.4f%% (%.2f bits/item), blocked %.4f%% (%.2f bits/item), naive %.4f%%%n",
+                    rate * 100.0, s * 100.0 / trials, standard.bitSize() / (double) n,
+                    b * 100.0 / trials, blocked.bitSize() / (double) n, v * 100.0 / trials);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of routing one key to one of {@link #shards} shards with {@link ConsistentHash}, against
+ * {@code Hasher.hash64(key) % n}. Run {@link #main(String[])} to print how many keys each method moves when a shard is
+ * added or removed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConsistentHashBenchmark {
+    @Param({"8", "64", "1024"})
+    public int shards;
+
+    private final ConsistentHash router = new ConsistentHash(Hasher.omega);
+    private long[] ids;
+    private double[] weights;
+    private long[] loads;
+    private long[] capacities;
+    private String[] names;
+    private long key;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ids = new long[shards];
+        weights = new double[shards];
+        for (int i = 0; i < shards; i++) {
+            ids[i] = 1000L + i;
+            weights[i] = 1.0 + (i & 3);
+        }
+        capacities = ConsistentHash.capacities(1L << 40, weights, 0.25, new long[shards]);
+        loads = new long[shards];
+        names = new String[1024];
+        for (int i = 0; i < names.length; i++) names[i] = "session:" + i;
+    }
+
+    @Benchmark
+    public int modulo() {
+        return (int) Long.remainderUnsigned(Hasher.omega.hash64(new long[]{key++}), shards);
+    }
+
+    @Benchmark
+    public int jump() {
+        return router.jump(key++, shards);
+    }
+
+    @Benchmark
+    public int jumpString() {
+        return router.jump(names[(int) (key++ & 1023)], shards);
+    }
+
+    @Benchmark
+    public int rendezvous() {
+        return router.rendezvous(key++, ids);
+    }
+
+    @Benchmark
+    public int rendezvousWeighted() {
+        return router.rendezvous(key++, ids, weights);
+    }
+
+    @Benchmark
+    public int rendezvousBounded() {
+        return router.rendezvousBounded(key++, ids, loads, capacities);
+    }
+
+    /**
+     * Prints the share of 1,000,000 keys that move when going from 16 to 17 shards, and when removing shard 5 of 16,
+     * for modulo, jump, and rendezvous routing. Jump can't remove a shard from the middle, so it isn't shown there.
+     *
+     * @param args ignored
+     */
+    public static void main(String[] args) {
+        final ConsistentHash router = new ConsistentHash(Hasher.omega);
+        final int keys = 1000000;
+        final long[] ids16 = new long[16], ids17 = new long[17], ids15 = new long[15];
+        for (int i = 0; i < 17; i++) {
+            if (i < 16) ids16[i] = 1000L + i;
+            ids17[i] = 1000L + i;
+            if (i < 15) ids15[i] = 1000L + (i < 5 ? i : i + 1);
+        }
+        int modulo = 0, jump = 0, rendezvous = 0, moduloRemove = 0, rendezvousRemove = 0;
+        for (long key = 0; key < keys; key++) {
+            final long h = Hasher.omega.hash64(new long[]{key});
+            final long m16 = Long.remainderUnsigned(h, 16);
+            if (m16 != Long.remainderUnsigned(h, 17)) modulo++;
+            if (ids16[(int) m16] != ids15[(int) Long.remainderUnsigned(h, 15)]) moduloRemove++;
+            if (router.jump(key, 16) != router.jump(key, 17)) jump++;
+            final long r16 = ids16[router.rendezvous(key, ids16)];
+            if (r16 != ids17[router.rendezvous(key, ids17)]) rendezvous++;
+            if (r16 != ids15[router.rendezvous(key, ids15)]) rendezvousRemove++;
+        }
+        System.out.printf("16 -> 17 shards (ideal %.2f%%): modulo %.2f%%, jump %.2f%%, rendezvous %.2f%%%n",
+                100.0 / 17, modulo * 100.0 / keys, jump * 100.0 / keys, rendezvous * 100.0 / keys);
+        System.out.printf("remove 1 of 16 (ideal %.2f%%): modulo %.2f%%, rendezvous %.2f%%%n",
+                100.0 / 16, moduloRemove * 100.0 / keys, rendezvousRemove * 100.0 / keys);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link CounterRandom} with {@link Random}, {@link ThreadLocalRandom}, and {@link SplittableRandom} when
+ * several threads draw numbers at once. A Random is shared by every thread, as {@link ArrayTools#RANDOM} is, so its
+ * atomic seed is contended; each thread gets its own SplittableRandom and CounterRandom, split from one root. Run
+ * with {@code -t 1}, {@code -t 4}, and so on, up to the number of cores, to see how each scales. The stream
+ * benchmarks sum a parallel stream of a million longs from each generator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class CounterRandomBenchmark {
+    @State(Scope.Benchmark)
+    public static class Shared {
+        final Random random = new Random(123L);
+        final SplittableRandom splittableRoot = new SplittableRandom(123L);
+        final CounterRandom counterRoot = new CounterRandom(123L);
+    }
+
+    @State(Scope.Thread)
+    public static class PerThread {
+        SplittableRandom splittable;
+        CounterRandom counter;
+        final int[] items = new int[256];
+
+        @Setup(Level.Trial)
+        public void setup(Shared shared) {
+            synchronized (shared) {
+                splittable = shared.splittableRoot.split();
+                counter = shared.counterRoot.split();
+            }
+            for (int i = 0; i < items.length; i++) items[i] = i;
+        }
+    }
+
+    @Benchmark
+    public long nextLongRandom(Shared shared) {
+        return shared.random.nextLong();
+    }
+
+    @Benchmark
+    public long nextLongThreadLocalRandom() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    @Benchmark
+    public long nextLongSplittableRandom(PerThread local) {
+        return local.splittable.nextLong();
+    }
+
+    @Benchmark
+    public long nextLongCounterRandom(PerThread local) {
+        return local.counter.nextLong();
+    }
+
+    @Benchmark
+    public int nextIntBoundedRandom(Shared shared) {
+        return shared.random.nextInt(1000);
+    }
+
+    @Benchmark
+    public int nextIntBoundedThreadLocalRandom() {
+        return ThreadLocalRandom.current().nextInt(1000);
+    }
+
+    @Benchmark
+    public int nextIntBoundedSplittableRandom(PerThread local) {
+        return local.splittable.nextInt(1000);
+    }
+
+    @Benchmark
+    public int nextIntBoundedCounterRandom(PerThread local) {
+        return local.counter.nextInt(1000);
+    }
+
+    @Benchmark
+    public int[] shuffleRandom(Shared shared, PerThread local) {
+        return ArrayTools.shuffle(local.items, shared.random);
+    }
+
+    @Benchmark
+    public int[] shuffleThreadLocalRandom(PerThread local) {
+        return ArrayTools.shuffle(local.items, ThreadLocalRandom.current());
+    }
+
+    @Benchmark
+    public int[] shuffleCounterRandom(PerThread local) {
+        return ArrayTools.shuffle(local.items, local.counter);
+    }
+
+    @Benchmark
+    @Threads(1)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long parallelStreamRandom(Shared shared) {
+        return shared.random.longs(1000000L).parallel().sum();
+    }
+
+    @Benchmark
+    @Threads(1)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long parallelStreamSplittableRandom(PerThread local) {
+        return local.splittable.longs(1000000L).parallel().sum();
+    }
+
+    @Benchmark
+    @Threads(1)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long parallelStreamCounterRandom(PerThread local) {
+        return local.counter.longs(1000000L).parallel().sum();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares hashing a cubic voxel grid with the 3D overloads, such as {@link Hasher#hash64(int[][][])}, against the
+ * way it had to be done before they existed: hashing each 2D slice with the 2D overload, then hashing the array of
+ * slice hashes. The 256 size needs a large heap for the long and double grids, so this forks with -Xmx2g.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class Grid3DHashBenchmark {
+    @Param({"64", "256"})
+    public int size;
+
+    @Param({"byte", "int", "float", "long", "double"})
+    public String type;
+
+    private byte[][][] bytes;
+    private int[][][] ints;
+    private float[][][] floats;
+    private long[][][] longs;
+    private double[][][] doubles;
+    private long[] sliceHashes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(123456789L);
+        sliceHashes = new long[size];
+        switch (type) {
+            case "byte":
+                bytes = new byte[size][size][size];
+                for (byte[][] slice : bytes) for (byte[] row : slice) random.nextBytes(row);
+                break;
+            case "int":
+                ints = new int[size][size][size];
+                for (int[][] slice : ints) for (int[] row : slice) for (int i = 0; i < size; i++) row[i] = random.nextInt();
+                break;
+            case "float":
+                floats = new float[size][size][size];
+                for (float[][] slice : floats) for (float[] row : slice) for (int i = 0; i < size; i++) row[i] = random.nextFloat();
+                break;
+            case "long":
+                longs = new long[size][size][size];
+                for (long[][] slice : longs) for (long[] row : slice) for (int i = 0; i < size; i++) row[i] = random.nextLong();
+                break;
+            default:
+                doubles = new double[size][size][size];
+                for (double[][] slice : doubles) for (double[] row : slice) for (int i = 0; i < size; i++) row[i] = random.nextDouble();
+        }
+    }
+
+    @Benchmark
+    public long grid() {
+        switch (type) {
+            case "byte": return Hasher.astaroth.hash64(bytes);
+            case "int": return Hasher.astaroth.hash64(ints);
+            case "float": return Hasher.astaroth.hash64(floats);
+            case "long": return Hasher.astaroth.hash64(longs);
+            default: return Hasher.astaroth.hash64(doubles);
+        }
+    }
+
+    @Benchmark
+    public long slices() {
+        for (int i = 0; i < size; i++) {
+            switch (type) {
+                case "byte": sliceHashes[i] = Hasher.astaroth.hash64(bytes[i]); break;
+                case "int": sliceHashes[i] = Hasher.astaroth.hash64(ints[i]); break;
+                case "float": sliceHashes[i] = Hasher.astaroth.hash64(floats[i]); break;
+                case "long": sliceHashes[i] = Hasher.astaroth.hash64(longs[i]); break;
+                default: sliceHashes[i] = Hasher.astaroth.hash64(doubles[i]);
+            }
+        }
+        return Hasher.astaroth.hash64(sliceHashes);
+    }
+}
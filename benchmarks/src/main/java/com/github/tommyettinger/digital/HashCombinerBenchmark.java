@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashes a composite key of a long id, an int shard, and a String name, using a {@link HashCombiner}, an Object[]
+ * passed to {@link Hasher#hash64(Object[])}, and a long[] holding the id, shard, and name's hash. Run with
+ * {@code -prof gc} to see {@code gc.alloc.rate.norm}; the combiner should show about 0 B/op once escape analysis
+ * removes it, while the array versions allocate their array (and box the id and shard for Object[]).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashCombinerBenchmark {
+    private static final String[] NAMES = {"alpha", "beta", "gamma", "delta", "epsilon", "zeta", "eta", "theta"};
+
+    private long id = 1234567890123L;
+    private int shard;
+
+    @Benchmark
+    public long combiner() {
+        final long i = id++;
+        return Hasher.omega.combine().mix(i).mix(shard++ & 63).mix(NAMES[(int) i & 7]).finish();
+    }
+
+    @Benchmark
+    public long objectArray() {
+        final long i = id++;
+        return Hasher.omega.hash64(new Object[]{i, shard++ & 63, NAMES[(int) i & 7]});
+    }
+
+    @Benchmark
+    public long longArray() {
+        final long i = id++;
+        return Hasher.omega.hash64(new long[]{i, shard++ & 63, Hasher.omega.hash64(NAMES[(int) i & 7])});
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates a hash-flooding attack on a string-keyed hash table. The "attack" keys are chosen, by brute force, so that
+ * the top {@link #TABLE_BITS} bits of {@code Hasher.alpha.hash64()} are the same for all of them, which an attacker
+ * can do because alpha's seed is public; a table that picks slots with those top bits, as {@link LongLongMap} does,
+ * puts every attack key in one cluster, at any table size up to {@code 1 << TABLE_BITS}. The "random" keys are random
+ * strings of the same length. Each invocation fills a linear-probing table with all keys and then looks each one up;
+ * results are reported per key. With {@link KeyedHasher#process()}, the attacker can't know which keys collide, so
+ * both kinds of key should take about the same time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(HashFloodBenchmark.KEYS)
+public class HashFloodBenchmark {
+    public static final int KEYS = 2048;
+    public static final int TABLE_BITS = 13;
+
+    @Param({"alpha", "keyed"})
+    public String hasher;
+
+    @Param({"random", "attack"})
+    public String keys;
+
+    private final String[] input = new String[KEYS];
+    private final String[] table = new String[1 << TABLE_BITS];
+
+    private static String randomKey(Random random) {
+        char[] chars = new char[12];
+        for (int i = 0; i < chars.length; i++) chars[i] = (char) ('a' + random.nextInt(26));
+        return String.valueOf(chars);
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(123456789L);
+        for (int i = 0; i < KEYS; i++) {
+            String key;
+            do {
+                key = randomKey(random);
+            } while ("attack".equals(keys) && Hasher.alpha.hash64(key) >>> 64 - TABLE_BITS != 0L);
+            input[i] = key;
+        }
+    }
+
+    private long hash64(String key) {
+        return "keyed".equals(hasher) ? KeyedHasher.process().hash64(key) : Hasher.alpha.hash64(key);
+    }
+
+    @Benchmark
+    public int fillAndFind() {
+        final String[] table = this.table;
+        final int mask = table.length - 1;
+        Arrays.fill(table, null);
+        for (String key : input) {
+            int i = (int) (hash64(key) >>> 64 - TABLE_BITS);
+            while (table[i] != null && !table[i].equals(key)) i = i + 1 & mask;
+            table[i] = key;
+        }
+        int found = 0;
+        for (String key : input) {
+            int i = (int) (hash64(key) >>> 64 - TABLE_BITS);
+            while (table[i] != null && !table[i].equals(key)) i = i + 1 & mask;
+            if (table[i] != null) found++;
+        }
+        return found;
+    }
+}
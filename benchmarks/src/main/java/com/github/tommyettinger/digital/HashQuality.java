@@ -0,0 +1,583 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * An offline, SMHasher-style quality suite for the entry points of {@link Hasher} and for
+ * {@link Hasher#randomize1(long)}, {@link Hasher#randomize2(long)} and {@link Hasher#randomize3(long)}, followed by a
+ * quick throughput pass over the same entry points. Every check runs locally with a fixed random seed, so two runs
+ * of the same code print the same quality numbers.
+ * <br>
+ * The checks are:
+ * <ul>
+ *     <li>avalanche: flipping any one input bit should flip each output bit half of the time;</li>
+ *     <li>bit independence: flipping one input bit should flip any two output bits independently of each other;</li>
+ *     <li>sparse keys: keys with only a few bits set should neither collide nor bunch up in any 16-bit window of the
+ *     output;</li>
+ *     <li>cyclic keys: keys made by repeating a short random block should neither collide nor bunch up;</li>
+ *     <li>seed sensitivity: flipping one bit of the seed should avalanche like an input bit, and sequential seeds on
+ *     the same key should neither collide nor bunch up.</li>
+ * </ul>
+ * Each check prints its worst statistic in standard deviations from what an ideal random function would give, and
+ * fails when that goes past a limit a good hash should not reach by chance. Collision counts are compared with the
+ * number expected for that many random outputs. This is a regression guard, not a replacement for running the full
+ * SMHasher on a native port; the point is that a change to {@link Hasher#mum(long, long)} or a finalizer that makes
+ * distribution worse shows up here next to the speed it bought.
+ * <br>
+ * Run it with {@code gradlew :benchmarks:hashQuality}, which writes the report to
+ * {@code benchmarks/build/reports/hash-quality/summary.txt} and fails if any check fails. Pass {@code --quick} as an
+ * argument (or {@code -PhashQualityQuick} to Gradle) for a smaller, faster run. A few checks are marked as known to
+ * fail for one entry point, where the cause is a documented design choice; those print KNOWN and don't fail the run.
+ */
+public final class HashQuality {
+    /**
+     * A check fails when its worst statistic is further than this many standard deviations from ideal. With the
+     * number of cells these checks look at, a good hash reaches around 5 by chance.
+     */
+    private static final double SIGMA_LIMIT = 6.5;
+
+    private final PrintStream out;
+    private final int avalancheKeys, bicKeys, cyclicKeys, seedKeys, sequentialSeeds;
+    private final long throughputNanos;
+    private final List<String> failures = new ArrayList<>(), knownFailures = new ArrayList<>();
+
+    private HashQuality(PrintStream out, boolean quick) {
+        this.out = out;
+        avalancheKeys = quick ? 2000 : 10000;
+        bicKeys = quick ? 500 : 2000;
+        cyclicKeys = quick ? 50000 : 200000;
+        seedKeys = quick ? 1000 : 4000;
+        sequentialSeeds = quick ? 1 << 16 : 1 << 18;
+        throughputNanos = quick ? 100_000_000L : 400_000_000L;
+    }
+
+    /**
+     * Something to test: a way to turn raw key bytes into the type a hash takes, and the hash itself.
+     */
+    interface SeededHash<T> {
+        long hash(long seed, T data);
+    }
+
+    static final class Subject<T> {
+        final String name;
+        /** How many low bits of the result are hash output; the rest are 0. */
+        final int bits;
+        /** If not 0, the only key length in bytes this can take. */
+        final int fixedBytes;
+        final boolean seeded;
+        final Function<byte[], T> prepare;
+        final SeededHash<T> hash;
+        /** Checks this is already known to fail, by the start of the check's name, with the reason. */
+        final Map<String, String> known = new LinkedHashMap<>();
+
+        Subject(String name, int bits, int fixedBytes, boolean seeded, Function<byte[], T> prepare, SeededHash<T> hash) {
+            this.name = name;
+            this.bits = bits;
+            this.fixedBytes = fixedBytes;
+            this.seeded = seeded;
+            this.prepare = prepare;
+            this.hash = hash;
+        }
+
+        long hash(long seed, byte[] key) {
+            return hash.hash(seed, prepare.apply(key));
+        }
+
+        boolean takes(int keyBytes) {
+            return fixedBytes == 0 || fixedBytes == keyBytes;
+        }
+
+        /**
+         * Records that checks whose names start with {@code check} are expected to fail for this subject, because
+         * of a documented limit that can't change without changing its results. Those checks are still run and
+         * printed, but don't fail the suite.
+         */
+        Subject<T> known(String check, String reason) {
+            known.put(check, reason);
+            return this;
+        }
+
+        String knownReason(String check) {
+            for (Map.Entry<String, String> e : known.entrySet()) {
+                if (check.startsWith(e.getKey())) return e.getValue();
+            }
+            return null;
+        }
+    }
+
+    static <T> Subject<T> subject(String name, Function<byte[], T> prepare, SeededHash<T> hash) {
+        return new Subject<>(name, 64, 0, true, prepare, hash);
+    }
+
+    static <T> Subject<T> subject32(String name, Function<byte[], T> prepare, SeededHash<T> hash) {
+        return new Subject<>(name, 32, 0, true, prepare, (seed, data) -> hash.hash(seed, data) & 0xFFFFFFFFL);
+    }
+
+    static Subject<Long> unary(String name, SeededHash<Long> hash) {
+        return new Subject<>(name, 64, 8, false, HashQuality::toLong, hash);
+    }
+
+    private static final String BYTE_CYCLES = "a 4-byte block repeated over a byte[] collides more often than even a 32-bit"
+            + " hash would; hashBulk64() doesn't, but changing hash64(byte[]) would change all its results";
+    private static final String ROWS_32 = "each row goes through the 32-bit hash(int[]), so keys with one row, or with"
+            + " identical rows, collide like 32-bit hashes";
+
+    static List<Subject<?>> subjects() {
+        List<Subject<?>> subjects = new ArrayList<>();
+        subjects.add(subject("hash64(boolean[])", HashQuality::toBooleans, Hasher::hash64));
+        subjects.add(subject("hash64(byte[])", key -> key, Hasher::hash64)
+                .known("cyclic, 4-byte", BYTE_CYCLES));
+        subjects.add(subject("hash64(short[])", HashQuality::toShorts, Hasher::hash64));
+        subjects.add(subject("hash64(char[])", HashQuality::toChars, Hasher::hash64));
+        subjects.add(subject("hash64(CharSequence)", key -> new String(toChars(key)), Hasher::hash64));
+        subjects.add(subject("hash64(int[])", HashQuality::toInts, Hasher::hash64));
+        subjects.add(subject("hash64(long[])", HashQuality::toLongs, Hasher::hash64));
+        subjects.add(subject("hash64(float[])", HashQuality::toFloats, Hasher::hash64));
+        subjects.add(subject("hash64(double[])", HashQuality::toDoubles, Hasher::hash64));
+        subjects.add(subject("hash64(int[][])", HashQuality::toIntRows, Hasher::hash64)
+                .known("sparse", ROWS_32)
+                .known("cyclic", ROWS_32));
+        subjects.add(subject("hashBulk64(byte[])", key -> key, Hasher::hashBulk64));
+        subjects.add(subject("hash64(ByteBuffer)", ByteBuffer::wrap, (seed, data) -> Hasher.hash64(seed, data.duplicate())));
+        subjects.add(subject("hash128(byte[])[0]", key -> key, (seed, data) -> Hasher.hash128(seed, data, new long[2])[0]));
+        subjects.add(subject("hash128(byte[])[1]", key -> key, (seed, data) -> Hasher.hash128(seed, data, new long[2])[1]));
+        subjects.add(subject32("hash(byte[])", key -> key, Hasher::hash));
+        subjects.add(subject32("hash(int[])", HashQuality::toInts, Hasher::hash));
+        subjects.add(subject32("hash(CharSequence)", key -> new String(toChars(key)), Hasher::hash));
+        subjects.add(subject("new Hasher(seed).hash64(byte[])", key -> key, (seed, data) -> new Hasher(seed).hash64(data))
+                .known("seed avalanche", "instance seeds are used as-is; the static methods mix the seed first")
+                .known("cyclic, 4-byte", BYTE_CYCLES));
+        subjects.add(subject("KeyedHasher.hash64(byte[])", key -> key, (seed, data) -> new KeyedHasher(seed, ~seed).hash64(data)));
+        subjects.add(unary("randomize1(long)", (seed, data) -> Hasher.randomize1(data))
+                .known("avalanche", "randomize1() is the fast one, meant for sequential inputs; high input bits can't reach low output bits")
+                .known("bit independence", "randomize1() is the fast one, meant for sequential inputs; high input bits can't reach low output bits"));
+        subjects.add(unary("randomize2(long)", (seed, data) -> Hasher.randomize2(data)));
+        subjects.add(unary("randomize3(long)", (seed, data) -> Hasher.randomize3(data)));
+        return subjects;
+    }
+
+    public static void main(String[] args) throws FileNotFoundException {
+        boolean quick = false;
+        String reportPath = null;
+        for (String arg : args) {
+            if ("--quick".equals(arg)) quick = true;
+            else reportPath = arg;
+        }
+        PrintStream out = System.out;
+        if (reportPath != null) {
+            File report = new File(reportPath);
+            if (report.getParentFile() != null) report.getParentFile().mkdirs();
+            out = new Tee(System.out, new PrintStream(report));
+        }
+        HashQuality suite = new HashQuality(out, quick);
+        List<Subject<?>> subjects = subjects();
+        long started = System.nanoTime();
+        for (Subject<?> subject : subjects) {
+            suite.check(subject);
+        }
+        suite.throughput(subjects);
+        out.printf(Locale.ROOT, "%nFinished in %.1f seconds.%n", (System.nanoTime() - started) * 1E-9);
+        if (!suite.knownFailures.isEmpty()) {
+            out.println(suite.knownFailures.size() + " checks failed as already known, and don't count:");
+            for (String known : suite.knownFailures) out.println("  " + known);
+        }
+        if (suite.failures.isEmpty()) {
+            out.println("All quality checks passed.");
+        } else {
+            out.println(suite.failures.size() + " quality checks failed:");
+            for (String failure : suite.failures) out.println("  " + failure);
+        }
+        out.flush();
+        if (out != System.out) out.close();
+        if (!suite.failures.isEmpty()) System.exit(1);
+    }
+
+    private void check(Subject<?> subject) {
+        out.println();
+        out.println(subject.name);
+        Random random = new Random(0x1234567890ABCDEFL);
+        avalanche(subject, random, 8, true);
+        if (subject.takes(40))
+            avalanche(subject, random, 40, false);
+        sparse(subject, 8, 4);
+        if (subject.takes(64))
+            sparse(subject, 64, 2);
+        if (subject.takes(32)) {
+            cyclic(subject, random, 4, 8);
+            cyclic(subject, random, 8, 8);
+        }
+        if (subject.seeded) {
+            seedAvalanche(subject, random);
+            sequentialSeeds(subject);
+        }
+    }
+
+    private void report(Subject<?> subject, String check, String detail, boolean passed) {
+        final String reason = passed ? null : subject.knownReason(check);
+        out.printf(Locale.ROOT, "  %-46s %-60s %s%n", check, detail, passed ? "PASS" : reason == null ? "FAIL" : "KNOWN");
+        if (reason != null) knownFailures.add(subject.name + ": " + check + ", " + detail + "; " + reason);
+        else if (!passed) failures.add(subject.name + ": " + check + ", " + detail);
+    }
+
+    /**
+     * Flips each bit of random keys and counts how often each output bit changes. When {@code independence} is
+     * true, this also counts how often each pair of output bits changes together, for the bit independence check.
+     */
+    private void avalanche(Subject<?> subject, Random random, int keyBytes, boolean independence) {
+        final int inBits = keyBytes << 3, outBits = subject.bits, keys = avalancheKeys;
+        final int pairKeys = independence ? Math.min(bicKeys, keys) : 0;
+        final int[][] flips = new int[inBits][outBits];
+        final int[][] pairs = independence ? new int[inBits][outBits * outBits] : null;
+        final int[][] pairFlips = independence ? new int[inBits][outBits] : null;
+        final byte[] key = new byte[keyBytes];
+        for (int n = 0; n < keys; n++) {
+            random.nextBytes(key);
+            final long seed = random.nextLong(), base = subject.hash(seed, key);
+            for (int i = 0; i < inBits; i++) {
+                key[i >>> 3] ^= 1 << (i & 7);
+                long changed = base ^ subject.hash(seed, key);
+                key[i >>> 3] ^= 1 << (i & 7);
+                final int[] row = flips[i];
+                for (long f = changed; f != 0; f &= f - 1) row[Long.numberOfTrailingZeros(f)]++;
+                if (n < pairKeys) {
+                    final int[] pairRow = pairs[i], pairFlipRow = pairFlips[i];
+                    for (long f = changed; f != 0; f &= f - 1) {
+                        final int j = Long.numberOfTrailingZeros(f), offset = j * outBits;
+                        pairFlipRow[j]++;
+                        for (long g = f & f - 1; g != 0; g &= g - 1) pairRow[offset + Long.numberOfTrailingZeros(g)]++;
+                    }
+                }
+            }
+        }
+        reportAvalanche(subject, "avalanche, " + keyBytes + "-byte keys", flips, keys);
+        if (independence) {
+            double worst = 0.0;
+            for (int i = 0; i < inBits; i++) {
+                for (int j = 0; j < outBits; j++) {
+                    final double nj = pairFlips[i][j];
+                    for (int k = j + 1; k < outBits; k++) {
+                        final double nk = pairFlips[i][k], denominator = nj * (pairKeys - nj) * nk * (pairKeys - nk);
+                        if (denominator == 0.0) {
+                            worst = Double.POSITIVE_INFINITY;
+                            continue;
+                        }
+                        final double r = (pairKeys * (double) pairs[i][j * outBits + k] - nj * nk) / Math.sqrt(denominator);
+                        worst = Math.max(worst, Math.abs(r) * Math.sqrt(pairKeys));
+                    }
+                }
+            }
+            report(subject, "bit independence, " + keyBytes + "-byte keys",
+                    String.format(Locale.ROOT, "worst correlation %.2f sigma", worst), worst <= SIGMA_LIMIT);
+        }
+    }
+
+    private void reportAvalanche(Subject<?> subject, String check, int[][] flips, int trials) {
+        final double half = trials * 0.5;
+        double worst = 0.0;
+        for (int[] row : flips) {
+            for (int count : row) worst = Math.max(worst, Math.abs(count - half));
+        }
+        final double sigma = worst / Math.sqrt(trials * 0.25);
+        report(subject, check, String.format(Locale.ROOT, "worst bias %.2f%% (%.2f sigma)", worst / half * 100.0, sigma),
+                sigma <= SIGMA_LIMIT);
+    }
+
+    /**
+     * Hashes every key of {@code keyBytes} bytes with at most {@code maxBits} bits set.
+     */
+    private void sparse(Subject<?> subject, int keyBytes, int maxBits) {
+        final int inBits = keyBytes << 3;
+        long total = 0;
+        for (int b = 0, choose = 1; b <= maxBits; b++) {
+            total += choose;
+            choose = choose * (inBits - b) / (b + 1);
+        }
+        final long[] hashes = new long[(int) total];
+        final byte[] key = new byte[keyBytes];
+        final int[] count = {0};
+        sparseKeys(subject, key, 0, maxBits, hashes, count);
+        distribution(subject, "sparse, " + keyBytes + "-byte keys, " + maxBits + " bits", hashes);
+    }
+
+    private static void sparseKeys(Subject<?> subject, byte[] key, int from, int bitsLeft, long[] hashes, int[] count) {
+        hashes[count[0]++] = subject.hash(0L, key);
+        if (bitsLeft == 0) return;
+        for (int i = from, n = key.length << 3; i < n; i++) {
+            key[i >>> 3] ^= 1 << (i & 7);
+            sparseKeys(subject, key, i + 1, bitsLeft - 1, hashes, count);
+            key[i >>> 3] ^= 1 << (i & 7);
+        }
+    }
+
+    /**
+     * Hashes keys made of a random-looking block of {@code cycleBytes} bytes repeated {@code cycles} times. The blocks
+     * come from a bijection on a counter rather than from {@link Random}, so no two keys are the same even when the
+     * blocks are only 4 bytes.
+     */
+    private void cyclic(Subject<?> subject, Random random, int cycleBytes, int cycles) {
+        final long[] hashes = new long[cyclicKeys];
+        final long salt = random.nextLong();
+        final byte[] key = new byte[cycleBytes * cycles];
+        for (int n = 0; n < cyclicKeys; n++) {
+            final long block = cycleBytes == 4 ? (n * 0x9E3779B9 ^ salt) & 0xFFFFFFFFL : n * 0x9E3779B97F4A7C15L ^ salt;
+            for (int i = 0; i < key.length; i++) key[i] = (byte) (block >>> ((i % cycleBytes) << 3));
+            hashes[n] = subject.hash(0L, key);
+        }
+        distribution(subject, "cyclic, " + cycleBytes + "-byte block x" + cycles, hashes);
+    }
+
+    /**
+     * Flips each bit of the seed and counts how often each output bit changes, on random keys.
+     */
+    private void seedAvalanche(Subject<?> subject, Random random) {
+        final int outBits = subject.bits;
+        final int[][] flips = new int[64][outBits];
+        final byte[] key = new byte[16];
+        for (int n = 0; n < seedKeys; n++) {
+            random.nextBytes(key);
+            final long seed = random.nextLong(), base = subject.hash(seed, key);
+            for (int i = 0; i < 64; i++) {
+                final int[] row = flips[i];
+                for (long f = base ^ subject.hash(seed ^ 1L << i, key); f != 0; f &= f - 1)
+                    row[Long.numberOfTrailingZeros(f)]++;
+            }
+        }
+        reportAvalanche(subject, "seed avalanche, 16-byte keys", flips, seedKeys);
+    }
+
+    /**
+     * Hashes the same all-zero key with the seeds 0, 1, 2, and so on.
+     */
+    private void sequentialSeeds(Subject<?> subject) {
+        final long[] hashes = new long[sequentialSeeds];
+        final byte[] key = new byte[16];
+        for (int n = 0; n < sequentialSeeds; n++) hashes[n] = subject.hash(n, key);
+        distribution(subject, "sequential seeds, 16-byte key", hashes);
+    }
+
+    /**
+     * Counts collisions in the whole output and in its lower and upper 32 bits, and measures how evenly every 16-bit
+     * window of the output, starting at each multiple of 8 bits, spreads over 65536 buckets.
+     */
+    private void distribution(Subject<?> subject, String check, long[] hashes) {
+        final int bits = subject.bits;
+        final long[] sorted = hashes.clone();
+        Arrays.sort(sorted);
+        final long full = collisions(sorted);
+        final double fullExpected = expectedCollisions(hashes.length, bits);
+        boolean passed = full <= collisionLimit(fullExpected);
+        final StringBuilder detail = new StringBuilder(String.format(Locale.ROOT, "%d collisions (%.1f expected)", full, fullExpected));
+        if (bits == 64) {
+            for (int half = 0; half < 2; half++) {
+                for (int i = 0; i < hashes.length; i++) sorted[i] = half == 0 ? hashes[i] & 0xFFFFFFFFL : hashes[i] >>> 32;
+                Arrays.sort(sorted);
+                final long c = collisions(sorted);
+                final double expected = expectedCollisions(hashes.length, 32);
+                passed &= c <= collisionLimit(expected);
+                if (c > collisionLimit(expected)) detail.append(String.format(Locale.ROOT, ", %s 32 bits %d", half == 0 ? "low" : "high", c));
+            }
+        }
+        final int[] buckets = new int[1 << 16];
+        double worst = 0.0;
+        for (int shift = 0; shift + 16 <= bits; shift += 8) {
+            Arrays.fill(buckets, 0);
+            for (long h : hashes) buckets[(int) (h >>> shift) & 0xFFFF]++;
+            final double mean = hashes.length / 65536.0;
+            double chiSquared = 0.0;
+            for (int b : buckets) chiSquared += (b - mean) * (b - mean) / mean;
+            worst = Math.max(worst, (chiSquared - 65535.0) / Math.sqrt(2.0 * 65535.0));
+        }
+        passed &= worst <= SIGMA_LIMIT;
+        detail.append(String.format(Locale.ROOT, ", worst window %.2f sigma", worst));
+        report(subject, check + " (" + hashes.length + ")", detail.toString(), passed);
+    }
+
+    private static long collisions(long[] sorted) {
+        long count = 0;
+        for (int i = 1; i < sorted.length; i++) if (sorted[i] == sorted[i - 1]) count++;
+        return count;
+    }
+
+    private static double expectedCollisions(long n, int bits) {
+        return n * (n - 1.0) * 0.5 / Math.scalb(1.0, bits);
+    }
+
+    private static double collisionLimit(double expected) {
+        return 1.0 + expected + SIGMA_LIMIT * Math.sqrt(expected);
+    }
+
+    /**
+     * Times each subject on keys of a few sizes. This is only meant to sit next to the quality numbers; use the JMH
+     * benchmarks, such as {@link HasherBenchmark}, for careful measurements.
+     */
+    private void throughput(List<Subject<?>> subjects) {
+        final int[] sizes = {8, 64, 1024};
+        out.println();
+        out.printf(Locale.ROOT, "%-46s", "throughput, ns per hash (MB/s)");
+        for (int size : sizes) out.printf(Locale.ROOT, "%22s", size + " bytes");
+        out.println();
+        for (Subject<?> subject : subjects) {
+            out.printf(Locale.ROOT, "%-46s", subject.name);
+            for (int size : sizes) {
+                if (!subject.takes(size)) {
+                    out.printf(Locale.ROOT, "%22s", "-");
+                    continue;
+                }
+                final double nanos = time(subject, size);
+                out.printf(Locale.ROOT, "%22s", String.format(Locale.ROOT, "%.1f (%.0f)", nanos, size * 1E3 / nanos));
+            }
+            out.println();
+        }
+    }
+
+    private static volatile long sink;
+
+    private <T> double time(Subject<T> subject, int size) {
+        final Random random = new Random(size);
+        final byte[] bytes = new byte[size];
+        random.nextBytes(bytes);
+        final T data = subject.prepare.apply(bytes);
+        long result = 0L;
+        // warm up for a quarter of the measured time, then measure
+        for (long stop = System.nanoTime() + throughputNanos / 4; System.nanoTime() < stop; ) {
+            for (int i = 0; i < 256; i++) result += subject.hash.hash(i, data);
+        }
+        long calls = 0;
+        final long start = System.nanoTime(), stop = start + throughputNanos;
+        long now;
+        do {
+            for (int i = 0; i < 256; i++) result += subject.hash.hash(i, data);
+            calls += 256;
+        } while ((now = System.nanoTime()) < stop);
+        sink = result;
+        return (now - start) / (double) calls;
+    }
+
+    static Long toLong(byte[] key) {
+        return toLongs(key)[0];
+    }
+
+    static boolean[] toBooleans(byte[] key) {
+        final boolean[] data = new boolean[key.length << 3];
+        for (int i = 0; i < data.length; i++) data[i] = (key[i >>> 3] >>> (i & 7) & 1) != 0;
+        return data;
+    }
+
+    static short[] toShorts(byte[] key) {
+        final short[] data = new short[key.length >>> 1];
+        for (int i = 0; i < data.length; i++) data[i] = (short) (key[i << 1] & 0xFF | key[i << 1 | 1] << 8);
+        return data;
+    }
+
+    static char[] toChars(byte[] key) {
+        final char[] data = new char[key.length >>> 1];
+        for (int i = 0; i < data.length; i++) data[i] = (char) (key[i << 1] & 0xFF | key[i << 1 | 1] << 8);
+        return data;
+    }
+
+    static int[] toInts(byte[] key) {
+        final int[] data = new int[key.length >>> 2];
+        for (int i = 0; i < data.length; i++) {
+            final int at = i << 2;
+            data[i] = key[at] & 0xFF | (key[at + 1] & 0xFF) << 8 | (key[at + 2] & 0xFF) << 16 | key[at + 3] << 24;
+        }
+        return data;
+    }
+
+    /**
+     * Splits the key into rows of two ints each.
+     */
+    static int[][] toIntRows(byte[] key) {
+        final int[] ints = toInts(key);
+        final int[][] data = new int[ints.length + 1 >>> 1][];
+        for (int i = 0; i < data.length; i++) data[i] = Arrays.copyOfRange(ints, i << 1, Math.min(ints.length, i + 1 << 1));
+        return data;
+    }
+
+    static float[] toFloats(byte[] key) {
+        final int[] ints = toInts(key);
+        final float[] data = new float[ints.length];
+        for (int i = 0; i < data.length; i++) data[i] = BitConversion.intBitsToFloat(ints[i]);
+        return data;
+    }
+
+    static long[] toLongs(byte[] key) {
+        final long[] data = new long[key.length >>> 3];
+        for (int i = 0; i < data.length; i++) {
+            long word = 0L;
+            for (int b = 7; b >= 0; b--) word = word << 8 | (key[i << 3 | b] & 0xFFL);
+            data[i] = word;
+        }
+        return data;
+    }
+
+    static double[] toDoubles(byte[] key) {
+        final long[] longs = toLongs(key);
+        final double[] data = new double[longs.length];
+        for (int i = 0; i < data.length; i++) data[i] = BitConversion.longBitsToDouble(longs[i]);
+        return data;
+    }
+
+    /**
+     * Writes everything printed to it to two streams, so the report shows up on the console and in a file.
+     */
+    private static final class Tee extends PrintStream {
+        private final PrintStream second;
+
+        Tee(PrintStream first, PrintStream second) {
+            super(first, true);
+            this.second = second;
+        }
+
+        @Override
+        public void write(int b) {
+            super.write(b);
+            second.write(b);
+        }
+
+        @Override
+        public void write(byte[] buf, int off, int len) {
+            super.write(buf, off, len);
+            second.write(buf, off, len);
+        }
+
+        @Override
+        public void flush() {
+            super.flush();
+            second.flush();
+        }
+
+        @Override
+        public void close() {
+            flush();
+            second.close();
+        }
+    }
+}
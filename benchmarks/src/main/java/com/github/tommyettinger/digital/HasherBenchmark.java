@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Hasher} on arrays and CharSequences of different sizes. For byte arrays, this compares the original
+ * one-byte-per-lane {@link Hasher#hash64(byte[])} with the 8-bytes-per-word {@link Hasher#hashBulk64(byte[])}.
+ * The {@code size} is the number of items in each input, not the number of bytes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HasherBenchmark {
+    @Param({"16", "1024", "1048576"})
+    public int size;
+
+    private byte[] bytes;
+    private char[] chars;
+    private int[] ints;
+    private long[] longs;
+    private String string;
+    private ByteBuffer heapBuffer, directBuffer;
+    private final long[] out = new long[2];
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(123456789L);
+        bytes = new byte[size];
+        random.nextBytes(bytes);
+        chars = new char[size];
+        ints = new int[size];
+        longs = new long[size];
+        for (int i = 0; i < size; i++) {
+            chars[i] = (char) (random.nextInt(95) + 32);
+            ints[i] = random.nextInt();
+            longs[i] = random.nextLong();
+        }
+        string = String.valueOf(chars);
+        heapBuffer = ByteBuffer.wrap(bytes);
+        directBuffer = ByteBuffer.allocateDirect(size);
+        directBuffer.put(bytes).flip();
+    }
+
+    @Benchmark
+    public long hash64Bytes() {
+        return Hasher.astaroth.hash64(bytes);
+    }
+
+    @Benchmark
+    public long hashBulk64Bytes() {
+        return Hasher.astaroth.hashBulk64(bytes);
+    }
+
+    @Benchmark
+    public long hashBulk64BytesStatic() {
+        return Hasher.hashBulk64(-12345L, bytes);
+    }
+
+    @Benchmark
+    public long hash64HeapBuffer() {
+        return Hasher.astaroth.hash64(heapBuffer);
+    }
+
+    @Benchmark
+    public long hash64DirectBuffer() {
+        return Hasher.astaroth.hash64(directBuffer);
+    }
+
+    @Benchmark
+    public long hash64Chars() {
+        return Hasher.astaroth.hash64(chars);
+    }
+
+    @Benchmark
+    public long hash64String() {
+        return Hasher.astaroth.hash64(string);
+    }
+
+    @Benchmark
+    public long keyedHash64String() {
+        return KeyedHasher.process().hash64(string);
+    }
+
+    @Benchmark
+    public long hash64Ints() {
+        return Hasher.astaroth.hash64(ints);
+    }
+
+    @Benchmark
+    public long hash64Longs() {
+        return Hasher.astaroth.hash64(longs);
+    }
+
+    @Benchmark
+    public int hashInts() {
+        return Hasher.astaroth.hash(ints);
+    }
+
+    @Benchmark
+    public long[] hash128Bytes() {
+        return Hasher.astaroth.hash128(bytes, out);
+    }
+
+    @Benchmark
+    public long[] twoHashBulk64Bytes() {
+        out[0] = Hasher.astaroth.hashBulk64(bytes);
+        out[1] = Hasher.omega.hashBulk64(bytes);
+        return out;
+    }
+
+    @Benchmark
+    public long[] hash128Longs() {
+        return Hasher.astaroth.hash128(longs, out);
+    }
+
+    @Benchmark
+    public long[] twoHash64Longs() {
+        out[0] = Hasher.astaroth.hash64(longs);
+        out[1] = Hasher.omega.hash64(longs);
+        return out;
+    }
+
+    @Benchmark
+    public long[] hash128String() {
+        return Hasher.astaroth.hash128(string, out);
+    }
+
+    @Benchmark
+    public long[] twoHash64String() {
+        out[0] = Hasher.astaroth.hash64(string);
+        out[1] = Hasher.omega.hash64(string);
+        return out;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to initialize {@link Hasher}, with its 192 predefined instances, in a fresh class loader
+ * each time, so the static initializer runs cold, as it does in a short-lived program. The classes are loaded before
+ * each measurement and only initialized during it. {@code initHasher} is Hasher as it is now, with precomputed seeds;
+ * {@code initHasherAndNamedSeeds} also initializes {@link NamedSeedHashers}, which creates the same 192 Hashers by
+ * hashing their names, the way Hasher used to.
+ * <br>
+ * Running {@link #main(String[])} prints how many bytes each kind of initialization allocates instead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 200)
+@Fork(3)
+public class HasherStartupBenchmark {
+    private static final String HASHER = "com.github.tommyettinger.digital.Hasher",
+            NAMED = "com.github.tommyettinger.digital.NamedSeedHashers";
+
+    private ClassLoader loader;
+
+    /**
+     * Makes a class loader that can see the library and these benchmarks, but shares no classes with the loader that
+     * loaded this one, and loads Hasher and NamedSeedHashers into it without initializing them.
+     */
+    static ClassLoader freshLoader() throws ClassNotFoundException {
+        final URL library = Hasher.class.getProtectionDomain().getCodeSource().getLocation(),
+                benchmarks = HasherStartupBenchmark.class.getProtectionDomain().getCodeSource().getLocation();
+        final ClassLoader loader = new URLClassLoader(new URL[]{library, benchmarks}, null);
+        Class.forName(HASHER, false, loader);
+        Class.forName(NAMED, false, loader);
+        return loader;
+    }
+
+    @Setup(Level.Invocation)
+    public void setup() throws ClassNotFoundException {
+        loader = freshLoader();
+    }
+
+    @Benchmark
+    public Class<?> initHasher() throws ClassNotFoundException {
+        return Class.forName(HASHER, true, loader);
+    }
+
+    @Benchmark
+    public Class<?> initHasherAndNamedSeeds() throws ClassNotFoundException {
+        return Class.forName(NAMED, true, loader);
+    }
+
+    private static long allocated() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    public static void main(String[] args) throws ClassNotFoundException {
+        for (String name : new String[]{HASHER, NAMED}) {
+            long total = 0L;
+            final int runs = 20;
+            for (int i = 0; i < runs; i++) {
+                final ClassLoader loader = freshLoader();
+                final long before = allocated();
+                Class.forName(name, true, loader);
+                total += allocated() - before;
+            }
+            System.out.printf("%-50s %8d bytes allocated per initialization%n", name, total / runs);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts a Zipf-distributed stream of cache keys, drawn from {@link #keys} distinct keys, with a
+ * {@link CountMinSketch} (epsilon 0.0001, delta 0.01, so 27,183 by 5 counters, about 1 MiB), a {@link SpaceSaving}
+ * summary with 1024 counters, and exact counting in a {@link LongLongMap}, which needs an entry for every distinct key.
+ * The shared benchmarks run 4 threads against concurrent instances. Scores are adds per microsecond.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeavyHitterBenchmark {
+    @State(Scope.Benchmark)
+    public static class Shared {
+        @Param({"1000000"})
+        public int keys;
+
+        public long[] stream;
+        public CountMinSketch sketch;
+        public CountMinSketch sharedSketch;
+        public SpaceSaving summary;
+        public SpaceSaving sharedSummary;
+        public LongLongMap exact;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            // inverse-transform sampling of a Zipf(1) distribution over the keys
+            stream = new long[1 << 20];
+            final double harmonic = Math.log(keys) + 0.5772156649;
+            for (int i = 0; i < stream.length; i++) {
+                final double u = Hasher.randomize2Double(i) * harmonic;
+                stream[i] = Hasher.randomize1((long) Math.min(keys - 1, Math.exp(u - 0.5772156649)));
+            }
+            sketch = new CountMinSketch(0.0001, 0.01);
+            sharedSketch = new CountMinSketch(0.0001, 0.01, 0, true);
+            summary = new SpaceSaving(1024);
+            sharedSummary = new SpaceSaving(1024, Hasher.predefined[0], true);
+            exact = new LongLongMap();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Local {
+        public int index;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            index = (int) Thread.currentThread().getId() * 7919;
+        }
+    }
+
+    @Benchmark
+    public long countMin(Shared shared, Local local) {
+        return shared.sketch.add(shared.stream[local.index++ & 0xFFFFF]);
+    }
+
+    @Benchmark
+    public long spaceSaving(Shared shared, Local local) {
+        return shared.summary.add(shared.stream[local.index++ & 0xFFFFF]);
+    }
+
+    @Benchmark
+    public long exact(Shared shared, Local local) {
+        return shared.exact.add(shared.stream[local.index++ & 0xFFFFF], 1L);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long countMinShared(Shared shared, Local local) {
+        return shared.sharedSketch.add(shared.stream[local.index++ & 0xFFFFF]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long spaceSavingShared(Shared shared, Local local) {
+        return shared.sharedSummary.add(shared.stream[local.index++ & 0xFFFFF]);
+    }
+}
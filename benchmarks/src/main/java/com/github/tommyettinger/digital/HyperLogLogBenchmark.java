@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures adds to a {@link HyperLogLog} with precision 14, cycling through {@link #distinct} different items, so the
+ * sketch stays sparse at 1000 and becomes dense for larger counts. The shared benchmarks add from 4 threads to one
+ * sketch. Scores are adds per microsecond. Run {@link #main(String[])} to print the estimate's error from 10^3 to
+ * 10^9 distinct items.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HyperLogLogBenchmark {
+    @State(Scope.Benchmark)
+    public static class Shared {
+        @Param({"1000", "1000000", "1000000000"})
+        public long distinct;
+
+        public HyperLogLog sketch;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            sketch = new HyperLogLog(Hasher.omega);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Local {
+        public long item;
+        public String[] names;
+        public HyperLogLog sketch;
+
+        @Setup(Level.Trial)
+        public void setup(Shared shared) {
+            item = Hasher.randomize1(Thread.currentThread().getId()) & 0xFFFFFFL;
+            names = new String[1024];
+            for (int i = 0; i < names.length; i++) names[i] = "name" + i;
+            sketch = new HyperLogLog(Hasher.omega);
+        }
+    }
+
+    @Benchmark
+    public boolean addLong(Shared shared, Local local) {
+        return local.sketch.add(local.item++ % shared.distinct);
+    }
+
+    @Benchmark
+    public boolean addString(Shared shared, Local local) {
+        return local.sketch.add(local.names[(int) (local.item++ & 1023)]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean addLongShared(Shared shared, Local local) {
+        return shared.sketch.add(local.item++ % shared.distinct);
+    }
+
+    /**
+     * Adds up to 10^maxExponent distinct longs (default 9) to sketches with several seeds (default 3 trials), and
+     * prints the mean and worst relative error of the estimate at each power of ten from 10^3.
+     *
+     * @param args optionally, the largest power of ten and the number of trials
+     */
+    public static void main(String[] args) {
+        final int maxExponent = args.length > 0 ? Integer.parseInt(args[0]) : 9;
+        final int trials = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        final double[] sum = new double[maxExponent + 1], worst = new double[maxExponent + 1];
+        double standardError = 0.0;
+        for (int t = 0; t < trials; t++) {
+            final HyperLogLog sketch = new HyperLogLog(Hasher.predefined[t]);
+            standardError = sketch.standardError();
+            long added = 0L, target = 1000L;
+            for (int e = 3; e <= maxExponent; e++, target *= 10L) {
+                for (; added < target; added++) sketch.add(added);
+                final double error = (sketch.estimate() - target) / (double) target;
+                sum[e] += Math.abs(error);
+                worst[e] = Math.max(worst[e], Math.abs(error));
+            }
+        }
+        System.out.printf("precision 14, standard error %.3f%%, %d trials%n", standardError * 100.0, trials);
+        for (int e = 3; e <= maxExponent; e++) {
+            System.out.printf("10^%d: mean |error| %.3f%%, worst %.3f%%%n", e, sum[e] * 100.0 / trials, worst[e] * 100.0);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the approximations and integer helpers in {@link MathTools}, with the {@link Math} equivalents where one
+ * exists. Each benchmark processes 1024 inputs, so results are reported per call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(1024)
+public class MathToolsBenchmark {
+    private final float[] floats = new float[1024];
+    private final long[] longs = new long[1024];
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(123456789L);
+        for (int i = 0; i < 1024; i++) {
+            floats[i] = (random.nextFloat() - 0.5f) * 2000f;
+            longs[i] = random.nextLong() >>> random.nextInt(64);
+        }
+    }
+
+    @Benchmark
+    public float cbrt() {
+        float sum = 0f;
+        for (float f : floats) sum += MathTools.cbrt(f);
+        return sum;
+    }
+
+    @Benchmark
+    public double cbrtMath() {
+        double sum = 0.0;
+        for (float f : floats) sum += Math.cbrt(f);
+        return sum;
+    }
+
+    @Benchmark
+    public int fastFloor() {
+        int sum = 0;
+        for (float f : floats) sum += MathTools.fastFloor(f);
+        return sum;
+    }
+
+    @Benchmark
+    public int floor() {
+        int sum = 0;
+        for (float f : floats) sum += MathTools.floor(f);
+        return sum;
+    }
+
+    @Benchmark
+    public int floorMath() {
+        int sum = 0;
+        for (float f : floats) sum += (int) Math.floor(f);
+        return sum;
+    }
+
+    @Benchmark
+    public float barronSpline() {
+        float sum = 0f;
+        for (float f : floats) sum += MathTools.barronSpline(f * 0.0005f + 0.5f, 2f, 0.5f);
+        return sum;
+    }
+
+    @Benchmark
+    public long isqrt() {
+        long sum = 0L;
+        for (long n : longs) sum += MathTools.isqrt(n);
+        return sum;
+    }
+
+    @Benchmark
+    public long sqrtMath() {
+        long sum = 0L;
+        for (long n : longs) sum += (long) Math.sqrt(n);
+        return sum;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+/**
+ * The predefined Hashers, created the way {@link Hasher} used to create them, by hashing each name when this class is
+ * initialized, so {@link HasherStartupBenchmark} can compare that with the precomputed seeds Hasher uses now.
+ */
+final class NamedSeedHashers {
+    private NamedSeedHashers() {
+    }
+
+    static final Hasher alpha = new Hasher("alpha"), beta = new Hasher("beta"), gamma = new Hasher("gamma"),
+            delta = new Hasher("delta"), epsilon = new Hasher("epsilon"), zeta = new Hasher("zeta"),
+            eta = new Hasher("eta"), theta = new Hasher("theta"), iota = new Hasher("iota"),
+            kappa = new Hasher("kappa"), lambda = new Hasher("lambda"), mu = new Hasher("mu"), nu = new Hasher("nu"),
+            xi = new Hasher("xi"), omicron = new Hasher("omicron"), pi = new Hasher("pi"), rho = new Hasher("rho"),
+            sigma = new Hasher("sigma"), tau = new Hasher("tau"), upsilon = new Hasher("upsilon"),
+            phi = new Hasher("phi"), chi = new Hasher("chi"), psi = new Hasher("psi"), omega = new Hasher("omega"),
+            alpha_ = new Hasher("ALPHA"), beta_ = new Hasher("BETA"), gamma_ = new Hasher("GAMMA"),
+            delta_ = new Hasher("DELTA"), epsilon_ = new Hasher("EPSILON"), zeta_ = new Hasher("ZETA"),
+            eta_ = new Hasher("ETA"), theta_ = new Hasher("THETA"), iota_ = new Hasher("IOTA"),
+            kappa_ = new Hasher("KAPPA"), lambda_ = new Hasher("LAMBDA"), mu_ = new Hasher("MU"),
+            nu_ = new Hasher("NU"), xi_ = new Hasher("XI"), omicron_ = new Hasher("OMICRON"), pi_ = new Hasher("PI"),
+            rho_ = new Hasher("RHO"), sigma_ = new Hasher("SIGMA"), tau_ = new Hasher("TAU"),
+            upsilon_ = new Hasher("UPSILON"), phi_ = new Hasher("PHI"), chi_ = new Hasher("CHI"),
+            psi_ = new Hasher("PSI"), omega_ = new Hasher("OMEGA"), baal = new Hasher("baal"),
+            agares = new Hasher("agares"), vassago = new Hasher("vassago"), samigina = new Hasher("samigina"),
+            marbas = new Hasher("marbas"), valefor = new Hasher("valefor"), amon = new Hasher("amon"),
+            barbatos = new Hasher("barbatos"), paimon = new Hasher("paimon"), buer = new Hasher("buer"),
+            gusion = new Hasher("gusion"), sitri = new Hasher("sitri"), beleth = new Hasher("beleth"),
+            leraje = new Hasher("leraje"), eligos = new Hasher("eligos"), zepar = new Hasher("zepar"),
+            botis = new Hasher("botis"), bathin = new Hasher("bathin"), sallos = new Hasher("sallos"),
+            purson = new Hasher("purson"), marax = new Hasher("marax"), ipos = new Hasher("ipos"),
+            aim = new Hasher("aim"), naberius = new Hasher("naberius"), glasya_labolas = new Hasher("glasya_labolas"),
+            bune = new Hasher("bune"), ronove = new Hasher("ronove"), berith = new Hasher("berith"),
+            astaroth = new Hasher("astaroth"), forneus = new Hasher("forneus"), foras = new Hasher("foras"),
+            asmoday = new Hasher("asmoday"), gaap = new Hasher("gaap"), furfur = new Hasher("furfur"),
+            marchosias = new Hasher("marchosias"), stolas = new Hasher("stolas"), phenex = new Hasher("phenex"),
+            halphas = new Hasher("halphas"), malphas = new Hasher("malphas"), raum = new Hasher("raum"),
+            focalor = new Hasher("focalor"), vepar = new Hasher("vepar"), sabnock = new Hasher("sabnock"),
+            shax = new Hasher("shax"), vine = new Hasher("vine"), bifrons = new Hasher("bifrons"),
+            vual = new Hasher("vual"), haagenti = new Hasher("haagenti"), crocell = new Hasher("crocell"),
+            furcas = new Hasher("furcas"), balam = new Hasher("balam"), alloces = new Hasher("alloces"),
+            caim = new Hasher("caim"), murmur = new Hasher("murmur"), orobas = new Hasher("orobas"),
+            gremory = new Hasher("gremory"), ose = new Hasher("ose"), amy = new Hasher("amy"),
+            orias = new Hasher("orias"), vapula = new Hasher("vapula"), zagan = new Hasher("zagan"),
+            valac = new Hasher("valac"), andras = new Hasher("andras"), flauros = new Hasher("flauros"),
+            andrealphus = new Hasher("andrealphus"), kimaris = new Hasher("kimaris"), amdusias = new Hasher("amdusias"),
+            belial = new Hasher("belial"), decarabia = new Hasher("decarabia"), seere = new Hasher("seere"),
+            dantalion = new Hasher("dantalion"), andromalius = new Hasher("andromalius"), baal_ = new Hasher("BAAL"),
+            agares_ = new Hasher("AGARES"), vassago_ = new Hasher("VASSAGO"), samigina_ = new Hasher("SAMIGINA"),
+            marbas_ = new Hasher("MARBAS"), valefor_ = new Hasher("VALEFOR"), amon_ = new Hasher("AMON"),
+            barbatos_ = new Hasher("BARBATOS"), paimon_ = new Hasher("PAIMON"), buer_ = new Hasher("BUER"),
+            gusion_ = new Hasher("GUSION"), sitri_ = new Hasher("SITRI"), beleth_ = new Hasher("BELETH"),
+            leraje_ = new Hasher("LERAJE"), eligos_ = new Hasher("ELIGOS"), zepar_ = new Hasher("ZEPAR"),
+            botis_ = new Hasher("BOTIS"), bathin_ = new Hasher("BATHIN"), sallos_ = new Hasher("SALLOS"),
+            purson_ = new Hasher("PURSON"), marax_ = new Hasher("MARAX"), ipos_ = new Hasher("IPOS"),
+            aim_ = new Hasher("AIM"), naberius_ = new Hasher("NABERIUS"),
+            glasya_labolas_ = new Hasher("GLASYA_LABOLAS"), bune_ = new Hasher("BUNE"), ronove_ = new Hasher("RONOVE"),
+            berith_ = new Hasher("BERITH"), astaroth_ = new Hasher("ASTAROTH"), forneus_ = new Hasher("FORNEUS"),
+            foras_ = new Hasher("FORAS"), asmoday_ = new Hasher("ASMODAY"), gaap_ = new Hasher("GAAP"),
+            furfur_ = new Hasher("FURFUR"), marchosias_ = new Hasher("MARCHOSIAS"), stolas_ = new Hasher("STOLAS"),
+            phenex_ = new Hasher("PHENEX"), halphas_ = new Hasher("HALPHAS"), malphas_ = new Hasher("MALPHAS"),
+            raum_ = new Hasher("RAUM"), focalor_ = new Hasher("FOCALOR"), vepar_ = new Hasher("VEPAR"),
+            sabnock_ = new Hasher("SABNOCK"), shax_ = new Hasher("SHAX"), vine_ = new Hasher("VINE"),
+            bifrons_ = new Hasher("BIFRONS"), vual_ = new Hasher("VUAL"), haagenti_ = new Hasher("HAAGENTI"),
+            crocell_ = new Hasher("CROCELL"), furcas_ = new Hasher("FURCAS"), balam_ = new Hasher("BALAM"),
+            alloces_ = new Hasher("ALLOCES"), caim_ = new Hasher("CAIM"), murmur_ = new Hasher("MURMUR"),
+            orobas_ = new Hasher("OROBAS"), gremory_ = new Hasher("GREMORY"), ose_ = new Hasher("OSE"),
+            amy_ = new Hasher("AMY"), orias_ = new Hasher("ORIAS"), vapula_ = new Hasher("VAPULA"),
+            zagan_ = new Hasher("ZAGAN"), valac_ = new Hasher("VALAC"), andras_ = new Hasher("ANDRAS"),
+            flauros_ = new Hasher("FLAUROS"), andrealphus_ = new Hasher("ANDREALPHUS"),
+            kimaris_ = new Hasher("KIMARIS"), amdusias_ = new Hasher("AMDUSIAS"), belial_ = new Hasher("BELIAL"),
+            decarabia_ = new Hasher("DECARABIA"), seere_ = new Hasher("SEERE"), dantalion_ = new Hasher("DANTALION"),
+            andromalius_ = new Hasher("ANDROMALIUS");
+
+    static final Hasher[] predefined = new Hasher[]{alpha, beta, gamma, delta, epsilon, zeta, eta, theta, iota, kappa,
+            lambda, mu, nu, xi, omicron, pi, rho, sigma, tau, upsilon, phi, chi, psi, omega, alpha_, beta_, gamma_,
+            delta_, epsilon_, zeta_, eta_, theta_, iota_, kappa_, lambda_, mu_, nu_, xi_, omicron_, pi_, rho_, sigma_,
+            tau_, upsilon_, phi_, chi_, psi_, omega_, baal, agares, vassago, samigina, marbas, valefor, amon, barbatos,
+            paimon, buer, gusion, sitri, beleth, leraje, eligos, zepar, botis, bathin, sallos, purson, marax, ipos, aim,
+            naberius, glasya_labolas, bune, ronove, berith, astaroth, forneus, foras, asmoday, gaap, furfur, marchosias,
+            stolas, phenex, halphas, malphas, raum, focalor, vepar, sabnock, shax, vine, bifrons, vual, haagenti,
+            crocell, furcas, balam, alloces, caim, murmur, orobas, gremory, ose, amy, orias, vapula, zagan, valac,
+            andras, flauros, andrealphus, kimaris, amdusias, belial, decarabia, seere, dantalion, andromalius, baal_,
+            agares_, vassago_, samigina_, marbas_, valefor_, amon_, barbatos_, paimon_, buer_, gusion_, sitri_, beleth_,
+            leraje_, eligos_, zepar_, botis_, bathin_, sallos_, purson_, marax_, ipos_, aim_, naberius_,
+            glasya_labolas_, bune_, ronove_, berith_, astaroth_, forneus_, foras_, asmoday_, gaap_, furfur_,
+            marchosias_, stolas_, phenex_, halphas_, malphas_, raum_, focalor_, vepar_, sabnock_, shax_, vine_,
+            bifrons_, vual_, haagenti_, crocell_, furcas_, balam_, alloces_, caim_, murmur_, orobas_, gremory_, ose_,
+            amy_, orias_, vapula_, zagan_, valac_, andras_, flauros_, andrealphus_, kimaris_, amdusias_, belial_,
+            decarabia_, seere_, dantalion_, andromalius_};
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of signing a 1000-token document with k-permutation and one-permutation {@link MinHash} and with
+ * {@link SimHash}, and of finding a document's near-duplicates among {@link #documents} documents with an
+ * {@link LshIndex}, against comparing its signature with every other one. Run {@link #main(String[])} to print how
+ * often pairs of each similarity become LSH candidates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NearDuplicateBenchmark {
+    @Param({"1000", "100000"})
+    public int documents;
+
+    private static final int TOKENS = 1000;
+    private final MinHash kPermutation = new MinHash(Hasher.omega, 128, false);
+    private final MinHash onePermutation = new MinHash(Hasher.omega, 128, true);
+    private final SimHash simHash = new SimHash(Hasher.omega);
+    private final long[] signature = new long[128];
+    private final int[] votes = new int[64];
+    private final long[] candidates = new long[64];
+    private long[] tokens;
+    private long[][] signatures;
+    private LshIndex index;
+    private int query;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        tokens = new long[TOKENS];
+        for (int i = 0; i < TOKENS; i++) tokens[i] = Hasher.randomize3(i);
+        signatures = new long[documents][];
+        index = new LshIndex(Hasher.kappa, 32, 4, documents);
+        for (int d = 0; d < documents; d++) {
+            long[] sig = onePermutation.clear(new long[128]);
+            for (int t = 0; t < 100; t++) onePermutation.update(sig, Hasher.randomize3(d * 1000L + t));
+            signatures[d] = onePermutation.finish(sig);
+            index.add(d, sig);
+        }
+    }
+
+    @Benchmark
+    public long[] signKPermutation() {
+        long[] sig = kPermutation.clear(signature);
+        for (long t : tokens) kPermutation.update(sig, t);
+        return kPermutation.finish(sig);
+    }
+
+    @Benchmark
+    public long[] signOnePermutation() {
+        long[] sig = onePermutation.clear(signature);
+        for (long t : tokens) onePermutation.update(sig, t);
+        return onePermutation.finish(sig);
+    }
+
+    @Benchmark
+    public long signSimHash() {
+        int[] v = simHash.clear(votes);
+        for (long t : tokens) simHash.update(v, t, 1);
+        return simHash.finish(v);
+    }
+
+    @Benchmark
+    public int queryIndex() {
+        return index.query(signatures[query++ % documents], candidates);
+    }
+
+    @Benchmark
+    public int queryScan() {
+        final long[] sig = signatures[query++ % documents];
+        int found = 0;
+        for (long[] other : signatures) {
+            if (MinHash.similarity(sig, other) >= 0.5) found++;
+        }
+        return found;
+    }
+
+    public static void main(String[] args) {
+        MinHash minHash = new MinHash(Hasher.omega, 128, true);
+        LshIndex index = new LshIndex(Hasher.kappa, 32, 4, 1);
+        System.out.printf("bands=%d rows=%d threshold=%.3f%n", index.bands, index.rows, index.threshold());
+        System.out.println("similarity  predicted  measured  mean estimate");
+        long[] a = new long[128], b = new long[128], out = new long[4];
+        for (int shared = 0; shared <= 100; shared += 10) {
+            // documents of 100 tokens each, sharing `shared` of them
+            double jaccard = shared / (200.0 - shared);
+            int trials = 2000, hits = 0;
+            double estimate = 0.0;
+            for (int trial = 0; trial < trials; trial++) {
+                long base = trial * 1000L;
+                minHash.clear(a);
+                minHash.clear(b);
+                for (int t = 0; t < 100; t++) {
+                    minHash.update(a, Hasher.randomize3(base + t));
+                    minHash.update(b, Hasher.randomize3(base + t + 100 - shared));
+                }
+                minHash.finish(a);
+                minHash.finish(b);
+                estimate += MinHash.similarity(a, b);
+                index.clear();
+                index.add(trial, a);
+                if (index.query(b, out) > 0) hits++;
+            }
+            System.out.printf("%10.3f  %9.3f  %8.3f  %13.3f%n", jaccard, index.candidateProbability(jaccard),
+                    hits / (double) trials, estimate / trials);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares {@link LongLongMap} and {@link IntIntMap} with {@link HashMap} of boxed keys and values, for filling a new
+ * map with {@code size} random keys and for looking up {@code size} keys that are half present, half absent. Each
+ * result covers all {@code size} keys. Running {@link #main(String[])} prints the retained heap per entry of each kind of map instead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveMapBenchmark {
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private long[] longKeys, longQueries;
+    private int[] intKeys, intQueries;
+    private LongLongMap longLongMap;
+    private IntIntMap intIntMap;
+    private HashMap<Long, Long> longHashMap;
+    private HashMap<Integer, Integer> intHashMap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(123456789L);
+        longKeys = new long[size];
+        longQueries = new long[size];
+        intKeys = new int[size];
+        intQueries = new int[size];
+        longLongMap = new LongLongMap();
+        intIntMap = new IntIntMap();
+        longHashMap = new HashMap<>();
+        intHashMap = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            longKeys[i] = random.nextLong();
+            intKeys[i] = random.nextInt();
+            longLongMap.put(longKeys[i], i);
+            intIntMap.put(intKeys[i], i);
+            longHashMap.put(longKeys[i], (long) i);
+            intHashMap.put(intKeys[i], i);
+        }
+        for (int i = 0; i < size; i++) {
+            longQueries[i] = (i & 1) == 0 ? longKeys[random.nextInt(size)] : random.nextLong();
+            intQueries[i] = (i & 1) == 0 ? intKeys[random.nextInt(size)] : random.nextInt();
+        }
+    }
+
+    @Benchmark
+    public LongLongMap putLongLongMap() {
+        LongLongMap map = new LongLongMap();
+        for (int i = 0; i < size; i++) map.put(longKeys[i], i);
+        return map;
+    }
+
+    @Benchmark
+    public HashMap<Long, Long> putLongHashMap() {
+        HashMap<Long, Long> map = new HashMap<>();
+        for (int i = 0; i < size; i++) map.put(longKeys[i], (long) i);
+        return map;
+    }
+
+    @Benchmark
+    public IntIntMap putIntIntMap() {
+        IntIntMap map = new IntIntMap();
+        for (int i = 0; i < size; i++) map.put(intKeys[i], i);
+        return map;
+    }
+
+    @Benchmark
+    public HashMap<Integer, Integer> putIntHashMap() {
+        HashMap<Integer, Integer> map = new HashMap<>();
+        for (int i = 0; i < size; i++) map.put(intKeys[i], i);
+        return map;
+    }
+
+    @Benchmark
+    public long getLongLongMap() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) sum += longLongMap.get(longQueries[i]);
+        return sum;
+    }
+
+    @Benchmark
+    public long getLongHashMap() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) sum += longHashMap.getOrDefault(longQueries[i], 0L);
+        return sum;
+    }
+
+    @Benchmark
+    public long getIntIntMap() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) sum += intIntMap.get(intQueries[i]);
+        return sum;
+    }
+
+    @Benchmark
+    public long getIntHashMap() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) sum += intHashMap.getOrDefault(intQueries[i], 0);
+        return sum;
+    }
+
+    /**
+     * Keeps the map being measured reachable while the heap is measured.
+     */
+    private static Object retained;
+
+    private static void measure(String name, int n, Supplier<Object> builder) {
+        Runtime runtime = Runtime.getRuntime();
+        retained = null;
+        for (int i = 0; i < 4; i++) System.gc();
+        long before = runtime.totalMemory() - runtime.freeMemory();
+        retained = builder.get();
+        for (int i = 0; i < 4; i++) System.gc();
+        long after = runtime.totalMemory() - runtime.freeMemory();
+        System.out.printf("%-26s %6.1f bytes per entry%n", name, (after - before) / (double) n);
+    }
+
+    /**
+     * Prints the approximate retained heap, in bytes per entry, of each kind of map holding one million random entries.
+     * This is measured from the used heap after garbage collection, so run it with a fixed heap, such as
+     * {@code -Xms1g -Xmx1g}, to keep the numbers steady.
+     */
+    public static void main(String[] args) {
+        final int n = 1000000;
+        final Random random = new Random(123456789L);
+        measure("LongLongMap", n, () -> {
+            LongLongMap map = new LongLongMap();
+            for (int i = 0; i < n; i++) map.put(random.nextLong(), i);
+            return map;
+        });
+        measure("HashMap<Long, Long>", n, () -> {
+            HashMap<Long, Long> map = new HashMap<>();
+            for (int i = 0; i < n; i++) map.put(random.nextLong(), (long) i);
+            return map;
+        });
+        measure("IntIntMap", n, () -> {
+            IntIntMap map = new IntIntMap();
+            for (int i = 0; i < n; i++) map.put(random.nextInt(), i);
+            return map;
+        });
+        measure("HashMap<Integer, Integer>", n, () -> {
+            HashMap<Integer, Integer> map = new HashMap<>();
+            for (int i = 0; i < n; i++) map.put(random.nextInt(), i);
+            return map;
+        });
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link RandomFill} with a plain loop calling the matching {@link Hasher} randomize method on consecutive
+ * states, which gives the same results. The smaller default size is filled serially by RandomFill, and the larger one
+ * is filled in parallel on the common pool, so its speedup depends on how many cores are available.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomFillBenchmark {
+    @Param({"4096", "4194304"})
+    public int size;
+
+    private long[] longs;
+    private float[] floats;
+    private double[] doubles;
+    private int[] ints;
+    private long state;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        longs = new long[size];
+        floats = new float[size];
+        doubles = new double[size];
+        ints = new int[size];
+    }
+
+    @Benchmark
+    public long[] loopRandomize2() {
+        final long start = state += size;
+        for (int i = 0; i < size; i++) {
+            longs[i] = Hasher.randomize2(start + i);
+        }
+        return longs;
+    }
+
+    @Benchmark
+    public long[] fillRandomize2() {
+        RandomFill.fillRandomize2(state += size, longs);
+        return longs;
+    }
+
+    @Benchmark
+    public float[] loopRandomize2Floats() {
+        final long start = state += size;
+        for (int i = 0; i < size; i++) {
+            floats[i] = Hasher.randomize2Float(start + i);
+        }
+        return floats;
+    }
+
+    @Benchmark
+    public float[] fillRandomize2Floats() {
+        RandomFill.fillRandomize2Floats(state += size, floats);
+        return floats;
+    }
+
+    @Benchmark
+    public double[] loopRandomize3Doubles() {
+        final long start = state += size;
+        for (int i = 0; i < size; i++) {
+            doubles[i] = Hasher.randomize3Double(start + i);
+        }
+        return doubles;
+    }
+
+    @Benchmark
+    public double[] fillRandomize3Doubles() {
+        RandomFill.fillRandomize3Doubles(state += size, doubles);
+        return doubles;
+    }
+
+    @Benchmark
+    public int[] loopRandomize3Bounded() {
+        final long start = state += size;
+        for (int i = 0; i < size; i++) {
+            ints[i] = Hasher.randomize3Bounded(start + i, 1000);
+        }
+        return ints;
+    }
+
+    @Benchmark
+    public int[] fillRandomize3Bounded() {
+        RandomFill.fillRandomize3Bounded(state += size, 1000, ints);
+        return ints;
+    }
+}
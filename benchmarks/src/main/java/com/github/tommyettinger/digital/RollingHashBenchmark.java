@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link RollingHash} and {@link Chunker} over 16 MiB of random bytes. Each operation is one byte, and the
+ * unit is operations per nanosecond, so the scores are in GB/s. {@code hashBulk64} is there for comparison, as the
+ * cost of hashing every chunk's bytes, which {@code chunkWithHashes} does on top of finding boundaries.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(RollingHashBenchmark.SIZE)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RollingHashBenchmark {
+    public static final int SIZE = 1 << 24;
+
+    private byte[] data;
+    private ByteBuffer direct;
+    private RollingHash rolling;
+    private Chunker chunker;
+    private long sum;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        data = new byte[SIZE];
+        new Random(123L).nextBytes(data);
+        direct = ByteBuffer.allocateDirect(SIZE);
+        direct.put(data).flip();
+        rolling = new RollingHash(Hasher.omega, 64);
+        chunker = new Chunker(Hasher.omega);
+    }
+
+    @Benchmark
+    public long roll() {
+        final RollingHash r = rolling.reset();
+        final byte[] d = data;
+        long x = r.hashWindow(d, 0);
+        for (int i = 64; i < SIZE; i++) {
+            x ^= r.roll(d[i - 64], d[i]);
+        }
+        return x;
+    }
+
+    @Benchmark
+    public int findBoundaries() {
+        final Chunker c = chunker.reset();
+        int count = 0;
+        for (int start = 0; (start = c.findBoundary(data, start, SIZE - start)) >= 0; count++) {
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int findBoundariesDirect() {
+        final Chunker c = chunker.reset();
+        direct.clear();
+        int count = 0;
+        while (c.findBoundary(direct) >= 0) count++;
+        return count;
+    }
+
+    @Benchmark
+    public long chunkWithHashes() {
+        sum = 0L;
+        chunker.chunk(data, (start, length, hash) -> sum += hash);
+        return sum;
+    }
+
+    @Benchmark
+    public long hashBulk64() {
+        return Hasher.omega.hashBulk64(data);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.CharBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Hasher#hash64(CharSequence)} on a String and a StringBuilder after the method has seen several
+ * CharSequence types, so its {@code charAt()} calls can't be assumed to go to one class, and compares it with
+ * {@link Hasher#hash64(char[])} on the same chars, with copying the String to a char array first, with copying it into
+ * a reused per-thread buffer with {@link String#getChars(int, int, char[], int)}, and with a copy of the CharSequence
+ * loop that takes a String, so every {@code charAt()} is a direct call. All of these give the same result for the
+ * same chars, except the per-thread buffer, which has to hash a section with {@link Hasher#hash64(char[], int, int)};
+ * that finishes a little differently, but costs the same.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringHashBenchmark {
+    @Param({"8", "32", "256"})
+    public int len;
+
+    private String string;
+    private StringBuilder builder;
+    private char[] chars;
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[256]);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        chars = new char[len];
+        for (int i = 0; i < len; i++) chars[i] = (char) ('a' + (i * 7 + 3) % 26);
+        string = String.valueOf(chars);
+        builder = new StringBuilder(string);
+        CharBuffer buffer = CharBuffer.wrap(chars);
+        for (int i = 0; i < 20000; i++) {
+            Hasher.astaroth.hash64(string);
+            Hasher.astaroth.hash64(builder);
+            Hasher.astaroth.hash64(buffer);
+        }
+        final long expected = Hasher.astaroth.hash64(string);
+        if (hash64StringTyped() != expected || hash64GetCharsThreadLocal() != Hasher.astaroth.hash64(chars, 0, len))
+            throw new IllegalStateException("The variants must match the methods they copy.");
+    }
+
+    @Benchmark
+    public long hash64String() {
+        return Hasher.astaroth.hash64(string);
+    }
+
+    @Benchmark
+    public long hash64StringBuilder() {
+        return Hasher.astaroth.hash64(builder);
+    }
+
+    @Benchmark
+    public long hash64Chars() {
+        return Hasher.astaroth.hash64(chars);
+    }
+
+    @Benchmark
+    public long hash64ToCharArray() {
+        return Hasher.astaroth.hash64(string.toCharArray());
+    }
+
+    @Benchmark
+    public long hash64GetCharsThreadLocal() {
+        final char[] buffer = BUFFER.get();
+        final int n = string.length();
+        string.getChars(0, n, buffer, 0);
+        return Hasher.astaroth.hash64(buffer, 0, n);
+    }
+
+    @Benchmark
+    public long hash64StringTyped() {
+        return hash64(Hasher.astaroth.seed, string);
+    }
+
+    /**
+     * The same algorithm as {@link Hasher#hash64(CharSequence)}, with the seed used as-is, but only for Strings.
+     */
+    private static long hash64(long seed, final String data) {
+        final int len = data.length();
+        for (int i = 3; i < len; i += 4) {
+            seed = Hasher.mum(
+                    Hasher.mum(data.charAt(i - 3) ^ Hasher.b1, data.charAt(i - 2) ^ Hasher.b2) + seed,
+                    Hasher.mum(data.charAt(i - 1) ^ Hasher.b3, data.charAt(i) ^ Hasher.b4));
+        }
+        switch (len & 3) {
+            case 0:
+                seed = Hasher.mum(Hasher.b1 ^ seed, Hasher.b4 + seed);
+                break;
+            case 1:
+                seed = Hasher.mum(seed, Hasher.b3 ^ data.charAt(len - 1));
+                break;
+            case 2:
+                seed = Hasher.mum(seed ^ data.charAt(len - 2), data.charAt(len - 1) ^ Hasher.b0);
+                break;
+            case 3:
+                seed = Hasher.mum(seed ^ data.charAt(len - 3), data.charAt(len - 2) ^ Hasher.b2)
+                        ^ Hasher.mum(seed ^ data.charAt(len - 1), Hasher.b4);
+                break;
+        }
+        seed = (seed ^ seed << 16) * (len ^ Hasher.b0);
+        return seed - (seed >>> 31) + (seed << 33);
+    }
+}
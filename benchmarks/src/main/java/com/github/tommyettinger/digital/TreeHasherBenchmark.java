@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shows how {@link TreeHasher} scales with the number of threads, compared to the sequential
+ * {@link Hasher#hash64(long[])} and {@link Hasher#hashBulk64(byte[])}. The {@code size} is the number of longs (or
+ * bytes) hashed; for longs, the default sizes are 8 MiB and 256 MiB. Run with {@code -p threads=1,2,4,8,16} (or
+ * similar) to match the number of cores available.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TreeHasherBenchmark {
+    @Param({"1048576", "33554432"})
+    public int size;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private long[] longs;
+    private byte[] bytes;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(123456789L);
+        longs = new long[size];
+        for (int i = 0; i < size; i++) {
+            longs[i] = random.nextLong();
+        }
+        bytes = new byte[size];
+        random.nextBytes(bytes);
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long sequentialLongs() {
+        return Hasher.astaroth.hash64(longs);
+    }
+
+    @Benchmark
+    public long treeLongs() {
+        return TreeHasher.hash64(Hasher.astaroth, longs, pool);
+    }
+
+    @Benchmark
+    public long sequentialBytes() {
+        return Hasher.astaroth.hashBulk64(bytes);
+    }
+
+    @Benchmark
+    public long treeBytes() {
+        return TreeHasher.hash64(Hasher.astaroth, bytes, pool);
+    }
+}
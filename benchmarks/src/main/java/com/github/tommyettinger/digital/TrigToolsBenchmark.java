@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the lookup-table and polynomial approximations in {@link TrigTools} with the {@link Math} methods they
+ * replace. Each benchmark processes 1024 inputs, so results are reported per call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(1024)
+public class TrigToolsBenchmark {
+    private final float[] floats = new float[1024];
+    private final float[] floatsY = new float[1024];
+    private final double[] doubles = new double[1024];
+    private final double[] doublesY = new double[1024];
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(123456789L);
+        for (int i = 0; i < 1024; i++) {
+            floats[i] = (random.nextFloat() - 0.5f) * 20f;
+            floatsY[i] = (random.nextFloat() - 0.5f) * 20f;
+            doubles[i] = (random.nextDouble() - 0.5) * 20.0;
+            doublesY[i] = (random.nextDouble() - 0.5) * 20.0;
+        }
+    }
+
+    @Benchmark
+    public float sinFloat() {
+        float sum = 0f;
+        for (float f : floats) sum += TrigTools.sin(f);
+        return sum;
+    }
+
+    @Benchmark
+    public double sinDouble() {
+        double sum = 0.0;
+        for (double d : doubles) sum += TrigTools.sin(d);
+        return sum;
+    }
+
+    @Benchmark
+    public double sinMath() {
+        double sum = 0.0;
+        for (double d : doubles) sum += Math.sin(d);
+        return sum;
+    }
+
+    @Benchmark
+    public float cosFloat() {
+        float sum = 0f;
+        for (float f : floats) sum += TrigTools.cos(f);
+        return sum;
+    }
+
+    @Benchmark
+    public float tanFloat() {
+        float sum = 0f;
+        for (float f : floats) sum += TrigTools.tan(f);
+        return sum;
+    }
+
+    @Benchmark
+    public float sinTurnsFloat() {
+        float sum = 0f;
+        for (float f : floats) sum += TrigTools.sinTurns(f);
+        return sum;
+    }
+
+    @Benchmark
+    public float asinFloat() {
+        float sum = 0f;
+        for (float f : floats) sum += TrigTools.asin(f * 0.05f);
+        return sum;
+    }
+
+    @Benchmark
+    public float atan2Float() {
+        float sum = 0f;
+        for (int i = 0; i < 1024; i++) sum += TrigTools.atan2(floatsY[i], floats[i]);
+        return sum;
+    }
+
+    @Benchmark
+    public double atan2Double() {
+        double sum = 0.0;
+        for (int i = 0; i < 1024; i++) sum += TrigTools.atan2(doublesY[i], doubles[i]);
+        return sum;
+    }
+
+    @Benchmark
+    public double atan2Math() {
+        double sum = 0.0;
+        for (int i = 0; i < 1024; i++) sum += Math.atan2(doublesY[i], doubles[i]);
+        return sum;
+    }
+}
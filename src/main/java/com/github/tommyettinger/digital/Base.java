@@ -37,6 +37,11 @@ import java.util.Random;
  * using {@link #signed(long)} and {@link #unsigned(long)} respectively. There is only one reading method for each size
  * of number, but it is capable of reading both the signed and unsigned results, and never throws an Exception (it just
  * returns 0 if no number could be read).
+ * <br>
+ * A Base has no mutable state that changes between encoding or decoding calls, so the shared constants such as
+ * {@link #BASE10} and {@link #BASE16} can be used by many threads at once. The {@code append} methods write their
+ * digits directly into the given StringBuilder or char array, without allocating any temporary buffer, which makes
+ * {@link #appendUnsigned(char[], int, long)} and {@link #appendSigned(char[], int, long)} suitable for hot loops.
  */
 @SuppressWarnings("ShiftOutOfRange")
 public class Base {
@@ -148,10 +153,6 @@ public class Base {
      * Internal; stored lengths of the most common number sizes in this base.
      */
     private final int length1Byte, length2Byte, length4Byte, length8Byte;
-    /**
-     * Internal; used for temporary buffer space.
-     */
-    private transient final char[] progress;
 
     /**
      * Constructs a Base with the given digits, ordered from smallest to largest, with any letters in the digits treated
@@ -203,7 +204,6 @@ public class Base {
         length2Byte = (int) Math.ceil(Math.log(0x1p16) * logBase);
         length4Byte = (int) Math.ceil(Math.log(0x1p32) * logBase);
         length8Byte = (int) Math.ceil(Math.log(0x1p64) * logBase);
-        progress = new char[length8Byte + 1];
     }
 
     /**
@@ -226,7 +226,6 @@ public class Base {
         length2Byte = other.length2Byte;
         length4Byte = other.length4Byte;
         length8Byte = other.length8Byte;
-        progress = new char[length8Byte + 1];
     }
 
     /**
@@ -328,14 +327,9 @@ public class Base {
      * @return a new String containing {@code number} in the radix this specifies.
      */
     public String unsigned(long number) {
-        final int len = length8Byte - 1;
-        final int halfBase = base >>> 1;
-        for (int i = 0; i <= len; i++) {
-            long quotient = (number >>> 1) / halfBase;
-            progress[len - i] = toEncoded[(int) (number - quotient * base)];
-            number = quotient;
-        }
-        return String.valueOf(progress, 0, length8Byte);
+        final char[] progress = new char[length8Byte];
+        appendUnsigned(progress, 0, number);
+        return String.valueOf(progress);
     }
 
     /**
@@ -349,12 +343,14 @@ public class Base {
     public StringBuilder appendUnsigned(StringBuilder builder, long number) {
         final int len = length8Byte - 1;
         final int halfBase = base >>> 1;
+        final int start = builder.length();
+        builder.setLength(start + length8Byte);
         for (int i = 0; i <= len; i++) {
             long quotient = (number >>> 1) / halfBase;
-            progress[len - i] = toEncoded[(int) (number - quotient * base)];
+            builder.setCharAt(start + len - i, toEncoded[(int) (number - quotient * base)]);
             number = quotient;
         }
-        return builder.append(progress, 0, length8Byte);
+        return builder;
     }
 
     /**
@@ -365,20 +361,8 @@ public class Base {
      * @return a new String containing {@code number} in the radix this specifies.
      */
     public String signed(long number) {
-        int run = length8Byte;
-        final long sign = number >> -1;
-        // number is made negative because 0x8000000000000000L and -(0x8000000000000000L) are both negative.
-        // then modulus later will also return a negative number or 0, and we can negate that to get a good index.
-        number = -(number + sign ^ sign);
-        for (; ; run--) {
-            progress[run] = toEncoded[(int) -(number % base)];
-            if ((number /= base) == 0)
-                break;
-        }
-        if (sign != 0) {
-            progress[--run] = negativeSign;
-        }
-        return String.valueOf(progress, run, length8Byte + 1 - run);
+        final char[] progress = new char[length8Byte + 1];
+        return String.valueOf(progress, 0, appendSigned(progress, 0, number));
     }
 
     /**
@@ -391,20 +375,69 @@ public class Base {
      * @return {@code builder}, with the encoded {@code number} appended
      */
     public StringBuilder appendSigned(StringBuilder builder, long number) {
-        int run = length8Byte;
         final long sign = number >> -1;
         // number is made negative because 0x8000000000000000L and -(0x8000000000000000L) are both negative.
         // then modulus later will also return a negative number or 0, and we can negate that to get a good index.
         number = -(number + sign ^ sign);
-        for (; ; run--) {
-            progress[run] = toEncoded[(int) -(number % base)];
+        if (sign != 0) {
+            builder.append(negativeSign);
+        }
+        final int start = builder.length();
+        for (; ; ) {
+            builder.append(toEncoded[(int) -(number % base)]);
             if ((number /= base) == 0)
                 break;
         }
+        return reverse(builder, start, builder.length());
+    }
+
+    /**
+     * Converts the given {@code number} to this Base as unsigned, writing the result into {@code buffer} starting at
+     * {@code offset}. This always writes the same number of chars, as long as the Base is the same. This doesn't
+     * allocate and doesn't use any state shared between calls, so it is safe to call from multiple threads at once.
+     *
+     * @param buffer a non-null char array that will be modified; must have room for the encoded {@code number}
+     * @param offset the first index in {@code buffer} to write to
+     * @param number any long
+     * @return the index in {@code buffer} just after the last char written
+     */
+    public int appendUnsigned(char[] buffer, int offset, long number) {
+        final int len = length8Byte - 1;
+        final int halfBase = base >>> 1;
+        for (int i = 0; i <= len; i++) {
+            long quotient = (number >>> 1) / halfBase;
+            buffer[offset + len - i] = toEncoded[(int) (number - quotient * base)];
+            number = quotient;
+        }
+        return offset + length8Byte;
+    }
+
+    /**
+     * Converts the given {@code number} to this Base as signed, writing the result into {@code buffer} starting at
+     * {@code offset}. This can vary in how many chars it uses, since it does not show leading zeroes and may use a
+     * {@code -} sign. This doesn't allocate and doesn't use any state shared between calls, so it is safe to call from
+     * multiple threads at once.
+     *
+     * @param buffer a non-null char array that will be modified; must have room for the encoded {@code number}
+     * @param offset the first index in {@code buffer} to write to
+     * @param number any long
+     * @return the index in {@code buffer} just after the last char written
+     */
+    public int appendSigned(char[] buffer, int offset, long number) {
+        final long sign = number >> -1;
+        // number is made negative because 0x8000000000000000L and -(0x8000000000000000L) are both negative.
+        // then modulus later will also return a negative number or 0, and we can negate that to get a good index.
+        number = -(number + sign ^ sign);
         if (sign != 0) {
-            progress[--run] = negativeSign;
+            buffer[offset++] = negativeSign;
+        }
+        int run = offset;
+        for (; ; ) {
+            buffer[run++] = toEncoded[(int) -(number % base)];
+            if ((number /= base) == 0)
+                break;
         }
-        return builder.append(progress, run, length8Byte + 1 - run);
+        return reverse(buffer, offset, run);
     }
 
     /**
@@ -544,14 +577,9 @@ public class Base {
      * @return a new String containing {@code number} in the radix this specifies.
      */
     public String unsigned(int number) {
-        final int len = length4Byte - 1;
-        final int halfBase = base >>> 1;
-        for (int i = 0; i <= len; i++) {
-            int quotient = (number >>> 1) / halfBase;
-            progress[len - i] = toEncoded[number - quotient * base];
-            number = quotient;
-        }
-        return String.valueOf(progress, 0, length4Byte);
+        final char[] progress = new char[length4Byte];
+        appendUnsigned(progress, 0, number);
+        return String.valueOf(progress);
     }
 
     /**
@@ -565,12 +593,14 @@ public class Base {
     public StringBuilder appendUnsigned(StringBuilder builder, int number) {
         final int len = length4Byte - 1;
         final int halfBase = base >>> 1;
+        final int start = builder.length();
+        builder.setLength(start + length4Byte);
         for (int i = 0; i <= len; i++) {
             int quotient = (number >>> 1) / halfBase;
-            progress[len - i] = toEncoded[number - quotient * base];
+            builder.setCharAt(start + len - i, toEncoded[number - quotient * base]);
             number = quotient;
         }
-        return builder.append(progress, 0, length4Byte);
+        return builder;
     }
 
     /**
@@ -581,20 +611,8 @@ public class Base {
      * @return a new String containing {@code number} in the radix this specifies.
      */
     public String signed(int number) {
-        int run = length8Byte;
-        final int sign = number >> -1;
-        // number is made negative because 0x80000000 and -(0x80000000) are both negative.
-        // then modulus later will also return a negative number or 0, and we can negate that to get a good index.
-        number = -(number + sign ^ sign);
-        for (; ; run--) {
-            progress[run] = toEncoded[-(number % base)];
-            if ((number /= base) == 0)
-                break;
-        }
-        if (sign != 0) {
-            progress[--run] = negativeSign;
-        }
-        return String.valueOf(progress, run, length8Byte + 1 - run);
+        final char[] progress = new char[length8Byte + 1];
+        return String.valueOf(progress, 0, appendSigned(progress, 0, number));
     }
 
     /**
@@ -607,20 +625,69 @@ public class Base {
      * @return {@code builder}, with the encoded {@code number} appended
      */
     public StringBuilder appendSigned(StringBuilder builder, int number) {
-        int run = length8Byte;
         final int sign = number >> -1;
         // number is made negative because 0x80000000 and -(0x80000000) are both negative.
         // then modulus later will also return a negative number or 0, and we can negate that to get a good index.
         number = -(number + sign ^ sign);
-        for (; ; run--) {
-            progress[run] = toEncoded[-(number % base)];
+        if (sign != 0) {
+            builder.append(negativeSign);
+        }
+        final int start = builder.length();
+        for (; ; ) {
+            builder.append(toEncoded[-(number % base)]);
             if ((number /= base) == 0)
                 break;
         }
+        return reverse(builder, start, builder.length());
+    }
+
+    /**
+     * Converts the given {@code number} to this Base as unsigned, writing the result into {@code buffer} starting at
+     * {@code offset}. This always writes the same number of chars, as long as the Base is the same. This doesn't
+     * allocate and doesn't use any state shared between calls, so it is safe to call from multiple threads at once.
+     *
+     * @param buffer a non-null char array that will be modified; must have room for the encoded {@code number}
+     * @param offset the first index in {@code buffer} to write to
+     * @param number any int
+     * @return the index in {@code buffer} just after the last char written
+     */
+    public int appendUnsigned(char[] buffer, int offset, int number) {
+        final int len = length4Byte - 1;
+        final int halfBase = base >>> 1;
+        for (int i = 0; i <= len; i++) {
+            int quotient = (number >>> 1) / halfBase;
+            buffer[offset + len - i] = toEncoded[number - quotient * base];
+            number = quotient;
+        }
+        return offset + length4Byte;
+    }
+
+    /**
+     * Converts the given {@code number} to this Base as signed, writing the result into {@code buffer} starting at
+     * {@code offset}. This can vary in how many chars it uses, since it does not show leading zeroes and may use a
+     * {@code -} sign. This doesn't allocate and doesn't use any state shared between calls, so it is safe to call from
+     * multiple threads at once.
+     *
+     * @param buffer a non-null char array that will be modified; must have room for the encoded {@code number}
+     * @param offset the first index in {@code buffer} to write to
+     * @param number any int
+     * @return the index in {@code buffer} just after the last char written
+     */
+    public int appendSigned(char[] buffer, int offset, int number) {
+        final int sign = number >> -1;
+        // number is made negative because 0x80000000 and -(0x80000000) are both negative.
+        // then modulus later will also return a negative number or 0, and we can negate that to get a good index.
+        number = -(number + sign ^ sign);
         if (sign != 0) {
-            progress[--run] = negativeSign;
+            buffer[offset++] = negativeSign;
         }
-        return builder.append(progress, run, length8Byte + 1 - run);
+        int run = offset;
+        for (; ; ) {
+            buffer[run++] = toEncoded[-(number % base)];
+            if ((number /= base) == 0)
+                break;
+        }
+        return reverse(buffer, offset, run);
     }
 
     /**
@@ -760,14 +827,9 @@ public class Base {
      * @return a new String containing {@code number} in the radix this specifies.
      */
     public String unsigned(short number) {
-        final int len = length2Byte - 1;
-        final int halfBase = base >>> 1;
-        for (int i = 0; i <= len; i++) {
-            int quotient = (((number & 0xFFFF) >>> 1) / halfBase);
-            progress[len - i] = toEncoded[(number & 0xFFFF) - quotient * base];
-            number = (short) quotient;
-        }
-        return String.valueOf(progress, 0, length2Byte);
+        final char[] progress = new char[length2Byte];
+        appendUnsigned(progress, 0, number);
+        return String.valueOf(progress);
     }
 
     /**
@@ -781,12 +843,14 @@ public class Base {
     public StringBuilder appendUnsigned(StringBuilder builder, short number) {
         final int len = length2Byte - 1;
         final int halfBase = base >>> 1;
+        final int start = builder.length();
+        builder.setLength(start + length2Byte);
         for (int i = 0; i <= len; i++) {
             int quotient = (((number & 0xFFFF) >>> 1) / halfBase);
-            progress[len - i] = toEncoded[(number & 0xFFFF) - quotient * base];
+            builder.setCharAt(start + len - i, toEncoded[(number & 0xFFFF) - quotient * base]);
             number = (short) quotient;
         }
-        return builder.append(progress, 0, length2Byte);
+        return builder;
     }
 
     /**
@@ -797,20 +861,8 @@ public class Base {
      * @return a new String containing {@code number} in the radix this specifies.
      */
     public String signed(short number) {
-        int run = length8Byte;
-        final int sign = number >> -1;
-        // number is made negative because 0x80000000 and -(0x80000000) are both negative.
-        // then modulus later will also return a negative number or 0, and we can negate that to get a good index.
-        number = (short) -(number + sign ^ sign);
-        for (; ; run--) {
-            progress[run] = toEncoded[-(number % base)];
-            if ((number /= base) == 0)
-                break;
-        }
-        if (sign != 0) {
-            progress[--run] = negativeSign;
-        }
-        return String.valueOf(progress, run, length8Byte + 1 - run);
+        final char[] progress = new char[length8Byte + 1];
+        return String.valueOf(progress, 0, appendSigned(progress, 0, number));
     }
 
     /**
@@ -823,20 +875,69 @@ public class Base {
      * @return {@code builder}, with the encoded {@code number} appended
      */
     public StringBuilder appendSigned(StringBuilder builder, short number) {
-        int run = length8Byte;
         final int sign = number >> -1;
         // number is made negative because 0x80000000 and -(0x80000000) are both negative.
         // then modulus later will also return a negative number or 0, and we can negate that to get a good index.
         number = (short) -(number + sign ^ sign);
-        for (; ; run--) {
-            progress[run] = toEncoded[-(number % base)];
+        if (sign != 0) {
+            builder.append(negativeSign);
+        }
+        final int start = builder.length();
+        for (; ; ) {
+            builder.append(toEncoded[-(number % base)]);
             if ((number /= base) == 0)
                 break;
         }
+        return reverse(builder, start, builder.length());
+    }
+
+    /**
+     * Converts the given {@code number} to this Base as unsigned, writing the result into {@code buffer} starting at
+     * {@code offset}. This always writes the same number of chars, as long as the Base is the same. This doesn't
+     * allocate and doesn't use any state shared between calls, so it is safe to call from multiple threads at once.
+     *
+     * @param buffer a non-null char array that will be modified; must have room for the encoded {@code number}
+     * @param offset the first index in {@code buffer} to write to
+     * @param number any short
+     * @return the index in {@code buffer} just after the last char written
+     */
+    public int appendUnsigned(char[] buffer, int offset, short number) {
+        final int len = length2Byte - 1;
+        final int halfBase = base >>> 1;
+        for (int i = 0; i <= len; i++) {
+            int quotient = (((number & 0xFFFF) >>> 1) / halfBase);
+            buffer[offset + len - i] = toEncoded[(number & 0xFFFF) - quotient * base];
+            number = (short) quotient;
+        }
+        return offset + length2Byte;
+    }
+
+    /**
+     * Converts the given {@code number} to this Base as signed, writing the result into {@code buffer} starting at
+     * {@code offset}. This can vary in how many chars it uses, since it does not show leading zeroes and may use a
+     * {@code -} sign. This doesn't allocate and doesn't use any state shared between calls, so it is safe to call from
+     * multiple threads at once.
+     *
+     * @param buffer a non-null char array that will be modified; must have room for the encoded {@code number}
+     * @param offset the first index in {@code buffer} to write to
+     * @param number any short
+     * @return the index in {@code buffer} just after the last char written
+     */
+    public int appendSigned(char[] buffer, int offset, short number) {
+        final int sign = number >> -1;
+        // number is made negative because 0x80000000 and -(0x80000000) are both negative.
+        // then modulus later will also return a negative number or 0, and we can negate that to get a good index.
+        number = (short) -(number + sign ^ sign);
         if (sign != 0) {
-            progress[--run] = negativeSign;
+            buffer[offset++] = negativeSign;
         }
-        return builder.append(progress, run, length8Byte + 1 - run);
+        int run = offset;
+        for (; ; ) {
+            buffer[run++] = toEncoded[-(number % base)];
+            if ((number /= base) == 0)
+                break;
+        }
+        return reverse(buffer, offset, run);
     }
 
     /**
@@ -976,14 +1077,9 @@ public class Base {
      * @return a new String containing {@code number} in the radix this specifies.
      */
     public String unsigned(byte number) {
-        final int len = length1Byte - 1;
-        final int halfBase = base >>> 1;
-        for (int i = 0; i <= len; i++) {
-            int quotient = (((number & 0xFF) >>> 1) / halfBase);
-            progress[len - i] = toEncoded[(number & 0xFF) - quotient * base];
-            number = (byte) quotient;
-        }
-        return String.valueOf(progress, 0, length1Byte);
+        final char[] progress = new char[length1Byte];
+        appendUnsigned(progress, 0, number);
+        return String.valueOf(progress);
     }
 
     /**
@@ -997,12 +1093,14 @@ public class Base {
     public StringBuilder appendUnsigned(StringBuilder builder, byte number) {
         final int len = length1Byte - 1;
         final int halfBase = base >>> 1;
+        final int start = builder.length();
+        builder.setLength(start + length1Byte);
         for (int i = 0; i <= len; i++) {
             int quotient = (((number & 0xFF) >>> 1) / halfBase);
-            progress[len - i] = toEncoded[(number & 0xFF) - quotient * base];
+            builder.setCharAt(start + len - i, toEncoded[(number & 0xFF) - quotient * base]);
             number = (byte) quotient;
         }
-        return builder.append(progress, 0, length1Byte);
+        return builder;
     }
 
     /**
@@ -1013,20 +1111,8 @@ public class Base {
      * @return a new String containing {@code number} in the radix this specifies.
      */
     public String signed(byte number) {
-        int run = length8Byte;
-        final int sign = number >> -1;
-        // number is made negative because 0x80000000 and -(0x80000000) are both negative.
-        // then modulus later will also return a negative number or 0, and we can negate that to get a good index.
-        number = (byte) -(number + sign ^ sign);
-        for (; ; run--) {
-            progress[run] = toEncoded[-(number % base)];
-            if ((number /= base) == 0)
-                break;
-        }
-        if (sign != 0) {
-            progress[--run] = negativeSign;
-        }
-        return String.valueOf(progress, run, length8Byte + 1 - run);
+        final char[] progress = new char[length8Byte + 1];
+        return String.valueOf(progress, 0, appendSigned(progress, 0, number));
     }
 
     /**
@@ -1039,20 +1125,69 @@ public class Base {
      * @return {@code builder}, with the encoded {@code number} appended
      */
     public StringBuilder appendSigned(StringBuilder builder, byte number) {
-        int run = length8Byte;
         final int sign = number >> -1;
         // number is made negative because 0x80000000 and -(0x80000000) are both negative.
         // then modulus later will also return a negative number or 0, and we can negate that to get a good index.
         number = (byte) -(number + sign ^ sign);
-        for (; ; run--) {
-            progress[run] = toEncoded[-(number % base)];
+        if (sign != 0) {
+            builder.append(negativeSign);
+        }
+        final int start = builder.length();
+        for (; ; ) {
+            builder.append(toEncoded[-(number % base)]);
             if ((number /= base) == 0)
                 break;
         }
+        return reverse(builder, start, builder.length());
+    }
+
+    /**
+     * Converts the given {@code number} to this Base as unsigned, writing the result into {@code buffer} starting at
+     * {@code offset}. This always writes the same number of chars, as long as the Base is the same. This doesn't
+     * allocate and doesn't use any state shared between calls, so it is safe to call from multiple threads at once.
+     *
+     * @param buffer a non-null char array that will be modified; must have room for the encoded {@code number}
+     * @param offset the first index in {@code buffer} to write to
+     * @param number any byte
+     * @return the index in {@code buffer} just after the last char written
+     */
+    public int appendUnsigned(char[] buffer, int offset, byte number) {
+        final int len = length1Byte - 1;
+        final int halfBase = base >>> 1;
+        for (int i = 0; i <= len; i++) {
+            int quotient = (((number & 0xFF) >>> 1) / halfBase);
+            buffer[offset + len - i] = toEncoded[(number & 0xFF) - quotient * base];
+            number = (byte) quotient;
+        }
+        return offset + length1Byte;
+    }
+
+    /**
+     * Converts the given {@code number} to this Base as signed, writing the result into {@code buffer} starting at
+     * {@code offset}. This can vary in how many chars it uses, since it does not show leading zeroes and may use a
+     * {@code -} sign. This doesn't allocate and doesn't use any state shared between calls, so it is safe to call from
+     * multiple threads at once.
+     *
+     * @param buffer a non-null char array that will be modified; must have room for the encoded {@code number}
+     * @param offset the first index in {@code buffer} to write to
+     * @param number any byte
+     * @return the index in {@code buffer} just after the last char written
+     */
+    public int appendSigned(char[] buffer, int offset, byte number) {
+        final int sign = number >> -1;
+        // number is made negative because 0x80000000 and -(0x80000000) are both negative.
+        // then modulus later will also return a negative number or 0, and we can negate that to get a good index.
+        number = (byte) -(number + sign ^ sign);
         if (sign != 0) {
-            progress[--run] = negativeSign;
+            buffer[offset++] = negativeSign;
+        }
+        int run = offset;
+        for (; ; ) {
+            buffer[run++] = toEncoded[-(number % base)];
+            if ((number /= base) == 0)
+                break;
         }
-        return builder.append(progress, run, length8Byte + 1 - run);
+        return reverse(buffer, offset, run);
     }
 
     /**
@@ -1231,6 +1366,35 @@ public class Base {
         return appendSigned(builder, BitConversion.doubleToRawLongBits(number));
     }
 
+    /**
+     * Converts the bits of the given {@code number} to this Base as unsigned, writing the result into {@code buffer}
+     * starting at {@code offset}. This always writes the same number of chars, as long as the Base is the same. This
+     * doesn't allocate and doesn't use any state shared between calls, so it is safe to call from multiple threads.
+     *
+     * @param buffer a non-null char array that will be modified; must have room for the encoded {@code number}
+     * @param offset the first index in {@code buffer} to write to
+     * @param number any double
+     * @return the index in {@code buffer} just after the last char written
+     */
+    public int appendUnsigned(char[] buffer, int offset, double number) {
+        return appendUnsigned(buffer, offset, BitConversion.doubleToRawLongBits(number));
+    }
+
+    /**
+     * Converts the bits of the given {@code number} to this Base as signed, writing the result into {@code buffer}
+     * starting at {@code offset}. This can vary in how many chars it uses, since it does not show leading zeroes and
+     * may use a {@code -} sign. This doesn't allocate and doesn't use any state shared between calls, so it is safe to
+     * call from multiple threads.
+     *
+     * @param buffer a non-null char array that will be modified; must have room for the encoded {@code number}
+     * @param offset the first index in {@code buffer} to write to
+     * @param number any double
+     * @return the index in {@code buffer} just after the last char written
+     */
+    public int appendSigned(char[] buffer, int offset, double number) {
+        return appendSigned(buffer, offset, BitConversion.doubleToRawLongBits(number));
+    }
+
     /**
      * Reads in a CharSequence containing only the digits present in this Base, with an optional sign at the
      * start, and returns the double those bits represent, or 0.0 if nothing could be read. The leading sign can be
@@ -1336,6 +1500,35 @@ public class Base {
         return appendSigned(builder, BitConversion.floatToRawIntBits(number));
     }
 
+    /**
+     * Converts the bits of the given {@code number} to this Base as unsigned, writing the result into {@code buffer}
+     * starting at {@code offset}. This always writes the same number of chars, as long as the Base is the same. This
+     * doesn't allocate and doesn't use any state shared between calls, so it is safe to call from multiple threads.
+     *
+     * @param buffer a non-null char array that will be modified; must have room for the encoded {@code number}
+     * @param offset the first index in {@code buffer} to write to
+     * @param number any float
+     * @return the index in {@code buffer} just after the last char written
+     */
+    public int appendUnsigned(char[] buffer, int offset, float number) {
+        return appendUnsigned(buffer, offset, BitConversion.floatToRawIntBits(number));
+    }
+
+    /**
+     * Converts the bits of the given {@code number} to this Base as signed, writing the result into {@code buffer}
+     * starting at {@code offset}. This can vary in how many chars it uses, since it does not show leading zeroes and
+     * may use a {@code -} sign. This doesn't allocate and doesn't use any state shared between calls, so it is safe to
+     * call from multiple threads.
+     *
+     * @param buffer a non-null char array that will be modified; must have room for the encoded {@code number}
+     * @param offset the first index in {@code buffer} to write to
+     * @param number any float
+     * @return the index in {@code buffer} just after the last char written
+     */
+    public int appendSigned(char[] buffer, int offset, float number) {
+        return appendSigned(buffer, offset, BitConversion.floatToRawIntBits(number));
+    }
+
     /**
      * Reads in a CharSequence containing only the digits present in this Base, with an optional sign at the
      * start, and returns the float those bits represent, or 0.0 if nothing could be read.  The leading sign can be
@@ -1402,13 +1595,9 @@ public class Base {
      * @return a new String containing {@code number} in the radix this specifies.
      */
     public String unsigned(char number) {
-        final int len = length2Byte - 1;
-        for (int i = 0; i <= len; i++) {
-            int quotient = number / base;
-            progress[len - i] = toEncoded[(number & 0xFFFF) - quotient * base];
-            number = (char) quotient;
-        }
-        return String.valueOf(progress, 0, length2Byte);
+        final char[] progress = new char[length2Byte];
+        appendUnsigned(progress, 0, number);
+        return String.valueOf(progress);
     }
 
     /**
@@ -1421,12 +1610,14 @@ public class Base {
      */
     public StringBuilder appendUnsigned(StringBuilder builder, char number) {
         final int len = length2Byte - 1;
+        final int start = builder.length();
+        builder.setLength(start + length2Byte);
         for (int i = 0; i <= len; i++) {
             int quotient = number / base;
-            progress[len - i] = toEncoded[(number & 0xFFFF) - quotient * base];
+            builder.setCharAt(start + len - i, toEncoded[(number & 0xFFFF) - quotient * base]);
             number = (char) quotient;
         }
-        return builder.append(progress, 0, length2Byte);
+        return builder;
     }
 
     /**
@@ -1437,13 +1628,8 @@ public class Base {
      * @return a new String containing {@code number} in the radix this specifies.
      */
     public String signed(char number) {
-        int run = length8Byte;
-        for (; ; run--) {
-            progress[run] = toEncoded[number % base];
-            if ((number /= base) == 0)
-                break;
-        }
-        return String.valueOf(progress, run, length8Byte + 1 - run);
+        final char[] progress = new char[length8Byte + 1];
+        return String.valueOf(progress, 0, appendSigned(progress, 0, number));
     }
 
     /**
@@ -1456,13 +1642,54 @@ public class Base {
      * @return {@code builder}, with the encoded {@code number} appended
      */
     public StringBuilder appendSigned(StringBuilder builder, char number) {
-        int run = length8Byte;
-        for (; ; run--) {
-            progress[run] = toEncoded[number % base];
+        final int start = builder.length();
+        for (; ; ) {
+            builder.append(toEncoded[number % base]);
+            if ((number /= base) == 0)
+                break;
+        }
+        return reverse(builder, start, builder.length());
+    }
+
+    /**
+     * Converts the given {@code number} to this Base as unsigned, writing the result into {@code buffer} starting at
+     * {@code offset}. This always writes the same number of chars, as long as the Base is the same. This doesn't
+     * allocate and doesn't use any state shared between calls, so it is safe to call from multiple threads at once.
+     *
+     * @param buffer a non-null char array that will be modified; must have room for the encoded {@code number}
+     * @param offset the first index in {@code buffer} to write to
+     * @param number any char
+     * @return the index in {@code buffer} just after the last char written
+     */
+    public int appendUnsigned(char[] buffer, int offset, char number) {
+        final int len = length2Byte - 1;
+        for (int i = 0; i <= len; i++) {
+            int quotient = number / base;
+            buffer[offset + len - i] = toEncoded[(number & 0xFFFF) - quotient * base];
+            number = (char) quotient;
+        }
+        return offset + length2Byte;
+    }
+
+    /**
+     * Converts the given {@code number} to this Base as signed, writing the result into {@code buffer} starting at
+     * {@code offset}. This can vary in how many chars it uses, since it does not show leading zeroes and may use a
+     * {@code -} sign. This doesn't allocate and doesn't use any state shared between calls, so it is safe to call from
+     * multiple threads at once.
+     *
+     * @param buffer a non-null char array that will be modified; must have room for the encoded {@code number}
+     * @param offset the first index in {@code buffer} to write to
+     * @param number any char
+     * @return the index in {@code buffer} just after the last char written
+     */
+    public int appendSigned(char[] buffer, int offset, char number) {
+        int run = offset;
+        for (; ; ) {
+            buffer[run++] = toEncoded[number % base];
             if ((number /= base) == 0)
                 break;
         }
-        return builder.append(progress, run, length8Byte + 1 - run);
+        return reverse(buffer, offset, run);
     }
 
     /**
@@ -2711,6 +2938,42 @@ public class Base {
         return amount;
     }
 
+    /**
+     * Reverses the order of the chars in {@code builder} from {@code start} (inclusive) to {@code end} (exclusive).
+     * This is used after appending digits least-significant first, so they can be read most-significant first.
+     *
+     * @param builder a non-null StringBuilder that will be modified
+     * @param start   the first index to reverse, inclusive
+     * @param end     the last index to reverse, exclusive
+     * @return {@code builder}, after modifications
+     */
+    private static StringBuilder reverse(final StringBuilder builder, int start, int end) {
+        while (start < --end) {
+            char t = builder.charAt(start);
+            builder.setCharAt(start++, builder.charAt(end));
+            builder.setCharAt(end, t);
+        }
+        return builder;
+    }
+
+    /**
+     * Reverses the order of the chars in {@code buffer} from {@code start} (inclusive) to {@code end} (exclusive).
+     * This is used after writing digits least-significant first, so they can be read most-significant first.
+     *
+     * @param buffer a non-null char array that will be modified
+     * @param start  the first index to reverse, inclusive
+     * @param end    the last index to reverse, exclusive
+     * @return {@code end}, which is the index just after the last char in the reversed section
+     */
+    private static int reverse(final char[] buffer, int start, final int end) {
+        for (int e = end; start < --e; start++) {
+            char t = buffer[start];
+            buffer[start] = buffer[e];
+            buffer[e] = t;
+        }
+        return end;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -17,6 +17,12 @@
 
 package com.github.tommyettinger.digital;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 /**
  * Methods for converting floats to and from ints, as well as doubles to and from longs and ints.
  * This is like NumberUtils in libGDX, but is closer to a subset of NumberTools in SquidLib. It
@@ -217,4 +223,88 @@ public final class BitConversion {
         return num & -num;
     }
 
+    /**
+     * Reads 8 bytes from {@code bytes}, starting at {@code index}, and packs them into a long in little-endian order;
+     * that is, the byte at {@code index} becomes the least-significant byte of the result. This is used by
+     * {@link Hasher#hashBulk64(byte[])} and related methods to mix 8 bytes at a time. On Java 9 and newer, this uses a
+     * byte array view VarHandle (looked up reflectively, so this still runs on Java 8), which HotSpot compiles to a
+     * single load instruction; elsewhere, such as on Java 8 or older Android versions, it uses a series of shifts. It
+     * is implemented differently on GWT, where it assembles two ints and only combines them into a long at the end.
+     * None of these approaches allocate.
+     *
+     * @param bytes a non-null byte array with at least {@code index + 8} items
+     * @param index the first index in {@code bytes} to read, which will be the least-significant byte
+     * @return a long made of the 8 bytes starting at {@code index}, in little-endian order
+     */
+    public static long readLongLE(final byte[] bytes, final int index) {
+        if (LONG_VIEW) {
+            try {
+                return (long) LongView.GET.invokeExact(bytes, index);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+        return (bytes[index] & 0xFFL) | (bytes[index + 1] & 0xFFL) << 8 | (bytes[index + 2] & 0xFFL) << 16
+                | (bytes[index + 3] & 0xFFL) << 24 | (bytes[index + 4] & 0xFFL) << 32 | (bytes[index + 5] & 0xFFL) << 40
+                | (bytes[index + 6] & 0xFFL) << 48 | (long) bytes[index + 7] << 56;
+    }
+
+    /**
+     * Reads 8 bytes from {@code buffer}, starting at the absolute {@code index}, and packs them into a long in
+     * little-endian order, regardless of the buffer's {@link ByteBuffer#order()}. This doesn't change the buffer's
+     * position or order. It uses {@link ByteBuffer#getLong(int)}, so it works with heap, direct, and memory-mapped
+     * buffers without copying; on GWT, it reads one byte at a time instead.
+     *
+     * @param buffer a non-null ByteBuffer with a limit of at least {@code index + 8}
+     * @param index the first index in {@code buffer} to read, which will be the least-significant byte
+     * @return a long made of the 8 bytes starting at {@code index}, in little-endian order
+     */
+    public static long readLongLE(final ByteBuffer buffer, final int index) {
+        final long bits = buffer.getLong(index);
+        return buffer.order() == ByteOrder.LITTLE_ENDIAN ? bits : Long.reverseBytes(bits);
+    }
+
+    /**
+     * True if {@link LongView} could be initialized on this platform, so {@link #readLongLE(byte[], int)} can use it.
+     */
+    private static final boolean LONG_VIEW;
+
+    static {
+        boolean view;
+        try {
+            view = LongView.GET != null;
+        } catch (Throwable ignored) {
+            // java.lang.invoke may not exist at all on older Android versions.
+            view = false;
+        }
+        LONG_VIEW = view;
+    }
+
+    /**
+     * Holds a MethodHandle that reads a little-endian long from a byte array, if the platform has
+     * {@code MethodHandles.byteArrayViewVarHandle()} (Java 9 and newer). This is a separate class so that
+     * BitConversion can still load if {@code java.lang.invoke} is missing.
+     */
+    private static final class LongView {
+        static final MethodHandle GET;
+
+        static {
+            MethodHandle get = null;
+            try {
+                Object handle = MethodHandles.class.getMethod("byteArrayViewVarHandle", Class.class, ByteOrder.class)
+                        .invoke(null, long[].class, ByteOrder.LITTLE_ENDIAN);
+                Class<?> accessMode = Class.forName("java.lang.invoke.VarHandle$AccessMode");
+                get = (MethodHandle) handle.getClass().getMethod("toMethodHandle", accessMode)
+                        .invoke(handle, accessMode.getField("GET").get(null));
+                if (!get.type().equals(MethodType.methodType(long.class, byte[].class, int.class)))
+                    get = null;
+            } catch (Exception ignored) {
+                // Java 8 doesn't have byteArrayViewVarHandle(); readLongLE() will fall back to shifts.
+            }
+            GET = get;
+        }
+    }
+
 }
@@ -0,0 +1,439 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A Bloom filter, which can say an item was definitely never added, or was probably added, using a fixed number of
+ * bits no matter how large the items are. All {@link #hashes} probe positions for an item come from one 64-bit hash,
+ * using its low and high 32 bits with enhanced double hashing, instead of hashing the item once per probe. Items can
+ * be CharSequences, byte arrays, or longs, hashed with a {@link Hasher} using this filter's {@link #seed}, or any
+ * 64-bit hash you already have, using {@link #addHash(long)} and {@link #mightContainHash(long)}.
+ * <br>
+ * {@link BlockedBloomFilter} puts all probes for an item in one 64-byte block, which is faster, especially when the
+ * filter is larger than the CPU cache, but needs a bit more space for the same false positive rate.
+ * <br>
+ * If this is created as concurrent, adds from many threads at once are safe; each word is updated while holding one
+ * of {@value SketchTools#STRIPES} locks. Lookups never lock, so a lookup running at the same time as an add might not
+ * see that add yet. {@link #union(BloomFilter)}, {@link #intersect(BloomFilter)}, and {@link #clear()} don't lock,
+ * and shouldn't run at the same time as adds. A filter that isn't concurrent is not safe to add to from more than one
+ * thread.
+ * <br>
+ * Filters can be written to and read from byte arrays and ByteBuffers, in a little-endian format. The ByteBuffer
+ * methods need java.nio emulation on GWT, which libGDX provides.
+ */
+public class BloomFilter {
+    private static final int TAG = 0x314D4C42; // "BLM1"
+
+    /**
+     * The seed used to hash items; filters need the same seed and size to be combined.
+     */
+    public final long seed;
+    /**
+     * How many bits are set for each item.
+     */
+    public final int hashes;
+    /**
+     * If true, {@link #add(CharSequence)} and the other add methods are safe to call from many threads at once.
+     */
+    public final boolean concurrent;
+
+    private final long[] bits;
+    private final long numBits;
+    private final Hasher hasher;
+    private final Object[] locks;
+
+    /**
+     * Creates a filter that isn't concurrent, sized to hold {@code expectedItems} items with about the given false
+     * positive rate, hashing with the given Hasher's seed.
+     *
+     * @param hasher            the Hasher whose seed will be used; must not be null
+     * @param expectedItems     how many items will be added; must be positive
+     * @param falsePositiveRate the chance that an item never added is reported as probably added; between 0 and 1
+     */
+    public BloomFilter(final Hasher hasher, final long expectedItems, final double falsePositiveRate) {
+        this(hasher, expectedItems, falsePositiveRate, false);
+    }
+
+    /**
+     * Creates a filter sized to hold {@code expectedItems} items with about the given false positive rate, hashing
+     * with the given Hasher's seed.
+     *
+     * @param hasher            the Hasher whose seed will be used; must not be null
+     * @param expectedItems     how many items will be added; must be positive
+     * @param falsePositiveRate the chance that an item never added is reported as probably added; between 0 and 1
+     * @param concurrent        if true, items can be added from many threads at once
+     */
+    public BloomFilter(final Hasher hasher, final long expectedItems, final double falsePositiveRate,
+                       final boolean concurrent) {
+        this(hasher.seed, optimalBits(expectedItems, falsePositiveRate),
+                optimalHashes(expectedItems, optimalBits(expectedItems, falsePositiveRate)), concurrent);
+    }
+
+    /**
+     * Creates a filter with the given size and number of hashes.
+     *
+     * @param seed       any long; used to hash items
+     * @param numBits    how many bits to use; rounded up to a multiple of 64, and must be between 1 and 2 to the 32
+     * @param hashes     how many bits to set for each item; must be between 1 and 64
+     * @param concurrent if true, items can be added from many threads at once
+     */
+    public BloomFilter(final long seed, final long numBits, final int hashes, final boolean concurrent) {
+        if (numBits < 1L || numBits > 1L << 32)
+            throw new IllegalArgumentException("numBits must be between 1 and 2 to the 32: " + numBits);
+        if (hashes < 1 || hashes > 64)
+            throw new IllegalArgumentException("hashes must be between 1 and 64: " + hashes);
+        this.seed = seed;
+        this.hashes = hashes;
+        this.concurrent = concurrent;
+        this.bits = new long[(int) (numBits + 63 >>> 6)];
+        this.numBits = (long) bits.length << 6;
+        this.hasher = new Hasher(seed);
+        this.locks = concurrent ? SketchTools.locks() : null;
+    }
+
+    /**
+     * Creates a copy of {@code other}, with the same bits, that is concurrent if other is.
+     *
+     * @param other another BloomFilter to copy
+     */
+    public BloomFilter(final BloomFilter other) {
+        this.seed = other.seed;
+        this.hashes = other.hashes;
+        this.concurrent = other.concurrent;
+        this.bits = other.bits.clone();
+        this.numBits = other.numBits;
+        this.hasher = other.hasher;
+        this.locks = concurrent ? SketchTools.locks() : null;
+    }
+
+    /**
+     * Gets the number of bits a Bloom filter needs to hold {@code expectedItems} items with the given false positive
+     * rate, if it uses the best number of hashes.
+     *
+     * @param expectedItems     how many items will be added; must be positive
+     * @param falsePositiveRate between 0 and 1, exclusive
+     * @return the number of bits needed
+     */
+    public static long optimalBits(final long expectedItems, final double falsePositiveRate) {
+        if (expectedItems < 1L)
+            throw new IllegalArgumentException("expectedItems must be positive: " + expectedItems);
+        if (!(falsePositiveRate > 0.0 && falsePositiveRate < 1.0))
+            throw new IllegalArgumentException("falsePositiveRate must be > 0 and < 1: " + falsePositiveRate);
+        return Math.max(64L, (long) Math.ceil(-expectedItems * Math.log(falsePositiveRate) / (Math.log(2.0) * Math.log(2.0))));
+    }
+
+    /**
+     * Gets the number of hashes that gives the lowest false positive rate for a filter with {@code numBits} bits
+     * holding {@code expectedItems} items.
+     *
+     * @param expectedItems how many items will be added; must be positive
+     * @param numBits       how many bits the filter has
+     * @return the best number of hashes, between 1 and 64
+     */
+    public static int optimalHashes(final long expectedItems, final long numBits) {
+        return (int) Math.max(1L, Math.min(64L, Math.round((double) numBits / expectedItems * Math.log(2.0))));
+    }
+
+    /**
+     * Gets how many bits this filter has, which is a multiple of 64.
+     *
+     * @return the number of bits
+     */
+    public long bitSize() {
+        return numBits;
+    }
+
+    /**
+     * Gets how many bits are set.
+     *
+     * @return the number of set bits
+     */
+    public long bitCount() {
+        long count = 0L;
+        for (final long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Estimates the false positive rate from how many bits are set now.
+     *
+     * @return the chance that an item never added would be reported as probably added
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) bitCount() / numBits, hashes);
+    }
+
+    /**
+     * Adds an item by its 64-bit hash, which should be well-mixed in all bits.
+     *
+     * @param hash a 64-bit hash of an item
+     * @return true if any bit changed, so the item was definitely not present before
+     */
+    public boolean addHash(final long hash) {
+        final long[] bits = this.bits;
+        int a = (int) hash, b = (int) (hash >>> 32);
+        long changed = 0L;
+        for (int i = 0; i < hashes; i++) {
+            final long index = (a & 0xFFFFFFFFL) * numBits >>> 32;
+            final int word = (int) (index >>> 6);
+            final long bit = 1L << index;
+            if (locks == null) {
+                changed |= ~bits[word] & bit;
+                bits[word] |= bit;
+            } else {
+                synchronized (locks[word & SketchTools.STRIPES - 1]) {
+                    changed |= ~bits[word] & bit;
+                    bits[word] |= bit;
+                }
+            }
+            a += b;
+            b += i;
+        }
+        return changed != 0L;
+    }
+
+    /**
+     * Checks an item by its 64-bit hash, as given to {@link #addHash(long)}.
+     *
+     * @param hash a 64-bit hash of an item
+     * @return false if the item was definitely never added, or true if it probably was
+     */
+    public boolean mightContainHash(final long hash) {
+        final long[] bits = this.bits;
+        int a = (int) hash, b = (int) (hash >>> 32);
+        for (int i = 0; i < hashes; i++) {
+            final long index = (a & 0xFFFFFFFFL) * numBits >>> 32;
+            if ((bits[(int) (index >>> 6)] & 1L << index) == 0L) return false;
+            a += b;
+            b += i;
+        }
+        return true;
+    }
+
+    /**
+     * Adds a CharSequence, hashed with {@link Hasher#hash64(CharSequence)}.
+     *
+     * @param item a CharSequence; may be null
+     * @return true if the item was definitely not present before
+     */
+    public boolean add(final CharSequence item) {
+        return addHash(hasher.hash64(item));
+    }
+
+    /**
+     * Adds a byte array, hashed with {@link Hasher#hash64(byte[])}.
+     *
+     * @param item a byte array; may be null
+     * @return true if the item was definitely not present before
+     */
+    public boolean add(final byte[] item) {
+        return addHash(hasher.hash64(item));
+    }
+
+    /**
+     * Adds a long.
+     *
+     * @param item any long
+     * @return true if the item was definitely not present before
+     */
+    public boolean add(final long item) {
+        return addHash(SketchTools.hashLong(item, seed));
+    }
+
+    /**
+     * Checks a CharSequence, as given to {@link #add(CharSequence)}.
+     *
+     * @param item a CharSequence; may be null
+     * @return false if the item was definitely never added, or true if it probably was
+     */
+    public boolean mightContain(final CharSequence item) {
+        return mightContainHash(hasher.hash64(item));
+    }
+
+    /**
+     * Checks a byte array, as given to {@link #add(byte[])}.
+     *
+     * @param item a byte array; may be null
+     * @return false if the item was definitely never added, or true if it probably was
+     */
+    public boolean mightContain(final byte[] item) {
+        return mightContainHash(hasher.hash64(item));
+    }
+
+    /**
+     * Checks a long, as given to {@link #add(long)}.
+     *
+     * @param item any long
+     * @return false if the item was definitely never added, or true if it probably was
+     */
+    public boolean mightContain(final long item) {
+        return mightContainHash(SketchTools.hashLong(item, seed));
+    }
+
+    /**
+     * Checks whether {@code other} has the same seed, size, and number of hashes, so it can be combined with this.
+     *
+     * @param other another BloomFilter; may be null
+     * @return true if other can be given to {@link #union(BloomFilter)} or {@link #intersect(BloomFilter)}
+     */
+    public boolean isCompatible(final BloomFilter other) {
+        return other != null && other.seed == seed && other.hashes == hashes && other.numBits == numBits;
+    }
+
+    private void checkCompatible(final BloomFilter other) {
+        if (!isCompatible(other))
+            throw new IllegalArgumentException("The filters must have the same seed, size, and number of hashes");
+    }
+
+    /**
+     * Adds every item in {@code other} to this, so this probably contains anything either filter did.
+     *
+     * @param other a compatible BloomFilter; see {@link #isCompatible(BloomFilter)}
+     * @return this, for chaining
+     */
+    public BloomFilter union(final BloomFilter other) {
+        checkCompatible(other);
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] |= other.bits[i];
+        }
+        return this;
+    }
+
+    /**
+     * Keeps only bits set in both this and {@code other}, so this doesn't contain anything that either filter
+     * definitely didn't. The false positive rate can be higher than a filter built from only the common items.
+     *
+     * @param other a compatible BloomFilter; see {@link #isCompatible(BloomFilter)}
+     * @return this, for chaining
+     */
+    public BloomFilter intersect(final BloomFilter other) {
+        checkCompatible(other);
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] &= other.bits[i];
+        }
+        return this;
+    }
+
+    /**
+     * Removes all items.
+     */
+    public void clear() {
+        Arrays.fill(bits, 0L);
+    }
+
+    /**
+     * Gets how many bytes {@link #write(ByteBuffer)} and {@link #toBytes()} use.
+     *
+     * @return the size of this filter when written
+     */
+    public int serializedSize() {
+        return 20 + (bits.length << 3);
+    }
+
+    /**
+     * Writes this filter into {@code buffer} at its position, moving the position past what was written.
+     *
+     * @param buffer a ByteBuffer with at least {@link #serializedSize()} bytes remaining
+     * @return buffer, for chaining
+     */
+    public ByteBuffer write(final ByteBuffer buffer) {
+        SketchTools.putIntLE(buffer, TAG);
+        SketchTools.putIntLE(buffer, hashes);
+        SketchTools.putLongLE(buffer, seed);
+        SketchTools.putIntLE(buffer, bits.length);
+        for (final long word : bits) {
+            SketchTools.putLongLE(buffer, word);
+        }
+        return buffer;
+    }
+
+    /**
+     * Writes this filter into a new byte array.
+     *
+     * @return a new byte array that {@link #fromBytes(byte[])} can read
+     */
+    public byte[] toBytes() {
+        final byte[] bytes = new byte[serializedSize()];
+        write(ByteBuffer.wrap(bytes));
+        return bytes;
+    }
+
+    /**
+     * Reads a filter written by {@link #write(ByteBuffer)} from {@code buffer}'s position, moving the position past
+     * what was read.
+     *
+     * @param buffer     a ByteBuffer holding a written BloomFilter
+     * @param concurrent if true, the filter will be safe to add to from many threads at once
+     * @return a new BloomFilter with the same bits as the one written
+     */
+    public static BloomFilter read(final ByteBuffer buffer, final boolean concurrent) {
+        SketchTools.checkTag(buffer, TAG, "BloomFilter");
+        final int hashes = SketchTools.getIntLE(buffer);
+        final long seed = SketchTools.getLongLE(buffer);
+        final int words = SketchTools.getIntLE(buffer);
+        final BloomFilter filter = new BloomFilter(seed, (long) words << 6, hashes, concurrent);
+        for (int i = 0; i < words; i++) {
+            filter.bits[i] = SketchTools.getLongLE(buffer);
+        }
+        return filter;
+    }
+
+    /**
+     * Reads a filter written by {@link #write(ByteBuffer)}; it won't be concurrent.
+     *
+     * @param buffer a ByteBuffer holding a written BloomFilter
+     * @return a new BloomFilter with the same bits as the one written
+     */
+    public static BloomFilter read(final ByteBuffer buffer) {
+        return read(buffer, false);
+    }
+
+    /**
+     * Reads a filter written by {@link #toBytes()}; it won't be concurrent.
+     *
+     * @param bytes a byte array holding a written BloomFilter
+     * @return a new BloomFilter with the same bits as the one written
+     */
+    public static BloomFilter fromBytes(final byte[] bytes) {
+        return read(ByteBuffer.wrap(bytes), false);
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) Hasher.hash64(seed ^ hashes, bits);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof BloomFilter))
+            return false;
+        final BloomFilter other = (BloomFilter) o;
+        return isCompatible(other) && Arrays.equals(bits, other.bits);
+    }
+
+    @Override
+    public String toString() {
+        return "BloomFilter{bits=" + numBits + ", hashes=" + hashes + ", set=" + bitCount() + '}';
+    }
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Splits bytes into content-defined chunks, so that inserting or removing bytes in one place only changes the chunks
+ * near that place, and the rest can be found again by their hashes. This is the usual first step in deduplication.
+ * Boundaries are found with a Gear rolling hash, which only depends on the last 64 bytes, using the same table of
+ * random longs as a {@link RollingHash} with the same seed. Like FastCDC, it doesn't hash the first bytes of a chunk
+ * that can't affect a boundary, and it uses a stricter test before {@link #averageSize} and a looser one after, so
+ * chunk sizes stay closer to the average. No chunk is smaller than {@link #minSize} (except the last) or larger than
+ * {@link #maxSize}.
+ * <br>
+ * The chunk() methods split a whole byte array, ByteBuffer, or channel, and give each chunk's position, length, and
+ * {@link Hasher#hashBulk64(byte[])} to a {@link ChunkListener}. The findBoundary() methods are lower-level, and can be
+ * given pieces of input in order, remembering the partial chunk between calls. Nothing allocates per byte or per chunk;
+ * the chunk() methods only allocate a read buffer for a channel if none is given.
+ * <br>
+ * This uses java.nio.channels, so it is excluded from the GWT module. A Chunker is not safe to share between threads
+ * while it is working, but {@link #copy()} is cheap.
+ */
+public class Chunker {
+    /**
+     * Receives each chunk found by the chunk() methods.
+     */
+    public interface ChunkListener {
+        /**
+         * Called once for each chunk, in order.
+         *
+         * @param start  the position of the chunk's first byte, counting from the start of the input
+         * @param length how many bytes are in the chunk
+         * @param hash   the {@link Hasher#hashBulk64(byte[])} of the chunk's bytes, using the Chunker's seed
+         */
+        void chunk(long start, int length, long hash);
+    }
+
+    /**
+     * The seed the table and chunk hashes use; this is the same as the seed of the Hasher that created this, if any.
+     */
+    public final long seed;
+    /**
+     * The smallest size of a chunk, other than the last one.
+     */
+    public final int minSize;
+    /**
+     * The size chunks are aimed at; chunk sizes vary, but cluster around this.
+     */
+    public final int averageSize;
+    /**
+     * The largest size of a chunk; a chunk is always cut here if no boundary was found before.
+     */
+    public final int maxSize;
+
+    private final long[] gear;
+    private final long maskS, maskL;
+    private final Hasher hasher;
+    private final HashStream stream;
+    private long hash;
+    private int size;
+
+    /**
+     * Creates a Chunker using the given Hasher's seed, with chunks from 2 KiB to 64 KiB, averaging about 8 KiB.
+     *
+     * @param hasher the Hasher whose seed will be used; must not be null
+     */
+    public Chunker(final Hasher hasher) {
+        this(hasher.seed, 2048, 8192, 65536);
+    }
+
+    /**
+     * Creates a Chunker using the given Hasher's seed and chunk sizes.
+     *
+     * @param hasher      the Hasher whose seed will be used; must not be null
+     * @param minSize     the smallest chunk size, other than the last chunk; must be at least 0
+     * @param averageSize the size to aim for; only its highest bit is used, so it is rounded down to a power of two
+     * @param maxSize     the largest chunk size; must be at least averageSize, and averageSize at least minSize
+     */
+    public Chunker(final Hasher hasher, final int minSize, final int averageSize, final int maxSize) {
+        this(hasher.seed, minSize, averageSize, maxSize);
+    }
+
+    /**
+     * Creates a Chunker using the given seed and chunk sizes.
+     *
+     * @param seed        any long
+     * @param minSize     the smallest chunk size, other than the last chunk; must be at least 0
+     * @param averageSize the size to aim for; only its highest bit is used, so it is rounded down to a power of two
+     * @param maxSize     the largest chunk size; must be at least averageSize, and averageSize at least minSize
+     */
+    public Chunker(final long seed, final int minSize, final int averageSize, final int maxSize) {
+        if (minSize < 0 || averageSize < minSize || maxSize < averageSize || maxSize < 1)
+            throw new IllegalArgumentException("need 0 <= minSize <= averageSize <= maxSize and 1 <= maxSize, but got "
+                    + minSize + ", " + averageSize + ", " + maxSize);
+        this.seed = seed;
+        this.minSize = minSize;
+        this.averageSize = averageSize;
+        this.maxSize = maxSize;
+        this.gear = RollingHash.table(seed);
+        final int bits = 31 - Integer.numberOfLeadingZeros(Math.max(averageSize, 1));
+        this.maskS = topBits(bits + 1);
+        this.maskL = topBits(bits - 1);
+        this.hasher = new Hasher(seed);
+        this.stream = new HashStream(seed);
+    }
+
+    private Chunker(final Chunker other) {
+        this.seed = other.seed;
+        this.minSize = other.minSize;
+        this.averageSize = other.averageSize;
+        this.maxSize = other.maxSize;
+        this.gear = other.gear;
+        this.maskS = other.maskS;
+        this.maskL = other.maskL;
+        this.hasher = other.hasher;
+        this.stream = new HashStream(seed);
+    }
+
+    private static long topBits(final int bits) {
+        return bits <= 0 ? 0L : -1L << 64 - bits;
+    }
+
+    /**
+     * Creates a Chunker with the same seed and sizes, sharing the table, with no partial chunk.
+     *
+     * @return a new Chunker that finds the same boundaries as this one
+     */
+    public Chunker copy() {
+        return new Chunker(this);
+    }
+
+    /**
+     * Forgets any partial chunk, so the next byte given starts a new chunk.
+     *
+     * @return this, for chaining
+     */
+    public Chunker reset() {
+        hash = 0L;
+        size = 0;
+        stream.reset();
+        return this;
+    }
+
+    /**
+     * Gets how many bytes have been given to findBoundary() since the last boundary or reset.
+     *
+     * @return the size of the partial chunk
+     */
+    public int pending() {
+        return size;
+    }
+
+    /**
+     * Looks for the end of the current chunk in the section of {@code data} from {@code offset} to
+     * {@code offset + length}. If a boundary is found, this returns the position after the chunk's last byte, and the
+     * next chunk starts there. Otherwise, this returns -1 and remembers the partial chunk, so the next call can
+     * continue with the bytes that follow.
+     *
+     * @param data   a byte array; must not be null
+     * @param offset the first position in data to look at
+     * @param length how many bytes to look at
+     * @return the position in data after the end of the chunk, or -1 if the chunk doesn't end in this section
+     */
+    public int findBoundary(final byte[] data, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset > data.length - length)
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length + ", array length: " + data.length);
+        final int end = offset + length;
+        final long begin = (long) offset - size;
+        final long[] gear = this.gear;
+        long h = hash;
+        int i = (int) Math.min(end, Math.max(offset, begin + minSize - 64));
+        int stop = (int) Math.min(end, Math.max(i, begin + minSize - 1));
+        for (; i < stop; i++) {
+            h = (h << 1) + gear[data[i] & 255];
+        }
+        stop = (int) Math.min(end, Math.max(i, begin + averageSize - 1));
+        for (final long mask = maskS; i < stop; i++) {
+            if (((h = (h << 1) + gear[data[i] & 255]) & mask) == 0L) return cut(i + 1);
+        }
+        stop = (int) Math.min(end, Math.max(i, begin + maxSize - 1));
+        for (final long mask = maskL; i < stop; i++) {
+            if (((h = (h << 1) + gear[data[i] & 255]) & mask) == 0L) return cut(i + 1);
+        }
+        if (i < end) return cut(i + 1);
+        hash = h;
+        size = (int) (end - begin);
+        return -1;
+    }
+
+    /**
+     * Looks for the end of the current chunk in the remaining bytes of {@code data}, like
+     * {@link #findBoundary(byte[], int, int)}. If a boundary is found, this moves the position of data to the start
+     * of the next chunk and returns that position. Otherwise, this moves the position to the limit and returns -1.
+     *
+     * @param data a ByteBuffer; must not be null
+     * @return the position in data after the end of the chunk, or -1 if the chunk doesn't end before the limit
+     */
+    public int findBoundary(final ByteBuffer data) {
+        final int offset = data.position(), end = data.limit();
+        if (data.hasArray()) {
+            final int base = data.arrayOffset();
+            int found = findBoundary(data.array(), base + offset, end - offset);
+            data.position(found < 0 ? end : found - base);
+            return found < 0 ? -1 : found - base;
+        }
+        final long begin = (long) offset - size;
+        final long[] gear = this.gear;
+        long h = hash;
+        int i = (int) Math.min(end, Math.max(offset, begin + minSize - 64));
+        int stop = (int) Math.min(end, Math.max(i, begin + minSize - 1));
+        for (; i < stop; i++) {
+            h = (h << 1) + gear[data.get(i) & 255];
+        }
+        stop = (int) Math.min(end, Math.max(i, begin + averageSize - 1));
+        for (final long mask = maskS; i < stop; i++) {
+            if (((h = (h << 1) + gear[data.get(i) & 255]) & mask) == 0L) {
+                data.position(i + 1);
+                return cut(i + 1);
+            }
+        }
+        stop = (int) Math.min(end, Math.max(i, begin + maxSize - 1));
+        for (final long mask = maskL; i < stop; i++) {
+            if (((h = (h << 1) + gear[data.get(i) & 255]) & mask) == 0L) {
+                data.position(i + 1);
+                return cut(i + 1);
+            }
+        }
+        if (i < end) {
+            data.position(i + 1);
+            return cut(i + 1);
+        }
+        hash = h;
+        size = (int) (end - begin);
+        data.position(end);
+        return -1;
+    }
+
+    private int cut(final int position) {
+        hash = 0L;
+        size = 0;
+        return position;
+    }
+
+    /**
+     * Splits the section of {@code data} from {@code offset} to {@code offset + length} into chunks, giving each to
+     * {@code listener}. Positions given to the listener count from offset. This starts with a {@link #reset()}.
+     *
+     * @param data     a byte array; must not be null
+     * @param offset   the first position in data to split
+     * @param length   how many bytes to split
+     * @param listener receives each chunk; must not be null
+     * @return how many chunks there were
+     */
+    public int chunk(final byte[] data, final int offset, final int length, final ChunkListener listener) {
+        reset();
+        final int end = offset + length;
+        int start = offset, count = 0;
+        while (start < end) {
+            int found = findBoundary(data, start, end - start);
+            if (found < 0) found = end;
+            listener.chunk(start - offset, found - start, hasher.hashBulk64(data, start, found - start));
+            start = found;
+            count++;
+        }
+        reset();
+        return count;
+    }
+
+    /**
+     * Splits all of {@code data} into chunks, giving each to {@code listener}. This starts with a {@link #reset()}.
+     *
+     * @param data     a byte array; must not be null
+     * @param listener receives each chunk; must not be null
+     * @return how many chunks there were
+     */
+    public int chunk(final byte[] data, final ChunkListener listener) {
+        return chunk(data, 0, data.length, listener);
+    }
+
+    /**
+     * Splits the remaining bytes of {@code data} into chunks, giving each to {@code listener}, and moves its position
+     * to its limit. Positions given to the listener count from the position data had. This starts with a
+     * {@link #reset()}.
+     *
+     * @param data     a ByteBuffer; must not be null
+     * @param listener receives each chunk; must not be null
+     * @return how many chunks there were
+     */
+    public int chunk(final ByteBuffer data, final ChunkListener listener) {
+        reset();
+        final int first = data.position(), end = data.limit();
+        int start = first, count = 0;
+        while (start < end) {
+            int found = findBoundary(data);
+            if (found < 0) found = end;
+            data.limit(found).position(start);
+            listener.chunk(start - first, found - start, stream.update(data).finish());
+            data.limit(end);
+            stream.reset();
+            start = found;
+            count++;
+        }
+        reset();
+        return count;
+    }
+
+    /**
+     * Reads {@code channel} until it ends and splits everything read into chunks, giving each to {@code listener}.
+     * Data is read through {@code buffer}, which is cleared first; a direct buffer of 64 KiB or more works well.
+     * This starts with a {@link #reset()}.
+     *
+     * @param channel  a channel to read from until it ends; must not be null
+     * @param buffer   a buffer to read into; must not be null, and should have a capacity of at least a few KiB
+     * @param listener receives each chunk; must not be null
+     * @return how many bytes were read
+     * @throws IOException if reading from channel throws one
+     */
+    public long chunk(final ReadableByteChannel channel, final ByteBuffer buffer, final ChunkListener listener)
+            throws IOException {
+        reset();
+        long total = 0L, chunkStart = 0L;
+        buffer.clear();
+        while (channel.read(buffer) >= 0) {
+            buffer.flip();
+            final int end = buffer.limit();
+            total += end;
+            int start = 0;
+            while (start < end) {
+                final int found = findBoundary(buffer);
+                buffer.limit(found < 0 ? end : found).position(start);
+                stream.update(buffer);
+                buffer.limit(end);
+                if (found < 0) break;
+                listener.chunk(chunkStart, (int) stream.length(), stream.finish());
+                chunkStart += stream.length();
+                stream.reset();
+                start = found;
+            }
+            buffer.clear();
+        }
+        if (stream.length() != 0L) listener.chunk(chunkStart, (int) stream.length(), stream.finish());
+        reset();
+        return total;
+    }
+
+    /**
+     * Reads {@code channel} until it ends and splits everything read into chunks, giving each to {@code listener}.
+     * This allocates one 64 KiB direct buffer to read into; use
+     * {@link #chunk(ReadableByteChannel, ByteBuffer, ChunkListener)} to reuse a buffer.
+     *
+     * @param channel  a channel to read from until it ends; must not be null
+     * @param listener receives each chunk; must not be null
+     * @return how many bytes were read
+     * @throws IOException if reading from channel throws one
+     */
+    public long chunk(final ReadableByteChannel channel, final ChunkListener listener) throws IOException {
+        return chunk(channel, ByteBuffer.allocateDirect(65536), listener);
+    }
+
+    @Override
+    public String toString() {
+        return "Chunker{seed=" + seed + ", minSize=" + minSize + ", averageSize=" + averageSize + ", maxSize=" + maxSize + '}';
+    }
+}
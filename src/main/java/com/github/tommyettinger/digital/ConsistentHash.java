@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+/**
+ * Routes keys to shards so that changing the number of shards moves as few keys as possible, unlike
+ * {@code hash % n}, which moves nearly all of them. Keys can be longs, hashed with {@link Hasher#randomize3(long)}
+ * after mixing in the seed, or CharSequences, hashed with {@link Hasher#hash64(CharSequence)}. There are three ways to
+ * route a key:
+ * <ul>
+ *     <li>{@link #jump(long, int)}, Jump Consistent Hash, which needs no memory and is fastest, but only works when
+ *     shards are numbered from 0 and only the last ones are added or removed.</li>
+ *     <li>{@link #rendezvous(long, long[])}, rendezvous (highest random weight) hashing, which scores every shard
+ *     for the key and picks the highest. Shards are named by long ids, any of them can be added or removed, and only
+ *     the keys on a removed shard (or those taken by an added one) move. Shards can also be weighted, with
+ *     {@link #rendezvous(long, long[], double[])}. This takes time proportional to the number of shards.</li>
+ *     <li>{@link #rendezvousBounded(long, long[], long[], long[])}, which picks the highest-scoring shard that still
+ *     has room, so no shard gets more than its capacity, as in consistent hashing with bounded loads.
+ *     {@link #capacities(long, double[], double, long[])} gives capacities within a factor of {@code 1 + epsilon} of
+ *     the average.</li>
+ * </ul>
+ * None of these allocate. Routers with different seeds route keys differently; the seed should be the same on every
+ * node that routes keys.
+ */
+public class ConsistentHash {
+    /**
+     * The seed used to hash keys and shard ids.
+     */
+    public final long seed;
+
+    private final Hasher hasher;
+
+    /**
+     * Creates a router using the given Hasher's seed.
+     *
+     * @param hasher the Hasher whose seed will be used; must not be null
+     */
+    public ConsistentHash(final Hasher hasher) {
+        this(hasher.seed);
+    }
+
+    /**
+     * Creates a router using the given seed.
+     *
+     * @param seed any long
+     */
+    public ConsistentHash(final long seed) {
+        this.seed = seed;
+        this.hasher = new Hasher(seed);
+    }
+
+    private long mix(final long key) {
+        return Hasher.randomize3(key ^ seed);
+    }
+
+    /**
+     * Jump Consistent Hash, by Lamping and Veach, for an already-mixed key. Instead of a linear congruential
+     * generator, each jump draws from {@link Hasher#randomize1(long)} on a counter started at the key.
+     */
+    private static int jumpHash(long state, final int buckets) {
+        if (buckets <= 0) throw new IllegalArgumentException("buckets must be positive: " + buckets);
+        long b = -1L, j = 0L;
+        while (j < buckets) {
+            b = j;
+            final double u = ((Hasher.randomize1(state += 0x9E3779B97F4A7C15L) >>> 11) + 1L) * 0x1p-53;
+            j = (long) ((b + 1L) / u);
+        }
+        return (int) b;
+    }
+
+    /**
+     * Gets the bucket for {@code key}, from 0 to {@code buckets - 1}. When buckets goes from n to n + 1, only about
+     * 1 / (n + 1) of keys move, and all of them move to the new bucket n.
+     *
+     * @param key     any long
+     * @param buckets how many buckets there are; must be positive
+     * @return the bucket for key
+     */
+    public int jump(final long key, final int buckets) {
+        return jumpHash(mix(key), buckets);
+    }
+
+    /**
+     * Gets the bucket for {@code key}, from 0 to {@code buckets - 1}; see {@link #jump(long, int)}.
+     *
+     * @param key     a CharSequence; may be null
+     * @param buckets how many buckets there are; must be positive
+     * @return the bucket for key
+     */
+    public int jump(final CharSequence key, final int buckets) {
+        return jumpHash(hasher.hash64(key), buckets);
+    }
+
+    /**
+     * The score of shard {@code id} for a key with the given hash; higher scores win.
+     */
+    private static long score(final long keyHash, final long id) {
+        return Hasher.randomize2(keyHash ^ id * Hasher.b3);
+    }
+
+    /**
+     * Turns a score into a weighted score, {@code -weight / ln(u)} for u uniform in (0, 1), so the chance a shard wins
+     * is its weight divided by the total weight.
+     */
+    private static double weighted(final long score, final double weight) {
+        return weight / -Math.log(((score >>> 11) + 1L) * 0x1p-53);
+    }
+
+    private static int highest(final long keyHash, final long[] ids) {
+        int best = -1;
+        long bestScore = 0L;
+        for (int i = 0; i < ids.length; i++) {
+            final long s = score(keyHash, ids[i]) ^ Long.MIN_VALUE;
+            if (best < 0 || s > bestScore) {
+                best = i;
+                bestScore = s;
+            }
+        }
+        return best;
+    }
+
+    private static int highest(final long keyHash, final long[] ids, final double[] weights) {
+        if (weights.length != ids.length)
+            throw new IllegalArgumentException("ids and weights must have the same length");
+        int best = -1;
+        double bestScore = 0.0;
+        for (int i = 0; i < ids.length; i++) {
+            if (!(weights[i] > 0.0)) continue;
+            final double s = weighted(score(keyHash, ids[i]), weights[i]);
+            if (best < 0 || s > bestScore) {
+                best = i;
+                bestScore = s;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Gets the index in {@code ids} of the shard for {@code key}, using rendezvous hashing. Every shard is equally
+     * likely. Removing a shard only moves the keys it had, and adding one only moves keys to it.
+     *
+     * @param key any long
+     * @param ids the ids of the shards, which should all be different
+     * @return the index in ids of the shard for key, or -1 if ids is empty
+     */
+    public int rendezvous(final long key, final long[] ids) {
+        return highest(mix(key), ids);
+    }
+
+    /**
+     * Gets the index in {@code ids} of the shard for {@code key}, using rendezvous hashing; see
+     * {@link #rendezvous(long, long[])}.
+     *
+     * @param key a CharSequence; may be null
+     * @param ids the ids of the shards, which should all be different
+     * @return the index in ids of the shard for key, or -1 if ids is empty
+     */
+    public int rendezvous(final CharSequence key, final long[] ids) {
+        return highest(hasher.hash64(key), ids);
+    }
+
+    /**
+     * Gets the index in {@code ids} of the shard for {@code key}, using weighted rendezvous hashing, so each shard
+     * gets a share of keys in proportion to its weight. Changing one shard's weight only moves keys to or from it.
+     *
+     * @param key     any long
+     * @param ids     the ids of the shards, which should all be different
+     * @param weights the weight of each shard in ids; shards with a weight of 0 or less get no keys
+     * @return the index in ids of the shard for key, or -1 if no shard has a positive weight
+     */
+    public int rendezvous(final long key, final long[] ids, final double[] weights) {
+        return highest(mix(key), ids, weights);
+    }
+
+    /**
+     * Gets the index in {@code ids} of the shard for {@code key}, using weighted rendezvous hashing; see
+     * {@link #rendezvous(long, long[], double[])}.
+     *
+     * @param key     a CharSequence; may be null
+     * @param ids     the ids of the shards, which should all be different
+     * @param weights the weight of each shard in ids; shards with a weight of 0 or less get no keys
+     * @return the index in ids of the shard for key, or -1 if no shard has a positive weight
+     */
+    public int rendezvous(final CharSequence key, final long[] ids, final double[] weights) {
+        return highest(hasher.hash64(key), ids, weights);
+    }
+
+    private static int highestWithRoom(final long keyHash, final long[] ids, final long[] loads, final long[] capacities) {
+        if (loads.length != ids.length || capacities.length != ids.length)
+            throw new IllegalArgumentException("ids, loads, and capacities must have the same length");
+        int best = -1;
+        long bestScore = 0L;
+        for (int i = 0; i < ids.length; i++) {
+            if (loads[i] >= capacities[i]) continue;
+            final long s = score(keyHash, ids[i]) ^ Long.MIN_VALUE;
+            if (best < 0 || s > bestScore) {
+                best = i;
+                bestScore = s;
+            }
+        }
+        if (best >= 0) loads[best]++;
+        return best;
+    }
+
+    /**
+     * Assigns {@code key} to the highest-scoring shard, as {@link #rendezvous(long, long[])} would rank them, that
+     * has a load less than its capacity, and adds 1 to that shard's load. When a key leaves a shard, subtract 1 from
+     * its load. A key only goes somewhere other than its usual shard when that shard is full, so most keys still stay
+     * put when shards change.
+     *
+     * @param key        any long
+     * @param ids        the ids of the shards, which should all be different
+     * @param loads      how many keys each shard has now; the chosen shard's load is incremented
+     * @param capacities the most keys each shard can have; see {@link #capacities(long, double[], double, long[])}
+     * @return the index in ids of the shard for key, or -1 if every shard is full
+     */
+    public int rendezvousBounded(final long key, final long[] ids, final long[] loads, final long[] capacities) {
+        return highestWithRoom(mix(key), ids, loads, capacities);
+    }
+
+    /**
+     * Assigns {@code key} to the highest-scoring shard with room; see
+     * {@link #rendezvousBounded(long, long[], long[], long[])}.
+     *
+     * @param key        a CharSequence; may be null
+     * @param ids        the ids of the shards, which should all be different
+     * @param loads      how many keys each shard has now; the chosen shard's load is incremented
+     * @param capacities the most keys each shard can have
+     * @return the index in ids of the shard for key, or -1 if every shard is full
+     */
+    public int rendezvousBounded(final CharSequence key, final long[] ids, final long[] loads, final long[] capacities) {
+        return highestWithRoom(hasher.hash64(key), ids, loads, capacities);
+    }
+
+    /**
+     * Fills {@code capacities} with the most keys each shard should have, so that shards share {@code totalKeys} keys
+     * in proportion to their weights, with room for {@code 1 + epsilon} times their share, rounded up.
+     *
+     * @param totalKeys  how many keys will be assigned
+     * @param weights    the weight of each shard; all must be 0 or more, and at least one positive
+     * @param epsilon    how much more than its share each shard may hold, such as 0.25; must be positive
+     * @param capacities receives the capacity of each shard; must be at least as long as weights
+     * @return capacities, after filling it
+     */
+    public static long[] capacities(final long totalKeys, final double[] weights, final double epsilon,
+                                    final long[] capacities) {
+        if (!(epsilon > 0.0)) throw new IllegalArgumentException("epsilon must be positive: " + epsilon);
+        double sum = 0.0;
+        for (final double w : weights) {
+            if (!(w >= 0.0)) throw new IllegalArgumentException("weights must not be negative: " + w);
+            sum += w;
+        }
+        if (!(sum > 0.0)) throw new IllegalArgumentException("at least one weight must be positive");
+        for (int i = 0; i < weights.length; i++) {
+            capacities[i] = (long) Math.ceil(totalKeys * weights[i] / sum * (1.0 + epsilon));
+        }
+        return capacities;
+    }
+
+    @Override
+    public String toString() {
+        return "ConsistentHash{seed=" + seed + '}';
+    }
+}
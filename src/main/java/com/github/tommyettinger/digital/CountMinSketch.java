@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.Arrays;
+
+/**
+ * Estimates how many times each item has been added, using a fixed amount of memory, without ever underestimating.
+ * There are {@link #depth} rows of {@link #width} counters; each row hashes items with a different Hasher from
+ * {@link Hasher#predefined}, starting at {@link #firstHasher}, and an item's estimate is the smallest of its counters.
+ * Adds use conservative update, which only raises the counters that need it, so estimates are usually much closer
+ * than plain Count-Min. With width {@code e / epsilon} and depth {@code ln(1 / delta)}, an estimate is at most
+ * {@code epsilon * total()} too high, with probability at least {@code 1 - delta}.
+ * <br>
+ * Each row hashes an item to any of its width counters. If this is created as concurrent, adds from many threads at
+ * once are safe: the counters are guarded by {@value SketchTools#STRIPES} locks, interleaved by index, and an add takes
+ * the locks of its item's counters in ascending order, so adds that share no lock run in parallel. Concurrent adds
+ * hash the item twice per row, once to find its locks and once while holding them. Estimates don't lock, so an
+ * estimate at the same time as an add might not see it yet.
+ * <br>
+ * Sketches with the same width, depth, and first Hasher can be merged by adding their counters, which still never
+ * underestimates. {@link #merge(CountMinSketch)} and {@link #clear()} shouldn't run at the same time as adds.
+ */
+public class CountMinSketch {
+    /**
+     * How many counters are in each row.
+     */
+    public final int width;
+    /**
+     * How many rows, and so how many hashes, each item uses.
+     */
+    public final int depth;
+    /**
+     * The index in {@link Hasher#predefined} of the Hasher used for the first row; each later row uses the next one.
+     */
+    public final int firstHasher;
+    /**
+     * If true, the add methods are safe to call from many threads at once.
+     */
+    public final boolean concurrent;
+
+    private final Hasher[] hashers;
+    private final long[] seeds;
+    private final long[] counts;
+    /**
+     * One total and one array of column indices per lock, used only while holding that lock, or just one of each if
+     * this isn't concurrent.
+     */
+    private final long[] totals;
+    private final int[][] scratch;
+    private final Object[] locks;
+
+    /**
+     * Creates a sketch that isn't concurrent, sized so estimates are at most {@code epsilon * total()} too high, with
+     * probability at least {@code 1 - delta}, using the first Hashers in {@link Hasher#predefined}.
+     *
+     * @param epsilon how much an estimate can be too high, as a fraction of all counts; between 0 and 1
+     * @param delta   the chance that an estimate is more than that; between 0 and 1
+     */
+    public CountMinSketch(final double epsilon, final double delta) {
+        this(epsilon, delta, 0, false);
+    }
+
+    /**
+     * Creates a sketch sized so estimates are at most {@code epsilon * total()} too high, with probability at least
+     * {@code 1 - delta}.
+     *
+     * @param epsilon     how much an estimate can be too high, as a fraction of all counts; between 0 and 1
+     * @param delta       the chance that an estimate is more than that; between 0 and 1
+     * @param firstHasher the index in {@link Hasher#predefined} of the Hasher for the first row
+     * @param concurrent  if true, items can be added from many threads at once
+     */
+    public CountMinSketch(final double epsilon, final double delta, final int firstHasher, final boolean concurrent) {
+        this(widthFor(epsilon), depthFor(delta), firstHasher, concurrent);
+    }
+
+    /**
+     * Creates a sketch with the given width and depth.
+     *
+     * @param width       how many counters each row has
+     * @param depth       how many rows; must be at least 1, and firstHasher + depth can't be more than 192
+     * @param firstHasher the index in {@link Hasher#predefined} of the Hasher for the first row
+     * @param concurrent  if true, items can be added from many threads at once
+     */
+    public CountMinSketch(final int width, final int depth, final int firstHasher, final boolean concurrent) {
+        if (width < 1 || width > 1 << 26)
+            throw new IllegalArgumentException("width must be between 1 and 2 to the 26: " + width);
+        if (depth < 1 || firstHasher < 0 || firstHasher + depth > Hasher.predefined.length)
+            throw new IllegalArgumentException("need 1 <= depth and 0 <= firstHasher, with firstHasher + depth <= "
+                    + Hasher.predefined.length + ", but got depth " + depth + " and firstHasher " + firstHasher);
+        this.width = width;
+        if ((long) width * depth > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("width * depth is too large: " + this.width + " * " + depth);
+        this.depth = depth;
+        this.firstHasher = firstHasher;
+        this.concurrent = concurrent;
+        this.hashers = Arrays.copyOfRange(Hasher.predefined, firstHasher, firstHasher + depth);
+        this.seeds = new long[depth];
+        for (int i = 0; i < depth; i++) {
+            seeds[i] = hashers[i].seed;
+        }
+        this.counts = new long[this.width * depth];
+        this.totals = new long[concurrent ? SketchTools.STRIPES : 1];
+        this.scratch = new int[concurrent ? SketchTools.STRIPES : 1][depth];
+        this.locks = concurrent ? SketchTools.locks() : null;
+    }
+
+    /**
+     * Creates a copy of {@code other}, with the same counts, that is concurrent if other is.
+     *
+     * @param other another CountMinSketch to copy
+     */
+    public CountMinSketch(final CountMinSketch other) {
+        this(other.width, other.depth, other.firstHasher, other.concurrent);
+        merge(other);
+    }
+
+    /**
+     * Gets the width for a given epsilon, {@code ceil(e / epsilon)}.
+     *
+     * @param epsilon between 0 and 1, exclusive
+     * @return the number of counters per row
+     */
+    public static int widthFor(final double epsilon) {
+        if (!(epsilon > 0.0 && epsilon < 1.0))
+            throw new IllegalArgumentException("epsilon must be > 0 and < 1: " + epsilon);
+        return (int) Math.min(1 << 26, Math.ceil(Math.E / epsilon));
+    }
+
+    /**
+     * Gets the depth for a given delta, {@code ceil(ln(1 / delta))}.
+     *
+     * @param delta between 0 and 1, exclusive
+     * @return the number of rows
+     */
+    public static int depthFor(final double delta) {
+        if (!(delta > 0.0 && delta < 1.0))
+            throw new IllegalArgumentException("delta must be > 0 and < 1: " + delta);
+        return Math.max(1, (int) Math.ceil(Math.log(1.0 / delta)));
+    }
+
+    private static final int LONG = 0, CHARS = 1, BYTES = 2;
+
+    /**
+     * Hashes an item for one row; kind says whether the item is the long or the CharSequence or byte array object.
+     */
+    private long hash(final int row, final int kind, final long item, final Object object) {
+        switch (kind) {
+            case LONG:
+                return SketchTools.hashLong(item, seeds[row]);
+            case CHARS:
+                return hashers[row].hash64((CharSequence) object);
+            default:
+                return hashers[row].hash64((byte[]) object);
+        }
+    }
+
+    private int column(final int row, final long hash) {
+        return row * width + (int) ((hash & 0xFFFFFFFFL) * width >>> 32);
+    }
+
+    private long update(final int kind, final long item, final Object object, final long count) {
+        if (count < 0L) throw new IllegalArgumentException("count must not be negative: " + count);
+        if (locks == null) return raise(0, kind, item, object, count);
+        long mask = 0L;
+        for (int i = 0; i < depth; i++) {
+            mask |= 1L << (column(i, hash(i, kind, item, object)) & SketchTools.STRIPES - 1);
+        }
+        return locked(mask, Long.numberOfTrailingZeros(mask), kind, item, object, count);
+    }
+
+    /**
+     * Takes the locks in mask from lowest to highest, so two adds can't wait on each other, then raises the counters.
+     * The lowest lock, owner, is held throughout, so its scratch array and total are safe to use.
+     */
+    private long locked(final long mask, final int owner, final int kind, final long item, final Object object,
+                        final long count) {
+        if (mask == 0L) return raise(owner, kind, item, object, count);
+        synchronized (locks[Long.numberOfTrailingZeros(mask)]) {
+            return locked(mask & mask - 1L, owner, kind, item, object, count);
+        }
+    }
+
+    /**
+     * The conservative update: every counter for the item is raised to at least the old estimate plus count.
+     */
+    private long raise(final int owner, final int kind, final long item, final Object object, final long count) {
+        final long[] counts = this.counts;
+        final int[] columns = scratch[owner];
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            min = Math.min(min, counts[columns[i] = column(i, hash(i, kind, item, object))]);
+        }
+        final long target = min + count;
+        for (int i = 0; i < depth; i++) {
+            if (counts[columns[i]] < target) counts[columns[i]] = target;
+        }
+        totals[owner] += count;
+        return target;
+    }
+
+    private long estimate(final int kind, final long item, final Object object) {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            min = Math.min(min, counts[column(i, hash(i, kind, item, object))]);
+        }
+        return min;
+    }
+
+    /**
+     * Adds {@code count} to a long item.
+     *
+     * @param item  any long
+     * @param count how many times to count item; must not be negative
+     * @return the new estimate for item
+     */
+    public long add(final long item, final long count) {
+        return update(LONG, item, null, count);
+    }
+
+    /**
+     * Adds {@code count} to a CharSequence item, hashed with {@link Hasher#hash64(CharSequence)} once per row.
+     *
+     * @param item  a CharSequence; may be null
+     * @param count how many times to count item; must not be negative
+     * @return the new estimate for item
+     */
+    public long add(final CharSequence item, final long count) {
+        return update(CHARS, 0L, item, count);
+    }
+
+    /**
+     * Adds {@code count} to a byte array item, hashed with {@link Hasher#hash64(byte[])} once per row.
+     *
+     * @param item  a byte array; may be null
+     * @param count how many times to count item; must not be negative
+     * @return the new estimate for item
+     */
+    public long add(final byte[] item, final long count) {
+        return update(BYTES, 0L, item, count);
+    }
+
+    /**
+     * Adds 1 to a long item.
+     *
+     * @param item any long
+     * @return the new estimate for item
+     */
+    public long add(final long item) {
+        return add(item, 1L);
+    }
+
+    /**
+     * Adds 1 to a CharSequence item.
+     *
+     * @param item a CharSequence; may be null
+     * @return the new estimate for item
+     */
+    public long add(final CharSequence item) {
+        return add(item, 1L);
+    }
+
+    /**
+     * Adds 1 to a byte array item.
+     *
+     * @param item a byte array; may be null
+     * @return the new estimate for item
+     */
+    public long add(final byte[] item) {
+        return add(item, 1L);
+    }
+
+    /**
+     * Estimates how many times a long item was counted; this is never less than the true count.
+     *
+     * @param item any long
+     * @return the estimated count
+     */
+    public long estimate(final long item) {
+        return estimate(LONG, item, null);
+    }
+
+    /**
+     * Estimates how many times a CharSequence item was counted; this is never less than the true count.
+     *
+     * @param item a CharSequence; may be null
+     * @return the estimated count
+     */
+    public long estimate(final CharSequence item) {
+        return estimate(CHARS, 0L, item);
+    }
+
+    /**
+     * Estimates how many times a byte array item was counted; this is never less than the true count.
+     *
+     * @param item a byte array; may be null
+     * @return the estimated count
+     */
+    public long estimate(final byte[] item) {
+        return estimate(BYTES, 0L, item);
+    }
+
+    /**
+     * Gets the sum of all counts added.
+     *
+     * @return the total count
+     */
+    public long total() {
+        long total = 0L;
+        for (final long t : totals) {
+            total += t;
+        }
+        return total;
+    }
+
+    /**
+     * Checks whether {@code other} has the same width, depth, and first Hasher, so it can be merged with this.
+     *
+     * @param other another CountMinSketch; may be null
+     * @return true if other can be given to {@link #merge(CountMinSketch)}
+     */
+    public boolean isCompatible(final CountMinSketch other) {
+        return other != null && other.width == width && other.depth == depth && other.firstHasher == firstHasher;
+    }
+
+    /**
+     * Adds every count in {@code other} to this. Estimates afterwards are never less than the sum of the true counts.
+     *
+     * @param other a compatible CountMinSketch; see {@link #isCompatible(CountMinSketch)}
+     * @return this, for chaining
+     */
+    public CountMinSketch merge(final CountMinSketch other) {
+        if (!isCompatible(other))
+            throw new IllegalArgumentException("The sketches must have the same width, depth, and first Hasher");
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totals[0] += other.total();
+        return this;
+    }
+
+    /**
+     * Sets every count to 0.
+     */
+    public void clear() {
+        Arrays.fill(counts, 0L);
+        Arrays.fill(totals, 0L);
+    }
+
+    @Override
+    public String toString() {
+        return "CountMinSketch{width=" + width + ", depth=" + depth + ", firstHasher=" + firstHasher + ", total=" + total() + '}';
+    }
+}
@@ -0,0 +1,591 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link Random} that gets each result by running a counter through {@link Hasher#randomize1(long)},
+ * {@link Hasher#randomize2(long)}, or {@link Hasher#randomize3(long)}. The counter goes up by an odd stream constant
+ * on every step, so the whole state is two plain longs; nothing is atomic or synchronized, which makes this much
+ * faster than a shared Random, but also means each thread should have its own instance. Use {@link #split()} to give
+ * each task an independent generator, or {@link #copy()} and {@link #jump(long)} to give each task its own stretch of
+ * one sequence. Because it extends Random, it can be passed to {@link ArrayTools#shuffle(int[], Random)} and the
+ * like.
+ * <br>
+ * Every method that produces one number uses exactly one step, including the bounded ones (which multiply rather
+ * than reject, so their bias is at most {@code bound / 2^32} for ints and {@code bound / 2^64} for longs). The
+ * exceptions are {@link #nextBytes(byte[])}, which uses one step per 8 bytes, and {@link #nextGaussian()}, which
+ * uses two. The {@link #ints()}, {@link #longs()}, and {@link #doubles()} streams use their own generator split from
+ * this one, and their spliterators split by jumping, so a parallel stream gives the same numbers in the same order
+ * as a sequential one.
+ * <br>
+ * The superclass constructor still creates the AtomicLong that Random keeps its own seed in, but that is never used.
+ * This class uses {@link java.util.stream}, so it is not available on GWT.
+ */
+public class CounterRandom extends Random {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The stream constant used by {@link #CounterRandom(long)} and {@link #setSeed(long)}; this is 2 to the 64,
+     * divided by the golden ratio, and made odd.
+     */
+    public static final long DEFAULT_STREAM = 0x9E3779B97F4A7C15L;
+
+    private long state;
+    private long stream;
+    private final int strength;
+
+    /**
+     * Creates a CounterRandom with an unpredictable state and stream, using {@link Hasher#randomize2(long)}.
+     */
+    public CounterRandom() {
+        this(Hasher.randomize3(System.nanoTime()),
+                mixStream(System.identityHashCode(new Object()) ^ System.currentTimeMillis() << 20), 2);
+    }
+
+    /**
+     * Creates a CounterRandom with the given state and {@link #DEFAULT_STREAM}, using {@link Hasher#randomize2(long)}.
+     *
+     * @param seed the starting state
+     */
+    public CounterRandom(long seed) {
+        this(seed, DEFAULT_STREAM, 2);
+    }
+
+    /**
+     * Creates a CounterRandom with the given state and stream, using {@link Hasher#randomize2(long)}.
+     *
+     * @param state  the starting state
+     * @param stream how much the state goes up by on each step; this is made odd if it isn't
+     */
+    public CounterRandom(long state, long stream) {
+        this(state, stream, 2);
+    }
+
+    /**
+     * Creates a CounterRandom with the given state and stream, using {@code Hasher.randomize1()},
+     * {@code randomize2()}, or {@code randomize3()} depending on {@code strength}. Strength 1 is the fastest, and
+     * is fine for the default stream; strength 3 is the most robust, for streams that have few bits set.
+     *
+     * @param state    the starting state
+     * @param stream   how much the state goes up by on each step; this is made odd if it isn't
+     * @param strength 1, 2, or 3, to choose which randomize method to use
+     * @throws IllegalArgumentException if strength isn't 1, 2, or 3
+     */
+    public CounterRandom(long state, long stream, int strength) {
+        super(state);
+        if (strength < 1 || strength > 3)
+            throw new IllegalArgumentException("strength must be 1, 2, or 3: " + strength);
+        this.state = state;
+        this.stream = stream | 1L;
+        this.strength = strength;
+    }
+
+    /**
+     * Creates a CounterRandom with the same state, stream, and strength as {@code other}.
+     *
+     * @param other another CounterRandom to copy
+     */
+    public CounterRandom(CounterRandom other) {
+        this(other.state, other.stream, other.strength);
+    }
+
+    /**
+     * Turns any long into a stream constant that is odd and has enough 01 and 10 bit pairs to make the counter's low
+     * and high bits change at similar rates.
+     */
+    private static long mixStream(long x) {
+        x = Hasher.randomize3(x) | 1L;
+        return Long.bitCount(x ^ x >>> 1) < 24 ? x ^ 0xAAAAAAAAAAAAAAAAL : x;
+    }
+
+    /**
+     * Returns the unsigned high 64 bits of the 128-bit product of a and b, without Math.multiplyHigh(), which
+     * needs Java 9.
+     */
+    private static long multiplyHighUnsigned(long a, long b) {
+        final long aLo = a & 0xFFFFFFFFL, aHi = a >>> 32, bLo = b & 0xFFFFFFFFL, bHi = b >>> 32;
+        final long lo = aLo * bLo, mid1 = aHi * bLo + (lo >>> 32), mid2 = aLo * bHi + (mid1 & 0xFFFFFFFFL);
+        return aHi * bHi + (mid1 >>> 32) + (mid2 >>> 32);
+    }
+
+    /**
+     * @return the current state, which the next step will add the stream to
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * @param state the new state
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    /**
+     * @return the stream constant, which is always odd
+     */
+    public long getStream() {
+        return stream;
+    }
+
+    /**
+     * @return 1, 2, or 3, for which of the Hasher randomize methods this uses
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * Sets the state to {@code seed} and the stream to {@link #DEFAULT_STREAM}, the same as a new
+     * {@link #CounterRandom(long)} except that this keeps the strength.
+     *
+     * @param seed the new state
+     */
+    @Override
+    public void setSeed(long seed) {
+        state = seed;
+        stream = DEFAULT_STREAM;
+    }
+
+    /**
+     * @return a new CounterRandom with the same state, stream, and strength as this
+     */
+    public CounterRandom copy() {
+        return new CounterRandom(this);
+    }
+
+    /**
+     * Creates a new CounterRandom with a state and stream taken from two steps of this one, so its results are
+     * independent of this one's. Use this to give each task or thread its own generator.
+     *
+     * @return a new CounterRandom with the same strength as this
+     */
+    public CounterRandom split() {
+        return new CounterRandom(nextLong(), mixStream(nextLong()), strength);
+    }
+
+    /**
+     * Moves this generator forward (or back, if n is negative) by {@code n} steps, as if {@link #nextLong()} had been
+     * called n times, without computing any of those results.
+     *
+     * @param n how many steps to skip
+     * @return this, for chaining
+     */
+    public CounterRandom jump(long n) {
+        state += n * stream;
+        return this;
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> 64 - bits);
+    }
+
+    @Override
+    public long nextLong() {
+        final long s = state += stream;
+        switch (strength) {
+            case 1:
+                return Hasher.randomize1(s);
+            case 3:
+                return Hasher.randomize3(s);
+            default:
+                return Hasher.randomize2(s);
+        }
+    }
+
+    /**
+     * Gets a long between 0 (inclusive) and {@code bound} (exclusive).
+     *
+     * @param bound the exclusive upper bound; must be positive
+     * @return a long between 0 (inclusive) and bound (exclusive)
+     * @throws IllegalArgumentException if bound is not positive
+     */
+    public long nextLong(long bound) {
+        if (bound <= 0L) throw new IllegalArgumentException("bound must be positive");
+        return multiplyHighUnsigned(nextLong(), bound);
+    }
+
+    /**
+     * Gets a long between {@code origin} (inclusive) and {@code bound} (exclusive). The range can be wider than
+     * {@link Long#MAX_VALUE}.
+     *
+     * @param origin the inclusive lower bound
+     * @param bound  the exclusive upper bound; must be greater than origin
+     * @return a long between origin (inclusive) and bound (exclusive)
+     * @throws IllegalArgumentException if origin is not less than bound
+     */
+    public long nextLong(long origin, long bound) {
+        if (origin >= bound) throw new IllegalArgumentException("bound must be greater than origin");
+        return origin + multiplyHighUnsigned(nextLong(), bound - origin);
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) throw new IllegalArgumentException("bound must be positive");
+        return (int) (bound * (nextLong() >>> 32) >>> 32);
+    }
+
+    /**
+     * Gets an int between {@code origin} (inclusive) and {@code bound} (exclusive). The range can be wider than
+     * {@link Integer#MAX_VALUE}.
+     *
+     * @param origin the inclusive lower bound
+     * @param bound  the exclusive upper bound; must be greater than origin
+     * @return an int between origin (inclusive) and bound (exclusive)
+     * @throws IllegalArgumentException if origin is not less than bound
+     */
+    public int nextInt(int origin, int bound) {
+        if (origin >= bound) throw new IllegalArgumentException("bound must be greater than origin");
+        return origin + (int) ((bound - (long) origin) * (nextLong() >>> 32) >>> 32);
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    @Override
+    public float nextFloat() {
+        return (nextLong() >>> 40) * 0x1.0p-24f;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return nextLong() < 0L;
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        for (int i = 0, len = bytes.length; i < len; ) {
+            for (long r = nextLong(), n = Math.min(len - i, 8); n-- > 0; r >>>= 8) {
+                bytes[i++] = (byte) r;
+            }
+        }
+    }
+
+    /**
+     * Gets a normally-distributed double with mean 0 and standard deviation 1, using the Box-Muller transform on two
+     * steps. Unlike {@link Random#nextGaussian()}, this doesn't save the second result for the next call, so it
+     * doesn't need to be synchronized.
+     *
+     * @return a normally-distributed double
+     */
+    @Override
+    public double nextGaussian() {
+        final double u = ((nextLong() >>> 11) + 1L) * 0x1.0p-53, v = nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * v);
+    }
+
+    /**
+     * Gets a double between {@code origin} (inclusive) and {@code bound} (exclusive).
+     *
+     * @param origin the inclusive lower bound
+     * @param bound  the exclusive upper bound; must be greater than origin
+     * @return a double between origin (inclusive) and bound (exclusive)
+     * @throws IllegalArgumentException if origin is not less than bound
+     */
+    public double nextDouble(double origin, double bound) {
+        checkRange(origin, bound);
+        final double r = nextDouble() * (bound - origin) + origin;
+        // rounding can reach bound, which is exclusive
+        return r < bound ? r : BitConversion.longBitsToDouble(BitConversion.doubleToRawLongBits(bound) - 1L);
+    }
+
+    private static void checkSize(long size) {
+        if (size < 0L) throw new IllegalArgumentException("size must be non-negative");
+    }
+
+    private static void checkRange(double origin, double bound) {
+        if (!(origin < bound)) throw new IllegalArgumentException("bound must be greater than origin");
+    }
+
+    @Override
+    public IntStream ints(long streamSize) {
+        checkSize(streamSize);
+        return StreamSupport.intStream(new Ints(split(), 0L, streamSize, Integer.MAX_VALUE, 0), false);
+    }
+
+    @Override
+    public IntStream ints() {
+        return ints(Long.MAX_VALUE);
+    }
+
+    @Override
+    public IntStream ints(long streamSize, int randomNumberOrigin, int randomNumberBound) {
+        checkSize(streamSize);
+        checkRange(randomNumberOrigin, randomNumberBound);
+        return StreamSupport.intStream(new Ints(split(), 0L, streamSize, randomNumberOrigin, randomNumberBound), false);
+    }
+
+    @Override
+    public IntStream ints(int randomNumberOrigin, int randomNumberBound) {
+        return ints(Long.MAX_VALUE, randomNumberOrigin, randomNumberBound);
+    }
+
+    @Override
+    public LongStream longs(long streamSize) {
+        checkSize(streamSize);
+        return StreamSupport.longStream(new Longs(split(), 0L, streamSize, Long.MAX_VALUE, 0L), false);
+    }
+
+    @Override
+    public LongStream longs() {
+        return longs(Long.MAX_VALUE);
+    }
+
+    @Override
+    public LongStream longs(long streamSize, long randomNumberOrigin, long randomNumberBound) {
+        checkSize(streamSize);
+        if (randomNumberOrigin >= randomNumberBound)
+            throw new IllegalArgumentException("bound must be greater than origin");
+        return StreamSupport.longStream(new Longs(split(), 0L, streamSize, randomNumberOrigin, randomNumberBound), false);
+    }
+
+    @Override
+    public LongStream longs(long randomNumberOrigin, long randomNumberBound) {
+        return longs(Long.MAX_VALUE, randomNumberOrigin, randomNumberBound);
+    }
+
+    @Override
+    public DoubleStream doubles(long streamSize) {
+        checkSize(streamSize);
+        return StreamSupport.doubleStream(new Doubles(split(), 0L, streamSize, Double.MAX_VALUE, 0.0), false);
+    }
+
+    @Override
+    public DoubleStream doubles() {
+        return doubles(Long.MAX_VALUE);
+    }
+
+    @Override
+    public DoubleStream doubles(long streamSize, double randomNumberOrigin, double randomNumberBound) {
+        checkSize(streamSize);
+        checkRange(randomNumberOrigin, randomNumberBound);
+        return StreamSupport.doubleStream(new Doubles(split(), 0L, streamSize, randomNumberOrigin, randomNumberBound), false);
+    }
+
+    @Override
+    public DoubleStream doubles(double randomNumberOrigin, double randomNumberBound) {
+        return doubles(Long.MAX_VALUE, randomNumberOrigin, randomNumberBound);
+    }
+
+    @Override
+    public String toString() {
+        return "CounterRandom{state=" + state + ", stream=" + stream + ", strength=" + strength + '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CounterRandom that = (CounterRandom) o;
+        return state == that.state && stream == that.stream && strength == that.strength;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (Hasher.randomize2(state ^ Hasher.randomize1(stream)) >>> 32) + strength;
+    }
+
+    /**
+     * The items from {@code index} (inclusive) to {@code fence} (exclusive) of a stream, where item i is the result
+     * of step i + 1 of the generator the stream started with. Splitting gives the first half to a copy of the
+     * generator, and jumps this one ahead to the second half, so every item stays the same however the stream is
+     * split. If origin is not less than bound, items are unbounded.
+     */
+    private static final class Ints implements Spliterator.OfInt {
+        private final CounterRandom rng;
+        private long index;
+        private final long fence;
+        private final int origin, bound;
+
+        Ints(CounterRandom rng, long index, long fence, int origin, int bound) {
+            this.rng = rng;
+            this.index = index;
+            this.fence = fence;
+            this.origin = origin;
+            this.bound = bound;
+        }
+
+        @Override
+        public Ints trySplit() {
+            final long i = index, m = i + fence >>> 1;
+            if (m <= i) return null;
+            final Ints first = new Ints(rng.copy(), i, m, origin, bound);
+            rng.jump(m - i);
+            index = m;
+            return first;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (action == null) throw new NullPointerException();
+            if (index >= fence) return false;
+            action.accept(origin < bound ? rng.nextInt(origin, bound) : rng.nextInt());
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            if (action == null) throw new NullPointerException();
+            for (long i = index; i < fence; i++) {
+                action.accept(origin < bound ? rng.nextInt(origin, bound) : rng.nextInt());
+            }
+            index = fence;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+
+    /**
+     * Like {@link Ints}, for longs.
+     */
+    private static final class Longs implements Spliterator.OfLong {
+        private final CounterRandom rng;
+        private long index;
+        private final long fence;
+        private final long origin, bound;
+
+        Longs(CounterRandom rng, long index, long fence, long origin, long bound) {
+            this.rng = rng;
+            this.index = index;
+            this.fence = fence;
+            this.origin = origin;
+            this.bound = bound;
+        }
+
+        @Override
+        public Longs trySplit() {
+            final long i = index, m = i + fence >>> 1;
+            if (m <= i) return null;
+            final Longs first = new Longs(rng.copy(), i, m, origin, bound);
+            rng.jump(m - i);
+            index = m;
+            return first;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (action == null) throw new NullPointerException();
+            if (index >= fence) return false;
+            action.accept(origin < bound ? rng.nextLong(origin, bound) : rng.nextLong());
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            if (action == null) throw new NullPointerException();
+            for (long i = index; i < fence; i++) {
+                action.accept(origin < bound ? rng.nextLong(origin, bound) : rng.nextLong());
+            }
+            index = fence;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+
+    /**
+     * Like {@link Ints}, for doubles; unbounded items are between 0 (inclusive) and 1 (exclusive).
+     */
+    private static final class Doubles implements Spliterator.OfDouble {
+        private final CounterRandom rng;
+        private long index;
+        private final long fence;
+        private final double origin, bound;
+
+        Doubles(CounterRandom rng, long index, long fence, double origin, double bound) {
+            this.rng = rng;
+            this.index = index;
+            this.fence = fence;
+            this.origin = origin;
+            this.bound = bound;
+        }
+
+        @Override
+        public Doubles trySplit() {
+            final long i = index, m = i + fence >>> 1;
+            if (m <= i) return null;
+            final Doubles first = new Doubles(rng.copy(), i, m, origin, bound);
+            rng.jump(m - i);
+            index = m;
+            return first;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (action == null) throw new NullPointerException();
+            if (index >= fence) return false;
+            action.accept(origin < bound ? rng.nextDouble(origin, bound) : rng.nextDouble());
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            if (action == null) throw new NullPointerException();
+            for (long i = index; i < fence; i++) {
+                action.accept(origin < bound ? rng.nextDouble(origin, bound) : rng.nextDouble());
+            }
+            index = fence;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.security.SecureRandom;
+
+/**
+ * Gets unpredictable bits from the platform, for secrets like the keys of {@link KeyedHasher}. On GWT, this is
+ * replaced by a version that uses the browser's {@code crypto.getRandomValues()}.
+ */
+final class Entropy {
+    private Entropy() {
+    }
+
+    /**
+     * @return a new array of two longs, drawn from a {@link SecureRandom}
+     */
+    static long[] secret128() {
+        final SecureRandom random = new SecureRandom();
+        return new long[]{random.nextLong(), random.nextLong()};
+    }
+}
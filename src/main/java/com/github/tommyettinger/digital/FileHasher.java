@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Hashes the contents of files by memory-mapping them, one window at a time, so even files much larger than the heap
+ * can be hashed without copying them onto it. The results are the same as {@link Hasher#hashBulk64(byte[])} on an
+ * array holding the whole file, or {@link Hasher#hash64(java.nio.ByteBuffer)} on a buffer holding it.
+ * <br>
+ * This class uses {@link java.nio.file} and {@link FileChannel}, so it is not available on GWT.
+ */
+public final class FileHasher {
+    /**
+     * The default number of bytes to map at a time, 64 MiB.
+     */
+    public static final int DEFAULT_WINDOW = 1 << 26;
+
+    private FileHasher() {
+    }
+
+    /**
+     * Hashes the contents of the file at {@code path} with the given Hasher, mapping {@link #DEFAULT_WINDOW} bytes at
+     * a time.
+     *
+     * @param hasher the Hasher whose seed will be used
+     * @param path   the path to a readable regular file
+     * @return a 64-bit hash code for the file's contents, the same as {@link Hasher#hashBulk64(byte[])} would give
+     * @throws IOException if the file can't be opened or read
+     */
+    public static long hashFile(final Hasher hasher, final Path path) throws IOException {
+        return hashFile(hasher, path, DEFAULT_WINDOW);
+    }
+
+    /**
+     * Hashes the contents of the file at {@code path} with the given Hasher, mapping at most {@code windowSize} bytes
+     * at a time. The window size only affects how much address space is used at once, never the result. It is
+     * rounded down to a multiple of 32 bytes, and can't be less than 32.
+     *
+     * @param hasher     the Hasher whose seed will be used
+     * @param path       the path to a readable regular file
+     * @param windowSize the most bytes to map at once
+     * @return a 64-bit hash code for the file's contents, the same as {@link Hasher#hashBulk64(byte[])} would give
+     * @throws IOException if the file can't be opened or read
+     */
+    public static long hashFile(final Hasher hasher, final Path path, int windowSize) throws IOException {
+        windowSize = Math.max(32, windowSize & -32);
+        final HashStream stream = hasher.stream();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            for (long position = 0L; position < size; position += windowSize) {
+                final MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(windowSize, size - position));
+                // Little-endian order lets each read in HashStream skip reversing bytes; it doesn't change the result.
+                window.order(ByteOrder.LITTLE_ENDIAN);
+                stream.update(window);
+            }
+        }
+        return stream.finish();
+    }
+
+    /**
+     * Hashes the contents of the file at {@code path} with the given Hasher; this returns the lower 32 bits of
+     * {@link #hashFile(Hasher, Path)}.
+     *
+     * @param hasher the Hasher whose seed will be used
+     * @param path   the path to a readable regular file
+     * @return a 32-bit hash code for the file's contents, the same as {@link Hasher#hashBulk(byte[])} would give
+     * @throws IOException if the file can't be opened or read
+     */
+    public static int hashFileInt(final Hasher hasher, final Path path) throws IOException {
+        return (int) hashFile(hasher, path, DEFAULT_WINDOW);
+    }
+}
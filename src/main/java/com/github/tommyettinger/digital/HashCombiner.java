@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import static com.github.tommyettinger.digital.Hasher.*;
+
+/**
+ * Hashes a composite key, such as a long id, an int shard, and a String name, one part at a time, without putting the
+ * parts in an array first. Get one from any Hasher with {@link Hasher#combine()}, call the mix() methods on each part
+ * in order, and then {@link #finish()} to get a 64-bit hash:
+ * <pre>
+ * long h = Hasher.omega.combine().mix(id).mix(shard).mix(name).finish();
+ * </pre>
+ * The order of parts matters, and so does where one CharSequence ends and the next begins. An int is mixed as the
+ * long with the same value, a double as its raw bits (so -0.0 and 0.0 differ), and a CharSequence as its
+ * {@link Hasher#hash64(long, CharSequence)} using the state so far as the seed, so a String and a StringBuilder with
+ * the same chars mix the same way. A null CharSequence is mixed differently from an empty one.
+ * <br>
+ * A HashCombiner only holds two longs and never allocates after it is created. When it is created, used, and
+ * finished in one method, as above, the JIT's escape analysis can usually remove the allocation too. It can also be
+ * kept and {@link #reset()} between keys. It is not safe to share one HashCombiner between threads.
+ */
+public final class HashCombiner {
+    /**
+     * The seed this started with, which {@link #reset()} returns to; this is the same as the seed of the Hasher that
+     * created this HashCombiner, if any.
+     */
+    public final long seed;
+
+    private long state;
+    private long count;
+
+    /**
+     * Creates a HashCombiner with the given seed. Usually you would use {@link Hasher#combine()} instead.
+     *
+     * @param seed the seed to use, as with {@link Hasher#Hasher(long)}
+     */
+    public HashCombiner(final long seed) {
+        this.seed = seed;
+        this.state = seed;
+    }
+
+    /**
+     * Discards any parts mixed so far, so this can hash a new key from the start.
+     *
+     * @return this, for chaining
+     */
+    public HashCombiner reset() {
+        state = seed;
+        count = 0L;
+        return this;
+    }
+
+    /**
+     * Mixes in a long.
+     *
+     * @param value any long
+     * @return this, for chaining
+     */
+    public HashCombiner mix(final long value) {
+        state = wow(state + b1, value ^ b2);
+        count++;
+        return this;
+    }
+
+    /**
+     * Mixes in an int, the same way as {@link #mix(long)} with the same value.
+     *
+     * @param value any int
+     * @return this, for chaining
+     */
+    public HashCombiner mix(final int value) {
+        return mix((long) value);
+    }
+
+    /**
+     * Mixes in a double, the same way as {@link #mix(long)} with its raw bits.
+     *
+     * @param value any double
+     * @return this, for chaining
+     */
+    public HashCombiner mix(final double value) {
+        return mix(BitConversion.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Mixes in all chars of a CharSequence, and its length.
+     *
+     * @param value any CharSequence, or null
+     * @return this, for chaining
+     */
+    public HashCombiner mix(final CharSequence value) {
+        return mix(value == null ? b5 : hash64(state, value) ^ b3);
+    }
+
+    /**
+     * Gets the hash of all parts mixed so far. This doesn't change the state, so more parts can be mixed after this.
+     *
+     * @return a 64-bit hash of every part mixed since this was created or reset
+     */
+    public long finish() {
+        long h = state + b5;
+        h = (h ^ h >>> 16) * (b0 ^ (count + h) << 4);
+        return h ^ h >>> 23 ^ h >>> 42;
+    }
+
+    /**
+     * Gets the lower 32 bits of {@link #finish()}.
+     *
+     * @return a 32-bit hash of every part mixed since this was created or reset
+     */
+    public int finishInt() {
+        return (int) finish();
+    }
+
+    @Override
+    public String toString() {
+        return "HashCombiner{seed=" + seed + ", count=" + count + '}';
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.nio.ByteBuffer;
+
+import static com.github.tommyettinger.digital.Hasher.*;
+
+/**
+ * An incremental form of {@link Hasher#hashBulk64(byte[])}, for data that doesn't arrive as one array. You can get one
+ * from any Hasher with {@link Hasher#stream()}, then call the update() methods on chunks of input in order, and
+ * {@link #finish()} to get the hash. The result is the same as calling {@link Hasher#hashBulk64(byte[])} on one array
+ * holding every byte given to the update() methods, in order, so it doesn't matter how the input is split up. Longs
+ * are given as 8 bytes in little-endian order, and chars in a CharSequence as 2 bytes each in little-endian order.
+ * <br>
+ * A HashStream only allocates when it is constructed; updating, finishing, and {@link #reset()} allocate nothing, so
+ * one HashStream can be reused for many inputs. It is not safe to share one HashStream between threads while it is
+ * being updated, but each thread can have its own.
+ * <br>
+ * The {@link ByteBuffer} methods need a java.nio emulation on GWT, such as the one libGDX's GWT backend provides.
+ */
+public class HashStream {
+    /**
+     * The seed this started with, which {@link #reset()} returns to; this is the same as the seed of the Hasher that
+     * created this HashStream, if any.
+     */
+    public final long seed;
+
+    private long a, b, c, d, state;
+    private long length;
+    private int buffered;
+    private final byte[] buffer = new byte[32];
+
+    /**
+     * Creates a HashStream that gives the same results as {@link Hasher#hashBulk64(byte[])} on a Hasher with the given
+     * seed. Usually you would use {@link Hasher#stream()} instead.
+     *
+     * @param seed the seed to use, as with {@link Hasher#Hasher(long)}
+     */
+    public HashStream(final long seed) {
+        this.seed = seed;
+        reset();
+    }
+
+    /**
+     * Discards any input given so far, so this can hash a new sequence of data from the start.
+     *
+     * @return this, for chaining
+     */
+    public HashStream reset() {
+        state = seed;
+        a = seed + b4;
+        b = seed + b3;
+        c = seed + b2;
+        d = seed + b1;
+        length = 0L;
+        buffered = 0;
+        return this;
+    }
+
+    /**
+     * Gets how many bytes have been given to this HashStream since it was created or last reset.
+     *
+     * @return the total number of bytes hashed so far
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Hashes all of {@code data}. Does nothing if data is null.
+     *
+     * @param data a byte array to hash; may be null
+     * @return this, for chaining
+     */
+    public HashStream update(final byte[] data) {
+        if (data == null) return this;
+        return update(data, 0, data.length);
+    }
+
+    /**
+     * Hashes the section of {@code data} starting at {@code offset} and continuing for {@code length} bytes, or until
+     * the end of data if that comes first. Does nothing if data is null, or offset or length is negative.
+     *
+     * @param data   a byte array to hash; may be null
+     * @param offset the first position in data to hash
+     * @param length how many bytes of data to hash
+     * @return this, for chaining
+     */
+    public HashStream update(final byte[] data, int offset, int length) {
+        if (data == null || offset < 0 || length < 0) return this;
+        length = Math.min(length, data.length - offset);
+        if (length <= 0) return this;
+        this.length += length;
+        final int end = offset + length;
+        if (buffered != 0) {
+            final int n = Math.min(32 - buffered, length);
+            System.arraycopy(data, offset, buffer, buffered, n);
+            offset += n;
+            if ((buffered += n) < 32) return this;
+            block(buffer, 0);
+            buffered = 0;
+        }
+        for (final int limit = end - 31; offset < limit; offset += 32) {
+            block(data, offset);
+        }
+        if (offset < end) {
+            System.arraycopy(data, offset, buffer, 0, end - offset);
+            buffered = end - offset;
+        }
+        return this;
+    }
+
+    /**
+     * Hashes the remaining bytes in {@code data}, from its position to its limit, and moves its position to its
+     * limit. This works for heap, direct, and memory-mapped buffers, and the result doesn't depend on the buffer's
+     * byte order, though direct buffers are read fastest when their order is {@link java.nio.ByteOrder#LITTLE_ENDIAN}.
+     * Does nothing if data is null.
+     *
+     * @param data a ByteBuffer to hash the remaining bytes of; may be null
+     * @return this, for chaining
+     */
+    public HashStream update(final ByteBuffer data) {
+        if (data == null) return this;
+        int remaining = data.remaining();
+        if (data.hasArray()) {
+            final int position = data.position();
+            update(data.array(), data.arrayOffset() + position, remaining);
+            data.position(position + remaining);
+            return this;
+        }
+        if (remaining == 0) return this;
+        length += remaining;
+        if (buffered != 0) {
+            final int n = Math.min(32 - buffered, remaining);
+            data.get(buffer, buffered, n);
+            if ((buffered += n) < 32) return this;
+            block(buffer, 0);
+            buffered = 0;
+        }
+        int position = data.position();
+        final int end = data.limit();
+        for (final int limit = end - 31; position < limit; position += 32) {
+            block(data, position);
+        }
+        data.position(position);
+        if (position < end) {
+            buffered = end - position;
+            data.get(buffer, 0, buffered);
+        }
+        return this;
+    }
+
+    /**
+     * Hashes {@code data} as 8 bytes, in little-endian order.
+     *
+     * @param data a long to hash
+     * @return this, for chaining
+     */
+    public HashStream update(final long data) {
+        length += 8;
+        for (int i = 0; i < 64; i += 8) {
+            buffer[buffered] = (byte) (data >>> i);
+            if (++buffered == 32) {
+                block(buffer, 0);
+                buffered = 0;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Hashes each char in {@code data} as 2 bytes, in little-endian order. Does nothing if data is null.
+     *
+     * @param data a CharSequence, such as a String or StringBuilder; may be null
+     * @return this, for chaining
+     */
+    public HashStream update(final CharSequence data) {
+        if (data == null) return this;
+        final int len = data.length();
+        length += len * 2L;
+        for (int i = 0; i < len; i++) {
+            final char ch = data.charAt(i);
+            buffer[buffered++] = (byte) ch;
+            if (buffered == 32) {
+                block(buffer, 0);
+                buffered = 0;
+            }
+            buffer[buffered++] = (byte) (ch >>> 8);
+            if (buffered == 32) {
+                block(buffer, 0);
+                buffered = 0;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Gets the 64-bit hash of everything given to this so far. This doesn't change the state, so more data can be
+     * given with update() afterwards, and the next call to finish() will include it.
+     *
+     * @return a 64-bit hash code, the same as {@link Hasher#hashBulk64(byte[])} would give for the same bytes
+     */
+    public long finish() {
+        long seed = state + b5;
+        final byte[] data = buffer;
+        final int end = buffered;
+        switch (end + 7 >>> 3) {
+            case 1:
+                seed = wow(seed, b1 ^ readPartialLE(data, 0, end));
+                break;
+            case 2:
+                seed = wow(seed + BitConversion.readLongLE(data, 0), b2 ^ readPartialLE(data, 8, end));
+                break;
+            case 3:
+                seed = wow(seed + BitConversion.readLongLE(data, 0), b2 + BitConversion.readLongLE(data, 8))
+                        + wow(seed + readPartialLE(data, 16, end), seed ^ b3);
+                break;
+            case 4:
+                seed = wow(seed + BitConversion.readLongLE(data, 0), b2 + BitConversion.readLongLE(data, 8))
+                        + wow(seed + BitConversion.readLongLE(data, 16), b3 ^ readPartialLE(data, 24, end));
+                break;
+        }
+        seed = (seed ^ seed >>> 16) * (b0 ^ (length + seed) << 4);
+        return seed ^ seed >>> 23 ^ seed >>> 42;
+    }
+
+    /**
+     * Gets the 32-bit hash of everything given to this so far. This doesn't change the state.
+     *
+     * @return a 32-bit hash code, the same as {@link Hasher#hashBulk(byte[])} would give for the same bytes
+     */
+    public int finishInt() {
+        return (int) finish();
+    }
+
+    private void block(final byte[] data, final int i) {
+        a ^= BitConversion.readLongLE(data, i) * b1;
+        a = (a << 23 | a >>> 41) * b3;
+        b ^= BitConversion.readLongLE(data, i + 8) * b2;
+        b = (b << 25 | b >>> 39) * b4;
+        c ^= BitConversion.readLongLE(data, i + 16) * b3;
+        c = (c << 29 | c >>> 35) * b5;
+        d ^= BitConversion.readLongLE(data, i + 24) * b4;
+        d = (d << 31 | d >>> 33) * b1;
+        state += a + b + c + d;
+    }
+
+    private void block(final ByteBuffer data, final int i) {
+        a ^= BitConversion.readLongLE(data, i) * b1;
+        a = (a << 23 | a >>> 41) * b3;
+        b ^= BitConversion.readLongLE(data, i + 8) * b2;
+        b = (b << 25 | b >>> 39) * b4;
+        c ^= BitConversion.readLongLE(data, i + 16) * b3;
+        c = (c << 29 | c >>> 35) * b5;
+        d ^= BitConversion.readLongLE(data, i + 24) * b4;
+        d = (d << 31 | d >>> 33) * b1;
+        state += a + b + c + d;
+    }
+}
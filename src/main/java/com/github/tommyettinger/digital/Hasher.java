@@ -16,6 +16,8 @@
 
 package com.github.tommyettinger.digital;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Iterator;
 import java.util.List;
 
@@ -551,58 +553,108 @@ public class Hasher {
         return n ^ (n >>> 32);
     }
 
-    public static final Hasher alpha = new Hasher("alpha"), beta = new Hasher("beta"), gamma = new Hasher("gamma"),
-            delta = new Hasher("delta"), epsilon = new Hasher("epsilon"), zeta = new Hasher("zeta"),
-            eta = new Hasher("eta"), theta = new Hasher("theta"), iota = new Hasher("iota"),
-            kappa = new Hasher("kappa"), lambda = new Hasher("lambda"), mu = new Hasher("mu"),
-            nu = new Hasher("nu"), xi = new Hasher("xi"), omicron = new Hasher("omicron"), pi = new Hasher("pi"),
-            rho = new Hasher("rho"), sigma = new Hasher("sigma"), tau = new Hasher("tau"),
-            upsilon = new Hasher("upsilon"), phi = new Hasher("phi"), chi = new Hasher("chi"), psi = new Hasher("psi"),
-            omega = new Hasher("omega"),
-            alpha_ = new Hasher("ALPHA"), beta_ = new Hasher("BETA"), gamma_ = new Hasher("GAMMA"),
-            delta_ = new Hasher("DELTA"), epsilon_ = new Hasher("EPSILON"), zeta_ = new Hasher("ZETA"),
-            eta_ = new Hasher("ETA"), theta_ = new Hasher("THETA"), iota_ = new Hasher("IOTA"),
-            kappa_ = new Hasher("KAPPA"), lambda_ = new Hasher("LAMBDA"), mu_ = new Hasher("MU"),
-            nu_ = new Hasher("NU"), xi_ = new Hasher("XI"), omicron_ = new Hasher("OMICRON"), pi_ = new Hasher("PI"),
-            rho_ = new Hasher("RHO"), sigma_ = new Hasher("SIGMA"), tau_ = new Hasher("TAU"),
-            upsilon_ = new Hasher("UPSILON"), phi_ = new Hasher("PHI"), chi_ = new Hasher("CHI"), psi_ = new Hasher("PSI"),
-            omega_ = new Hasher("OMEGA"),
-            baal = new Hasher("baal"), agares = new Hasher("agares"), vassago = new Hasher("vassago"), samigina = new Hasher("samigina"),
-            marbas = new Hasher("marbas"), valefor = new Hasher("valefor"), amon = new Hasher("amon"), barbatos = new Hasher("barbatos"),
-            paimon = new Hasher("paimon"), buer = new Hasher("buer"), gusion = new Hasher("gusion"), sitri = new Hasher("sitri"),
-            beleth = new Hasher("beleth"), leraje = new Hasher("leraje"), eligos = new Hasher("eligos"), zepar = new Hasher("zepar"),
-            botis = new Hasher("botis"), bathin = new Hasher("bathin"), sallos = new Hasher("sallos"), purson = new Hasher("purson"),
-            marax = new Hasher("marax"), ipos = new Hasher("ipos"), aim = new Hasher("aim"), naberius = new Hasher("naberius"),
-            glasya_labolas = new Hasher("glasya_labolas"), bune = new Hasher("bune"), ronove = new Hasher("ronove"), berith = new Hasher("berith"),
-            astaroth = new Hasher("astaroth"), forneus = new Hasher("forneus"), foras = new Hasher("foras"), asmoday = new Hasher("asmoday"),
-            gaap = new Hasher("gaap"), furfur = new Hasher("furfur"), marchosias = new Hasher("marchosias"), stolas = new Hasher("stolas"),
-            phenex = new Hasher("phenex"), halphas = new Hasher("halphas"), malphas = new Hasher("malphas"), raum = new Hasher("raum"),
-            focalor = new Hasher("focalor"), vepar = new Hasher("vepar"), sabnock = new Hasher("sabnock"), shax = new Hasher("shax"),
-            vine = new Hasher("vine"), bifrons = new Hasher("bifrons"), vual = new Hasher("vual"), haagenti = new Hasher("haagenti"),
-            crocell = new Hasher("crocell"), furcas = new Hasher("furcas"), balam = new Hasher("balam"), alloces = new Hasher("alloces"),
-            caim = new Hasher("caim"), murmur = new Hasher("murmur"), orobas = new Hasher("orobas"), gremory = new Hasher("gremory"),
-            ose = new Hasher("ose"), amy = new Hasher("amy"), orias = new Hasher("orias"), vapula = new Hasher("vapula"),
-            zagan = new Hasher("zagan"), valac = new Hasher("valac"), andras = new Hasher("andras"), flauros = new Hasher("flauros"),
-            andrealphus = new Hasher("andrealphus"), kimaris = new Hasher("kimaris"), amdusias = new Hasher("amdusias"), belial = new Hasher("belial"),
-            decarabia = new Hasher("decarabia"), seere = new Hasher("seere"), dantalion = new Hasher("dantalion"), andromalius = new Hasher("andromalius"),
-            baal_ = new Hasher("BAAL"), agares_ = new Hasher("AGARES"), vassago_ = new Hasher("VASSAGO"), samigina_ = new Hasher("SAMIGINA"),
-            marbas_ = new Hasher("MARBAS"), valefor_ = new Hasher("VALEFOR"), amon_ = new Hasher("AMON"), barbatos_ = new Hasher("BARBATOS"),
-            paimon_ = new Hasher("PAIMON"), buer_ = new Hasher("BUER"), gusion_ = new Hasher("GUSION"), sitri_ = new Hasher("SITRI"),
-            beleth_ = new Hasher("BELETH"), leraje_ = new Hasher("LERAJE"), eligos_ = new Hasher("ELIGOS"), zepar_ = new Hasher("ZEPAR"),
-            botis_ = new Hasher("BOTIS"), bathin_ = new Hasher("BATHIN"), sallos_ = new Hasher("SALLOS"), purson_ = new Hasher("PURSON"),
-            marax_ = new Hasher("MARAX"), ipos_ = new Hasher("IPOS"), aim_ = new Hasher("AIM"), naberius_ = new Hasher("NABERIUS"),
-            glasya_labolas_ = new Hasher("GLASYA_LABOLAS"), bune_ = new Hasher("BUNE"), ronove_ = new Hasher("RONOVE"), berith_ = new Hasher("BERITH"),
-            astaroth_ = new Hasher("ASTAROTH"), forneus_ = new Hasher("FORNEUS"), foras_ = new Hasher("FORAS"), asmoday_ = new Hasher("ASMODAY"),
-            gaap_ = new Hasher("GAAP"), furfur_ = new Hasher("FURFUR"), marchosias_ = new Hasher("MARCHOSIAS"), stolas_ = new Hasher("STOLAS"),
-            phenex_ = new Hasher("PHENEX"), halphas_ = new Hasher("HALPHAS"), malphas_ = new Hasher("MALPHAS"), raum_ = new Hasher("RAUM"),
-            focalor_ = new Hasher("FOCALOR"), vepar_ = new Hasher("VEPAR"), sabnock_ = new Hasher("SABNOCK"), shax_ = new Hasher("SHAX"),
-            vine_ = new Hasher("VINE"), bifrons_ = new Hasher("BIFRONS"), vual_ = new Hasher("VUAL"), haagenti_ = new Hasher("HAAGENTI"),
-            crocell_ = new Hasher("CROCELL"), furcas_ = new Hasher("FURCAS"), balam_ = new Hasher("BALAM"), alloces_ = new Hasher("ALLOCES"),
-            caim_ = new Hasher("CAIM"), murmur_ = new Hasher("MURMUR"), orobas_ = new Hasher("OROBAS"), gremory_ = new Hasher("GREMORY"),
-            ose_ = new Hasher("OSE"), amy_ = new Hasher("AMY"), orias_ = new Hasher("ORIAS"), vapula_ = new Hasher("VAPULA"),
-            zagan_ = new Hasher("ZAGAN"), valac_ = new Hasher("VALAC"), andras_ = new Hasher("ANDRAS"), flauros_ = new Hasher("FLAUROS"),
-            andrealphus_ = new Hasher("ANDREALPHUS"), kimaris_ = new Hasher("KIMARIS"), amdusias_ = new Hasher("AMDUSIAS"), belial_ = new Hasher("BELIAL"),
-            decarabia_ = new Hasher("DECARABIA"), seere_ = new Hasher("SEERE"), dantalion_ = new Hasher("DANTALION"), andromalius_ = new Hasher("ANDROMALIUS");
+    /**
+     * The 192 predefined Hashers, each with the seed that {@link #Hasher(CharSequence)} would give for the field's
+     * name (in upper case for names that end in an underscore); for example, {@link #alpha} has the seed of
+     * {@code new Hasher("alpha")} and {@link #alpha_} has the seed of {@code new Hasher("ALPHA")}. The seeds are
+     * precomputed, so initializing this class doesn't need to hash 192 Strings.
+     */
+    public static final Hasher alpha = new Hasher(0x99292617CAC9F35AL), beta = new Hasher(0x2CB9EA00D437E4D9L),
+            gamma = new Hasher(0x73BBF4904AB2AA79L), delta = new Hasher(0x7F8C7952C1D9B683L),
+            epsilon = new Hasher(0xB8A4D8874AB2F326L), zeta = new Hasher(0x6EC74A9C553F2F3FL),
+            eta = new Hasher(0x33B5A438907286F4L), theta = new Hasher(0xE6ADCB99CE135BA0L),
+            iota = new Hasher(0x31E6A54D0EEEE1E5L), kappa = new Hasher(0x82A802A8DF4E449CL),
+            lambda = new Hasher(0xD576E611AECCA01CL), mu = new Hasher(0x154BA7D5DC3E66EFL),
+            nu = new Hasher(0x321AF95D8A4591A3L), xi = new Hasher(0x151EB241EFF62F83L),
+            omicron = new Hasher(0x03D34434F30884B2L), pi = new Hasher(0x0CDEA169A37011D5L),
+            rho = new Hasher(0x2A1E1CB3A1C5D477L), sigma = new Hasher(0x8B98BDBC973B99D8L),
+            tau = new Hasher(0x0EDB7D68D31DA886L), upsilon = new Hasher(0x8E59AA92AF51B463L),
+            phi = new Hasher(0xA3CDE05D24A0CDDEL), chi = new Hasher(0x9705708DE3DA187DL),
+            psi = new Hasher(0x41C707F409A9C3BDL), omega = new Hasher(0xDC9DE6B90D44FAC1L),
+            alpha_ = new Hasher(0x360FF41D7A40E92AL), beta_ = new Hasher(0x9207EEA0E86F10AAL),
+            gamma_ = new Hasher(0x6AF6CD4AFD999503L), delta_ = new Hasher(0xF6D9554EAA2FB4CEL),
+            epsilon_ = new Hasher(0x2E6FD38B2F0DCF4BL), zeta_ = new Hasher(0x0818D48F4777681CL),
+            eta_ = new Hasher(0xC7D1B1B3809ACF32L), theta_ = new Hasher(0x48C5A7F853826295L),
+            iota_ = new Hasher(0x04B74E134250B39EL), kappa_ = new Hasher(0x8DD36ABCAC32270DL),
+            lambda_ = new Hasher(0x66A60DEEA80168CCL), mu_ = new Hasher(0x29EF71A8F7ACF91EL),
+            nu_ = new Hasher(0xABAA3F5F8C64E6ACL), xi_ = new Hasher(0xDD9988CDA3A18B92L),
+            omicron_ = new Hasher(0xBAE393B9A5E3F9E1L), pi_ = new Hasher(0xBE7621A1D1CEB0A5L),
+            rho_ = new Hasher(0x529E676D223496E3L), sigma_ = new Hasher(0x61CFC70F46439860L),
+            tau_ = new Hasher(0x974D79F2C75328BEL), upsilon_ = new Hasher(0x12C539B06746D1FFL),
+            phi_ = new Hasher(0x4FECECA3BD88AA3BL), chi_ = new Hasher(0xDEEABB2CAC1EC09FL),
+            psi_ = new Hasher(0xFD9013D5C66112E0L), omega_ = new Hasher(0x6B94DB6E887D5F68L),
+            baal = new Hasher(0x3E1D6EF36FAA59CDL), agares = new Hasher(0xF969BCA1F56E082CL),
+            vassago = new Hasher(0x6BDC2BE7B1B24584L), samigina = new Hasher(0xA1ABED3FF98B840DL),
+            marbas = new Hasher(0x719EE3174FAF1762L), valefor = new Hasher(0xC49C076448989CF0L),
+            amon = new Hasher(0x7036014FF7CF0208L), barbatos = new Hasher(0xAD1B6FBC8FFC92CEL),
+            paimon = new Hasher(0x95F5E4D8ADB1AB49L), buer = new Hasher(0x22411959A2341BB5L),
+            gusion = new Hasher(0xD5DC6C3159CA47CBL), sitri = new Hasher(0x703805D05904D387L),
+            beleth = new Hasher(0x286735732C490E9EL), leraje = new Hasher(0x2DFD2F88D841CB2FL),
+            eligos = new Hasher(0xEA694D7B83A71120L), zepar = new Hasher(0xDD375C5F0BE70BB7L),
+            botis = new Hasher(0x85E4F23F0618A63EL), bathin = new Hasher(0x661C6D93AFF529C1L),
+            sallos = new Hasher(0x856C9AA1BF0997E6L), purson = new Hasher(0x64FE6E1BDD70577AL),
+            marax = new Hasher(0x01F1D275B7435388L), ipos = new Hasher(0xE20BCFB75DBAFA95L),
+            aim = new Hasher(0x3AED0F94DDF07D0CL), naberius = new Hasher(0x0ADD4B99928DC527L),
+            glasya_labolas = new Hasher(0x8A46F6F11E42A5D0L), bune = new Hasher(0xDB61846F4F456E73L),
+            ronove = new Hasher(0xDDB2CE9C62233F75L), berith = new Hasher(0x07B9CD30509B7E2EL),
+            astaroth = new Hasher(0x81C8DCC6568B46B9L), forneus = new Hasher(0xC7E0D89A5EA1BF13L),
+            foras = new Hasher(0x817A46C6D0F78528L), asmoday = new Hasher(0x39DE554E3A7681BCL),
+            gaap = new Hasher(0x64773066A3627A0FL), furfur = new Hasher(0x8882445C116A29C3L),
+            marchosias = new Hasher(0xD18BCEC8050BD211L), stolas = new Hasher(0xCED9AC5F1B6B550EL),
+            phenex = new Hasher(0x510E39EC443C723AL), halphas = new Hasher(0x8E3053424025EB8AL),
+            malphas = new Hasher(0xFAAE643A1CFEAB34L), raum = new Hasher(0x1F21E3F0E2CB1B17L),
+            focalor = new Hasher(0x009B5DFADAA251B8L), vepar = new Hasher(0x63FE6E78738F1BD6L),
+            sabnock = new Hasher(0x507C32884D7BDA79L), shax = new Hasher(0x3911D99085A4193FL),
+            vine = new Hasher(0x5D4E9A14B36BB5EAL), bifrons = new Hasher(0x867F6D9A48581F03L),
+            vual = new Hasher(0xBF077DC1C696936CL), haagenti = new Hasher(0xB449EC806199AE41L),
+            crocell = new Hasher(0x3F29616BA91180F7L), furcas = new Hasher(0x126348F18C9E1A59L),
+            balam = new Hasher(0x09460EFE3A6CB553L), alloces = new Hasher(0x148F630CA3624531L),
+            caim = new Hasher(0x3DA2130E3AE38483L), murmur = new Hasher(0x4A1FD4AB1290F9BCL),
+            orobas = new Hasher(0x4B2066EA7C8AAB87L), gremory = new Hasher(0x960114B39F65B556L),
+            ose = new Hasher(0xD0C68968F90AA237L), amy = new Hasher(0x1DB86528EF5AD989L),
+            orias = new Hasher(0x148063258DD82E4BL), vapula = new Hasher(0x417283E36A79B3BEL),
+            zagan = new Hasher(0xBAE0A41D2357B351L), valac = new Hasher(0xC2968066D05DD329L),
+            andras = new Hasher(0x897AC6BF4543FEDBL), flauros = new Hasher(0xC089E31E26344854L),
+            andrealphus = new Hasher(0x0A3775A62ACA77C3L), kimaris = new Hasher(0x906297DA5C14A28DL),
+            amdusias = new Hasher(0x26D271151931EF25L), belial = new Hasher(0xD8328074FFE5AB96L),
+            decarabia = new Hasher(0xDA9866F9C06401EDL), seere = new Hasher(0xFBAF86A0098826E8L),
+            dantalion = new Hasher(0x38D3E89AF87EBD31L), andromalius = new Hasher(0x8891236CA490DD8DL),
+            baal_ = new Hasher(0x6D8F21F760DD9F2BL), agares_ = new Hasher(0x71FE3F03FAE49792L),
+            vassago_ = new Hasher(0x71A128AC1B496F87L), samigina_ = new Hasher(0x0CB854AB7AE2F42FL),
+            marbas_ = new Hasher(0x25C22C2471859410L), valefor_ = new Hasher(0x68729493020681B2L),
+            amon_ = new Hasher(0x7EC038D8828A2FB3L), barbatos_ = new Hasher(0xBCA0790E56B28C52L),
+            paimon_ = new Hasher(0x4163CF72316F017CL), buer_ = new Hasher(0x5AE70969E2010140L),
+            gusion_ = new Hasher(0x9FA9A841B21FC1E0L), sitri_ = new Hasher(0x4CB8209BFB20C57BL),
+            beleth_ = new Hasher(0x922F507DF46C3A96L), leraje_ = new Hasher(0xCC990C3FA9CDBC84L),
+            eligos_ = new Hasher(0x07575C88F2A5E83AL), zepar_ = new Hasher(0x987117F4AA023F8DL),
+            botis_ = new Hasher(0x3DE0B98644DBC75BL), bathin_ = new Hasher(0xDBCBA3BC40ABB6BAL),
+            sallos_ = new Hasher(0xF8CFD9EB04A26884L), purson_ = new Hasher(0x9561154F93D45C87L),
+            marax_ = new Hasher(0x44EE9725F3E3BD7CL), ipos_ = new Hasher(0x54CCAFF03F54DE8CL),
+            aim_ = new Hasher(0xE76E74A1211EF3F9L), naberius_ = new Hasher(0x06AF214C81926AB3L),
+            glasya_labolas_ = new Hasher(0x4664BDA9B8FF0A87L), bune_ = new Hasher(0x21F46FE67C03DC4BL),
+            ronove_ = new Hasher(0xFCEB6B4AA6B5FA73L), berith_ = new Hasher(0x43EEFBFF73C13527L),
+            astaroth_ = new Hasher(0x2147BB712354D53FL), forneus_ = new Hasher(0x71215993D4C1C7A6L),
+            foras_ = new Hasher(0x2D22850126DA5A46L), asmoday_ = new Hasher(0x91E3546D88E26CBFL),
+            gaap_ = new Hasher(0x253BAA4FA6BA28CDL), furfur_ = new Hasher(0x780C373FB767D387L),
+            marchosias_ = new Hasher(0xCFAB5348C5E567C7L), stolas_ = new Hasher(0x20E0C023EC7F03C3L),
+            phenex_ = new Hasher(0xF579D3273816DDAAL), halphas_ = new Hasher(0xB71FABE55D3EB261L),
+            malphas_ = new Hasher(0x834878E127BC2632L), raum_ = new Hasher(0xA80E2CBDB5BE0993L),
+            focalor_ = new Hasher(0x4EE579DAE8A6A3CDL), vepar_ = new Hasher(0x0637C48F41B328CCL),
+            sabnock_ = new Hasher(0x5539D31BC96B5EE9L), shax_ = new Hasher(0xA1E56A2B0EA2E112L),
+            vine_ = new Hasher(0xF2F298F14FF4CCEBL), bifrons_ = new Hasher(0x3B89A1D317638BB6L),
+            vual_ = new Hasher(0x92F7BEE76300DD04L), haagenti_ = new Hasher(0xF477E387E6515ABEL),
+            crocell_ = new Hasher(0xE48F5394A5B3EFF7L), furcas_ = new Hasher(0xCAEF7690F750F4D5L),
+            balam_ = new Hasher(0x6E38778941237063L), alloces_ = new Hasher(0x02078E58A7DFCB66L),
+            caim_ = new Hasher(0x64ED753D996F2991L), murmur_ = new Hasher(0x94574FBE600C6351L),
+            orobas_ = new Hasher(0x5E07E02EDF86F1FAL), gremory_ = new Hasher(0x5C53F38B513A3856L),
+            ose_ = new Hasher(0xD5A02FD32948BF2EL), amy_ = new Hasher(0x0419E7C76B3870F8L),
+            orias_ = new Hasher(0x1EA58A508850C186L), vapula_ = new Hasher(0x4978C62B246A9294L),
+            zagan_ = new Hasher(0x8EB55132EE44F12FL), valac_ = new Hasher(0x0803487D1887EC92L),
+            andras_ = new Hasher(0xC6D5C89D8A6698E6L), flauros_ = new Hasher(0xFD27801D265274FFL),
+            andrealphus_ = new Hasher(0x34CECF91EF43D5E2L), kimaris_ = new Hasher(0x4F1D92B8085166CDL),
+            amdusias_ = new Hasher(0x83A96160EEC664BEL), belial_ = new Hasher(0x63E80208E93CF208L),
+            decarabia_ = new Hasher(0xA393EDCFF8CDAA05L), seere_ = new Hasher(0x346307019F832057L),
+            dantalion_ = new Hasher(0xB562148A3B497B36L), andromalius_ = new Hasher(0xDCFFAA358CAD735AL);
     /**
      * Has a length of 192, which may be relevant if automatically choosing a predefined hash functor.
      */
@@ -819,91 +871,254 @@ public class Hasher {
 
     public long hash64(final long[] data) {
         if (data == null) return 0;
-        long seed = this.seed, a = this.seed + b4, b = this.seed + b3, c = this.seed + b2, d = this.seed + b1;
+        return lanes64(seed, data);
+    }
+
+    public long hash64(final float[] data) {
+        if (data == null) return 0;
+        long seed = this.seed;
         final int len = data.length;
         for (int i = 3; i < len; i += 4) {
-            a ^= data[i - 3] * b1;
-            a = (a << 23 | a >>> 41) * b3;
-            b ^= data[i - 2] * b2;
-            b = (b << 25 | b >>> 39) * b4;
-            c ^= data[i - 1] * b3;
-            c = (c << 29 | c >>> 35) * b5;
-            d ^= data[i] * b4;
-            d = (d << 31 | d >>> 33) * b1;
-            seed += a + b + c + d;
+            seed = mum(
+                    mum(floatToRawIntBits(data[i - 3]) ^ b1, floatToRawIntBits(data[i - 2]) ^ b2) + seed,
+                    mum(floatToRawIntBits(data[i - 1]) ^ b3, floatToRawIntBits(data[i]) ^ b4));
         }
-        seed += b5;
         switch (len & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
             case 1:
-                seed = wow(seed, b1 ^ data[len - 1]);
+                seed = mum(seed ^ (floatToRawIntBits(data[len - 1]) >>> 16), b3 ^ (floatToRawIntBits(data[len - 1]) & 0xFFFFL));
                 break;
             case 2:
-                seed = wow(seed + data[len - 2], b2 ^ data[len - 1]);
+                seed = mum(seed ^ floatToRawIntBits(data[len - 2]), b0 ^ floatToRawIntBits(data[len - 1]));
                 break;
             case 3:
-                seed = wow(seed + data[len - 3], b2 + data[len - 2]) + wow(seed + data[len - 1], seed ^ b3);
+                seed = mum(seed ^ floatToRawIntBits(data[len - 3]), b2 ^ floatToRawIntBits(data[len - 2])) ^ mum(seed ^ floatToRawIntBits(data[len - 1]), b4);
                 break;
         }
-        seed = (seed ^ seed >>> 16) * (b0 ^ (len + seed) << 4);
-        return seed ^ seed >>> 23 ^ seed >>> 42;
+        seed = (seed ^ seed << 16) * (len ^ b0);
+        return seed - (seed >>> 31) + (seed << 33);
     }
 
-    public long hash64(final float[] data) {
+    public long hash64(final double[] data) {
         if (data == null) return 0;
+        return lanes64(seed, data);
+    }
+
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param data   the boolean array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 64-bit hash code for the requested section of data
+     */
+    public long hash64(final boolean[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0;
+        long seed = this.seed;//seed = b1 ^ b1 >>> 29 ^ b1 >>> 43 ^ b1 << 7 ^ b1 << 53;
+        final int len = Math.max(0, Math.min(length, data.length - offset)), end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
+            seed = mum(
+                    mum((data[i - 3] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b1, (data[i - 2] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b2) + seed,
+                    mum((data[i - 1] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b3, (data[i] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b4));
+        }
+        switch (len & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
+            case 1:
+                seed = mum(seed ^ (data[end - 1] ? 0x9E37L : 0x7F4AL), b3 ^ (data[end - 1] ? 0x79B9L : 0x7C15L));
+                break;
+            case 2:
+                seed = mum(seed ^ (data[end - 2] ? 0x9E3779B9L : 0x7F4A7C15L), b0 ^ (data[end - 1] ? 0x9E3779B9L : 0x7F4A7C15L));
+                break;
+            case 3:
+                seed = mum(seed ^ (data[end - 3] ? 0x9E3779B9L : 0x7F4A7C15L), b2 ^ (data[end - 2] ? 0x9E3779B9L : 0x7F4A7C15L)) ^ mum(seed ^ (data[end - 1] ? 0x9E3779B9 : 0x7F4A7C15), b4);
+                break;
+        }
+        seed = (seed ^ seed << 16) * (len ^ b0);
+        return seed - (seed >>> 31) + (seed << 33);
+    }
+
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param data   the byte array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 64-bit hash code for the requested section of data
+     */
+    public long hash64(final byte[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0;
         long seed = this.seed;
-        final int len = data.length;
-        for (int i = 3; i < len; i += 4) {
+        final int len = Math.max(0, Math.min(length, data.length - offset)), end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
             seed = mum(
-                    mum(floatToRawIntBits(data[i - 3]) ^ b1, floatToRawIntBits(data[i - 2]) ^ b2) + seed,
-                    mum(floatToRawIntBits(data[i - 1]) ^ b3, floatToRawIntBits(data[i]) ^ b4));
+                    mum(data[i - 3] ^ b1, data[i - 2] ^ b2) + seed,
+                    mum(data[i - 1] ^ b3, data[i] ^ b4));
         }
         switch (len & 3) {
             case 0:
                 seed = mum(b1 ^ seed, b4 + seed);
                 break;
             case 1:
-                seed = mum(seed ^ (floatToRawIntBits(data[len - 1]) >>> 16), b3 ^ (floatToRawIntBits(data[len - 1]) & 0xFFFFL));
+                seed = mum(seed, b3 ^ data[end - 1]);
                 break;
             case 2:
-                seed = mum(seed ^ floatToRawIntBits(data[len - 2]), b0 ^ floatToRawIntBits(data[len - 1]));
+                seed = mum(seed ^ data[end - 2], data[end - 1] ^ b0);
                 break;
             case 3:
-                seed = mum(seed ^ floatToRawIntBits(data[len - 3]), b2 ^ floatToRawIntBits(data[len - 2])) ^ mum(seed ^ floatToRawIntBits(data[len - 1]), b4);
+                seed = mum(seed ^ data[end - 3], data[end - 2] ^ b2) ^ mum(seed ^ data[end - 1], b4);
                 break;
         }
         seed = (seed ^ seed << 16) * (len ^ b0);
         return seed - (seed >>> 31) + (seed << 33);
     }
 
-    public long hash64(final double[] data) {
-        if (data == null) return 0;
-        long seed = this.seed, a = this.seed + b4, b = this.seed + b3, c = this.seed + b2, d = this.seed + b1;
-        final int len = data.length;
-        for (int i = 3; i < len; i += 4) {
-            a ^= doubleToRawLongBits(data[i - 3]) * b1;
-            a = (a << 23 | a >>> 41) * b3;
-            b ^= doubleToRawLongBits(data[i - 2]) * b2;
-            b = (b << 25 | b >>> 39) * b4;
-            c ^= doubleToRawLongBits(data[i - 1]) * b3;
-            c = (c << 29 | c >>> 35) * b5;
-            d ^= doubleToRawLongBits(data[i]) * b4;
-            d = (d << 31 | d >>> 33) * b1;
-            seed += a + b + c + d;
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param data   the short array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 64-bit hash code for the requested section of data
+     */
+    public long hash64(final short[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0;
+        long seed = this.seed;
+        final int len = Math.max(0, Math.min(length, data.length - offset)), end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
+            seed = mum(
+                    mum(data[i - 3] ^ b1, data[i - 2] ^ b2) + seed,
+                    mum(data[i - 1] ^ b3, data[i] ^ b4));
+        }
+        switch (len & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
+            case 1:
+                seed = mum(seed, b3 ^ data[end - 1]);
+                break;
+            case 2:
+                seed = mum(seed ^ data[end - 2], data[end - 1] ^ b0);
+                break;
+            case 3:
+                seed = mum(seed ^ data[end - 3], data[end - 2] ^ b2) ^ mum(seed ^ data[end - 1], b4);
+                break;
+        }
+        seed = (seed ^ seed << 16) * (len ^ b0);
+        return seed - (seed >>> 31) + (seed << 33);
+    }
+
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param data   the int array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 64-bit hash code for the requested section of data
+     */
+    public long hash64(final int[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0;
+        long seed = this.seed;
+        final int len = Math.max(0, Math.min(length, data.length - offset)), end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
+            seed = mum(
+                    mum(data[i - 3] ^ b1, data[i - 2] ^ b2) + seed,
+                    mum(data[i - 1] ^ b3, data[i] ^ b4));
         }
-        seed += b5;
         switch (len & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
             case 1:
-                seed = wow(seed, b1 ^ doubleToRawLongBits(data[len - 1]));
+                seed = mum(seed ^ (data[end - 1] >>> 16), b3 ^ (data[end - 1] & 0xFFFFL));
                 break;
             case 2:
-                seed = wow(seed + doubleToRawLongBits(data[len - 2]), b2 ^ doubleToRawLongBits(data[len - 1]));
+                seed = mum(seed ^ data[end - 2], b0 ^ data[end - 1]);
                 break;
             case 3:
-                seed = wow(seed + doubleToRawLongBits(data[len - 3]), b2 + doubleToRawLongBits(data[len - 2])) + wow(seed + doubleToRawLongBits(data[len - 1]), seed ^ b3);
+                seed = mum(seed ^ data[end - 3], b2 ^ data[end - 2]) ^ mum(seed ^ data[end - 1], b4);
                 break;
         }
-        seed = (seed ^ seed >>> 16) * (b0 ^ (len + seed) << 4);
-        return seed ^ seed >>> 23 ^ seed >>> 42;
+        seed = (seed ^ seed << 16) * (len ^ b0);
+        return seed - (seed >>> 31) + (seed << 33);
+    }
+
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param data   the float array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 64-bit hash code for the requested section of data
+     */
+    public long hash64(final float[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0;
+        long seed = this.seed;
+        final int len = Math.max(0, Math.min(length, data.length - offset)), end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
+            seed = mum(
+                    mum(floatToRawIntBits(data[i - 3]) ^ b1, floatToRawIntBits(data[i - 2]) ^ b2) + seed,
+                    mum(floatToRawIntBits(data[i - 1]) ^ b3, floatToRawIntBits(data[i]) ^ b4));
+        }
+        switch (len & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
+            case 1:
+                seed = mum(seed ^ (floatToRawIntBits(data[end - 1]) >>> 16), b3 ^ (floatToRawIntBits(data[end - 1]) & 0xFFFFL));
+                break;
+            case 2:
+                seed = mum(seed ^ floatToRawIntBits(data[end - 2]), b0 ^ floatToRawIntBits(data[end - 1]));
+                break;
+            case 3:
+                seed = mum(seed ^ floatToRawIntBits(data[end - 3]), b2 ^ floatToRawIntBits(data[end - 2])) ^ mum(seed ^ floatToRawIntBits(data[end - 1]), b4);
+                break;
+        }
+        seed = (seed ^ seed << 16) * (len ^ b0);
+        return seed - (seed >>> 31) + (seed << 33);
+    }
+
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param data   the long array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 64-bit hash code for the requested section of data
+     */
+    public long hash64(final long[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0;
+        return lanes64(seed, data, offset, Math.max(0, Math.min(length, data.length - offset)));
+    }
+
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param data   the double array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 64-bit hash code for the requested section of data
+     */
+    public long hash64(final double[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0;
+        return lanes64(seed, data, offset, Math.max(0, Math.min(length, data.length - offset)));
     }
 
     /**
@@ -1468,34 +1683,7 @@ public class Hasher {
     }
 
     public int hash(final long[] data) {
-        if (data == null) return 0;
-        long seed = this.seed, a = this.seed + b4, b = this.seed + b3, c = this.seed + b2, d = this.seed + b1;
-        final int len = data.length;
-        for (int i = 3; i < len; i += 4) {
-            a ^= data[i - 3] * b1;
-            a = (a << 23 | a >>> 41) * b3;
-            b ^= data[i - 2] * b2;
-            b = (b << 25 | b >>> 39) * b4;
-            c ^= data[i - 1] * b3;
-            c = (c << 29 | c >>> 35) * b5;
-            d ^= data[i] * b4;
-            d = (d << 31 | d >>> 33) * b1;
-            seed += a + b + c + d;
-        }
-        seed += b5;
-        switch (len & 3) {
-            case 1:
-                seed = wow(seed, b1 ^ data[len - 1]);
-                break;
-            case 2:
-                seed = wow(seed + data[len - 2], b2 ^ data[len - 1]);
-                break;
-            case 3:
-                seed = wow(seed + data[len - 3], b2 + data[len - 2]) + wow(seed + data[len - 1], seed ^ b3);
-                break;
-        }
-        seed = (seed ^ seed >>> 16) * (b0 ^ (len + seed) << 4);
-        return (int) (seed ^ seed >>> 23 ^ seed >>> 42);
+        return (int) hash64(data);
     }
 
     public int hash(final float[] data) {
@@ -1526,113 +1714,299 @@ public class Hasher {
     }
 
     public int hash(final double[] data) {
-        if (data == null) return 0;
-        long seed = this.seed, a = this.seed + b4, b = this.seed + b3, c = this.seed + b2, d = this.seed + b1;
-        final int len = data.length;
-        for (int i = 3; i < len; i += 4) {
-            a ^= doubleToRawLongBits(data[i - 3]) * b1;
-            a = (a << 23 | a >>> 41) * b3;
-            b ^= doubleToRawLongBits(data[i - 2]) * b2;
-            b = (b << 25 | b >>> 39) * b4;
-            c ^= doubleToRawLongBits(data[i - 1]) * b3;
-            c = (c << 29 | c >>> 35) * b5;
-            d ^= doubleToRawLongBits(data[i]) * b4;
-            d = (d << 31 | d >>> 33) * b1;
-            seed += a + b + c + d;
+        return (int) hash64(data);
+    }
+
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param data   the boolean array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 32-bit hash code for the requested section of data
+     */
+    public int hash(final boolean[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0;
+        long seed = this.seed;//b1 ^ b1 >>> 41 ^ b1 << 53;
+        final int len = Math.max(0, Math.min(length, data.length - offset)), end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
+            seed = mum(
+                    mum((data[i - 3] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b1, (data[i - 2] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b2) + seed,
+                    mum((data[i - 1] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b3, (data[i] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b4));
         }
-        seed += b5;
         switch (len & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
             case 1:
-                seed = wow(seed, b1 ^ doubleToRawLongBits(data[len - 1]));
+                seed = mum(seed ^ (data[end - 1] ? 0x9E37L : 0x7F4AL), b3 ^ (data[end - 1] ? 0x79B9L : 0x7C15L));
                 break;
             case 2:
-                seed = wow(seed + doubleToRawLongBits(data[len - 2]), b2 ^ doubleToRawLongBits(data[len - 1]));
+                seed = mum(seed ^ (data[end - 2] ? 0x9E3779B9L : 0x7F4A7C15L), b0 ^ (data[end - 1] ? 0x9E3779B9L : 0x7F4A7C15L));
                 break;
             case 3:
-                seed = wow(seed + doubleToRawLongBits(data[len - 3]), b2 + doubleToRawLongBits(data[len - 2])) + wow(seed + doubleToRawLongBits(data[len - 1]), seed ^ b3);
+                seed = mum(seed ^ (data[end - 3] ? 0x9E3779B9L : 0x7F4A7C15L), b2 ^ (data[end - 2] ? 0x9E3779B9L : 0x7F4A7C15L)) ^ mum(seed ^ (data[end - 1] ? 0x9E3779B9 : 0x7F4A7C15), b4);
                 break;
         }
-        seed = (seed ^ seed >>> 16) * (b0 ^ (len + seed) << 4);
-        return (int) (seed ^ seed >>> 23 ^ seed >>> 42);
+        seed = (seed ^ seed << 16) * (len ^ b0);
+        return (int) (seed - (seed >>> 32));
     }
 
     /**
-     * Hashes only a subsection of the given data, starting at start (inclusive) and ending before end (exclusive).
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
      *
-     * @param data  the char array to hash
-     * @param start the start of the section to hash (inclusive)
-     * @param end   the end of the section to hash (exclusive)
+     * @param data   the byte array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
      * @return a 32-bit hash code for the requested section of data
      */
-    public int hash(final char[] data, final int start, final int end) {
-        if (data == null || start >= end)
-            return 0;
+    public int hash(final byte[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0;
         long seed = this.seed;//b1 ^ b1 >>> 41 ^ b1 << 53;
-        final int len = Math.min(end, data.length);
-        for (int i = start + 3; i < len; i += 4) {
+        final int len = Math.max(0, Math.min(length, data.length - offset)), end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
             seed = mum(
                     mum(data[i - 3] ^ b1, data[i - 2] ^ b2) + seed,
                     mum(data[i - 1] ^ b3, data[i] ^ b4));
         }
-        switch (len - start & 3) {
+        switch (len & 3) {
             case 0:
                 seed = mum(b1 ^ seed, b4 + seed);
                 break;
             case 1:
-                seed = mum(seed, b3 ^ data[len - 1]);
+                seed = mum(seed, b3 ^ data[end - 1]);
                 break;
             case 2:
-                seed = mum(seed ^ data[len - 2], data[len - 1] ^ b0);
+                seed = mum(seed ^ data[end - 2], data[end - 1] ^ b0);
                 break;
             case 3:
-                seed = mum(seed ^ data[len - 3], data[len - 2] ^ b2) ^ mum(seed ^ data[len - 1], b4);
+                seed = mum(seed ^ data[end - 3], data[end - 2] ^ b2) ^ mum(seed ^ data[end - 1], b4);
                 break;
         }
-        seed = (seed ^ seed << 16) * (len - start ^ b0);
+        seed = (seed ^ seed << 16) * (len ^ b0);
         return (int) (seed - (seed >>> 32));
     }
 
     /**
-     * Hashes only a subsection of the given data, starting at start (inclusive) and ending before end (exclusive).
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
      *
-     * @param data  the String or other CharSequence to hash
-     * @param start the start of the section to hash (inclusive)
-     * @param end   the end of the section to hash (exclusive)
+     * @param data   the short array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
      * @return a 32-bit hash code for the requested section of data
      */
-    public int hash(final CharSequence data, final int start, final int end) {
-        if (data == null || start >= end)
-            return 0;
+    public int hash(final short[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0;
         long seed = this.seed;//b1 ^ b1 >>> 41 ^ b1 << 53;
-        final int len = Math.min(end, data.length());
-        for (int i = start + 3; i < len; i += 4) {
+        final int len = Math.max(0, Math.min(length, data.length - offset)), end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
             seed = mum(
-                    mum(data.charAt(i - 3) ^ b1, data.charAt(i - 2) ^ b2) + seed,
-                    mum(data.charAt(i - 1) ^ b3, data.charAt(i) ^ b4));
+                    mum(data[i - 3] ^ b1, data[i - 2] ^ b2) + seed,
+                    mum(data[i - 1] ^ b3, data[i] ^ b4));
         }
-        switch (len - start & 3) {
+        switch (len & 3) {
             case 0:
                 seed = mum(b1 ^ seed, b4 + seed);
                 break;
             case 1:
-                seed = mum(seed, b3 ^ data.charAt(len - 1));
+                seed = mum(seed, b3 ^ data[end - 1]);
                 break;
             case 2:
-                seed = mum(seed ^ data.charAt(len - 2), data.charAt(len - 1) ^ b0);
+                seed = mum(seed ^ data[end - 2], data[end - 1] ^ b0);
                 break;
             case 3:
-                seed = mum(seed ^ data.charAt(len - 3), data.charAt(len - 2) ^ b2) ^ mum(seed ^ data.charAt(len - 1), b4);
+                seed = mum(seed ^ data[end - 3], data[end - 2] ^ b2) ^ mum(seed ^ data[end - 1], b4);
                 break;
         }
-        seed = (seed ^ seed << 16) * (len - start ^ b0);
+        seed = (seed ^ seed << 16) * (len ^ b0);
         return (int) (seed - (seed >>> 32));
     }
 
-    public int hash(final byte[][] data) {
-        if (data == null) return 0;
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param data   the int array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 32-bit hash code for the requested section of data
+     */
+    public int hash(final int[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0;
         long seed = this.seed;//b1 ^ b1 >>> 41 ^ b1 << 53;
-        final int len = data.length;
-        for (int i = 3; i < len; i += 4) {
+        final int len = Math.max(0, Math.min(length, data.length - offset)), end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
+            seed = mum(
+                    mum(data[i - 3] ^ b1, data[i - 2] ^ b2) + seed,
+                    mum(data[i - 1] ^ b3, data[i] ^ b4));
+        }
+        switch (len & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
+            case 1:
+                seed = mum(seed ^ (data[end - 1] >>> 16), b3 ^ (data[end - 1] & 0xFFFFL));
+                break;
+            case 2:
+                seed = mum(seed ^ data[end - 2], b0 ^ data[end - 1]);
+                break;
+            case 3:
+                seed = mum(seed ^ data[end - 3], b2 ^ data[end - 2]) ^ mum(seed ^ data[end - 1], b4);
+                break;
+        }
+        seed = (seed ^ seed << 16) * (len ^ b0);
+        return (int) (seed - (seed >>> 32));
+    }
+
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param data   the float array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 32-bit hash code for the requested section of data
+     */
+    public int hash(final float[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0;
+        long seed = this.seed;//b1 ^ b1 >>> 41 ^ b1 << 53;
+        final int len = Math.max(0, Math.min(length, data.length - offset)), end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
+            seed = mum(
+                    mum(floatToRawIntBits(data[i - 3]) ^ b1, floatToRawIntBits(data[i - 2]) ^ b2) + seed,
+                    mum(floatToRawIntBits(data[i - 1]) ^ b3, floatToRawIntBits(data[i]) ^ b4));
+        }
+        switch (len & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
+            case 1:
+                seed = mum(seed ^ (floatToRawIntBits(data[end - 1]) >>> 16), b3 ^ (floatToRawIntBits(data[end - 1]) & 0xFFFFL));
+                break;
+            case 2:
+                seed = mum(seed ^ floatToRawIntBits(data[end - 2]), b0 ^ floatToRawIntBits(data[end - 1]));
+                break;
+            case 3:
+                seed = mum(seed ^ floatToRawIntBits(data[end - 3]), b2 ^ floatToRawIntBits(data[end - 2])) ^ mum(seed ^ floatToRawIntBits(data[end - 1]), b4);
+                break;
+        }
+        seed = (seed ^ seed << 16) * (len ^ b0);
+        return (int) (seed - (seed >>> 32));
+    }
+
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param data   the long array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 32-bit hash code for the requested section of data
+     */
+    public int hash(final long[] data, final int offset, final int length) {
+        return (int) hash64(data, offset, length);
+    }
+
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param data   the double array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 32-bit hash code for the requested section of data
+     */
+    public int hash(final double[] data, final int offset, final int length) {
+        return (int) hash64(data, offset, length);
+    }
+
+    /**
+     * Hashes only a subsection of the given data, starting at start (inclusive) and ending before end (exclusive).
+     *
+     * @param data  the char array to hash
+     * @param start the start of the section to hash (inclusive)
+     * @param end   the end of the section to hash (exclusive)
+     * @return a 32-bit hash code for the requested section of data
+     */
+    public int hash(final char[] data, final int start, final int end) {
+        if (data == null || start >= end)
+            return 0;
+        long seed = this.seed;//b1 ^ b1 >>> 41 ^ b1 << 53;
+        final int len = Math.min(end, data.length);
+        for (int i = start + 3; i < len; i += 4) {
+            seed = mum(
+                    mum(data[i - 3] ^ b1, data[i - 2] ^ b2) + seed,
+                    mum(data[i - 1] ^ b3, data[i] ^ b4));
+        }
+        switch (len - start & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
+            case 1:
+                seed = mum(seed, b3 ^ data[len - 1]);
+                break;
+            case 2:
+                seed = mum(seed ^ data[len - 2], data[len - 1] ^ b0);
+                break;
+            case 3:
+                seed = mum(seed ^ data[len - 3], data[len - 2] ^ b2) ^ mum(seed ^ data[len - 1], b4);
+                break;
+        }
+        seed = (seed ^ seed << 16) * (len - start ^ b0);
+        return (int) (seed - (seed >>> 32));
+    }
+
+    /**
+     * Hashes only a subsection of the given data, starting at start (inclusive) and ending before end (exclusive).
+     *
+     * @param data  the String or other CharSequence to hash
+     * @param start the start of the section to hash (inclusive)
+     * @param end   the end of the section to hash (exclusive)
+     * @return a 32-bit hash code for the requested section of data
+     */
+    public int hash(final CharSequence data, final int start, final int end) {
+        if (data == null || start >= end)
+            return 0;
+        long seed = this.seed;//b1 ^ b1 >>> 41 ^ b1 << 53;
+        final int len = Math.min(end, data.length());
+        for (int i = start + 3; i < len; i += 4) {
+            seed = mum(
+                    mum(data.charAt(i - 3) ^ b1, data.charAt(i - 2) ^ b2) + seed,
+                    mum(data.charAt(i - 1) ^ b3, data.charAt(i) ^ b4));
+        }
+        switch (len - start & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
+            case 1:
+                seed = mum(seed, b3 ^ data.charAt(len - 1));
+                break;
+            case 2:
+                seed = mum(seed ^ data.charAt(len - 2), data.charAt(len - 1) ^ b0);
+                break;
+            case 3:
+                seed = mum(seed ^ data.charAt(len - 3), data.charAt(len - 2) ^ b2) ^ mum(seed ^ data.charAt(len - 1), b4);
+                break;
+        }
+        seed = (seed ^ seed << 16) * (len - start ^ b0);
+        return (int) (seed - (seed >>> 32));
+    }
+
+    public int hash(final byte[][] data) {
+        if (data == null) return 0;
+        long seed = this.seed;//b1 ^ b1 >>> 41 ^ b1 << 53;
+        final int len = data.length;
+        for (int i = 3; i < len; i += 4) {
             seed = mum(
                     mum(hash(data[i - 3]) ^ b1, hash(data[i - 2]) ^ b2) + seed,
                     mum(hash(data[i - 1]) ^ b3, hash(data[i]) ^ b4));
@@ -1930,74 +2304,528 @@ public class Hasher {
     }
 
 
-    public static long hash64(long seed, final boolean[] data) {
-        if (data == null) return 0L;
-        seed += b1;
-        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
-        final int len = data.length;
-        for (int i = 3; i < len; i += 4) {
-            seed = mum(
-                    mum((data[i - 3] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b1, (data[i - 2] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b2) + seed,
-                    mum((data[i - 1] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b3, (data[i] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b4));
+    /**
+     * Hashes all of {@code data} using a mode that packs 8 bytes at a time into each long (in little-endian order) and
+     * mixes full 64-bit words, the same way {@link #hash64(long[])} does. This is much faster than
+     * {@link #hash64(byte[])} on large inputs, but it does not return the same results as that method. The result
+     * only depends on the bytes in {@code data} and this Hasher's seed, so it is the same on all platforms.
+     *
+     * @param data the byte array to hash
+     * @return a 64-bit hash code for data
+     */
+    public long hashBulk64(final byte[] data) {
+        if (data == null) return 0;
+        return bulk64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Hashes {@code length} bytes of {@code data}, starting at {@code start}, using a mode that packs 8 bytes at a
+     * time into each long and mixes full 64-bit words; see {@link #hashBulk64(byte[])}. Hashing a section of an array
+     * this way produces the same result as hashing an array that only holds that section.
+     *
+     * @param data   the byte array to hash
+     * @param start  the first index in data to hash (inclusive)
+     * @param length how many bytes to hash; if this goes past the end of data, this stops at the end
+     * @return a 64-bit hash code for the requested section of data
+     */
+    public long hashBulk64(final byte[] data, final int start, final int length) {
+        if (data == null || start < 0 || length < 0) return 0;
+        return bulk64(seed, data, start, length);
+    }
+
+    /**
+     * Hashes all of {@code data} using a mode that packs 8 bytes at a time into each long (in little-endian order) and
+     * mixes full 64-bit words; this returns the lower 32 bits of {@link #hashBulk64(byte[])}.
+     *
+     * @param data the byte array to hash
+     * @return a 32-bit hash code for data
+     */
+    public int hashBulk(final byte[] data) {
+        if (data == null) return 0;
+        return (int) bulk64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Hashes {@code length} bytes of {@code data}, starting at {@code start}, using a mode that packs 8 bytes at a
+     * time into each long and mixes full 64-bit words; this returns the lower 32 bits of
+     * {@link #hashBulk64(byte[], int, int)}.
+     *
+     * @param data   the byte array to hash
+     * @param start  the first index in data to hash (inclusive)
+     * @param length how many bytes to hash; if this goes past the end of data, this stops at the end
+     * @return a 32-bit hash code for the requested section of data
+     */
+    public int hashBulk(final byte[] data, final int start, final int length) {
+        if (data == null || start < 0 || length < 0) return 0;
+        return (int) bulk64(seed, data, start, length);
+    }
+
+    /**
+     * Hashes the remaining bytes in {@code data}, from its position to its limit, the same way
+     * {@link #hashBulk64(byte[])} hashes an array holding those bytes. This doesn't change the buffer's position,
+     * limit, or byte order, and doesn't copy its contents, so it works well on direct buffers and on
+     * {@link java.nio.MappedByteBuffer}s of files too large to load onto the heap. On GWT, this needs java.nio
+     * emulation, such as the one libGDX provides.
+     *
+     * @param data the ByteBuffer to hash the remaining bytes of
+     * @return a 64-bit hash code for the remaining bytes in data
+     */
+    public long hash64(final ByteBuffer data) {
+        if (data == null) return 0;
+        return bulk64(seed, data);
+    }
+
+    /**
+     * Hashes the remaining bytes in {@code data}, from its position to its limit; this returns the lower 32 bits of
+     * {@link #hash64(ByteBuffer)}. This doesn't change the buffer's position, limit, or byte order.
+     *
+     * @param data the ByteBuffer to hash the remaining bytes of
+     * @return a 32-bit hash code for the remaining bytes in data
+     */
+    public int hash(final ByteBuffer data) {
+        if (data == null) return 0;
+        return (int) bulk64(seed, data);
+    }
+
+    /**
+     * Creates a new {@link HashStream} using this Hasher's seed, which can hash data that arrives in chunks, such as
+     * from a channel, without copying it all into one array first. The result of {@link HashStream#finish()} is the
+     * same as {@link #hashBulk64(byte[])} on all the bytes given to the stream, however they were split up.
+     *
+     * @return a new HashStream with this Hasher's seed
+     */
+    public HashStream stream() {
+        return new HashStream(seed);
+    }
+
+    /**
+     * Creates a new {@link HashCombiner} using this Hasher's seed, which hashes a composite key one part at a time,
+     * such as with {@code combine().mix(id).mix(shard).mix(name).finish()}, without building an array of the parts.
+     *
+     * @return a new HashCombiner with this Hasher's seed
+     */
+    public HashCombiner combine() {
+        return new HashCombiner(seed);
+    }
+
+    /**
+     * Hashes {@code data} to a 128-bit result, written as two longs into {@code out[0]} and {@code out[1]}. This is
+     * meant for cases where 64 bits aren't enough to avoid collisions, such as keys for billions of items. Unlike
+     * calling {@link #hash64(byte[])} twice with different seeds, this reads the data only once, and keeps 256 bits of
+     * state while doing so. This allocates nothing; {@code out} can be reused for every call. <br> All hash128()
+     * methods hash the little-endian bytes of their data, so a char[] or CharSequence gets the same result as a byte[]
+     * holding each char as 2 bytes, an int[] is the same as 4 bytes per int, a long[] is the same as 8 bytes per long,
+     * and a ByteBuffer is the same as a byte[] holding its remaining bytes.
+     *
+     * @param data the byte array to hash
+     * @param out  a long array with length at least 2, which will receive the result
+     * @return out, after modifications
+     */
+    public long[] hash128(final byte[] data, final long[] out) {
+        if (data == null) {
+            out[0] = out[1] = 0L;
+            return out;
         }
-        switch (len & 3) {
-            case 0:
-                seed = mum(b1 ^ seed, b4 + seed);
-                break;
-            case 1:
-                seed = mum(seed ^ (data[len - 1] ? 0x9E37L : 0x7F4AL), b3 ^ (data[len - 1] ? 0x79B9L : 0x7C15L));
-                break;
-            case 2:
-                seed = mum(seed ^ (data[len - 2] ? 0x9E3779B9L : 0x7F4A7C15L), b0 ^ (data[len - 1] ? 0x9E3779B9L : 0x7F4A7C15L));
-                break;
-            case 3:
-                seed = mum(seed ^ (data[len - 3] ? 0x9E3779B9L : 0x7F4A7C15L), b2 ^ (data[len - 2] ? 0x9E3779B9L : 0x7F4A7C15L)) ^ mum(seed ^ (data[len - 1] ? 0x9E3779B9 : 0x7F4A7C15), b4);
-                break;
+        return bulk128(seed, data, out);
+    }
+
+    /**
+     * Hashes {@code data} to a 128-bit result, written as two longs into {@code out[0]} and {@code out[1]}; see {@link
+     * #hash128(byte[], long[])}. This allocates nothing.
+     *
+     * @param data the char array to hash
+     * @param out  a long array with length at least 2, which will receive the result
+     * @return out, after modifications
+     */
+    public long[] hash128(final char[] data, final long[] out) {
+        if (data == null) {
+            out[0] = out[1] = 0L;
+            return out;
         }
-        seed = (seed ^ seed << 16) * (len ^ b0);
-        return seed - (seed >>> 31) + (seed << 33);
+        return bulk128(seed, data, out);
     }
 
-    public static long hash64(long seed, final byte[] data) {
-        if (data == null) return 0L;
-        seed += b1;
-        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
-        final int len = data.length;
-        for (int i = 3; i < len; i += 4) {
-            seed = mum(
-                    mum(data[i - 3] ^ b1, data[i - 2] ^ b2) + seed,
-                    mum(data[i - 1] ^ b3, data[i] ^ b4));
+    /**
+     * Hashes {@code data} to a 128-bit result, written as two longs into {@code out[0]} and {@code out[1]}; see {@link
+     * #hash128(byte[], long[])}. This allocates nothing.
+     *
+     * @param data the CharSequence to hash
+     * @param out  a long array with length at least 2, which will receive the result
+     * @return out, after modifications
+     */
+    public long[] hash128(final CharSequence data, final long[] out) {
+        if (data == null) {
+            out[0] = out[1] = 0L;
+            return out;
         }
-        switch (len & 3) {
-            case 0:
-                seed = mum(b1 ^ seed, b4 + seed);
-                break;
-            case 1:
-                seed = mum(seed, b3 ^ data[len - 1]);
-                break;
-            case 2:
-                seed = mum(seed ^ data[len - 2], data[len - 1] ^ b0);
-                break;
-            case 3:
-                seed = mum(seed ^ data[len - 3], data[len - 2] ^ b2) ^ mum(seed ^ data[len - 1], b4);
-                break;
+        return bulk128(seed, data, out);
+    }
+
+    /**
+     * Hashes {@code data} to a 128-bit result, written as two longs into {@code out[0]} and {@code out[1]}; see {@link
+     * #hash128(byte[], long[])}. This allocates nothing.
+     *
+     * @param data the int array to hash
+     * @param out  a long array with length at least 2, which will receive the result
+     * @return out, after modifications
+     */
+    public long[] hash128(final int[] data, final long[] out) {
+        if (data == null) {
+            out[0] = out[1] = 0L;
+            return out;
         }
-        seed = (seed ^ seed << 16) * (len ^ b0);
-        return seed - (seed >>> 31) + (seed << 33);
+        return bulk128(seed, data, out);
     }
 
-    public static long hash64(long seed, final short[] data) {
-        if (data == null) return 0L;
-        seed += b1;
-        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
-        final int len = data.length;
-        for (int i = 3; i < len; i += 4) {
-            seed = mum(
-                    mum(data[i - 3] ^ b1, data[i - 2] ^ b2) + seed,
-                    mum(data[i - 1] ^ b3, data[i] ^ b4));
+    /**
+     * Hashes {@code data} to a 128-bit result, written as two longs into {@code out[0]} and {@code out[1]}; see {@link
+     * #hash128(byte[], long[])}. This allocates nothing.
+     *
+     * @param data the long array to hash
+     * @param out  a long array with length at least 2, which will receive the result
+     * @return out, after modifications
+     */
+    public long[] hash128(final long[] data, final long[] out) {
+        if (data == null) {
+            out[0] = out[1] = 0L;
+            return out;
         }
-        switch (len & 3) {
-            case 0:
+        return bulk128(seed, data, out);
+    }
+
+    /**
+     * Hashes the remaining bytes in {@code data}, from its position to its limit, to a 128-bit result, written as two
+     * longs into {@code out[0]} and {@code out[1]}; see {@link #hash128(byte[], long[])}. This doesn't change the
+     * buffer's position, limit, or byte order. This allocates nothing.
+     *
+     * @param data the ByteBuffer to hash
+     * @param out  a long array with length at least 2, which will receive the result
+     * @return out, after modifications
+     */
+    public long[] hash128(final ByteBuffer data, final long[] out) {
+        if (data == null) {
+            out[0] = out[1] = 0L;
+            return out;
+        }
+        return bulk128(seed, data, out);
+    }
+
+    /**
+     * Hashes each CharSequence in {@code keys} and writes the 64-bit results into {@code out}, so that
+     * {@code out[i] == hash64(keys[i])}. This works on two keys at a time, advancing their independent chains of
+     * {@link #mum(long, long)} calls together, which lets the CPU overlap work that {@link #hash64(CharSequence)}
+     * would have to do one step after another. This is faster than calling {@link #hash64(CharSequence)} in a loop
+     * for many short keys. Only {@code Math.min(keys.length, out.length)} keys are hashed.
+     *
+     * @param keys the CharSequences to hash; any may be null
+     * @param out  the long array that will receive the hashes
+     * @return out, after modifications
+     */
+    public long[] hash64All(final CharSequence[] keys, final long[] out) {
+        final int n = Math.min(keys.length, out.length);
+        int k = 0;
+        for (final int limit = n - 1; k < limit; k += 2) {
+            final CharSequence x = keys[k], y = keys[k + 1];
+            if (x == null || y == null) {
+                out[k] = hash64(x);
+                out[k + 1] = hash64(y);
+                continue;
+            }
+            long sx = seed, sy = seed;
+            final int common = Math.min(x.length(), y.length()) & -4;
+            int i = 0;
+            for (; i < common; i += 4) {
+                sx = mum(
+                        mum(x.charAt(i) ^ b1, x.charAt(i + 1) ^ b2) + sx,
+                        mum(x.charAt(i + 2) ^ b3, x.charAt(i + 3) ^ b4));
+                sy = mum(
+                        mum(y.charAt(i) ^ b1, y.charAt(i + 1) ^ b2) + sy,
+                        mum(y.charAt(i + 2) ^ b3, y.charAt(i + 3) ^ b4));
+            }
+            sx = charsRest(sx, x, i);
+            sy = charsRest(sy, y, i);
+            out[k] = sx - (sx >>> 31) + (sx << 33);
+            out[k + 1] = sy - (sy >>> 31) + (sy << 33);
+        }
+        if (k < n) out[k] = hash64(keys[k]);
+        return out;
+    }
+
+    /**
+     * Hashes each CharSequence in {@code keys} and writes the 32-bit results into {@code out}, so that
+     * {@code out[i] == hash(keys[i])}. Like {@link #hash64All(CharSequence[], long[])}, this works on two keys at a
+     * time to overlap their independent chains of mixing. Only {@code Math.min(keys.length, out.length)} keys are
+     * hashed.
+     *
+     * @param keys the CharSequences to hash; any may be null
+     * @param out  the int array that will receive the hashes
+     * @return out, after modifications
+     */
+    public int[] hashAll(final CharSequence[] keys, final int[] out) {
+        final int n = Math.min(keys.length, out.length);
+        int k = 0;
+        for (final int limit = n - 1; k < limit; k += 2) {
+            final CharSequence x = keys[k], y = keys[k + 1];
+            if (x == null || y == null) {
+                out[k] = hash(x);
+                out[k + 1] = hash(y);
+                continue;
+            }
+            long sx = seed, sy = seed;
+            final int common = Math.min(x.length(), y.length()) & -4;
+            int i = 0;
+            for (; i < common; i += 4) {
+                sx = mum(
+                        mum(x.charAt(i) ^ b1, x.charAt(i + 1) ^ b2) + sx,
+                        mum(x.charAt(i + 2) ^ b3, x.charAt(i + 3) ^ b4));
+                sy = mum(
+                        mum(y.charAt(i) ^ b1, y.charAt(i + 1) ^ b2) + sy,
+                        mum(y.charAt(i + 2) ^ b3, y.charAt(i + 3) ^ b4));
+            }
+            sx = charsRest(sx, x, i);
+            sy = charsRest(sy, y, i);
+            out[k] = (int) (sx - (sx >>> 32));
+            out[k + 1] = (int) (sy - (sy >>> 32));
+        }
+        if (k < n) out[k] = hash(keys[k]);
+        return out;
+    }
+
+    /**
+     * Hashes each int array in {@code keys} and writes the 64-bit results into {@code out}, so that
+     * {@code out[i] == hash64(keys[i])}. Like {@link #hash64All(CharSequence[], long[])}, this works on two keys at a
+     * time to overlap their independent chains of mixing. Only {@code Math.min(keys.length, out.length)} keys are
+     * hashed.
+     *
+     * @param keys the int arrays to hash; any may be null
+     * @param out  the long array that will receive the hashes
+     * @return out, after modifications
+     */
+    public long[] hash64All(final int[][] keys, final long[] out) {
+        final int n = Math.min(keys.length, out.length);
+        int k = 0;
+        for (final int limit = n - 1; k < limit; k += 2) {
+            final int[] x = keys[k], y = keys[k + 1];
+            if (x == null || y == null) {
+                out[k] = hash64(x);
+                out[k + 1] = hash64(y);
+                continue;
+            }
+            long sx = seed, sy = seed;
+            final int common = Math.min(x.length, y.length) & -4;
+            int i = 0;
+            for (; i < common; i += 4) {
+                sx = mum(
+                        mum(x[i] ^ b1, x[i + 1] ^ b2) + sx,
+                        mum(x[i + 2] ^ b3, x[i + 3] ^ b4));
+                sy = mum(
+                        mum(y[i] ^ b1, y[i + 1] ^ b2) + sy,
+                        mum(y[i + 2] ^ b3, y[i + 3] ^ b4));
+            }
+            sx = intsRest(sx, x, i);
+            sy = intsRest(sy, y, i);
+            out[k] = sx - (sx >>> 31) + (sx << 33);
+            out[k + 1] = sy - (sy >>> 31) + (sy << 33);
+        }
+        if (k < n) out[k] = hash64(keys[k]);
+        return out;
+    }
+
+    /**
+     * Hashes each int array in {@code keys} and writes the 32-bit results into {@code out}, so that
+     * {@code out[i] == hash(keys[i])}. Like {@link #hash64All(CharSequence[], long[])}, this works on two keys at a
+     * time to overlap their independent chains of mixing. Only {@code Math.min(keys.length, out.length)} keys are
+     * hashed.
+     *
+     * @param keys the int arrays to hash; any may be null
+     * @param out  the int array that will receive the hashes
+     * @return out, after modifications
+     */
+    public int[] hashAll(final int[][] keys, final int[] out) {
+        final int n = Math.min(keys.length, out.length);
+        int k = 0;
+        for (final int limit = n - 1; k < limit; k += 2) {
+            final int[] x = keys[k], y = keys[k + 1];
+            if (x == null || y == null) {
+                out[k] = hash(x);
+                out[k + 1] = hash(y);
+                continue;
+            }
+            long sx = seed, sy = seed;
+            final int common = Math.min(x.length, y.length) & -4;
+            int i = 0;
+            for (; i < common; i += 4) {
+                sx = mum(
+                        mum(x[i] ^ b1, x[i + 1] ^ b2) + sx,
+                        mum(x[i + 2] ^ b3, x[i + 3] ^ b4));
+                sy = mum(
+                        mum(y[i] ^ b1, y[i + 1] ^ b2) + sy,
+                        mum(y[i + 2] ^ b3, y[i + 3] ^ b4));
+            }
+            sx = intsRest(sx, x, i);
+            sy = intsRest(sy, y, i);
+            out[k] = (int) (sx - (sx >>> 32));
+            out[k + 1] = (int) (sy - (sy >>> 32));
+        }
+        if (k < n) out[k] = hash(keys[k]);
+        return out;
+    }
+
+    /**
+     * Hashes each long in {@code keys} as if it were a long array with just that item, and writes the 64-bit results
+     * into {@code out}, so that {@code out[i] == hash64(new long[]{keys[i]})}. This doesn't allocate any arrays,
+     * and because each key is independent, the CPU can work on several keys at once. Only
+     * {@code Math.min(keys.length, out.length)} keys are hashed.
+     *
+     * @param keys the longs to hash
+     * @param out  the long array that will receive the hashes
+     * @return out, after modifications
+     */
+    public long[] hash64All(final long[] keys, final long[] out) {
+        final int n = Math.min(keys.length, out.length);
+        final long start = seed + b5;
+        for (int k = 0; k < n; k++) {
+            long s = wow(start, b1 ^ keys[k]);
+            s = (s ^ s >>> 16) * (b0 ^ (1L + s) << 4);
+            out[k] = s ^ s >>> 23 ^ s >>> 42;
+        }
+        return out;
+    }
+
+    /**
+     * Hashes each long in {@code keys} as if it were a long array with just that item, and writes the 32-bit results
+     * into {@code out}, so that {@code out[i] == hash(new long[]{keys[i]})}. This doesn't allocate any arrays. Only
+     * {@code Math.min(keys.length, out.length)} keys are hashed.
+     *
+     * @param keys the longs to hash
+     * @param out  the int array that will receive the hashes
+     * @return out, after modifications
+     */
+    public int[] hashAll(final long[] keys, final int[] out) {
+        final int n = Math.min(keys.length, out.length);
+        final long start = seed + b5;
+        for (int k = 0; k < n; k++) {
+            long s = wow(start, b1 ^ keys[k]);
+            s = (s ^ s >>> 16) * (b0 ^ (1L + s) << 4);
+            out[k] = (int) (s ^ s >>> 23 ^ s >>> 42);
+        }
+        return out;
+    }
+
+    public long hash64(final byte[][][] data) {
+        if (data == null) return 0;
+        return grid64(seed, data);
+    }
+
+    public int hash(final byte[][][] data) {
+        return (int) hash64(data);
+    }
+
+    public long hash64(final int[][][] data) {
+        if (data == null) return 0;
+        return grid64(seed, data);
+    }
+
+    public int hash(final int[][][] data) {
+        return (int) hash64(data);
+    }
+
+    public long hash64(final float[][][] data) {
+        if (data == null) return 0;
+        return grid64(seed, data);
+    }
+
+    public int hash(final float[][][] data) {
+        return (int) hash64(data);
+    }
+
+    public long hash64(final long[][][] data) {
+        if (data == null) return 0;
+        return grid64(seed, data);
+    }
+
+    public int hash(final long[][][] data) {
+        return (int) hash64(data);
+    }
+
+    public long hash64(final double[][][] data) {
+        if (data == null) return 0;
+        return grid64(seed, data);
+    }
+
+    public int hash(final double[][][] data) {
+        return (int) hash64(data);
+    }
+
+
+    public static long hash64(long seed, final boolean[] data) {
+        if (data == null) return 0L;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        final int len = data.length;
+        for (int i = 3; i < len; i += 4) {
+            seed = mum(
+                    mum((data[i - 3] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b1, (data[i - 2] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b2) + seed,
+                    mum((data[i - 1] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b3, (data[i] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b4));
+        }
+        switch (len & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
+            case 1:
+                seed = mum(seed ^ (data[len - 1] ? 0x9E37L : 0x7F4AL), b3 ^ (data[len - 1] ? 0x79B9L : 0x7C15L));
+                break;
+            case 2:
+                seed = mum(seed ^ (data[len - 2] ? 0x9E3779B9L : 0x7F4A7C15L), b0 ^ (data[len - 1] ? 0x9E3779B9L : 0x7F4A7C15L));
+                break;
+            case 3:
+                seed = mum(seed ^ (data[len - 3] ? 0x9E3779B9L : 0x7F4A7C15L), b2 ^ (data[len - 2] ? 0x9E3779B9L : 0x7F4A7C15L)) ^ mum(seed ^ (data[len - 1] ? 0x9E3779B9 : 0x7F4A7C15), b4);
+                break;
+        }
+        seed = (seed ^ seed << 16) * (len ^ b0);
+        return seed - (seed >>> 31) + (seed << 33);
+    }
+
+    public static long hash64(long seed, final byte[] data) {
+        if (data == null) return 0L;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        final int len = data.length;
+        for (int i = 3; i < len; i += 4) {
+            seed = mum(
+                    mum(data[i - 3] ^ b1, data[i - 2] ^ b2) + seed,
+                    mum(data[i - 1] ^ b3, data[i] ^ b4));
+        }
+        switch (len & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
+            case 1:
+                seed = mum(seed, b3 ^ data[len - 1]);
+                break;
+            case 2:
+                seed = mum(seed ^ data[len - 2], data[len - 1] ^ b0);
+                break;
+            case 3:
+                seed = mum(seed ^ data[len - 3], data[len - 2] ^ b2) ^ mum(seed ^ data[len - 1], b4);
+                break;
+        }
+        seed = (seed ^ seed << 16) * (len ^ b0);
+        return seed - (seed >>> 31) + (seed << 33);
+    }
+
+    public static long hash64(long seed, final short[] data) {
+        if (data == null) return 0L;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        final int len = data.length;
+        for (int i = 3; i < len; i += 4) {
+            seed = mum(
+                    mum(data[i - 3] ^ b1, data[i - 2] ^ b2) + seed,
+                    mum(data[i - 1] ^ b3, data[i] ^ b4));
+        }
+        switch (len & 3) {
+            case 0:
                 seed = mum(b1 ^ seed, b4 + seed);
                 break;
             case 1:
@@ -2129,33 +2957,7 @@ public class Hasher {
         if (data == null) return 0L;
         seed += b1;
         seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
-        long a = seed + b4, b = seed + b3, c = seed + b2, d = seed + b1;
-        final int len = data.length;
-        for (int i = 3; i < len; i += 4) {
-            a ^= data[i - 3] * b1;
-            a = (a << 23 | a >>> 41) * b3;
-            b ^= data[i - 2] * b2;
-            b = (b << 25 | b >>> 39) * b4;
-            c ^= data[i - 1] * b3;
-            c = (c << 29 | c >>> 35) * b5;
-            d ^= data[i] * b4;
-            d = (d << 31 | d >>> 33) * b1;
-            seed += a + b + c + d;
-        }
-        seed += b5;
-        switch (len & 3) {
-            case 1:
-                seed = wow(seed, b1 ^ data[len - 1]);
-                break;
-            case 2:
-                seed = wow(seed + data[len - 2], b2 ^ data[len - 1]);
-                break;
-            case 3:
-                seed = wow(seed + data[len - 3], b2 + data[len - 2]) + wow(seed + data[len - 1], seed ^ b3);
-                break;
-        }
-        seed = (seed ^ seed >>> 16) * (b0 ^ (len + seed) << 4);
-        return seed ^ seed >>> 23 ^ seed >>> 42;
+        return lanes64(seed, data);
     }
 
     public static long hash64(long seed, final float[] data) {
@@ -2190,146 +2992,351 @@ public class Hasher {
         if (data == null) return 0L;
         seed += b1;
         seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
-        long a = seed + b4, b = seed + b3, c = seed + b2, d = seed + b1;
-        final int len = data.length;
-        for (int i = 3; i < len; i += 4) {
-            a ^= doubleToRawLongBits(data[i - 3]) * b1;
-            a = (a << 23 | a >>> 41) * b3;
-            b ^= doubleToRawLongBits(data[i - 2]) * b2;
-            b = (b << 25 | b >>> 39) * b4;
-            c ^= doubleToRawLongBits(data[i - 1]) * b3;
-            c = (c << 29 | c >>> 35) * b5;
-            d ^= doubleToRawLongBits(data[i]) * b4;
-            d = (d << 31 | d >>> 33) * b1;
-            seed += a + b + c + d;
+        return lanes64(seed, data);
+    }
+
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param seed   any long; it will be randomized before use
+     * @param data   the boolean array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 64-bit hash code for the requested section of data
+     */
+    public static long hash64(long seed, final boolean[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0L;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        final int len = Math.max(0, Math.min(length, data.length - offset)), end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
+            seed = mum(
+                    mum((data[i - 3] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b1, (data[i - 2] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b2) + seed,
+                    mum((data[i - 1] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b3, (data[i] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b4));
         }
-        seed += b5;
         switch (len & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
             case 1:
-                seed = wow(seed, b1 ^ doubleToRawLongBits(data[len - 1]));
+                seed = mum(seed ^ (data[end - 1] ? 0x9E37L : 0x7F4AL), b3 ^ (data[end - 1] ? 0x79B9L : 0x7C15L));
                 break;
             case 2:
-                seed = wow(seed + doubleToRawLongBits(data[len - 2]), b2 ^ doubleToRawLongBits(data[len - 1]));
+                seed = mum(seed ^ (data[end - 2] ? 0x9E3779B9L : 0x7F4A7C15L), b0 ^ (data[end - 1] ? 0x9E3779B9L : 0x7F4A7C15L));
                 break;
             case 3:
-                seed = wow(seed + doubleToRawLongBits(data[len - 3]), b2 + doubleToRawLongBits(data[len - 2])) + wow(seed + doubleToRawLongBits(data[len - 1]), seed ^ b3);
+                seed = mum(seed ^ (data[end - 3] ? 0x9E3779B9L : 0x7F4A7C15L), b2 ^ (data[end - 2] ? 0x9E3779B9L : 0x7F4A7C15L)) ^ mum(seed ^ (data[end - 1] ? 0x9E3779B9 : 0x7F4A7C15), b4);
                 break;
         }
-        seed = (seed ^ seed >>> 16) * (b0 ^ (len + seed) << 4);
-        return seed ^ seed >>> 23 ^ seed >>> 42;
+        seed = (seed ^ seed << 16) * (len ^ b0);
+        return seed - (seed >>> 31) + (seed << 33);
     }
 
     /**
-     * Hashes only a subsection of the given data, starting at start (inclusive) and ending before end (exclusive).
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
      *
-     * @param data  the char array to hash
-     * @param start the start of the section to hash (inclusive)
-     * @param end   the end of the section to hash (exclusive)
-     * @return a 32-bit hash code for the requested section of data
+     * @param seed   any long; it will be randomized before use
+     * @param data   the byte array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 64-bit hash code for the requested section of data
      */
-    public static long hash64(long seed, final char[] data, final int start, final int end) {
-        if (data == null || start >= end)
-            return 0L;
+    public static long hash64(long seed, final byte[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0L;
         seed += b1;
         seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
-        final int len = Math.min(end, data.length);
-        for (int i = start + 3; i < len; i += 4) {
+        final int len = Math.max(0, Math.min(length, data.length - offset)), end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
             seed = mum(
                     mum(data[i - 3] ^ b1, data[i - 2] ^ b2) + seed,
                     mum(data[i - 1] ^ b3, data[i] ^ b4));
         }
-        switch (len - start & 3) {
+        switch (len & 3) {
             case 0:
                 seed = mum(b1 ^ seed, b4 + seed);
                 break;
             case 1:
-                seed = mum(seed, b3 ^ data[len - 1]);
+                seed = mum(seed, b3 ^ data[end - 1]);
                 break;
             case 2:
-                seed = mum(seed ^ data[len - 2], data[len - 1] ^ b0);
+                seed = mum(seed ^ data[end - 2], data[end - 1] ^ b0);
                 break;
             case 3:
-                seed = mum(seed ^ data[len - 3], data[len - 2] ^ b2) ^ mum(seed ^ data[len - 1], b4);
+                seed = mum(seed ^ data[end - 3], data[end - 2] ^ b2) ^ mum(seed ^ data[end - 1], b4);
                 break;
         }
-        seed = (seed ^ seed << 16) * (len - start ^ b0);
-        return (int) (seed - (seed >>> 32));
+        seed = (seed ^ seed << 16) * (len ^ b0);
+        return seed - (seed >>> 31) + (seed << 33);
     }
 
     /**
-     * Hashes only a subsection of the given data, starting at start (inclusive) and ending before end (exclusive).
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
      *
-     * @param data  the String or other CharSequence to hash
-     * @param start the start of the section to hash (inclusive)
-     * @param end   the end of the section to hash (exclusive)
-     * @return a 32-bit hash code for the requested section of data
+     * @param seed   any long; it will be randomized before use
+     * @param data   the short array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 64-bit hash code for the requested section of data
      */
-    public static long hash64(long seed, final CharSequence data, final int start, final int end) {
-        if (data == null || start >= end)
-            return 0L;
+    public static long hash64(long seed, final short[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0L;
         seed += b1;
         seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
-        final int len = Math.min(end, data.length());
-        for (int i = start + 3; i < len; i += 4) {
+        final int len = Math.max(0, Math.min(length, data.length - offset)), end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
             seed = mum(
-                    mum(data.charAt(i - 3) ^ b1, data.charAt(i - 2) ^ b2) + seed,
-                    mum(data.charAt(i - 1) ^ b3, data.charAt(i) ^ b4));
+                    mum(data[i - 3] ^ b1, data[i - 2] ^ b2) + seed,
+                    mum(data[i - 1] ^ b3, data[i] ^ b4));
         }
-        switch (len - start & 3) {
+        switch (len & 3) {
             case 0:
                 seed = mum(b1 ^ seed, b4 + seed);
                 break;
             case 1:
-                seed = mum(seed, b3 ^ data.charAt(len - 1));
+                seed = mum(seed, b3 ^ data[end - 1]);
                 break;
             case 2:
-                seed = mum(seed ^ data.charAt(len - 2), data.charAt(len - 1) ^ b0);
+                seed = mum(seed ^ data[end - 2], data[end - 1] ^ b0);
                 break;
             case 3:
-                seed = mum(seed ^ data.charAt(len - 3), data.charAt(len - 2) ^ b2) ^ mum(seed ^ data.charAt(len - 1), b4);
+                seed = mum(seed ^ data[end - 3], data[end - 2] ^ b2) ^ mum(seed ^ data[end - 1], b4);
                 break;
         }
-        seed = (seed ^ seed << 16) * (len - start ^ b0);
-        return (int) (seed - (seed >>> 32));
+        seed = (seed ^ seed << 16) * (len ^ b0);
+        return seed - (seed >>> 31) + (seed << 33);
     }
 
-    public static long hash64(long seed, final byte[][] data) {
-        if (data == null) return 0L;
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param seed   any long; it will be randomized before use
+     * @param data   the int array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 64-bit hash code for the requested section of data
+     */
+    public static long hash64(long seed, final int[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0L;
         seed += b1;
         seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
-        final int len = data.length;
-        for (int i = 3; i < len; i += 4) {
+        final int len = Math.max(0, Math.min(length, data.length - offset)), end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
             seed = mum(
-                    mum(hash(seed, data[i - 3]) ^ b1, hash(seed, data[i - 2]) ^ b2) + seed,
-                    mum(hash(seed, data[i - 1]) ^ b3, hash(seed, data[i]) ^ b4));
+                    mum(data[i - 3] ^ b1, data[i - 2] ^ b2) + seed,
+                    mum(data[i - 1] ^ b3, data[i] ^ b4));
         }
-        int t;
         switch (len & 3) {
             case 0:
                 seed = mum(b1 ^ seed, b4 + seed);
                 break;
             case 1:
-                seed = mum(seed ^ ((t = hash(seed, data[len - 1])) >>> 16), b3 ^ (t & 0xFFFFL));
+                seed = mum(seed ^ (data[end - 1] >>> 16), b3 ^ (data[end - 1] & 0xFFFFL));
                 break;
             case 2:
-                seed = mum(seed ^ hash(seed, data[len - 2]), b0 ^ hash(seed, data[len - 1]));
+                seed = mum(seed ^ data[end - 2], b0 ^ data[end - 1]);
                 break;
             case 3:
-                seed = mum(seed ^ hash(seed, data[len - 3]), b2 ^ hash(seed, data[len - 2])) ^ mum(seed ^ hash(seed, data[len - 1]), b4);
+                seed = mum(seed ^ data[end - 3], b2 ^ data[end - 2]) ^ mum(seed ^ data[end - 1], b4);
                 break;
         }
         seed = (seed ^ seed << 16) * (len ^ b0);
         return seed - (seed >>> 31) + (seed << 33);
     }
 
-    public static long hash64(long seed, final char[][] data) {
-        if (data == null) return 0L;
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param seed   any long; it will be randomized before use
+     * @param data   the float array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 64-bit hash code for the requested section of data
+     */
+    public static long hash64(long seed, final float[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0L;
         seed += b1;
         seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
-        final int len = data.length;
-        for (int i = 3; i < len; i += 4) {
+        final int len = Math.max(0, Math.min(length, data.length - offset)), end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
             seed = mum(
-                    mum(hash(seed, data[i - 3]) ^ b1, hash(seed, data[i - 2]) ^ b2) + seed,
+                    mum(floatToRawIntBits(data[i - 3]) ^ b1, floatToRawIntBits(data[i - 2]) ^ b2) + seed,
+                    mum(floatToRawIntBits(data[i - 1]) ^ b3, floatToRawIntBits(data[i]) ^ b4));
+        }
+        switch (len & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
+            case 1:
+                seed = mum(seed ^ (floatToRawIntBits(data[end - 1]) >>> 16), b3 ^ (floatToRawIntBits(data[end - 1]) & 0xFFFFL));
+                break;
+            case 2:
+                seed = mum(seed ^ floatToRawIntBits(data[end - 2]), b0 ^ floatToRawIntBits(data[end - 1]));
+                break;
+            case 3:
+                seed = mum(seed ^ floatToRawIntBits(data[end - 3]), b2 ^ floatToRawIntBits(data[end - 2])) ^ mum(seed ^ floatToRawIntBits(data[end - 1]), b4);
+                break;
+        }
+        seed = (seed ^ seed << 16) * (len ^ b0);
+        return seed - (seed >>> 31) + (seed << 33);
+    }
+
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param seed   any long; it will be randomized before use
+     * @param data   the long array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 64-bit hash code for the requested section of data
+     */
+    public static long hash64(long seed, final long[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0L;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        return lanes64(seed, data, offset, Math.max(0, Math.min(length, data.length - offset)));
+    }
+
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param seed   any long; it will be randomized before use
+     * @param data   the double array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 64-bit hash code for the requested section of data
+     */
+    public static long hash64(long seed, final double[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0L;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        return lanes64(seed, data, offset, Math.max(0, Math.min(length, data.length - offset)));
+    }
+
+    /**
+     * Hashes only a subsection of the given data, starting at start (inclusive) and ending before end (exclusive).
+     *
+     * @param data  the char array to hash
+     * @param start the start of the section to hash (inclusive)
+     * @param end   the end of the section to hash (exclusive)
+     * @return a 32-bit hash code for the requested section of data
+     */
+    public static long hash64(long seed, final char[] data, final int start, final int end) {
+        if (data == null || start >= end)
+            return 0L;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        final int len = Math.min(end, data.length);
+        for (int i = start + 3; i < len; i += 4) {
+            seed = mum(
+                    mum(data[i - 3] ^ b1, data[i - 2] ^ b2) + seed,
+                    mum(data[i - 1] ^ b3, data[i] ^ b4));
+        }
+        switch (len - start & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
+            case 1:
+                seed = mum(seed, b3 ^ data[len - 1]);
+                break;
+            case 2:
+                seed = mum(seed ^ data[len - 2], data[len - 1] ^ b0);
+                break;
+            case 3:
+                seed = mum(seed ^ data[len - 3], data[len - 2] ^ b2) ^ mum(seed ^ data[len - 1], b4);
+                break;
+        }
+        seed = (seed ^ seed << 16) * (len - start ^ b0);
+        return (int) (seed - (seed >>> 32));
+    }
+
+    /**
+     * Hashes only a subsection of the given data, starting at start (inclusive) and ending before end (exclusive).
+     *
+     * @param data  the String or other CharSequence to hash
+     * @param start the start of the section to hash (inclusive)
+     * @param end   the end of the section to hash (exclusive)
+     * @return a 32-bit hash code for the requested section of data
+     */
+    public static long hash64(long seed, final CharSequence data, final int start, final int end) {
+        if (data == null || start >= end)
+            return 0L;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        final int len = Math.min(end, data.length());
+        for (int i = start + 3; i < len; i += 4) {
+            seed = mum(
+                    mum(data.charAt(i - 3) ^ b1, data.charAt(i - 2) ^ b2) + seed,
+                    mum(data.charAt(i - 1) ^ b3, data.charAt(i) ^ b4));
+        }
+        switch (len - start & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
+            case 1:
+                seed = mum(seed, b3 ^ data.charAt(len - 1));
+                break;
+            case 2:
+                seed = mum(seed ^ data.charAt(len - 2), data.charAt(len - 1) ^ b0);
+                break;
+            case 3:
+                seed = mum(seed ^ data.charAt(len - 3), data.charAt(len - 2) ^ b2) ^ mum(seed ^ data.charAt(len - 1), b4);
+                break;
+        }
+        seed = (seed ^ seed << 16) * (len - start ^ b0);
+        return (int) (seed - (seed >>> 32));
+    }
+
+    public static long hash64(long seed, final byte[][] data) {
+        if (data == null) return 0L;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        final int len = data.length;
+        for (int i = 3; i < len; i += 4) {
+            seed = mum(
+                    mum(hash(seed, data[i - 3]) ^ b1, hash(seed, data[i - 2]) ^ b2) + seed,
+                    mum(hash(seed, data[i - 1]) ^ b3, hash(seed, data[i]) ^ b4));
+        }
+        int t;
+        switch (len & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
+            case 1:
+                seed = mum(seed ^ ((t = hash(seed, data[len - 1])) >>> 16), b3 ^ (t & 0xFFFFL));
+                break;
+            case 2:
+                seed = mum(seed ^ hash(seed, data[len - 2]), b0 ^ hash(seed, data[len - 1]));
+                break;
+            case 3:
+                seed = mum(seed ^ hash(seed, data[len - 3]), b2 ^ hash(seed, data[len - 2])) ^ mum(seed ^ hash(seed, data[len - 1]), b4);
+                break;
+        }
+        seed = (seed ^ seed << 16) * (len ^ b0);
+        return seed - (seed >>> 31) + (seed << 33);
+    }
+
+    public static long hash64(long seed, final char[][] data) {
+        if (data == null) return 0L;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        final int len = data.length;
+        for (int i = 3; i < len; i += 4) {
+            seed = mum(
+                    mum(hash(seed, data[i - 3]) ^ b1, hash(seed, data[i - 2]) ^ b2) + seed,
                     mum(hash(seed, data[i - 1]) ^ b3, hash(seed, data[i]) ^ b4));
         }
         int t;
@@ -2806,36 +3813,7 @@ public class Hasher {
     }
 
     public static int hash(long seed, final long[] data) {
-        if (data == null) return 0;
-        seed += b1;
-        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
-        long a = seed + b4, b = seed + b3, c = seed + b2, d = seed + b1;
-        final int len = data.length;
-        for (int i = 3; i < len; i += 4) {
-            a ^= data[i - 3] * b1;
-            a = (a << 23 | a >>> 41) * b3;
-            b ^= data[i - 2] * b2;
-            b = (b << 25 | b >>> 39) * b4;
-            c ^= data[i - 1] * b3;
-            c = (c << 29 | c >>> 35) * b5;
-            d ^= data[i] * b4;
-            d = (d << 31 | d >>> 33) * b1;
-            seed += a + b + c + d;
-        }
-        seed += b5;
-        switch (len & 3) {
-            case 1:
-                seed = wow(seed, b1 ^ data[len - 1]);
-                break;
-            case 2:
-                seed = wow(seed + data[len - 2], b2 ^ data[len - 1]);
-                break;
-            case 3:
-                seed = wow(seed + data[len - 3], b2 + data[len - 2]) + wow(seed + data[len - 1], seed ^ b3);
-                break;
-        }
-        seed = (seed ^ seed >>> 16) * (b0 ^ (len + seed) << 4);
-        return (int) (seed ^ seed >>> 23 ^ seed >>> 42);
+        return (int) hash64(seed, data);
     }
 
     public static int hash(long seed, final float[] data) {
@@ -2867,145 +3845,341 @@ public class Hasher {
     }
 
     public static int hash(long seed, final double[] data) {
-        if (data == null) return 0;
+        return (int) hash64(seed, data);
+    }
+
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param seed   any long; it will be randomized before use
+     * @param data   the boolean array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 32-bit hash code for the requested section of data
+     */
+    public static int hash(long seed, final boolean[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0;
         seed += b1;
         seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
-        long a = seed + b4, b = seed + b3, c = seed + b2, d = seed + b1;
-        final int len = data.length;
-        for (int i = 3; i < len; i += 4) {
-            a ^= doubleToRawLongBits(data[i - 3]) * b1;
-            a = (a << 23 | a >>> 41) * b3;
-            b ^= doubleToRawLongBits(data[i - 2]) * b2;
-            b = (b << 25 | b >>> 39) * b4;
-            c ^= doubleToRawLongBits(data[i - 1]) * b3;
-            c = (c << 29 | c >>> 35) * b5;
-            d ^= doubleToRawLongBits(data[i]) * b4;
-            d = (d << 31 | d >>> 33) * b1;
-            seed += a + b + c + d;
+        final int len = Math.max(0, Math.min(length, data.length - offset)), end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
+            seed = mum(
+                    mum((data[i - 3] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b1, (data[i - 2] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b2) + seed,
+                    mum((data[i - 1] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b3, (data[i] ? 0x9E3779B9L : 0x7F4A7C15L) ^ b4));
         }
-        seed += b5;
         switch (len & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
             case 1:
-                seed = wow(seed, b1 ^ doubleToRawLongBits(data[len - 1]));
+                seed = mum(seed ^ (data[end - 1] ? 0x9E37L : 0x7F4AL), b3 ^ (data[end - 1] ? 0x79B9L : 0x7C15L));
                 break;
             case 2:
-                seed = wow(seed + doubleToRawLongBits(data[len - 2]), b2 ^ doubleToRawLongBits(data[len - 1]));
+                seed = mum(seed ^ (data[end - 2] ? 0x9E3779B9L : 0x7F4A7C15L), b0 ^ (data[end - 1] ? 0x9E3779B9L : 0x7F4A7C15L));
                 break;
             case 3:
-                seed = wow(seed + doubleToRawLongBits(data[len - 3]), b2 + doubleToRawLongBits(data[len - 2])) + wow(seed + doubleToRawLongBits(data[len - 1]), seed ^ b3);
+                seed = mum(seed ^ (data[end - 3] ? 0x9E3779B9L : 0x7F4A7C15L), b2 ^ (data[end - 2] ? 0x9E3779B9L : 0x7F4A7C15L)) ^ mum(seed ^ (data[end - 1] ? 0x9E3779B9 : 0x7F4A7C15), b4);
                 break;
         }
-        seed = (seed ^ seed >>> 16) * (b0 ^ (len + seed) << 4);
-        return (int) (seed ^ seed >>> 23 ^ seed >>> 42);
+        seed = (seed ^ seed << 16) * (len ^ b0);
+        return (int) (seed - (seed >>> 32));
     }
 
     /**
-     * Hashes only a subsection of the given data, starting at start (inclusive) and ending before end (exclusive).
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
      *
-     * @param data  the char array to hash
-     * @param start the start of the section to hash (inclusive)
-     * @param end   the end of the section to hash (exclusive)
+     * @param seed   any long; it will be randomized before use
+     * @param data   the byte array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
      * @return a 32-bit hash code for the requested section of data
      */
-    public static int hash(long seed, final char[] data, final int start, final int end) {
-        if (data == null || start >= end)
-            return 0;
+    public static int hash(long seed, final byte[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0;
         seed += b1;
         seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
-        final int len = Math.min(end, data.length);
-        for (int i = start + 3; i < len; i += 4) {
+        final int len = Math.max(0, Math.min(length, data.length - offset)), end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
             seed = mum(
                     mum(data[i - 3] ^ b1, data[i - 2] ^ b2) + seed,
                     mum(data[i - 1] ^ b3, data[i] ^ b4));
         }
-        switch (len - start & 3) {
+        switch (len & 3) {
             case 0:
                 seed = mum(b1 ^ seed, b4 + seed);
                 break;
             case 1:
-                seed = mum(seed, b3 ^ data[len - 1]);
+                seed = mum(seed, b3 ^ data[end - 1]);
                 break;
             case 2:
-                seed = mum(seed ^ data[len - 2], data[len - 1] ^ b0);
+                seed = mum(seed ^ data[end - 2], data[end - 1] ^ b0);
                 break;
             case 3:
-                seed = mum(seed ^ data[len - 3], data[len - 2] ^ b2) ^ mum(seed ^ data[len - 1], b4);
+                seed = mum(seed ^ data[end - 3], data[end - 2] ^ b2) ^ mum(seed ^ data[end - 1], b4);
                 break;
         }
-        seed = (seed ^ seed << 16) * (len - start ^ b0);
+        seed = (seed ^ seed << 16) * (len ^ b0);
         return (int) (seed - (seed >>> 32));
     }
 
     /**
-     * Hashes only a subsection of the given data, starting at start (inclusive) and ending before end (exclusive).
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
      *
-     * @param data  the String or other CharSequence to hash
-     * @param start the start of the section to hash (inclusive)
-     * @param end   the end of the section to hash (exclusive)
+     * @param seed   any long; it will be randomized before use
+     * @param data   the short array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
      * @return a 32-bit hash code for the requested section of data
      */
-    public static int hash(long seed, final CharSequence data, final int start, final int end) {
-        if (data == null || start >= end)
-            return 0;
+    public static int hash(long seed, final short[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0;
         seed += b1;
         seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
-        final int len = Math.min(end, data.length());
-        for (int i = start + 3; i < len; i += 4) {
+        final int len = Math.max(0, Math.min(length, data.length - offset)), end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
             seed = mum(
-                    mum(data.charAt(i - 3) ^ b1, data.charAt(i - 2) ^ b2) + seed,
-                    mum(data.charAt(i - 1) ^ b3, data.charAt(i) ^ b4));
+                    mum(data[i - 3] ^ b1, data[i - 2] ^ b2) + seed,
+                    mum(data[i - 1] ^ b3, data[i] ^ b4));
         }
-        switch (len - start & 3) {
+        switch (len & 3) {
             case 0:
                 seed = mum(b1 ^ seed, b4 + seed);
                 break;
             case 1:
-                seed = mum(seed, b3 ^ data.charAt(len - 1));
+                seed = mum(seed, b3 ^ data[end - 1]);
                 break;
             case 2:
-                seed = mum(seed ^ data.charAt(len - 2), data.charAt(len - 1) ^ b0);
+                seed = mum(seed ^ data[end - 2], data[end - 1] ^ b0);
                 break;
             case 3:
-                seed = mum(seed ^ data.charAt(len - 3), data.charAt(len - 2) ^ b2) ^ mum(seed ^ data.charAt(len - 1), b4);
+                seed = mum(seed ^ data[end - 3], data[end - 2] ^ b2) ^ mum(seed ^ data[end - 1], b4);
                 break;
         }
-        seed = (seed ^ seed << 16) * (len - start ^ b0);
+        seed = (seed ^ seed << 16) * (len ^ b0);
         return (int) (seed - (seed >>> 32));
     }
 
-    public static int hash(long seed, final byte[][] data) {
-        if (data == null) return 0;
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param seed   any long; it will be randomized before use
+     * @param data   the int array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 32-bit hash code for the requested section of data
+     */
+    public static int hash(long seed, final int[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0;
         seed += b1;
         seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
-        final int len = data.length;
-        for (int i = 3; i < len; i += 4) {
+        final int len = Math.max(0, Math.min(length, data.length - offset)), end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
             seed = mum(
-                    mum(hash(seed, data[i - 3]) ^ b1, hash(seed, data[i - 2]) ^ b2) + seed,
-                    mum(hash(seed, data[i - 1]) ^ b3, hash(seed, data[i]) ^ b4));
+                    mum(data[i - 3] ^ b1, data[i - 2] ^ b2) + seed,
+                    mum(data[i - 1] ^ b3, data[i] ^ b4));
         }
-        int t;
         switch (len & 3) {
             case 0:
                 seed = mum(b1 ^ seed, b4 + seed);
                 break;
             case 1:
-                seed = mum(seed ^ ((t = hash(seed, data[len - 1])) >>> 16), b3 ^ (t & 0xFFFFL));
+                seed = mum(seed ^ (data[end - 1] >>> 16), b3 ^ (data[end - 1] & 0xFFFFL));
                 break;
             case 2:
-                seed = mum(seed ^ hash(seed, data[len - 2]), b0 ^ hash(seed, data[len - 1]));
+                seed = mum(seed ^ data[end - 2], b0 ^ data[end - 1]);
                 break;
             case 3:
-                seed = mum(seed ^ hash(seed, data[len - 3]), b2 ^ hash(seed, data[len - 2])) ^ mum(seed ^ hash(seed, data[len - 1]), b4);
+                seed = mum(seed ^ data[end - 3], b2 ^ data[end - 2]) ^ mum(seed ^ data[end - 1], b4);
                 break;
         }
         seed = (seed ^ seed << 16) * (len ^ b0);
         return (int) (seed - (seed >>> 32));
     }
 
-    public static int hash(long seed, final char[][] data) {
-        if (data == null) return 0;
-        seed += b1;
-        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param seed   any long; it will be randomized before use
+     * @param data   the float array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 32-bit hash code for the requested section of data
+     */
+    public static int hash(long seed, final float[] data, final int offset, final int length) {
+        if (data == null || offset < 0 || length < 0) return 0;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        final int len = Math.max(0, Math.min(length, data.length - offset)), end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
+            seed = mum(
+                    mum(floatToRawIntBits(data[i - 3]) ^ b1, floatToRawIntBits(data[i - 2]) ^ b2) + seed,
+                    mum(floatToRawIntBits(data[i - 1]) ^ b3, floatToRawIntBits(data[i]) ^ b4));
+        }
+        switch (len & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
+            case 1:
+                seed = mum(seed ^ (floatToRawIntBits(data[end - 1]) >>> 16), b3 ^ (floatToRawIntBits(data[end - 1]) & 0xFFFFL));
+                break;
+            case 2:
+                seed = mum(seed ^ floatToRawIntBits(data[end - 2]), b0 ^ floatToRawIntBits(data[end - 1]));
+                break;
+            case 3:
+                seed = mum(seed ^ floatToRawIntBits(data[end - 3]), b2 ^ floatToRawIntBits(data[end - 2])) ^ mum(seed ^ floatToRawIntBits(data[end - 1]), b4);
+                break;
+        }
+        seed = (seed ^ seed << 16) * (len ^ b0);
+        return (int) (seed - (seed >>> 32));
+    }
+
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param seed   any long; it will be randomized before use
+     * @param data   the long array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 32-bit hash code for the requested section of data
+     */
+    public static int hash(long seed, final long[] data, final int offset, final int length) {
+        return (int) hash64(seed, data, offset, length);
+    }
+
+    /**
+     * Hashes only the {@code length} items of data starting at {@code offset}, without copying them; this returns
+     * the same result as hashing a copy of just that section. If fewer than length items are left after offset, this
+     * hashes only the items that are there; a negative offset or length returns 0.
+     *
+     * @param seed   any long; it will be randomized before use
+     * @param data   the double array to hash
+     * @param offset the first index to hash
+     * @param length how many items to hash
+     * @return a 32-bit hash code for the requested section of data
+     */
+    public static int hash(long seed, final double[] data, final int offset, final int length) {
+        return (int) hash64(seed, data, offset, length);
+    }
+
+    /**
+     * Hashes only a subsection of the given data, starting at start (inclusive) and ending before end (exclusive).
+     *
+     * @param data  the char array to hash
+     * @param start the start of the section to hash (inclusive)
+     * @param end   the end of the section to hash (exclusive)
+     * @return a 32-bit hash code for the requested section of data
+     */
+    public static int hash(long seed, final char[] data, final int start, final int end) {
+        if (data == null || start >= end)
+            return 0;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        final int len = Math.min(end, data.length);
+        for (int i = start + 3; i < len; i += 4) {
+            seed = mum(
+                    mum(data[i - 3] ^ b1, data[i - 2] ^ b2) + seed,
+                    mum(data[i - 1] ^ b3, data[i] ^ b4));
+        }
+        switch (len - start & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
+            case 1:
+                seed = mum(seed, b3 ^ data[len - 1]);
+                break;
+            case 2:
+                seed = mum(seed ^ data[len - 2], data[len - 1] ^ b0);
+                break;
+            case 3:
+                seed = mum(seed ^ data[len - 3], data[len - 2] ^ b2) ^ mum(seed ^ data[len - 1], b4);
+                break;
+        }
+        seed = (seed ^ seed << 16) * (len - start ^ b0);
+        return (int) (seed - (seed >>> 32));
+    }
+
+    /**
+     * Hashes only a subsection of the given data, starting at start (inclusive) and ending before end (exclusive).
+     *
+     * @param data  the String or other CharSequence to hash
+     * @param start the start of the section to hash (inclusive)
+     * @param end   the end of the section to hash (exclusive)
+     * @return a 32-bit hash code for the requested section of data
+     */
+    public static int hash(long seed, final CharSequence data, final int start, final int end) {
+        if (data == null || start >= end)
+            return 0;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        final int len = Math.min(end, data.length());
+        for (int i = start + 3; i < len; i += 4) {
+            seed = mum(
+                    mum(data.charAt(i - 3) ^ b1, data.charAt(i - 2) ^ b2) + seed,
+                    mum(data.charAt(i - 1) ^ b3, data.charAt(i) ^ b4));
+        }
+        switch (len - start & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
+            case 1:
+                seed = mum(seed, b3 ^ data.charAt(len - 1));
+                break;
+            case 2:
+                seed = mum(seed ^ data.charAt(len - 2), data.charAt(len - 1) ^ b0);
+                break;
+            case 3:
+                seed = mum(seed ^ data.charAt(len - 3), data.charAt(len - 2) ^ b2) ^ mum(seed ^ data.charAt(len - 1), b4);
+                break;
+        }
+        seed = (seed ^ seed << 16) * (len - start ^ b0);
+        return (int) (seed - (seed >>> 32));
+    }
+
+    public static int hash(long seed, final byte[][] data) {
+        if (data == null) return 0;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        final int len = data.length;
+        for (int i = 3; i < len; i += 4) {
+            seed = mum(
+                    mum(hash(seed, data[i - 3]) ^ b1, hash(seed, data[i - 2]) ^ b2) + seed,
+                    mum(hash(seed, data[i - 1]) ^ b3, hash(seed, data[i]) ^ b4));
+        }
+        int t;
+        switch (len & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
+            case 1:
+                seed = mum(seed ^ ((t = hash(seed, data[len - 1])) >>> 16), b3 ^ (t & 0xFFFFL));
+                break;
+            case 2:
+                seed = mum(seed ^ hash(seed, data[len - 2]), b0 ^ hash(seed, data[len - 1]));
+                break;
+            case 3:
+                seed = mum(seed ^ hash(seed, data[len - 3]), b2 ^ hash(seed, data[len - 2])) ^ mum(seed ^ hash(seed, data[len - 1]), b4);
+                break;
+        }
+        seed = (seed ^ seed << 16) * (len ^ b0);
+        return (int) (seed - (seed >>> 32));
+    }
+
+    public static int hash(long seed, final char[][] data) {
+        if (data == null) return 0;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
         final int len = data.length;
         for (int i = 3; i < len; i += 4) {
             seed = mum(
@@ -3286,4 +4460,999 @@ public class Hasher {
         seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
         return (int) ((data.hashCode() + seed) * 0x9E3779B97F4A7C15L >>> 32);
     }
+
+    /**
+     * Hashes all of {@code data} with the given seed, using a mode that packs 8 bytes at a time into each long (in
+     * little-endian order) and mixes full 64-bit words, the same way {@link #hash64(long, long[])} does. This is much
+     * faster than {@link #hash64(long, byte[])} on large inputs, but it does not return the same results as that method.
+     *
+     * @param seed any long; different seeds should produce very different results
+     * @param data the byte array to hash
+     * @return a 64-bit hash code for data
+     */
+    public static long hashBulk64(long seed, final byte[] data) {
+        if (data == null) return 0L;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        return bulk64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Hashes {@code length} bytes of {@code data}, starting at {@code start}, with the given seed, using a mode that
+     * packs 8 bytes at a time into each long and mixes full 64-bit words; see {@link #hashBulk64(long, byte[])}.
+     *
+     * @param seed   any long; different seeds should produce very different results
+     * @param data   the byte array to hash
+     * @param start  the first index in data to hash (inclusive)
+     * @param length how many bytes to hash; if this goes past the end of data, this stops at the end
+     * @return a 64-bit hash code for the requested section of data
+     */
+    public static long hashBulk64(long seed, final byte[] data, final int start, final int length) {
+        if (data == null || start < 0 || length < 0) return 0L;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        return bulk64(seed, data, start, length);
+    }
+
+    /**
+     * Hashes all of {@code data} with the given seed, using a mode that packs 8 bytes at a time into each long and
+     * mixes full 64-bit words; this returns the lower 32 bits of {@link #hashBulk64(long, byte[])}.
+     *
+     * @param seed any long; different seeds should produce very different results
+     * @param data the byte array to hash
+     * @return a 32-bit hash code for data
+     */
+    public static int hashBulk(long seed, final byte[] data) {
+        return (int) hashBulk64(seed, data);
+    }
+
+    /**
+     * Hashes {@code length} bytes of {@code data}, starting at {@code start}, with the given seed, using a mode that
+     * packs 8 bytes at a time into each long and mixes full 64-bit words; this returns the lower 32 bits of
+     * {@link #hashBulk64(long, byte[], int, int)}.
+     *
+     * @param seed   any long; different seeds should produce very different results
+     * @param data   the byte array to hash
+     * @param start  the first index in data to hash (inclusive)
+     * @param length how many bytes to hash; if this goes past the end of data, this stops at the end
+     * @return a 32-bit hash code for the requested section of data
+     */
+    public static int hashBulk(long seed, final byte[] data, final int start, final int length) {
+        return (int) hashBulk64(seed, data, start, length);
+    }
+
+    /**
+     * Hashes the remaining bytes in {@code data}, from its position to its limit, with the given seed, the same way
+     * {@link #hashBulk64(long, byte[])} hashes an array holding those bytes. This doesn't change the buffer's
+     * position, limit, or byte order, and doesn't copy its contents.
+     *
+     * @param seed any long; different seeds should produce very different results
+     * @param data the ByteBuffer to hash the remaining bytes of
+     * @return a 64-bit hash code for the remaining bytes in data
+     */
+    public static long hash64(long seed, final ByteBuffer data) {
+        if (data == null) return 0L;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        return bulk64(seed, data);
+    }
+
+    /**
+     * Hashes the remaining bytes in {@code data}, from its position to its limit, with the given seed; this returns
+     * the lower 32 bits of {@link #hash64(long, ByteBuffer)}.
+     *
+     * @param seed any long; different seeds should produce very different results
+     * @param data the ByteBuffer to hash the remaining bytes of
+     * @return a 32-bit hash code for the remaining bytes in data
+     */
+    public static int hash(long seed, final ByteBuffer data) {
+        return (int) hash64(seed, data);
+    }
+
+    /**
+     * Hashes {@code data} with the given seed to a 128-bit result, written as two longs into
+     * {@code out[0]} and {@code out[1]}; see {@link #hash128(byte[], long[])}. This allocates nothing.
+     *
+     * @param seed any long; different seeds should produce very different results
+     * @param data the byte array to hash
+     * @param out  a long array with length at least 2, which will receive the result
+     * @return out, after modifications
+     */
+    public static long[] hash128(long seed, final byte[] data, final long[] out) {
+        if (data == null) {
+            out[0] = out[1] = 0L;
+            return out;
+        }
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        return bulk128(seed, data, out);
+    }
+
+    /**
+     * Hashes {@code data} with the given seed to a 128-bit result, written as two longs into
+     * {@code out[0]} and {@code out[1]}; see {@link #hash128(byte[], long[])}. This allocates nothing.
+     *
+     * @param seed any long; different seeds should produce very different results
+     * @param data the char array to hash
+     * @param out  a long array with length at least 2, which will receive the result
+     * @return out, after modifications
+     */
+    public static long[] hash128(long seed, final char[] data, final long[] out) {
+        if (data == null) {
+            out[0] = out[1] = 0L;
+            return out;
+        }
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        return bulk128(seed, data, out);
+    }
+
+    /**
+     * Hashes {@code data} with the given seed to a 128-bit result, written as two longs into
+     * {@code out[0]} and {@code out[1]}; see {@link #hash128(byte[], long[])}. This allocates nothing.
+     *
+     * @param seed any long; different seeds should produce very different results
+     * @param data the CharSequence to hash
+     * @param out  a long array with length at least 2, which will receive the result
+     * @return out, after modifications
+     */
+    public static long[] hash128(long seed, final CharSequence data, final long[] out) {
+        if (data == null) {
+            out[0] = out[1] = 0L;
+            return out;
+        }
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        return bulk128(seed, data, out);
+    }
+
+    /**
+     * Hashes {@code data} with the given seed to a 128-bit result, written as two longs into
+     * {@code out[0]} and {@code out[1]}; see {@link #hash128(byte[], long[])}. This allocates nothing.
+     *
+     * @param seed any long; different seeds should produce very different results
+     * @param data the int array to hash
+     * @param out  a long array with length at least 2, which will receive the result
+     * @return out, after modifications
+     */
+    public static long[] hash128(long seed, final int[] data, final long[] out) {
+        if (data == null) {
+            out[0] = out[1] = 0L;
+            return out;
+        }
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        return bulk128(seed, data, out);
+    }
+
+    /**
+     * Hashes {@code data} with the given seed to a 128-bit result, written as two longs into
+     * {@code out[0]} and {@code out[1]}; see {@link #hash128(byte[], long[])}. This allocates nothing.
+     *
+     * @param seed any long; different seeds should produce very different results
+     * @param data the long array to hash
+     * @param out  a long array with length at least 2, which will receive the result
+     * @return out, after modifications
+     */
+    public static long[] hash128(long seed, final long[] data, final long[] out) {
+        if (data == null) {
+            out[0] = out[1] = 0L;
+            return out;
+        }
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        return bulk128(seed, data, out);
+    }
+
+    /**
+     * Hashes the remaining bytes in {@code data}, from its position to its limit, with the given seed to a 128-bit
+     * result, written as two longs into {@code out[0]} and {@code out[1]}; see {@link #hash128(byte[], long[])}. This
+     * allocates nothing.
+     *
+     * @param seed any long; different seeds should produce very different results
+     * @param data the ByteBuffer to hash
+     * @param out  a long array with length at least 2, which will receive the result
+     * @return out, after modifications
+     */
+    public static long[] hash128(long seed, final ByteBuffer data, final long[] out) {
+        if (data == null) {
+            out[0] = out[1] = 0L;
+            return out;
+        }
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        return bulk128(seed, data, out);
+    }
+
+    public static long hash64(long seed, final byte[][][] data) {
+        if (data == null) return 0L;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        return grid64(seed, data);
+    }
+
+    public static int hash(long seed, final byte[][][] data) {
+        return (int) hash64(seed, data);
+    }
+
+    public static long hash64(long seed, final int[][][] data) {
+        if (data == null) return 0L;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        return grid64(seed, data);
+    }
+
+    public static int hash(long seed, final int[][][] data) {
+        return (int) hash64(seed, data);
+    }
+
+    public static long hash64(long seed, final float[][][] data) {
+        if (data == null) return 0L;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        return grid64(seed, data);
+    }
+
+    public static int hash(long seed, final float[][][] data) {
+        return (int) hash64(seed, data);
+    }
+
+    public static long hash64(long seed, final long[][][] data) {
+        if (data == null) return 0L;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        return grid64(seed, data);
+    }
+
+    public static int hash(long seed, final long[][][] data) {
+        return (int) hash64(seed, data);
+    }
+
+    public static long hash64(long seed, final double[][][] data) {
+        if (data == null) return 0L;
+        seed += b1;
+        seed ^= seed >>> 23 ^ seed >>> 48 ^ seed << 7 ^ seed << 53;
+        return grid64(seed, data);
+    }
+
+    public static int hash(long seed, final double[][][] data) {
+        return (int) hash64(seed, data);
+    }
+
+    /**
+     * The shared implementation of {@link #hash64(long[])} and {@link #hash64(long, long[])}, using the given seed
+     * as-is.
+     */
+    private static long lanes64(long seed, final long[] data) {
+        return lanes64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Like {@link #lanes64(long, long[])}, but only hashes the {@code len} items starting at {@code offset}, which
+     * must all be in bounds.
+     */
+    private static long lanes64(long seed, final long[] data, final int offset, final int len) {
+        long a = seed + b4, b = seed + b3, c = seed + b2, d = seed + b1;
+        final int end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
+            a ^= data[i - 3] * b1;
+            a = (a << 23 | a >>> 41) * b3;
+            b ^= data[i - 2] * b2;
+            b = (b << 25 | b >>> 39) * b4;
+            c ^= data[i - 1] * b3;
+            c = (c << 29 | c >>> 35) * b5;
+            d ^= data[i] * b4;
+            d = (d << 31 | d >>> 33) * b1;
+            seed += a + b + c + d;
+        }
+        seed += b5;
+        switch (len & 3) {
+            case 1:
+                seed = wow(seed, b1 ^ data[end - 1]);
+                break;
+            case 2:
+                seed = wow(seed + data[end - 2], b2 ^ data[end - 1]);
+                break;
+            case 3:
+                seed = wow(seed + data[end - 3], b2 + data[end - 2]) + wow(seed + data[end - 1], seed ^ b3);
+                break;
+        }
+        seed = (seed ^ seed >>> 16) * (b0 ^ (len + seed) << 4);
+        return seed ^ seed >>> 23 ^ seed >>> 42;
+    }
+
+    /**
+     * The shared implementation of {@link #hash64(double[])} and {@link #hash64(long, double[])}, using the given seed
+     * as-is.
+     */
+    private static long lanes64(long seed, final double[] data) {
+        return lanes64(seed, data, 0, data.length);
+    }
+
+    /**
+     * Like {@link #lanes64(long, double[])}, but only hashes the {@code len} items starting at {@code offset}, which
+     * must all be in bounds.
+     */
+    private static long lanes64(long seed, final double[] data, final int offset, final int len) {
+        long a = seed + b4, b = seed + b3, c = seed + b2, d = seed + b1;
+        final int end = offset + len;
+        for (int i = offset + 3; i < end; i += 4) {
+            a ^= doubleToRawLongBits(data[i - 3]) * b1;
+            a = (a << 23 | a >>> 41) * b3;
+            b ^= doubleToRawLongBits(data[i - 2]) * b2;
+            b = (b << 25 | b >>> 39) * b4;
+            c ^= doubleToRawLongBits(data[i - 1]) * b3;
+            c = (c << 29 | c >>> 35) * b5;
+            d ^= doubleToRawLongBits(data[i]) * b4;
+            d = (d << 31 | d >>> 33) * b1;
+            seed += a + b + c + d;
+        }
+        seed += b5;
+        switch (len & 3) {
+            case 1:
+                seed = wow(seed, b1 ^ doubleToRawLongBits(data[end - 1]));
+                break;
+            case 2:
+                seed = wow(seed + doubleToRawLongBits(data[end - 2]), b2 ^ doubleToRawLongBits(data[end - 1]));
+                break;
+            case 3:
+                seed = wow(seed + doubleToRawLongBits(data[end - 3]), b2 + doubleToRawLongBits(data[end - 2])) + wow(seed + doubleToRawLongBits(data[end - 1]), seed ^ b3);
+                break;
+        }
+        seed = (seed ^ seed >>> 16) * (b0 ^ (len + seed) << 4);
+        return seed ^ seed >>> 23 ^ seed >>> 42;
+    }
+
+    /**
+     * The shared implementation of the hashBulk methods, which expects its seed to already be randomized (the static
+     * methods randomize their seed before calling this, while instances use their seed verbatim). This reads 32 bytes
+     * at a time into four lanes, mixing each with a different rotation and multiplier, and handles the last 0 to 31
+     * bytes with {@link #wow(long, long)}.
+     *
+     * @param seed   an already-randomized seed
+     * @param data   a non-null byte array
+     * @param start  the first index in data to hash; must be non-negative
+     * @param length how many bytes to hash; must be non-negative
+     * @return a 64-bit hash code
+     */
+    private static long bulk64(long seed, final byte[] data, final int start, final int length) {
+        final int len = Math.max(0, Math.min(length, data.length - start)), end = start + len;
+        long a = seed + b4, b = seed + b3, c = seed + b2, d = seed + b1;
+        int i = start;
+        for (final int limit = end - 31; i < limit; i += 32) {
+            a ^= BitConversion.readLongLE(data, i) * b1;
+            a = (a << 23 | a >>> 41) * b3;
+            b ^= BitConversion.readLongLE(data, i + 8) * b2;
+            b = (b << 25 | b >>> 39) * b4;
+            c ^= BitConversion.readLongLE(data, i + 16) * b3;
+            c = (c << 29 | c >>> 35) * b5;
+            d ^= BitConversion.readLongLE(data, i + 24) * b4;
+            d = (d << 31 | d >>> 33) * b1;
+            seed += a + b + c + d;
+        }
+        seed += b5;
+        switch (end - i + 7 >>> 3) {
+            case 1:
+                seed = wow(seed, b1 ^ readPartialLE(data, i, end));
+                break;
+            case 2:
+                seed = wow(seed + BitConversion.readLongLE(data, i), b2 ^ readPartialLE(data, i + 8, end));
+                break;
+            case 3:
+                seed = wow(seed + BitConversion.readLongLE(data, i), b2 + BitConversion.readLongLE(data, i + 8))
+                        + wow(seed + readPartialLE(data, i + 16, end), seed ^ b3);
+                break;
+            case 4:
+                seed = wow(seed + BitConversion.readLongLE(data, i), b2 + BitConversion.readLongLE(data, i + 8))
+                        + wow(seed + BitConversion.readLongLE(data, i + 16), b3 ^ readPartialLE(data, i + 24, end));
+                break;
+        }
+        seed = (seed ^ seed >>> 16) * (b0 ^ (len + seed) << 4);
+        return seed ^ seed >>> 23 ^ seed >>> 42;
+    }
+
+    /**
+     * Continues the chain of {@link #hash64(CharSequence)} for data, starting at index {@code i} (a multiple of 4),
+     * through the end; returns the state just before the final fold that differs between hash() and hash64().
+     */
+    private static long charsRest(long seed, final CharSequence data, final int i) {
+        final int len = data.length();
+        for (int j = i + 3; j < len; j += 4) {
+            seed = mum(
+                    mum(data.charAt(j - 3) ^ b1, data.charAt(j - 2) ^ b2) + seed,
+                    mum(data.charAt(j - 1) ^ b3, data.charAt(j) ^ b4));
+        }
+        switch (len & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
+            case 1:
+                seed = mum(seed, b3 ^ data.charAt(len - 1));
+                break;
+            case 2:
+                seed = mum(seed ^ data.charAt(len - 2), data.charAt(len - 1) ^ b0);
+                break;
+            case 3:
+                seed = mum(seed ^ data.charAt(len - 3), data.charAt(len - 2) ^ b2) ^ mum(seed ^ data.charAt(len - 1), b4);
+                break;
+        }
+        return (seed ^ seed << 16) * (len ^ b0);
+    }
+
+    /**
+     * Continues the chain of {@link #hash64(int[])} for data, starting at index {@code i} (a multiple of 4), through
+     * the end; returns the state just before the final fold that differs between hash() and hash64().
+     */
+    private static long intsRest(long seed, final int[] data, final int i) {
+        final int len = data.length;
+        for (int j = i + 3; j < len; j += 4) {
+            seed = mum(
+                    mum(data[j - 3] ^ b1, data[j - 2] ^ b2) + seed,
+                    mum(data[j - 1] ^ b3, data[j] ^ b4));
+        }
+        switch (len & 3) {
+            case 0:
+                seed = mum(b1 ^ seed, b4 + seed);
+                break;
+            case 1:
+                seed = mum(seed ^ (data[len - 1] >>> 16), b3 ^ (data[len - 1] & 0xFFFFL));
+                break;
+            case 2:
+                seed = mum(seed ^ data[len - 2], b0 ^ data[len - 1]);
+                break;
+            case 3:
+                seed = mum(seed ^ data[len - 3], b2 ^ data[len - 2]) ^ mum(seed ^ data[len - 1], b4);
+                break;
+        }
+        return (seed ^ seed << 16) * (len ^ b0);
+    }
+
+    /**
+     * The shared core of the hash128() methods; this mixes one last (possibly zero-padded) block of four words into
+     * the lanes, then folds the 256 bits of lane state and the length in bytes into 128 bits, written into out.
+     */
+    private static long[] finish128(long a, long b, long c, long d, final long t0, final long t1, final long t2,
+                                    final long t3, final long len, final long[] out) {
+        a ^= t0 * b1;
+        a = (a << 23 | a >>> 41) * b3;
+        b ^= t1 * b2;
+        b = (b << 25 | b >>> 39) * b4;
+        c ^= t2 * b3;
+        c = (c << 29 | c >>> 35) * b5;
+        d ^= t3 * b4;
+        d = (d << 31 | d >>> 33) * b1;
+        final long lo = wow(a ^ b2, c + len) ^ wow(b + b4, d ^ b5);
+        final long hi = wow(a + b3, d ^ len) + wow(b ^ b0, c + b1);
+        out[0] = (lo ^ lo >>> 29) * b2 ^ lo >>> 32;
+        out[1] = (hi ^ hi >>> 29) * b3 ^ hi >>> 32;
+        return out;
+    }
+
+    /**
+     * Hashes all of a byte array; see {@link #bulk128(long, byte[], int, int, long[])}.
+     */
+    private static long[] bulk128(final long seed, final byte[] data, final long[] out) {
+        return bulk128(seed, data, 0, data.length, out);
+    }
+
+    /**
+     * Hashes all of a char array 16 chars (32 bytes) at a time, keeping four separate lanes.
+     */
+    private static long[] bulk128(final long seed, final char[] data, final long[] out) {
+        final int end = data.length;
+        long a = seed + b4, b = seed + b3, c = seed + b2, d = seed + b1;
+        int i = 0;
+        for (final int limit = end - 15; i < limit; i += 16) {
+            a ^= ((long) data[i] | (long) data[i + 1] << 16 | (long) data[i + 2] << 32 | (long) data[i + 3] << 48) * b1;
+            a = (a << 23 | a >>> 41) * b3;
+            b ^= ((long) data[i + 4] | (long) data[i + 5] << 16 | (long) data[i + 6] << 32 | (long) data[i + 7] << 48) * b2;
+            b = (b << 25 | b >>> 39) * b4;
+            c ^= ((long) data[i + 8] | (long) data[i + 9] << 16 | (long) data[i + 10] << 32 | (long) data[i + 11] << 48) * b3;
+            c = (c << 29 | c >>> 35) * b5;
+            d ^= ((long) data[i + 12] | (long) data[i + 13] << 16 | (long) data[i + 14] << 32 | (long) data[i + 15] << 48) * b4;
+            d = (d << 31 | d >>> 33) * b1;
+        }
+        return finish128(a, b, c, d, charsLE(data, i, end), charsLE(data, i + 4, end),
+                charsLE(data, i + 8, end), charsLE(data, i + 12, end), end * 2L, out);
+    }
+
+    /**
+     * Hashes all of a CharSequence 16 chars (32 bytes) at a time, keeping four separate lanes.
+     */
+    private static long[] bulk128(final long seed, final CharSequence data, final long[] out) {
+        final int end = data.length();
+        long a = seed + b4, b = seed + b3, c = seed + b2, d = seed + b1;
+        int i = 0;
+        for (final int limit = end - 15; i < limit; i += 16) {
+            a ^= ((long) data.charAt(i) | (long) data.charAt(i + 1) << 16 | (long) data.charAt(i + 2) << 32 | (long) data.charAt(i + 3) << 48) * b1;
+            a = (a << 23 | a >>> 41) * b3;
+            b ^= ((long) data.charAt(i + 4) | (long) data.charAt(i + 5) << 16 | (long) data.charAt(i + 6) << 32 | (long) data.charAt(i + 7) << 48) * b2;
+            b = (b << 25 | b >>> 39) * b4;
+            c ^= ((long) data.charAt(i + 8) | (long) data.charAt(i + 9) << 16 | (long) data.charAt(i + 10) << 32 | (long) data.charAt(i + 11) << 48) * b3;
+            c = (c << 29 | c >>> 35) * b5;
+            d ^= ((long) data.charAt(i + 12) | (long) data.charAt(i + 13) << 16 | (long) data.charAt(i + 14) << 32 | (long) data.charAt(i + 15) << 48) * b4;
+            d = (d << 31 | d >>> 33) * b1;
+        }
+        return finish128(a, b, c, d, charsLE(data, i, end), charsLE(data, i + 4, end),
+                charsLE(data, i + 8, end), charsLE(data, i + 12, end), end * 2L, out);
+    }
+
+    /**
+     * Hashes all of an int array 8 ints (32 bytes) at a time, keeping four separate lanes.
+     */
+    private static long[] bulk128(final long seed, final int[] data, final long[] out) {
+        final int end = data.length;
+        long a = seed + b4, b = seed + b3, c = seed + b2, d = seed + b1;
+        int i = 0;
+        for (final int limit = end - 7; i < limit; i += 8) {
+            a ^= ((data[i] & 0xFFFFFFFFL) | (long) data[i + 1] << 32) * b1;
+            a = (a << 23 | a >>> 41) * b3;
+            b ^= ((data[i + 2] & 0xFFFFFFFFL) | (long) data[i + 3] << 32) * b2;
+            b = (b << 25 | b >>> 39) * b4;
+            c ^= ((data[i + 4] & 0xFFFFFFFFL) | (long) data[i + 5] << 32) * b3;
+            c = (c << 29 | c >>> 35) * b5;
+            d ^= ((data[i + 6] & 0xFFFFFFFFL) | (long) data[i + 7] << 32) * b4;
+            d = (d << 31 | d >>> 33) * b1;
+        }
+        return finish128(a, b, c, d, intsLE(data, i, end), intsLE(data, i + 2, end),
+                intsLE(data, i + 4, end), intsLE(data, i + 6, end), end * 4L, out);
+    }
+
+    /**
+     * Hashes all of a long array 4 longs (32 bytes) at a time, keeping four separate lanes.
+     */
+    private static long[] bulk128(final long seed, final long[] data, final long[] out) {
+        final int end = data.length;
+        long a = seed + b4, b = seed + b3, c = seed + b2, d = seed + b1;
+        int i = 0;
+        for (final int limit = end - 3; i < limit; i += 4) {
+            a ^= data[i] * b1;
+            a = (a << 23 | a >>> 41) * b3;
+            b ^= data[i + 1] * b2;
+            b = (b << 25 | b >>> 39) * b4;
+            c ^= data[i + 2] * b3;
+            c = (c << 29 | c >>> 35) * b5;
+            d ^= data[i + 3] * b4;
+            d = (d << 31 | d >>> 33) * b1;
+        }
+        return finish128(a, b, c, d, i < end ? data[i] : 0L, i + 1 < end ? data[i + 1] : 0L,
+                i + 2 < end ? data[i + 2] : 0L, i + 3 < end ? data[i + 3] : 0L, end * 8L, out);
+    }
+
+    /**
+     * Hashes the remaining bytes of a ByteBuffer 32 bytes at a time, keeping four separate lanes. Buffers backed by an
+     * accessible array are hashed like that array; others are read with absolute gets, which are fastest if the
+     * buffer is little-endian. Unlike {@link #bulk64(long, ByteBuffer)}, this never makes a duplicate, so it never
+     * allocates.
+     */
+    private static long[] bulk128(final long seed, final ByteBuffer data, final long[] out) {
+        final int start = data.position(), end = data.limit();
+        if (data.hasArray())
+            return bulk128(seed, data.array(), data.arrayOffset() + start, end - start, out);
+        long a = seed + b4, b = seed + b3, c = seed + b2, d = seed + b1;
+        int i = start;
+        for (final int limit = end - 31; i < limit; i += 32) {
+            a ^= BitConversion.readLongLE(data, i) * b1;
+            a = (a << 23 | a >>> 41) * b3;
+            b ^= BitConversion.readLongLE(data, i + 8) * b2;
+            b = (b << 25 | b >>> 39) * b4;
+            c ^= BitConversion.readLongLE(data, i + 16) * b3;
+            c = (c << 29 | c >>> 35) * b5;
+            d ^= BitConversion.readLongLE(data, i + 24) * b4;
+            d = (d << 31 | d >>> 33) * b1;
+        }
+        return finish128(a, b, c, d, bytesLE(data, i, end), bytesLE(data, i + 8, end),
+                bytesLE(data, i + 16, end), bytesLE(data, i + 24, end), end - start, out);
+    }
+
+    /**
+     * Hashes a section of a byte array 32 bytes at a time, keeping four separate lanes.
+     */
+    private static long[] bulk128(final long seed, final byte[] data, final int start, final int length,
+                                  final long[] out) {
+        final int end = start + length;
+        long a = seed + b4, b = seed + b3, c = seed + b2, d = seed + b1;
+        int i = start;
+        for (final int limit = end - 31; i < limit; i += 32) {
+            a ^= BitConversion.readLongLE(data, i) * b1;
+            a = (a << 23 | a >>> 41) * b3;
+            b ^= BitConversion.readLongLE(data, i + 8) * b2;
+            b = (b << 25 | b >>> 39) * b4;
+            c ^= BitConversion.readLongLE(data, i + 16) * b3;
+            c = (c << 29 | c >>> 35) * b5;
+            d ^= BitConversion.readLongLE(data, i + 24) * b4;
+            d = (d << 31 | d >>> 33) * b1;
+        }
+        return finish128(a, b, c, d, bytesLE(data, i, end), bytesLE(data, i + 8, end),
+                bytesLE(data, i + 16, end), bytesLE(data, i + 24, end), length, out);
+    }
+
+    /**
+     * Reads up to 8 bytes starting at {@code i} (but not at or after {@code end}) as a little-endian long, or 0 if
+     * there are no bytes left.
+     */
+    private static long bytesLE(final byte[] data, final int i, final int end) {
+        return i < end ? readPartialLE(data, i, Math.min(i + 8, end)) : 0L;
+    }
+
+    /**
+     * Reads up to 8 bytes starting at {@code i} (but not at or after {@code end}) as a little-endian long, or 0 if
+     * there are no bytes left.
+     */
+    private static long bytesLE(final ByteBuffer data, final int i, final int end) {
+        return i < end ? readPartialLE(data, i, Math.min(i + 8, end)) : 0L;
+    }
+
+    /**
+     * Reads up to 4 chars starting at {@code i} (but not at or after {@code end}) as a little-endian long, or 0 if
+     * there are no chars left.
+     */
+    private static long charsLE(final char[] data, final int i, final int end) {
+        long r = 0L;
+        for (int j = Math.min(i + 4, end) - 1; j >= i; j--) {
+            r = r << 16 | data[j];
+        }
+        return r;
+    }
+
+    /**
+     * Reads up to 4 chars starting at {@code i} (but not at or after {@code end}) as a little-endian long, or 0 if
+     * there are no chars left.
+     */
+    private static long charsLE(final CharSequence data, final int i, final int end) {
+        long r = 0L;
+        for (int j = Math.min(i + 4, end) - 1; j >= i; j--) {
+            r = r << 16 | data.charAt(j);
+        }
+        return r;
+    }
+
+    /**
+     * Reads up to 2 ints starting at {@code i} (but not at or after {@code end}) as a little-endian long, or 0 if
+     * there are no ints left.
+     */
+    private static long intsLE(final int[] data, final int i, final int end) {
+        if (i + 1 < end) return (data[i] & 0xFFFFFFFFL) | (long) data[i + 1] << 32;
+        return i < end ? data[i] & 0xFFFFFFFFL : 0L;
+    }
+
+    /**
+     * Like {@link #bulk64(long, byte[], int, int)}, but reads from the remaining bytes of a ByteBuffer using absolute
+     * gets, so the buffer's position isn't changed. Buffers backed by an accessible array use the byte[] version.
+     * Other buffers that aren't little-endian are read through a little-endian duplicate unless they are very small,
+     * which avoids reversing the bytes of every long read.
+     */
+    private static long bulk64(long seed, ByteBuffer data) {
+        final int start = data.position(), end = data.limit(), len = end - start;
+        if (data.hasArray())
+            return bulk64(seed, data.array(), data.arrayOffset() + start, len);
+        if (len >= 64 && data.order() != ByteOrder.LITTLE_ENDIAN)
+            data = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        long a = seed + b4, b = seed + b3, c = seed + b2, d = seed + b1;
+        int i = start;
+        for (final int limit = end - 31; i < limit; i += 32) {
+            a ^= BitConversion.readLongLE(data, i) * b1;
+            a = (a << 23 | a >>> 41) * b3;
+            b ^= BitConversion.readLongLE(data, i + 8) * b2;
+            b = (b << 25 | b >>> 39) * b4;
+            c ^= BitConversion.readLongLE(data, i + 16) * b3;
+            c = (c << 29 | c >>> 35) * b5;
+            d ^= BitConversion.readLongLE(data, i + 24) * b4;
+            d = (d << 31 | d >>> 33) * b1;
+            seed += a + b + c + d;
+        }
+        seed += b5;
+        switch (end - i + 7 >>> 3) {
+            case 1:
+                seed = wow(seed, b1 ^ readPartialLE(data, i, end));
+                break;
+            case 2:
+                seed = wow(seed + BitConversion.readLongLE(data, i), b2 ^ readPartialLE(data, i + 8, end));
+                break;
+            case 3:
+                seed = wow(seed + BitConversion.readLongLE(data, i), b2 + BitConversion.readLongLE(data, i + 8))
+                        + wow(seed + readPartialLE(data, i + 16, end), seed ^ b3);
+                break;
+            case 4:
+                seed = wow(seed + BitConversion.readLongLE(data, i), b2 + BitConversion.readLongLE(data, i + 8))
+                        + wow(seed + BitConversion.readLongLE(data, i + 16), b3 ^ readPartialLE(data, i + 24, end));
+                break;
+        }
+        seed = (seed ^ seed >>> 16) * (b0 ^ (len + seed) << 4);
+        return seed ^ seed >>> 23 ^ seed >>> 42;
+    }
+
+    /**
+     * The shared implementation of hash64(byte[][][]), which expects its seed to already be randomized.
+     */
+    private static long grid64(long seed, final byte[][][] data) {
+        long a = seed + b4, b = seed + b3, c = seed + b2, d = seed + b1;
+        for (final byte[][] slice : data) {
+            seed = (seed + (slice == null ? -1 : slice.length)) * b2;
+            if (slice == null) continue;
+            for (final byte[] row : slice) {
+                final int n = row == null ? -1 : row.length;
+                int i = 0;
+                for (; i + 32 <= n; i += 32) {
+                    a ^= BitConversion.readLongLE(row, i) * b1;
+                    a = (a << 23 | a >>> 41) * b3;
+                    b ^= BitConversion.readLongLE(row, i + 8) * b2;
+                    b = (b << 25 | b >>> 39) * b4;
+                    c ^= BitConversion.readLongLE(row, i + 16) * b3;
+                    c = (c << 29 | c >>> 35) * b5;
+                    d ^= BitConversion.readLongLE(row, i + 24) * b4;
+                    d = (d << 31 | d >>> 33) * b1;
+                    seed += a + b + c + d;
+                }
+                if (n - i > 24) {
+                    a ^= gridWord(row, i, n) * b1;
+                    a = (a << 23 | a >>> 41) * b3;
+                    b ^= gridWord(row, i + 8, n) * b2;
+                    b = (b << 25 | b >>> 39) * b4;
+                    c ^= gridWord(row, i + 16, n) * b3;
+                    c = (c << 29 | c >>> 35) * b5;
+                    d ^= gridWord(row, i + 24, n) * b4;
+                    d = (d << 31 | d >>> 33) * b1;
+                    seed += a + b + c + d;
+                    i += 32;
+                }
+                a ^= gridWord(row, i, n) * b1;
+                a = (a << 23 | a >>> 41) * b3;
+                b ^= gridWord(row, i + 8, n) * b2;
+                b = (b << 25 | b >>> 39) * b4;
+                c ^= gridWord(row, i + 16, n) * b3;
+                c = (c << 29 | c >>> 35) * b5;
+                d ^= n * b4;
+                d = (d << 31 | d >>> 33) * b1;
+                seed += a + b + c + d;
+            }
+        }
+        seed += b5;
+        seed = (seed ^ seed >>> 16) * (b0 ^ (data.length + seed) << 4);
+        return seed ^ seed >>> 23 ^ seed >>> 42;
+    }
+
+    /**
+     * The shared implementation of hash64(int[][][]), which expects its seed to already be randomized.
+     */
+    private static long grid64(long seed, final int[][][] data) {
+        long a = seed + b4, b = seed + b3, c = seed + b2, d = seed + b1;
+        for (final int[][] slice : data) {
+            seed = (seed + (slice == null ? -1 : slice.length)) * b2;
+            if (slice == null) continue;
+            for (final int[] row : slice) {
+                final int n = row == null ? -1 : row.length;
+                int i = 0;
+                for (; i + 8 <= n; i += 8) {
+                    a ^= (row[i] & 0xFFFFFFFFL | (long) row[i + 1] << 32) * b1;
+                    a = (a << 23 | a >>> 41) * b3;
+                    b ^= (row[i + 2] & 0xFFFFFFFFL | (long) row[i + 3] << 32) * b2;
+                    b = (b << 25 | b >>> 39) * b4;
+                    c ^= (row[i + 4] & 0xFFFFFFFFL | (long) row[i + 5] << 32) * b3;
+                    c = (c << 29 | c >>> 35) * b5;
+                    d ^= (row[i + 6] & 0xFFFFFFFFL | (long) row[i + 7] << 32) * b4;
+                    d = (d << 31 | d >>> 33) * b1;
+                    seed += a + b + c + d;
+                }
+                if (n - i > 6) {
+                    a ^= gridWord(row, i, n) * b1;
+                    a = (a << 23 | a >>> 41) * b3;
+                    b ^= gridWord(row, i + 2, n) * b2;
+                    b = (b << 25 | b >>> 39) * b4;
+                    c ^= gridWord(row, i + 4, n) * b3;
+                    c = (c << 29 | c >>> 35) * b5;
+                    d ^= gridWord(row, i + 6, n) * b4;
+                    d = (d << 31 | d >>> 33) * b1;
+                    seed += a + b + c + d;
+                    i += 8;
+                }
+                a ^= gridWord(row, i, n) * b1;
+                a = (a << 23 | a >>> 41) * b3;
+                b ^= gridWord(row, i + 2, n) * b2;
+                b = (b << 25 | b >>> 39) * b4;
+                c ^= gridWord(row, i + 4, n) * b3;
+                c = (c << 29 | c >>> 35) * b5;
+                d ^= n * b4;
+                d = (d << 31 | d >>> 33) * b1;
+                seed += a + b + c + d;
+            }
+        }
+        seed += b5;
+        seed = (seed ^ seed >>> 16) * (b0 ^ (data.length + seed) << 4);
+        return seed ^ seed >>> 23 ^ seed >>> 42;
+    }
+
+    /**
+     * The shared implementation of hash64(float[][][]), which expects its seed to already be randomized.
+     */
+    private static long grid64(long seed, final float[][][] data) {
+        long a = seed + b4, b = seed + b3, c = seed + b2, d = seed + b1;
+        for (final float[][] slice : data) {
+            seed = (seed + (slice == null ? -1 : slice.length)) * b2;
+            if (slice == null) continue;
+            for (final float[] row : slice) {
+                final int n = row == null ? -1 : row.length;
+                int i = 0;
+                for (; i + 8 <= n; i += 8) {
+                    a ^= (floatToRawIntBits(row[i]) & 0xFFFFFFFFL | (long) floatToRawIntBits(row[i + 1]) << 32) * b1;
+                    a = (a << 23 | a >>> 41) * b3;
+                    b ^= (floatToRawIntBits(row[i + 2]) & 0xFFFFFFFFL | (long) floatToRawIntBits(row[i + 3]) << 32) * b2;
+                    b = (b << 25 | b >>> 39) * b4;
+                    c ^= (floatToRawIntBits(row[i + 4]) & 0xFFFFFFFFL | (long) floatToRawIntBits(row[i + 5]) << 32) * b3;
+                    c = (c << 29 | c >>> 35) * b5;
+                    d ^= (floatToRawIntBits(row[i + 6]) & 0xFFFFFFFFL | (long) floatToRawIntBits(row[i + 7]) << 32) * b4;
+                    d = (d << 31 | d >>> 33) * b1;
+                    seed += a + b + c + d;
+                }
+                if (n - i > 6) {
+                    a ^= gridWord(row, i, n) * b1;
+                    a = (a << 23 | a >>> 41) * b3;
+                    b ^= gridWord(row, i + 2, n) * b2;
+                    b = (b << 25 | b >>> 39) * b4;
+                    c ^= gridWord(row, i + 4, n) * b3;
+                    c = (c << 29 | c >>> 35) * b5;
+                    d ^= gridWord(row, i + 6, n) * b4;
+                    d = (d << 31 | d >>> 33) * b1;
+                    seed += a + b + c + d;
+                    i += 8;
+                }
+                a ^= gridWord(row, i, n) * b1;
+                a = (a << 23 | a >>> 41) * b3;
+                b ^= gridWord(row, i + 2, n) * b2;
+                b = (b << 25 | b >>> 39) * b4;
+                c ^= gridWord(row, i + 4, n) * b3;
+                c = (c << 29 | c >>> 35) * b5;
+                d ^= n * b4;
+                d = (d << 31 | d >>> 33) * b1;
+                seed += a + b + c + d;
+            }
+        }
+        seed += b5;
+        seed = (seed ^ seed >>> 16) * (b0 ^ (data.length + seed) << 4);
+        return seed ^ seed >>> 23 ^ seed >>> 42;
+    }
+
+    /**
+     * The shared implementation of hash64(long[][][]), which expects its seed to already be randomized.
+     */
+    private static long grid64(long seed, final long[][][] data) {
+        long a = seed + b4, b = seed + b3, c = seed + b2, d = seed + b1;
+        for (final long[][] slice : data) {
+            seed = (seed + (slice == null ? -1 : slice.length)) * b2;
+            if (slice == null) continue;
+            for (final long[] row : slice) {
+                final int n = row == null ? -1 : row.length;
+                int i = 0;
+                for (; i + 4 <= n; i += 4) {
+                    a ^= row[i] * b1;
+                    a = (a << 23 | a >>> 41) * b3;
+                    b ^= row[i + 1] * b2;
+                    b = (b << 25 | b >>> 39) * b4;
+                    c ^= row[i + 2] * b3;
+                    c = (c << 29 | c >>> 35) * b5;
+                    d ^= row[i + 3] * b4;
+                    d = (d << 31 | d >>> 33) * b1;
+                    seed += a + b + c + d;
+                }
+                a ^= gridWord(row, i, n) * b1;
+                a = (a << 23 | a >>> 41) * b3;
+                b ^= gridWord(row, i + 1, n) * b2;
+                b = (b << 25 | b >>> 39) * b4;
+                c ^= gridWord(row, i + 2, n) * b3;
+                c = (c << 29 | c >>> 35) * b5;
+                d ^= n * b4;
+                d = (d << 31 | d >>> 33) * b1;
+                seed += a + b + c + d;
+            }
+        }
+        seed += b5;
+        seed = (seed ^ seed >>> 16) * (b0 ^ (data.length + seed) << 4);
+        return seed ^ seed >>> 23 ^ seed >>> 42;
+    }
+
+    /**
+     * The shared implementation of hash64(double[][][]), which expects its seed to already be randomized.
+     */
+    private static long grid64(long seed, final double[][][] data) {
+        long a = seed + b4, b = seed + b3, c = seed + b2, d = seed + b1;
+        for (final double[][] slice : data) {
+            seed = (seed + (slice == null ? -1 : slice.length)) * b2;
+            if (slice == null) continue;
+            for (final double[] row : slice) {
+                final int n = row == null ? -1 : row.length;
+                int i = 0;
+                for (; i + 4 <= n; i += 4) {
+                    a ^= doubleToRawLongBits(row[i]) * b1;
+                    a = (a << 23 | a >>> 41) * b3;
+                    b ^= doubleToRawLongBits(row[i + 1]) * b2;
+                    b = (b << 25 | b >>> 39) * b4;
+                    c ^= doubleToRawLongBits(row[i + 2]) * b3;
+                    c = (c << 29 | c >>> 35) * b5;
+                    d ^= doubleToRawLongBits(row[i + 3]) * b4;
+                    d = (d << 31 | d >>> 33) * b1;
+                    seed += a + b + c + d;
+                }
+                a ^= gridWord(row, i, n) * b1;
+                a = (a << 23 | a >>> 41) * b3;
+                b ^= gridWord(row, i + 1, n) * b2;
+                b = (b << 25 | b >>> 39) * b4;
+                c ^= gridWord(row, i + 2, n) * b3;
+                c = (c << 29 | c >>> 35) * b5;
+                d ^= n * b4;
+                d = (d << 31 | d >>> 33) * b1;
+                seed += a + b + c + d;
+            }
+        }
+        seed += b5;
+        seed = (seed ^ seed >>> 16) * (b0 ^ (data.length + seed) << 4);
+        return seed ^ seed >>> 23 ^ seed >>> 42;
+    }
+    /**
+     * Gets the 64-bit word of a row in a 3D array that starts at item {@code from}, packing 8 bytes into it; items at
+     * or after {@code end} count as 0.
+     */
+    private static long gridWord(final byte[] row, final int from, final int end) {
+        return from >= end ? 0L : readPartialLE(row, from, Math.min(end, from + 8));
+    }
+
+    /**
+     * Gets the 64-bit word of a row in a 3D array that starts at item {@code from}, packing 2 ints into it; items at
+     * or after {@code end} count as 0.
+     */
+    private static long gridWord(final int[] row, final int from, final int end) {
+        return from >= end ? 0L : from + 1 >= end ? row[from] & 0xFFFFFFFFL
+                : row[from] & 0xFFFFFFFFL | (long) row[from + 1] << 32;
+    }
+
+    /**
+     * Gets the 64-bit word of a row in a 3D array that starts at item {@code from}, packing the bits of 2 floats into
+     * it; items at or after {@code end} count as 0.
+     */
+    private static long gridWord(final float[] row, final int from, final int end) {
+        return from >= end ? 0L : from + 1 >= end ? floatToRawIntBits(row[from]) & 0xFFFFFFFFL
+                : floatToRawIntBits(row[from]) & 0xFFFFFFFFL | (long) floatToRawIntBits(row[from + 1]) << 32;
+    }
+
+    /**
+     * Gets item {@code from} of a row in a 3D array, or 0 if it is at or after {@code end}.
+     */
+    private static long gridWord(final long[] row, final int from, final int end) {
+        return from >= end ? 0L : row[from];
+    }
+
+    /**
+     * Gets the bits of item {@code from} of a row in a 3D array, or 0 if it is at or after {@code end}.
+     */
+    private static long gridWord(final double[] row, final int from, final int end) {
+        return from >= end ? 0L : doubleToRawLongBits(row[from]);
+    }
+
+    /**
+     * Reads between 1 and 8 bytes from {@code data}, from {@code start} (inclusive) to {@code end} (exclusive), into
+     * a long in little-endian order; unused high bytes are 0.
+     */
+    static long readPartialLE(final byte[] data, final int start, int end) {
+        if (end - start == 8)
+            return BitConversion.readLongLE(data, start);
+        long r = 0L;
+        while (--end >= start) {
+            r = r << 8 | (data[end] & 0xFFL);
+        }
+        return r;
+    }
+
+    /**
+     * Reads between 1 and 8 bytes from {@code data} using absolute gets, from {@code start} (inclusive) to
+     * {@code end} (exclusive), into a long in little-endian order; unused high bytes are 0.
+     */
+    static long readPartialLE(final ByteBuffer data, final int start, int end) {
+        if (end - start == 8)
+            return BitConversion.readLongLE(data, start);
+        long r = 0L;
+        while (--end >= start) {
+            r = r << 8 | (data.get(end) & 0xFFL);
+        }
+        return r;
+    }
+
 }
@@ -0,0 +1,492 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Estimates how many distinct items have been added, using a fixed amount of memory no matter how many there are.
+ * Each item is hashed to 64 bits with a {@link Hasher} using this sketch's {@link #seed}; the top {@link #precision}
+ * bits pick one of {@code 2^precision} registers, and the register keeps the longest run of leading zeros seen in
+ * the rest of the bits. The standard error is about {@code 1.04 / sqrt(2^precision)}, so the default precision of 14
+ * gives about 0.8% using 16 KiB. Estimates use Ertl's improved estimator, which is accurate from a few items up to
+ * far more than 10^9 without bias correction tables.
+ * <br>
+ * A new sketch starts sparse, storing only the registers that have been set, in an open-addressing table; it becomes
+ * dense, with every register stored, once the sparse form would take more memory. Sketches with the same seed and
+ * precision can be merged, which gives the same registers as adding every item to one sketch, and can be written to
+ * and read from byte arrays and ByteBuffers to move them between nodes.
+ * <br>
+ * Adding is thread-safe and doesn't allocate, other than growing the sparse table. In dense form, registers are
+ * packed four to an int, and an add only writes when a register grows, using one compare-and-set, so it never locks;
+ * after the first few thousand items, nearly every add is just a read. While sparse, adds synchronize on the sketch;
+ * create the sketch dense from the start to never lock. Merging into a sketch while it is being added to is safe,
+ * but estimates taken at the same time as adds may miss some of them.
+ * <br>
+ * This uses {@link AtomicIntegerArray}, so it is excluded from the GWT module.
+ */
+public class HyperLogLog {
+    private static final int TAG = 0x314C4C48; // "HLL1"
+
+    /**
+     * The seed used to hash items; sketches need the same seed and precision to be merged.
+     */
+    public final long seed;
+    /**
+     * How many bits of each hash choose a register; there are {@code 2^precision} registers.
+     */
+    public final int precision;
+
+    private final int m;
+    private final boolean startSparse;
+    private final Hasher hasher;
+    private volatile AtomicIntegerArray dense;
+    private int[] sparse;
+    private int sparseSize;
+
+    /**
+     * Creates a sparse sketch with precision 14, hashing with the given Hasher's seed.
+     *
+     * @param hasher the Hasher whose seed will be used; must not be null
+     */
+    public HyperLogLog(final Hasher hasher) {
+        this(hasher.seed, 14, true);
+    }
+
+    /**
+     * Creates a sparse sketch with the given precision, hashing with the given Hasher's seed.
+     *
+     * @param hasher    the Hasher whose seed will be used; must not be null
+     * @param precision between 4 and 18, inclusive; each step up doubles the memory and divides the error by about 1.4
+     */
+    public HyperLogLog(final Hasher hasher, final int precision) {
+        this(hasher.seed, precision, true);
+    }
+
+    /**
+     * Creates a sketch with the given seed and precision, which starts sparse if {@code sparse} is true, or dense
+     * (and never locks) otherwise.
+     *
+     * @param seed      any long; used to hash items
+     * @param precision between 4 and 18, inclusive
+     * @param sparse    if true, start sparse, which saves memory while few items have been added
+     */
+    public HyperLogLog(final long seed, final int precision, final boolean sparse) {
+        if (precision < 4 || precision > 18)
+            throw new IllegalArgumentException("precision must be between 4 and 18: " + precision);
+        this.seed = seed;
+        this.precision = precision;
+        this.m = 1 << precision;
+        this.startSparse = sparse;
+        this.hasher = new Hasher(seed);
+        if (sparse) this.sparse = new int[16];
+        else this.dense = new AtomicIntegerArray(m >>> 2);
+    }
+
+    /**
+     * Creates a copy of {@code other}, with the same registers, that is sparse if other is and starts sparse after
+     * {@link #clear()} if other does. A copy of a sketch created dense never locks, like the original.
+     *
+     * @param other another HyperLogLog to copy
+     */
+    public HyperLogLog(final HyperLogLog other) {
+        this(other.seed, other.precision, other.startSparse);
+        synchronized (other) {
+            final AtomicIntegerArray d = other.dense;
+            if (d == null) {
+                sparse = other.sparse.clone();
+                sparseSize = other.sparseSize;
+            } else {
+                final AtomicIntegerArray copy = new AtomicIntegerArray(d.length());
+                for (int i = 0, n = d.length(); i < n; i++) copy.set(i, d.get(i));
+                sparse = null;
+                dense = copy;
+            }
+        }
+    }
+
+    /**
+     * Adds an item by its 64-bit hash, which should be well-mixed in all bits.
+     *
+     * @param hash a 64-bit hash of an item
+     * @return true if a register changed, so the item was definitely not added before
+     */
+    public boolean addHash(final long hash) {
+        final int index = (int) (hash >>> 64 - precision);
+        final int rank = Math.min(Long.numberOfLeadingZeros(hash << precision), 64 - precision) + 1;
+        final AtomicIntegerArray d = dense;
+        if (d != null) return raise(d, index, rank);
+        synchronized (this) {
+            if (dense != null) return raise(dense, index, rank);
+            return raiseSparse(index, rank);
+        }
+    }
+
+    private static boolean raise(final AtomicIntegerArray dense, final int index, final int rank) {
+        final int word = index >>> 2, shift = (index & 3) << 3;
+        while (true) {
+            final int old = dense.get(word);
+            if ((old >>> shift & 255) >= rank) return false;
+            if (dense.compareAndSet(word, old, old & ~(255 << shift) | rank << shift)) return true;
+        }
+    }
+
+    /**
+     * Must hold the lock on this, and the sketch must be sparse.
+     */
+    private boolean raiseSparse(final int index, final int rank) {
+        int[] table = sparse;
+        int mask = table.length - 1;
+        for (int i = (int) (Hasher.randomize1(index) >>> 32) & mask; ; i = i + 1 & mask) {
+            final int entry = table[i];
+            if (entry == 0) {
+                if (sparseSize >= m >>> 3) {
+                    toDense();
+                    return raise(dense, index, rank);
+                }
+                table[i] = index << 6 | rank;
+                if (++sparseSize > table.length >>> 1) growSparse();
+                return true;
+            }
+            if (entry >>> 6 == index) {
+                if ((entry & 63) >= rank) return false;
+                table[i] = index << 6 | rank;
+                return true;
+            }
+        }
+    }
+
+    private void growSparse() {
+        final int[] old = sparse, table = new int[old.length << 1];
+        final int mask = table.length - 1;
+        for (final int entry : old) {
+            if (entry == 0) continue;
+            int i = (int) (Hasher.randomize1(entry >>> 6) >>> 32) & mask;
+            while (table[i] != 0) i = i + 1 & mask;
+            table[i] = entry;
+        }
+        sparse = table;
+    }
+
+    private void toDense() {
+        final AtomicIntegerArray d = new AtomicIntegerArray(m >>> 2);
+        for (final int entry : sparse) {
+            if (entry != 0) raise(d, entry >>> 6, entry & 63);
+        }
+        sparse = null;
+        sparseSize = 0;
+        dense = d;
+    }
+
+    /**
+     * Adds a long.
+     *
+     * @param item any long
+     * @return true if a register changed
+     */
+    public boolean add(final long item) {
+        return addHash(SketchTools.hashLong(item, seed));
+    }
+
+    /**
+     * Adds a CharSequence, hashed with {@link Hasher#hash64(CharSequence)}.
+     *
+     * @param item a CharSequence; may be null
+     * @return true if a register changed
+     */
+    public boolean add(final CharSequence item) {
+        return addHash(hasher.hash64(item));
+    }
+
+    /**
+     * Adds a byte array, hashed with {@link Hasher#hash64(byte[])}.
+     *
+     * @param item a byte array; may be null
+     * @return true if a register changed
+     */
+    public boolean add(final byte[] item) {
+        return addHash(hasher.hash64(item));
+    }
+
+    /**
+     * Adds an int array, hashed with {@link Hasher#hash64(int[])}.
+     *
+     * @param item an int array; may be null
+     * @return true if a register changed
+     */
+    public boolean add(final int[] item) {
+        return addHash(hasher.hash64(item));
+    }
+
+    /**
+     * Checks whether this is still sparse.
+     *
+     * @return true if only the registers that were set are stored
+     */
+    public synchronized boolean isSparse() {
+        return dense == null;
+    }
+
+    /**
+     * Gets every register, in order, as a new byte array.
+     */
+    private synchronized byte[] registers() {
+        final byte[] registers = new byte[m];
+        final AtomicIntegerArray d = dense;
+        if (d != null) {
+            for (int i = 0; i < m; i += 4) {
+                final int word = d.get(i >>> 2);
+                registers[i] = (byte) word;
+                registers[i + 1] = (byte) (word >>> 8);
+                registers[i + 2] = (byte) (word >>> 16);
+                registers[i + 3] = (byte) (word >>> 24);
+            }
+        } else {
+            for (final int entry : sparse) {
+                if (entry != 0) registers[entry >>> 6] = (byte) (entry & 63);
+            }
+        }
+        return registers;
+    }
+
+    /**
+     * Estimates how many distinct items have been added.
+     *
+     * @return the estimated number of distinct items
+     */
+    public long estimate() {
+        final int q = 64 - precision;
+        final int[] counts = new int[q + 2];
+        for (final byte register : registers()) {
+            counts[register]++;
+        }
+        double z = m * tau(1.0 - (double) counts[q + 1] / m);
+        for (int k = q; k >= 1; k--) {
+            z = 0.5 * (z + counts[k]);
+        }
+        z += m * sigma((double) counts[0] / m);
+        return Math.round(m / (2.0 * Math.log(2.0)) * m / z);
+    }
+
+    private static double sigma(double x) {
+        if (x == 1.0) return Double.POSITIVE_INFINITY;
+        double y = 1.0, z = x, previous;
+        do {
+            x *= x;
+            previous = z;
+            z += x * y;
+            y += y;
+        } while (z != previous);
+        return z;
+    }
+
+    private static double tau(double x) {
+        if (x == 0.0 || x == 1.0) return 0.0;
+        double y = 1.0, z = 1.0 - x, previous;
+        do {
+            x = Math.sqrt(x);
+            previous = z;
+            y *= 0.5;
+            z -= (1.0 - x) * (1.0 - x) * y;
+        } while (z != previous);
+        return z / 3.0;
+    }
+
+    /**
+     * Gets the standard error of {@link #estimate()} for this precision, as a fraction of the true count.
+     *
+     * @return about {@code 1.04 / sqrt(2^precision)}
+     */
+    public double standardError() {
+        return 1.04 / Math.sqrt(m);
+    }
+
+    /**
+     * Checks whether {@code other} has the same seed and precision, so it can be merged with this.
+     *
+     * @param other another HyperLogLog; may be null
+     * @return true if other can be given to {@link #merge(HyperLogLog)}
+     */
+    public boolean isCompatible(final HyperLogLog other) {
+        return other != null && other.seed == seed && other.precision == precision;
+    }
+
+    /**
+     * Adds every item in {@code other} to this, so the estimate counts the items added to either sketch once each.
+     *
+     * @param other a compatible HyperLogLog; see {@link #isCompatible(HyperLogLog)}
+     * @return this, for chaining
+     */
+    public HyperLogLog merge(final HyperLogLog other) {
+        if (!isCompatible(other))
+            throw new IllegalArgumentException("The sketches must have the same seed and precision");
+        if (other == this) return this;
+        final byte[] registers = other.registers();
+        for (int i = 0; i < m; i++) {
+            if (registers[i] != 0) raiseIndex(i, registers[i]);
+        }
+        return this;
+    }
+
+    private void raiseIndex(final int index, final int rank) {
+        final AtomicIntegerArray d = dense;
+        if (d != null) {
+            raise(d, index, rank);
+            return;
+        }
+        synchronized (this) {
+            if (dense != null) raise(dense, index, rank);
+            else raiseSparse(index, rank);
+        }
+    }
+
+    /**
+     * Removes all items, and makes the sketch sparse again if it started sparse. This shouldn't run at the same time
+     * as adds.
+     */
+    public synchronized void clear() {
+        if (startSparse) {
+            sparse = new int[16];
+            sparseSize = 0;
+            dense = null;
+        } else {
+            dense = new AtomicIntegerArray(m >>> 2);
+        }
+    }
+
+    /**
+     * Gets how many bytes {@link #write(ByteBuffer)} and {@link #toBytes()} would use now.
+     *
+     * @return the size of this sketch when written
+     */
+    public synchronized int serializedSize() {
+        return 17 + (dense == null ? 4 + (sparseSize << 2) : m);
+    }
+
+    /**
+     * Writes this sketch into {@code buffer} at its position, moving the position past what was written. A sparse
+     * sketch is written as its set registers, sorted by index, and a dense one as one byte per register.
+     *
+     * @param buffer a ByteBuffer with at least {@link #serializedSize()} bytes remaining
+     * @return buffer, for chaining
+     */
+    public synchronized ByteBuffer write(final ByteBuffer buffer) {
+        SketchTools.putIntLE(buffer, TAG);
+        SketchTools.putIntLE(buffer, precision);
+        SketchTools.putLongLE(buffer, seed);
+        if (dense == null) {
+            buffer.put((byte) 0);
+            final int[] entries = new int[sparseSize];
+            int n = 0;
+            for (final int entry : sparse) {
+                if (entry != 0) entries[n++] = entry;
+            }
+            Arrays.sort(entries);
+            SketchTools.putIntLE(buffer, n);
+            for (final int entry : entries) {
+                SketchTools.putIntLE(buffer, entry);
+            }
+        } else {
+            buffer.put((byte) 1);
+            buffer.put(registers());
+        }
+        return buffer;
+    }
+
+    /**
+     * Writes this sketch into a new byte array.
+     *
+     * @return a new byte array that {@link #fromBytes(byte[])} can read
+     */
+    public byte[] toBytes() {
+        final byte[] bytes = new byte[serializedSize()];
+        write(ByteBuffer.wrap(bytes));
+        return bytes;
+    }
+
+    /**
+     * Reads a sketch written by {@link #write(ByteBuffer)} from {@code buffer}'s position, moving the position past
+     * what was read. It will be sparse if the one written was. Every register is checked as it is read, so a corrupt
+     * sketch is rejected here rather than failing later.
+     *
+     * @param buffer a ByteBuffer holding a written HyperLogLog
+     * @return a new HyperLogLog with the same registers as the one written
+     * @throws IllegalArgumentException if the buffer doesn't hold a valid HyperLogLog
+     */
+    public static HyperLogLog read(final ByteBuffer buffer) {
+        SketchTools.checkTag(buffer, TAG, "HyperLogLog");
+        final int precision = SketchTools.getIntLE(buffer);
+        final long seed = SketchTools.getLongLE(buffer);
+        final byte mode = buffer.get();
+        if (mode != 0 && mode != 1)
+            throw new IllegalArgumentException("Invalid HyperLogLog mode: " + mode);
+        final boolean sparse = mode == 0;
+        final HyperLogLog sketch = new HyperLogLog(seed, precision, sparse);
+        final int maxRank = 65 - precision;
+        if (sparse) {
+            final int n = SketchTools.getIntLE(buffer);
+            if (n < 0 || n > sketch.m >>> 3)
+                throw new IllegalArgumentException("Invalid HyperLogLog sparse entry count: " + n);
+            for (int i = 0; i < n; i++) {
+                final int entry = SketchTools.getIntLE(buffer), index = entry >>> 6, rank = entry & 63;
+                if (index >= sketch.m || rank < 1 || rank > maxRank)
+                    throw new IllegalArgumentException("Invalid HyperLogLog sparse entry: index " + index + ", rank " + rank);
+                sketch.raiseIndex(index, rank);
+            }
+        } else {
+            for (int i = 0; i < sketch.m; i++) {
+                final int rank = buffer.get();
+                if (rank < 0 || rank > maxRank)
+                    throw new IllegalArgumentException("Invalid HyperLogLog register " + i + ": " + rank);
+                if (rank != 0) raise(sketch.dense, i, rank);
+            }
+        }
+        return sketch;
+    }
+
+    /**
+     * Reads a sketch written by {@link #toBytes()}.
+     *
+     * @param bytes a byte array holding a written HyperLogLog
+     * @return a new HyperLogLog with the same registers as the one written
+     */
+    public static HyperLogLog fromBytes(final byte[] bytes) {
+        return read(ByteBuffer.wrap(bytes));
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) Hasher.hash64(seed ^ precision, registers());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof HyperLogLog))
+            return false;
+        final HyperLogLog other = (HyperLogLog) o;
+        return isCompatible(other) && Arrays.equals(registers(), other.registers());
+    }
+
+    @Override
+    public String toString() {
+        return "HyperLogLog{precision=" + precision + ", sparse=" + isSparse() + ", estimate=" + estimate() + '}';
+    }
+}
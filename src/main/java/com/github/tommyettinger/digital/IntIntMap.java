@@ -0,0 +1,431 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.Arrays;
+
+/**
+ * A map from primitive int keys to primitive int values, with no boxing. This uses open addressing with linear
+ * probing in two parallel arrays, and removes entries by shifting later entries back, so it never leaves tombstones.
+ * Where a key goes in the table is decided by mixing it with a seed, which can come from any {@link Hasher}; maps with
+ * different seeds put the same keys in different orders. The key 0 is stored separately, since 0 marks empty slots.
+ * <br>
+ * Looking up a key that isn't present returns {@link #getDefaultValue()}, which is 0 unless changed. This is not
+ * thread-safe. Iteration order is unspecified, and changes when the map resizes.
+ */
+public class IntIntMap {
+    /**
+     * Called by {@link #forEach(Visitor)} for each entry.
+     */
+    public interface Visitor {
+        void visit(int key, int value);
+    }
+
+    protected int[] keys;
+    protected int[] values;
+    protected int size;
+    protected boolean hasZeroKey;
+    protected int zeroValue;
+    protected int defaultValue;
+
+    protected final float loadFactor;
+    protected final long seed;
+    protected int threshold;
+    protected int shift;
+    protected int mask;
+
+    /**
+     * Creates a new map with room for 16 entries before resizing, a load factor of 0.7, and the seed of
+     * {@link Hasher#alpha}.
+     */
+    public IntIntMap() {
+        this(16, 0.7f, Hasher.alpha.seed);
+    }
+
+    /**
+     * Creates a new map with room for {@code initialCapacity} entries before resizing, a load factor of 0.7, and the
+     * seed of {@link Hasher#alpha}.
+     *
+     * @param initialCapacity how many entries this can hold before resizing
+     */
+    public IntIntMap(int initialCapacity) {
+        this(initialCapacity, 0.7f, Hasher.alpha.seed);
+    }
+
+    /**
+     * Creates a new map with room for {@code initialCapacity} entries before resizing, the given load factor, and the
+     * seed of {@link Hasher#alpha}.
+     *
+     * @param initialCapacity how many entries this can hold before resizing
+     * @param loadFactor      between 0 and 1, exclusive; how full the table can get before resizing
+     */
+    public IntIntMap(int initialCapacity, float loadFactor) {
+        this(initialCapacity, loadFactor, Hasher.alpha.seed);
+    }
+
+    /**
+     * Creates a new map with room for {@code initialCapacity} entries before resizing, the given load factor, and
+     * the seed of the given Hasher.
+     *
+     * @param initialCapacity how many entries this can hold before resizing
+     * @param loadFactor      between 0 and 1, exclusive; how full the table can get before resizing
+     * @param hasher          a Hasher whose {@link Hasher#seed} decides where keys go
+     */
+    public IntIntMap(int initialCapacity, float loadFactor, Hasher hasher) {
+        this(initialCapacity, loadFactor, hasher.seed);
+    }
+
+    /**
+     * Creates a new map with room for {@code initialCapacity} entries before resizing, the given load factor, and
+     * the given seed.
+     *
+     * @param initialCapacity how many entries this can hold before resizing
+     * @param loadFactor      between 0 and 1, exclusive; how full the table can get before resizing
+     * @param seed            any long; decides where keys go
+     */
+    public IntIntMap(int initialCapacity, float loadFactor, long seed) {
+        if (!(loadFactor > 0f && loadFactor < 1f))
+            throw new IllegalArgumentException("loadFactor must be > 0 and < 1: " + loadFactor);
+        this.loadFactor = loadFactor;
+        this.seed = seed;
+        int tableSize = PrimitiveTables.tableSize(initialCapacity, loadFactor);
+        keys = new int[tableSize];
+        values = new int[tableSize];
+        resized(tableSize);
+    }
+
+    /**
+     * Creates a new map with the same entries, load factor, seed, and default value as {@code other}.
+     *
+     * @param other another IntIntMap to copy
+     */
+    public IntIntMap(IntIntMap other) {
+        this.loadFactor = other.loadFactor;
+        this.seed = other.seed;
+        keys = other.keys.clone();
+        values = other.values.clone();
+        size = other.size;
+        hasZeroKey = other.hasZeroKey;
+        zeroValue = other.zeroValue;
+        defaultValue = other.defaultValue;
+        resized(keys.length);
+    }
+
+    private void resized(int tableSize) {
+        threshold = Math.min(tableSize - 1, (int) (tableSize * loadFactor));
+        mask = tableSize - 1;
+        shift = Long.numberOfLeadingZeros(mask);
+    }
+
+    /**
+     * Gets where {@code key} would go in the table if nothing else were there. Subclasses can override this to change
+     * how keys are mixed; it must return a value between 0 and {@link #mask}, inclusive, that depends only on the key
+     * and the seed.
+     *
+     * @param key any int key except 0
+     * @return the preferred index for key in {@link #keys}
+     */
+    protected int place(final int key) {
+        return PrimitiveTables.place(key, seed, shift);
+    }
+
+    /**
+     * Returns the index of key in {@link #keys} if present, or {@code ~index} of the empty slot where it would go.
+     */
+    private int locate(final int key) {
+        final int[] keys = this.keys;
+        for (int i = place(key); ; i = i + 1 & mask) {
+            final int other = keys[i];
+            if (other == key)
+                return i;
+            if (other == 0)
+                return ~i;
+        }
+    }
+
+    /**
+     * Associates {@code value} with {@code key}, replacing any value already associated with it.
+     *
+     * @param key   any int
+     * @param value any int
+     * @return the previous value associated with key, or {@link #getDefaultValue()} if there was none
+     */
+    public int put(int key, int value) {
+        if (key == 0) {
+            final int old = hasZeroKey ? zeroValue : defaultValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return old;
+        }
+        final int i = locate(key);
+        if (i >= 0) {
+            final int old = values[i];
+            values[i] = value;
+            return old;
+        }
+        keys[~i] = key;
+        values[~i] = value;
+        if (++size > threshold)
+            resize(PrimitiveTables.grow(keys.length));
+        return defaultValue;
+    }
+
+    /**
+     * Adds {@code amount} to the value associated with {@code key}, treating a missing key as having the value
+     * {@link #getDefaultValue()}.
+     *
+     * @param key    any int
+     * @param amount the amount to add
+     * @return the new value associated with key
+     */
+    public int add(int key, int amount) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+                zeroValue = defaultValue;
+            }
+            return zeroValue += amount;
+        }
+        final int i = locate(key);
+        if (i >= 0)
+            return values[i] += amount;
+        keys[~i] = key;
+        final int value = values[~i] = defaultValue + amount;
+        if (++size > threshold)
+            resize(PrimitiveTables.grow(keys.length));
+        return value;
+    }
+
+    /**
+     * Gets the value associated with {@code key}, or {@link #getDefaultValue()} if it isn't present.
+     *
+     * @param key any int
+     * @return the value associated with key, or the default value
+     */
+    public int get(int key) {
+        return get(key, defaultValue);
+    }
+
+    /**
+     * Gets the value associated with {@code key}, or {@code defaultValue} if it isn't present.
+     *
+     * @param key          any int
+     * @param defaultValue returned if key isn't present
+     * @return the value associated with key, or defaultValue
+     */
+    public int get(int key, int defaultValue) {
+        if (key == 0)
+            return hasZeroKey ? zeroValue : defaultValue;
+        final int[] keys = this.keys;
+        for (int i = place(key); ; i = i + 1 & mask) {
+            final int other = keys[i];
+            if (other == key)
+                return values[i];
+            if (other == 0)
+                return defaultValue;
+        }
+    }
+
+    /**
+     * @param key any int
+     * @return true if key is present in this map
+     */
+    public boolean containsKey(int key) {
+        return key == 0 ? hasZeroKey : locate(key) >= 0;
+    }
+
+    /**
+     * Removes {@code key} and its value, if present.
+     *
+     * @param key any int
+     * @return the value that was associated with key, or {@link #getDefaultValue()} if it wasn't present
+     */
+    public int remove(int key) {
+        if (key == 0) {
+            if (!hasZeroKey)
+                return defaultValue;
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+        final int i = locate(key);
+        if (i < 0)
+            return defaultValue;
+        final int old = values[i];
+        removeAt(i);
+        return old;
+    }
+
+    /**
+     * Empties slot i, then moves back any later entries in the same cluster that could be found sooner.
+     */
+    private void removeAt(int i) {
+        final int[] keys = this.keys;
+        int key;
+        for (int next = i + 1 & mask; (key = keys[next]) != 0; next = next + 1 & mask) {
+            final int placement = place(key);
+            if ((next - placement & mask) > (i - placement & mask)) {
+                keys[i] = key;
+                values[i] = values[next];
+                i = next;
+            }
+        }
+        keys[i] = 0;
+        size--;
+    }
+
+    /**
+     * @return how many entries this holds
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if this holds no entries
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all entries, keeping the current table size.
+     */
+    public void clear() {
+        if (size == 0)
+            return;
+        Arrays.fill(keys, 0);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    /**
+     * Makes sure this can hold {@code additionalCapacity} more entries without resizing.
+     *
+     * @param additionalCapacity how many entries might be added
+     */
+    public void ensureCapacity(int additionalCapacity) {
+        final int tableSize = PrimitiveTables.tableSize(size + additionalCapacity, loadFactor);
+        if (keys.length < tableSize)
+            resize(tableSize);
+    }
+
+    private void resize(int newSize) {
+        final int[] oldKeys = keys, oldValues = values;
+        keys = new int[newSize];
+        values = new int[newSize];
+        resized(newSize);
+        for (int i = 0; i < oldKeys.length; i++) {
+            final int key = oldKeys[i];
+            if (key != 0) {
+                int j = place(key);
+                while (keys[j] != 0)
+                    j = j + 1 & mask;
+                keys[j] = key;
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Calls {@code visitor} with each key and value in this map.
+     *
+     * @param visitor called once per entry
+     */
+    public void forEach(Visitor visitor) {
+        if (hasZeroKey)
+            visitor.visit(0, zeroValue);
+        final int[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0)
+                visitor.visit(keys[i], values[i]);
+        }
+    }
+
+    /**
+     * @return the value returned by {@link #get(int)} and others when a key isn't present
+     */
+    public int getDefaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * @param defaultValue the value to return from {@link #get(int)} and others when a key isn't present
+     */
+    public void setDefaultValue(int defaultValue) {
+        this.defaultValue = defaultValue;
+    }
+
+    /**
+     * @return the seed that decides where keys go
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public int hashCode() {
+        long h = hasZeroKey ? zeroValue * Hasher.b2 : 0L;
+        final int[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0)
+                h += (keys[i] ^ values[i] * Hasher.b2) * Hasher.b1;
+        }
+        return (int) (h ^ h >>> 32);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof IntIntMap))
+            return false;
+        final IntIntMap other = (IntIntMap) o;
+        if (other.size != size || other.hasZeroKey != hasZeroKey || (hasZeroKey && other.zeroValue != zeroValue))
+            return false;
+        final int[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            final int key = keys[i];
+            if (key != 0) {
+                final int j = other.locate(key);
+                if (j < 0 || other.values[j] != values[i])
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0)
+            return "{}";
+        final StringBuilder sb = new StringBuilder(size * 12).append('{');
+        if (hasZeroKey)
+            sb.append("0=").append(zeroValue).append(", ");
+        final int[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0)
+                sb.append(keys[i]).append('=').append(values[i]).append(", ");
+        }
+        sb.setLength(sb.length() - 2);
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of primitive ints, with no boxing. This uses open addressing with linear probing, and removes items by
+ * shifting later items back, so it never leaves tombstones. Where an item goes in the table is decided by mixing it
+ * with a seed, which can come from any {@link Hasher}; sets with different seeds put the same items in different
+ * orders. The item 0 is tracked separately, since 0 marks empty slots.
+ * <br>
+ * This is not thread-safe. Iteration order is unspecified, and changes when the set resizes.
+ */
+public class IntSet {
+    protected int[] keys;
+    protected int size;
+    protected boolean hasZeroKey;
+
+    protected final float loadFactor;
+    protected final long seed;
+    protected int threshold;
+    protected int shift;
+    protected int mask;
+
+    /**
+     * Creates a new set with room for 16 items before resizing, a load factor of 0.7, and the seed of
+     * {@link Hasher#alpha}.
+     */
+    public IntSet() {
+        this(16, 0.7f, Hasher.alpha.seed);
+    }
+
+    /**
+     * Creates a new set with room for {@code initialCapacity} items before resizing, a load factor of 0.7, and the
+     * seed of {@link Hasher#alpha}.
+     *
+     * @param initialCapacity how many items this can hold before resizing
+     */
+    public IntSet(int initialCapacity) {
+        this(initialCapacity, 0.7f, Hasher.alpha.seed);
+    }
+
+    /**
+     * Creates a new set with room for {@code initialCapacity} items before resizing, the given load factor, and the
+     * seed of {@link Hasher#alpha}.
+     *
+     * @param initialCapacity how many items this can hold before resizing
+     * @param loadFactor      between 0 and 1, exclusive; how full the table can get before resizing
+     */
+    public IntSet(int initialCapacity, float loadFactor) {
+        this(initialCapacity, loadFactor, Hasher.alpha.seed);
+    }
+
+    /**
+     * Creates a new set with room for {@code initialCapacity} items before resizing, the given load factor, and
+     * the seed of the given Hasher.
+     *
+     * @param initialCapacity how many items this can hold before resizing
+     * @param loadFactor      between 0 and 1, exclusive; how full the table can get before resizing
+     * @param hasher          a Hasher whose {@link Hasher#seed} decides where keys go
+     */
+    public IntSet(int initialCapacity, float loadFactor, Hasher hasher) {
+        this(initialCapacity, loadFactor, hasher.seed);
+    }
+
+    /**
+     * Creates a new set with room for {@code initialCapacity} items before resizing, the given load factor, and
+     * the given seed.
+     *
+     * @param initialCapacity how many items this can hold before resizing
+     * @param loadFactor      between 0 and 1, exclusive; how full the table can get before resizing
+     * @param seed            any long; decides where keys go
+     */
+    public IntSet(int initialCapacity, float loadFactor, long seed) {
+        if (!(loadFactor > 0f && loadFactor < 1f))
+            throw new IllegalArgumentException("loadFactor must be > 0 and < 1: " + loadFactor);
+        this.loadFactor = loadFactor;
+        this.seed = seed;
+        int tableSize = PrimitiveTables.tableSize(initialCapacity, loadFactor);
+        keys = new int[tableSize];
+        resized(tableSize);
+    }
+
+    /**
+     * Creates a new set with the same items, load factor, and seed as {@code other}.
+     *
+     * @param other another IntSet to copy
+     */
+    public IntSet(IntSet other) {
+        this.loadFactor = other.loadFactor;
+        this.seed = other.seed;
+        keys = other.keys.clone();
+        size = other.size;
+        hasZeroKey = other.hasZeroKey;
+        resized(keys.length);
+    }
+
+    private void resized(int tableSize) {
+        threshold = Math.min(tableSize - 1, (int) (tableSize * loadFactor));
+        mask = tableSize - 1;
+        shift = Long.numberOfLeadingZeros(mask);
+    }
+
+    /**
+     * Gets where {@code key} would go in the table if nothing else were there. Subclasses can override this to change
+     * how keys are mixed; it must return a value between 0 and {@link #mask}, inclusive, that depends only on the key
+     * and the seed.
+     *
+     * @param key any int key except 0
+     * @return the preferred index for key in {@link #keys}
+     */
+    protected int place(final int key) {
+        return PrimitiveTables.place(key, seed, shift);
+    }
+
+    /**
+     * Returns the index of key in {@link #keys} if present, or {@code ~index} of the empty slot where it would go.
+     */
+    private int locate(final int key) {
+        final int[] keys = this.keys;
+        for (int i = place(key); ; i = i + 1 & mask) {
+            final int other = keys[i];
+            if (other == key)
+                return i;
+            if (other == 0)
+                return ~i;
+        }
+    }
+
+    /**
+     * Adds {@code item} to this set, if it isn't already present.
+     *
+     * @param item any int
+     * @return true if item was added, or false if it was already present
+     */
+    public boolean add(int item) {
+        if (item == 0) {
+            if (hasZeroKey)
+                return false;
+            hasZeroKey = true;
+            size++;
+            return true;
+        }
+        final int i = locate(item);
+        if (i >= 0)
+            return false;
+        keys[~i] = item;
+        if (++size > threshold)
+            resize(PrimitiveTables.grow(keys.length));
+        return true;
+    }
+
+    /**
+     * Adds every item in {@code items} to this set.
+     *
+     * @param items an int array; may be null
+     * @return true if any item was added
+     */
+    public boolean addAll(int[] items) {
+        if (items == null)
+            return false;
+        ensureCapacity(items.length);
+        boolean changed = false;
+        for (int item : items)
+            changed |= add(item);
+        return changed;
+    }
+
+    /**
+     * @param item any int
+     * @return true if item is present in this set
+     */
+    public boolean contains(int item) {
+        return item == 0 ? hasZeroKey : locate(item) >= 0;
+    }
+
+    /**
+     * Removes {@code item}, if present.
+     *
+     * @param item any int
+     * @return true if item was present and removed
+     */
+    public boolean remove(int item) {
+        if (item == 0) {
+            if (!hasZeroKey)
+                return false;
+            hasZeroKey = false;
+            size--;
+            return true;
+        }
+        final int i = locate(item);
+        if (i < 0)
+            return false;
+        removeAt(i);
+        return true;
+    }
+
+    /**
+     * Empties slot i, then moves back any later items in the same cluster that could be found sooner.
+     */
+    private void removeAt(int i) {
+        final int[] keys = this.keys;
+        int key;
+        for (int next = i + 1 & mask; (key = keys[next]) != 0; next = next + 1 & mask) {
+            final int placement = place(key);
+            if ((next - placement & mask) > (i - placement & mask)) {
+                keys[i] = key;
+                i = next;
+            }
+        }
+        keys[i] = 0;
+        size--;
+    }
+
+    /**
+     * @return how many items this holds
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if this holds no items
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all items, keeping the current table size.
+     */
+    public void clear() {
+        if (size == 0)
+            return;
+        Arrays.fill(keys, 0);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    /**
+     * Makes sure this can hold {@code additionalCapacity} more items without resizing.
+     *
+     * @param additionalCapacity how many items might be added
+     */
+    public void ensureCapacity(int additionalCapacity) {
+        final int tableSize = PrimitiveTables.tableSize(size + additionalCapacity, loadFactor);
+        if (keys.length < tableSize)
+            resize(tableSize);
+    }
+
+    private void resize(int newSize) {
+        final int[] oldKeys = keys;
+        keys = new int[newSize];
+        resized(newSize);
+        for (int i = 0; i < oldKeys.length; i++) {
+            final int key = oldKeys[i];
+            if (key != 0) {
+                int j = place(key);
+                while (keys[j] != 0)
+                    j = j + 1 & mask;
+                keys[j] = key;
+            }
+        }
+    }
+
+    /**
+     * Calls {@code action} with each item in this set.
+     *
+     * @param action called once per item
+     */
+    public void forEach(IntConsumer action) {
+        if (hasZeroKey)
+            action.accept(0);
+        final int[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0)
+                action.accept(keys[i]);
+        }
+    }
+
+    /**
+     * @return a new int array holding every item in this set, in iteration order
+     */
+    public int[] toArray() {
+        final int[] items = new int[size];
+        int n = 0;
+        if (hasZeroKey)
+            items[n++] = 0;
+        final int[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0)
+                items[n++] = keys[i];
+        }
+        return items;
+    }
+
+    /**
+     * @return the seed that decides where keys go
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public int hashCode() {
+        long h = 0L;
+        final int[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0)
+                h += (keys[i] ^ Hasher.b2) * Hasher.b1;
+        }
+        return (int) (h ^ h >>> 32);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof IntSet))
+            return false;
+        final IntSet other = (IntSet) o;
+        if (other.size != size || other.hasZeroKey != hasZeroKey)
+            return false;
+        final int[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            final int key = keys[i];
+            if (key != 0) {
+                final int j = other.locate(key);
+                if (j < 0)
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0)
+            return "{}";
+        final StringBuilder sb = new StringBuilder(size * 8).append('{');
+        if (hasZeroKey)
+            sb.append("0, ");
+        final int[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0)
+                sb.append(keys[i]).append(", ");
+        }
+        sb.setLength(sb.length() - 2);
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import static com.github.tommyettinger.digital.Hasher.*;
+
+/**
+ * A keyed hash for when the input can come from someone who might want to cause collisions, such as the keys of a
+ * hash table filled from a network request. The seeds of {@link Hasher#predefined} and of {@code new Hasher(String)}
+ * can be computed by anyone, and Hasher's own algorithms also have some collisions that don't depend on the seed at
+ * all, so an attacker can pick many inputs that all hash alike and make each lookup take linear time. A KeyedHasher
+ * instead uses a 128-bit secret key, with the key mixed into every word of input before it is multiplied, so without
+ * knowing the key there's no way to know which inputs collide.
+ * <br>
+ * Use {@link #process()} to get the instance with a key drawn once per process from {@link java.security.SecureRandom}
+ * (or {@code crypto.getRandomValues()} on GWT), or {@link #newRandom()} for a fresh key each time. The key is never
+ * exposed; if several processes need to agree on hashes, create each with {@link #KeyedHasher(long, long)} and the
+ * same key. This is meant to stop hash-flooding, and is not a message authentication code; use a cryptographic MAC
+ * if you need one of those.
+ * <br>
+ * Results for a CharSequence and a char array with the same contents are the same, as are results for
+ * {@link #hash64(long)} and a long array holding only that long, and likewise for int. Null inputs hash to 0.
+ */
+public final class KeyedHasher {
+    private final long k0, k1;
+
+    /**
+     * Creates a KeyedHasher with the given 128-bit key, as two longs. The key should be secret and unpredictable.
+     *
+     * @param k0 the first 64 bits of the key
+     * @param k1 the last 64 bits of the key
+     */
+    public KeyedHasher(long k0, long k1) {
+        this.k0 = k0;
+        this.k1 = k1;
+    }
+
+    private static final class Holder {
+        static final KeyedHasher PROCESS = newRandom();
+    }
+
+    /**
+     * Gets the KeyedHasher whose key was drawn the first time this was called in this process. Every call returns the
+     * same instance, so hashes from it can be stored and compared, but only within one run.
+     *
+     * @return the per-process KeyedHasher
+     */
+    public static KeyedHasher process() {
+        return Holder.PROCESS;
+    }
+
+    /**
+     * Creates a KeyedHasher with a new unpredictable key.
+     *
+     * @return a new KeyedHasher with a random key
+     */
+    public static KeyedHasher newRandom() {
+        final long[] key = Entropy.secret128();
+        return new KeyedHasher(key[0], key[1]);
+    }
+
+    /**
+     * Absorbs one 64-bit word. The key goes into both operands of the multiply in {@link Hasher#wow(long, long)}, so
+     * neither operand can be steered to a chosen value, such as one that cancels the state.
+     */
+    private long absorb(final long h, final long word) {
+        return wow(h ^ k1, word ^ k0);
+    }
+
+    private long start(final int len) {
+        return k0 ^ (len + b0) * b1;
+    }
+
+    private long finish(long h, final int len) {
+        h = wow(h ^ k1 ^ b3, len ^ k0 ^ b4);
+        h = (h ^ h >>> 29) * b5;
+        return h ^ h >>> 32;
+    }
+
+    public long hash64(final long data) {
+        return finish(absorb(start(1), data), 1);
+    }
+
+    public int hash(final long data) {
+        return (int) hash64(data);
+    }
+
+    public long hash64(final int data) {
+        return finish(absorb(start(1), (data & 0xFFFFFFFFL) ^ b2), 1);
+    }
+
+    public int hash(final int data) {
+        return (int) hash64(data);
+    }
+
+    public long hash64(final CharSequence data) {
+        if (data == null) return 0;
+        final int len = data.length();
+        long h = start(len);
+        int i = 0;
+        for (final int limit = len - 3; i < limit; i += 4) {
+            h = absorb(h, data.charAt(i) | (long) data.charAt(i + 1) << 16
+                    | (long) data.charAt(i + 2) << 32 | (long) data.charAt(i + 3) << 48);
+        }
+        if (i < len) {
+            long w = 0L;
+            for (int s = 0; i < len; i++, s += 16) w |= (long) data.charAt(i) << s;
+            h = absorb(h, w ^ b2);
+        }
+        return finish(h, len);
+    }
+
+    public int hash(final CharSequence data) {
+        return (int) hash64(data);
+    }
+
+    public long hash64(final char[] data) {
+        if (data == null) return 0;
+        final int len = data.length;
+        long h = start(len);
+        int i = 0;
+        for (final int limit = len - 3; i < limit; i += 4) {
+            h = absorb(h, data[i] | (long) data[i + 1] << 16 | (long) data[i + 2] << 32 | (long) data[i + 3] << 48);
+        }
+        if (i < len) {
+            long w = 0L;
+            for (int s = 0; i < len; i++, s += 16) w |= (long) data[i] << s;
+            h = absorb(h, w ^ b2);
+        }
+        return finish(h, len);
+    }
+
+    public int hash(final char[] data) {
+        return (int) hash64(data);
+    }
+
+    public long hash64(final byte[] data) {
+        if (data == null) return 0;
+        final int len = data.length;
+        long h = start(len);
+        int i = 0;
+        for (final int limit = len - 7; i < limit; i += 8) {
+            h = absorb(h, BitConversion.readLongLE(data, i));
+        }
+        if (i < len) {
+            h = absorb(h, Hasher.readPartialLE(data, i, len) ^ b2);
+        }
+        return finish(h, len);
+    }
+
+    public int hash(final byte[] data) {
+        return (int) hash64(data);
+    }
+
+    public long hash64(final int[] data) {
+        if (data == null) return 0;
+        final int len = data.length;
+        long h = start(len);
+        int i = 0;
+        for (final int limit = len - 1; i < limit; i += 2) {
+            h = absorb(h, (data[i] & 0xFFFFFFFFL) | (long) data[i + 1] << 32);
+        }
+        if (i < len) {
+            h = absorb(h, (data[i] & 0xFFFFFFFFL) ^ b2);
+        }
+        return finish(h, len);
+    }
+
+    public int hash(final int[] data) {
+        return (int) hash64(data);
+    }
+
+    public long hash64(final long[] data) {
+        if (data == null) return 0;
+        final int len = data.length;
+        long h = start(len);
+        for (int i = 0; i < len; i++) {
+            h = absorb(h, data[i]);
+        }
+        return finish(h, len);
+    }
+
+    public int hash(final long[] data) {
+        return (int) hash64(data);
+    }
+
+    @Override
+    public String toString() {
+        return "KeyedHasher{key hidden}";
+    }
+}
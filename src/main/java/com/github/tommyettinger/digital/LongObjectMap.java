@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A map from primitive long keys to Object values, with no boxing of keys. This uses open addressing with linear
+ * probing in two parallel arrays, and removes entries by shifting later entries back, so it never leaves tombstones.
+ * Where a key goes in the table is decided by mixing it with a seed, which can come from any {@link Hasher}; maps with
+ * different seeds put the same keys in different orders. The key 0 is stored separately, since 0 marks empty slots.
+ * <br>
+ * Looking up a key that isn't present returns null, unless a different default is given to
+ * {@link #get(long, Object)}. Null values are allowed, but can't be told apart from missing keys by {@link #get(long)};
+ * use {@link #containsKey(long)} for that. This is not thread-safe. Iteration order is unspecified, and changes when
+ * the map resizes.
+ *
+ * @param <V> the type of values
+ */
+public class LongObjectMap<V> {
+    /**
+     * Called by {@link #forEach(Visitor)} for each entry.
+     */
+    public interface Visitor<V> {
+        void visit(long key, V value);
+    }
+
+    protected long[] keys;
+    protected V[] values;
+    protected int size;
+    protected boolean hasZeroKey;
+    protected V zeroValue;
+
+    protected final float loadFactor;
+    protected final long seed;
+    protected int threshold;
+    protected int shift;
+    protected int mask;
+
+    /**
+     * Creates a new map with room for 16 entries before resizing, a load factor of 0.7, and the seed of
+     * {@link Hasher#alpha}.
+     */
+    public LongObjectMap() {
+        this(16, 0.7f, Hasher.alpha.seed);
+    }
+
+    /**
+     * Creates a new map with room for {@code initialCapacity} entries before resizing, a load factor of 0.7, and the
+     * seed of {@link Hasher#alpha}.
+     *
+     * @param initialCapacity how many entries this can hold before resizing
+     */
+    public LongObjectMap(int initialCapacity) {
+        this(initialCapacity, 0.7f, Hasher.alpha.seed);
+    }
+
+    /**
+     * Creates a new map with room for {@code initialCapacity} entries before resizing, the given load factor, and the
+     * seed of {@link Hasher#alpha}.
+     *
+     * @param initialCapacity how many entries this can hold before resizing
+     * @param loadFactor      between 0 and 1, exclusive; how full the table can get before resizing
+     */
+    public LongObjectMap(int initialCapacity, float loadFactor) {
+        this(initialCapacity, loadFactor, Hasher.alpha.seed);
+    }
+
+    /**
+     * Creates a new map with room for {@code initialCapacity} entries before resizing, the given load factor, and
+     * the seed of the given Hasher.
+     *
+     * @param initialCapacity how many entries this can hold before resizing
+     * @param loadFactor      between 0 and 1, exclusive; how full the table can get before resizing
+     * @param hasher          a Hasher whose {@link Hasher#seed} decides where keys go
+     */
+    public LongObjectMap(int initialCapacity, float loadFactor, Hasher hasher) {
+        this(initialCapacity, loadFactor, hasher.seed);
+    }
+
+    /**
+     * Creates a new map with room for {@code initialCapacity} entries before resizing, the given load factor, and
+     * the given seed.
+     *
+     * @param initialCapacity how many entries this can hold before resizing
+     * @param loadFactor      between 0 and 1, exclusive; how full the table can get before resizing
+     * @param seed            any long; decides where keys go
+     */
+    public LongObjectMap(int initialCapacity, float loadFactor, long seed) {
+        if (!(loadFactor > 0f && loadFactor < 1f))
+            throw new IllegalArgumentException("loadFactor must be > 0 and < 1: " + loadFactor);
+        this.loadFactor = loadFactor;
+        this.seed = seed;
+        int tableSize = PrimitiveTables.tableSize(initialCapacity, loadFactor);
+        keys = new long[tableSize];
+        values = newArray(tableSize);
+        resized(tableSize);
+    }
+
+    /**
+     * Creates a new map with the same entries, load factor, and seed as {@code other}. The value objects are shared, not copied.
+     *
+     * @param other another LongObjectMap to copy
+     */
+    public LongObjectMap(LongObjectMap<? extends V> other) {
+        this.loadFactor = other.loadFactor;
+        this.seed = other.seed;
+        keys = other.keys.clone();
+        values = other.values.clone();
+        size = other.size;
+        hasZeroKey = other.hasZeroKey;
+        zeroValue = other.zeroValue;
+        resized(keys.length);
+    }
+
+    private void resized(int tableSize) {
+        threshold = Math.min(tableSize - 1, (int) (tableSize * loadFactor));
+        mask = tableSize - 1;
+        shift = Long.numberOfLeadingZeros(mask);
+    }
+
+    /**
+     * Gets where {@code key} would go in the table if nothing else were there. Subclasses can override this to change
+     * how keys are mixed; it must return a value between 0 and {@link #mask}, inclusive, that depends only on the key
+     * and the seed.
+     *
+     * @param key any long key except 0
+     * @return the preferred index for key in {@link #keys}
+     */
+    protected int place(final long key) {
+        return PrimitiveTables.place(key, seed, shift);
+    }
+
+    /**
+     * Returns the index of key in {@link #keys} if present, or {@code ~index} of the empty slot where it would go.
+     */
+    private int locate(final long key) {
+        final long[] keys = this.keys;
+        for (int i = place(key); ; i = i + 1 & mask) {
+            final long other = keys[i];
+            if (other == key)
+                return i;
+            if (other == 0)
+                return ~i;
+        }
+    }
+
+    /**
+     * Associates {@code value} with {@code key}, replacing any value already associated with it.
+     *
+     * @param key   any long
+     * @param value any V, including null
+     * @return the previous value associated with key, or null if there was none
+     */
+    public V put(long key, V value) {
+        if (key == 0) {
+            final V old = hasZeroKey ? zeroValue : null;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return old;
+        }
+        final int i = locate(key);
+        if (i >= 0) {
+            final V old = values[i];
+            values[i] = value;
+            return old;
+        }
+        keys[~i] = key;
+        values[~i] = value;
+        if (++size > threshold)
+            resize(PrimitiveTables.grow(keys.length));
+        return null;
+    }
+
+    /**
+     * Gets the value associated with {@code key}, or null if it isn't present.
+     *
+     * @param key any long
+     * @return the value associated with key, or null
+     */
+    public V get(long key) {
+        return get(key, null);
+    }
+
+    /**
+     * Gets the value associated with {@code key}, or {@code defaultValue} if it isn't present.
+     *
+     * @param key          any long
+     * @param defaultValue returned if key isn't present
+     * @return the value associated with key, or defaultValue
+     */
+    public V get(long key, V defaultValue) {
+        if (key == 0)
+            return hasZeroKey ? zeroValue : defaultValue;
+        final long[] keys = this.keys;
+        for (int i = place(key); ; i = i + 1 & mask) {
+            final long other = keys[i];
+            if (other == key)
+                return values[i];
+            if (other == 0)
+                return defaultValue;
+        }
+    }
+
+    /**
+     * @param key any long
+     * @return true if key is present in this map
+     */
+    public boolean containsKey(long key) {
+        return key == 0 ? hasZeroKey : locate(key) >= 0;
+    }
+
+    /**
+     * Removes {@code key} and its value, if present.
+     *
+     * @param key any long
+     * @return the value that was associated with key, or null if it wasn't present
+     */
+    public V remove(long key) {
+        if (key == 0) {
+            if (!hasZeroKey)
+                return null;
+            final V old = zeroValue;
+            hasZeroKey = false;
+            zeroValue = null;
+            size--;
+            return old;
+        }
+        final int i = locate(key);
+        if (i < 0)
+            return null;
+        final V old = values[i];
+        removeAt(i);
+        return old;
+    }
+
+    /**
+     * Empties slot i, then moves back any later entries in the same cluster that could be found sooner.
+     */
+    private void removeAt(int i) {
+        final long[] keys = this.keys;
+        long key;
+        for (int next = i + 1 & mask; (key = keys[next]) != 0; next = next + 1 & mask) {
+            final int placement = place(key);
+            if ((next - placement & mask) > (i - placement & mask)) {
+                keys[i] = key;
+                values[i] = values[next];
+                i = next;
+            }
+        }
+        keys[i] = 0;
+        values[i] = null;
+        size--;
+    }
+
+    /**
+     * @return how many entries this holds
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if this holds no entries
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all entries, keeping the current table size.
+     */
+    public void clear() {
+        if (size == 0)
+            return;
+        Arrays.fill(keys, 0L);
+        Arrays.fill(values, null);
+        hasZeroKey = false;
+        zeroValue = null;
+        size = 0;
+    }
+
+    /**
+     * Makes sure this can hold {@code additionalCapacity} more entries without resizing.
+     *
+     * @param additionalCapacity how many entries might be added
+     */
+    public void ensureCapacity(int additionalCapacity) {
+        final int tableSize = PrimitiveTables.tableSize(size + additionalCapacity, loadFactor);
+        if (keys.length < tableSize)
+            resize(tableSize);
+    }
+
+    private void resize(int newSize) {
+        final long[] oldKeys = keys;
+        final V[] oldValues = values;
+        keys = new long[newSize];
+        values = newArray(newSize);
+        resized(newSize);
+        for (int i = 0; i < oldKeys.length; i++) {
+            final long key = oldKeys[i];
+            if (key != 0) {
+                int j = place(key);
+                while (keys[j] != 0)
+                    j = j + 1 & mask;
+                keys[j] = key;
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Calls {@code visitor} with each key and value in this map.
+     *
+     * @param visitor called once per entry
+     */
+    public void forEach(Visitor<? super V> visitor) {
+        if (hasZeroKey)
+            visitor.visit(0, zeroValue);
+        final long[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0)
+                visitor.visit(keys[i], values[i]);
+        }
+    }
+
+    /**
+     * @return the seed that decides where keys go
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V[] newArray(int size) {
+        return (V[]) new Object[size];
+    }
+
+    @Override
+    public int hashCode() {
+        long h = hasZeroKey ? Objects.hashCode(zeroValue) * Hasher.b2 : 0L;
+        final long[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0)
+                h += (keys[i] ^ Objects.hashCode(values[i]) * Hasher.b2) * Hasher.b1;
+        }
+        return (int) (h ^ h >>> 32);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof LongObjectMap))
+            return false;
+        final LongObjectMap<?> other = (LongObjectMap<?>) o;
+        if (other.size != size || other.hasZeroKey != hasZeroKey || (hasZeroKey && !Objects.equals(other.zeroValue, zeroValue)))
+            return false;
+        final long[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            final long key = keys[i];
+            if (key != 0) {
+                final int j = other.locate(key);
+                if (j < 0 || !Objects.equals(other.values[j], values[i]))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0)
+            return "{}";
+        final StringBuilder sb = new StringBuilder(size * 16).append('{');
+        if (hasZeroKey)
+            sb.append("0=").append(zeroValue).append(", ");
+        final long[] keys = this.keys;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0)
+                sb.append(keys[i]).append('=').append(values[i]).append(", ");
+        }
+        sb.setLength(sb.length() - 2);
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.Arrays;
+
+/**
+ * A locality-sensitive hashing index over {@link MinHash} signatures, using the banding technique: each signature is
+ * split into {@link #bands} bands of {@link #rows} values, and two documents are candidates if any whole band of
+ * theirs matches. Pairs with Jaccard similarity s become candidates with probability {@code 1 - (1 - s^rows)^bands},
+ * which rises steeply around {@link #threshold()}. A query only looks at documents that share a band, so it takes
+ * time in proportion to how many candidates there are, not to how many documents are in the index.
+ * <br>
+ * Each band's values are hashed to a 64-bit key. Each distinct key is kept once, in an open-addressing table with
+ * linear probing, along with the head of a chain of every document that has that band, so adding a document costs
+ * the same however many near-duplicates it has. Neither adding nor querying allocates unless the index has to grow,
+ * but a query uses scratch space in the index, so an LshIndex must not be used by more than one thread at a time.
+ * Candidates are only candidates; check them with {@link MinHash#similarity(long[], long[])} or exactly.
+ */
+public class LshIndex {
+    /**
+     * How many bands each signature is split into.
+     */
+    public final int bands;
+    /**
+     * How many signature values are in each band.
+     */
+    public final int rows;
+    /**
+     * The seed used to hash bands and place them in the table.
+     */
+    public final long seed;
+
+    private final Hasher hasher;
+    /**
+     * Distinct band keys, with 0 for an empty slot, and the last entry added for each key.
+     */
+    private long[] keys;
+    private int[] heads;
+    private int distinct;
+    private int mask;
+    private int shift;
+    private int threshold;
+    /**
+     * Entry {@code document * bands + band} holds that band's key and the entry before it with the same key, or -1.
+     */
+    private long[] entryKeys;
+    private int[] next;
+    private long[] ids;
+    private int size;
+    private final long[] queryKeys;
+
+    /**
+     * Creates an empty LshIndex for signatures with at least {@code bands * rows} values.
+     *
+     * @param hasher   the Hasher used to hash bands; must not be null
+     * @param bands    how many bands each signature is split into; must be positive
+     * @param rows     how many values are in each band; must be positive
+     * @param capacity how many documents to expect; the index grows if it gets more
+     */
+    public LshIndex(final Hasher hasher, final int bands, final int rows, final int capacity) {
+        if (bands < 1 || rows < 1)
+            throw new IllegalArgumentException("bands and rows must be positive: " + bands + ", " + rows);
+        if (capacity < 0)
+            throw new IllegalArgumentException("capacity must be >= 0: " + capacity);
+        this.bands = bands;
+        this.rows = rows;
+        this.seed = hasher.seed;
+        this.hasher = hasher;
+        final int documents = Math.min(Math.max(capacity, 1), (Integer.MAX_VALUE - 8) / bands);
+        ids = new long[documents];
+        entryKeys = new long[documents * bands];
+        next = new int[documents * bands];
+        queryKeys = new long[bands];
+        allocate(PrimitiveTables.tableSize((int) Math.min((long) documents * bands, PrimitiveTables.MAX_TABLE_SIZE >>> 1), 0.5f));
+    }
+
+    private void allocate(final int tableSize) {
+        keys = new long[tableSize];
+        heads = new int[tableSize];
+        mask = tableSize - 1;
+        shift = Long.numberOfLeadingZeros(mask);
+        threshold = tableSize >>> 1;
+    }
+
+    /**
+     * Gets the Jaccard similarity where a pair has about even odds of becoming a candidate, approximately
+     * {@code (1 / bands) ^ (1 / rows)}.
+     *
+     * @return the similarity threshold of this index
+     */
+    public double threshold() {
+        return Math.pow(1.0 / bands, 1.0 / rows);
+    }
+
+    /**
+     * Gets the probability that a pair with the given Jaccard similarity becomes a candidate.
+     *
+     * @param similarity a Jaccard similarity, from 0.0 to 1.0
+     * @return the probability that two such documents share at least one band
+     */
+    public double candidateProbability(final double similarity) {
+        return 1.0 - Math.pow(1.0 - Math.pow(similarity, rows), bands);
+    }
+
+    /**
+     * Gets how many documents have been added to this index.
+     *
+     * @return the number of documents stored
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all documents, keeping the current tables.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        distinct = 0;
+        size = 0;
+    }
+
+    private long bandKey(final long[] signature, final int band) {
+        // a key of 0 marks an empty slot, so keys always have their lowest bit set
+        return hasher.hash64(signature, band * rows, rows) + band * Hasher.b3 | 1L;
+    }
+
+    /**
+     * Finds the slot holding key, or the empty slot where it would go.
+     */
+    private int locate(final long key) {
+        int i = PrimitiveTables.place(key, seed, shift);
+        long k;
+        while ((k = keys[i]) != 0L && k != key) i = i + 1 & mask;
+        return i;
+    }
+
+    /**
+     * Adds a document with the given id and signature. Each call adds a separate document, so adding the same id
+     * twice makes {@link #query(long[], long[])} report it twice.
+     *
+     * @param id        any long identifying the document
+     * @param signature a finished signature with at least {@code bands * rows} values
+     */
+    public void add(final long id, final long[] signature) {
+        if (signature.length < bands * rows)
+            throw new IllegalArgumentException("signature must have at least " + bands * rows + " values: " + signature.length);
+        if (size == ids.length) growEntries();
+        if (distinct + bands > threshold) resize(distinct + bands);
+        final int first = size * bands;
+        for (int b = 0; b < bands; b++) {
+            final long key = bandKey(signature, b);
+            final int i = locate(key), e = first + b;
+            if (keys[i] == 0L) {
+                keys[i] = key;
+                next[e] = -1;
+                distinct++;
+            } else {
+                next[e] = heads[i];
+            }
+            heads[i] = e;
+            entryKeys[e] = key;
+        }
+        ids[size++] = id;
+    }
+
+    private void growEntries() {
+        final int limit = (Integer.MAX_VALUE - 8) / bands;
+        if (size >= limit)
+            throw new IllegalStateException("An LshIndex with " + bands + " bands can't hold more than " + limit + " documents.");
+        final int documents = (int) Math.min((long) size << 1, limit);
+        ids = Arrays.copyOf(ids, documents);
+        entryKeys = Arrays.copyOf(entryKeys, documents * bands);
+        next = Arrays.copyOf(next, documents * bands);
+    }
+
+    private void resize(final int needed) {
+        int tableSize = keys.length;
+        while (needed > tableSize >>> 1) tableSize = PrimitiveTables.grow(tableSize);
+        if (tableSize == keys.length) return;
+        final long[] oldKeys = keys;
+        final int[] oldHeads = heads;
+        allocate(tableSize);
+        for (int j = 0; j < oldKeys.length; j++) {
+            final long key = oldKeys[j];
+            if (key == 0L) continue;
+            final int i = locate(key);
+            keys[i] = key;
+            heads[i] = oldHeads[j];
+        }
+    }
+
+    /**
+     * Finds the ids of documents that share at least one band with {@code signature}, each document reported once,
+     * and puts them at the start of {@code out}. If there are more candidates than fit in out, the rest are not
+     * written, but are still counted in the return value, so a query can be repeated with a big enough array.
+     *
+     * @param signature a finished signature with at least {@code bands * rows} values
+     * @param out       receives candidate ids
+     * @return how many candidates there are; if more than out.length, only out.length were written
+     */
+    public int query(final long[] signature, final long[] out) {
+        if (signature.length < bands * rows)
+            throw new IllegalArgumentException("signature must have at least " + bands * rows + " values: " + signature.length);
+        final long[] queryKeys = this.queryKeys, entryKeys = this.entryKeys;
+        final int limit = out.length;
+        int found = 0;
+        for (int b = 0; b < bands; b++) {
+            final long key = queryKeys[b] = bandKey(signature, b);
+            final int slot = locate(key);
+            if (keys[slot] == 0L) continue;
+            chain:
+            for (int e = heads[slot]; e >= 0; e = next[e]) {
+                // a document is reported in the first band it shares with the query
+                final int first = e - b;
+                for (int earlier = 0; earlier < b; earlier++) {
+                    if (entryKeys[first + earlier] == queryKeys[earlier]) continue chain;
+                }
+                if (found < limit) out[found] = ids[first / bands];
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public String toString() {
+        return "LshIndex{bands=" + bands + ", rows=" + rows + ", size=" + size + '}';
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.Arrays;
+
+/**
+ * Makes MinHash signatures of sets of tokens, such as the words or shingles in a document, so that the fraction of
+ * positions where two signatures are equal estimates the Jaccard similarity of the two sets. Signatures are kept in
+ * long arrays you provide: {@link #clear(long[])} one, {@link #update(long[], CharSequence)} it with each token in
+ * one pass, then {@link #finish(long[])} it. Updating doesn't allocate, and the order of tokens doesn't matter.
+ * <br>
+ * There are two ways to make a signature:
+ * <ul>
+ *     <li>k-permutation MinHash keeps the smallest value of each of {@link #size} different permutations of the token
+ *     hashes. Each permutation is {@link Hasher#randomize2(long)} after xoring with the seed of a different
+ *     {@link Hasher#predefined} Hasher, so size can be at most 192. Each token costs size permutations.</li>
+ *     <li>One-permutation MinHash splits the token hashes into size bins and keeps the smallest value in each bin, so
+ *     each token costs one step, and size can be anything. Bins that no token fell into are filled when finishing,
+ *     by optimal densification: each empty bin copies a bin that was filled, chosen by a fixed random sequence.</li>
+ * </ul>
+ * Both give unbiased estimates with about the same variance. Signatures can be shrunk to ints with
+ * {@link #compact(long[], int[])}, and bands of a signature can be indexed with {@link LshIndex} to find similar
+ * documents quickly.
+ */
+public class MinHash {
+    /**
+     * The value in a slot that no token has reached yet.
+     */
+    public static final long EMPTY = Long.MAX_VALUE;
+
+    /**
+     * How many values are in a signature.
+     */
+    public final int size;
+    /**
+     * If true, this uses one-permutation MinHash; otherwise, it uses k-permutation MinHash.
+     */
+    public final boolean onePermutation;
+    /**
+     * The seed used to hash tokens and, for one-permutation MinHash, to permute them.
+     */
+    public final long seed;
+
+    private final Hasher hasher;
+    private final long[] seeds;
+
+    /**
+     * Creates a MinHash that makes signatures of the given size, using the given Hasher to hash tokens.
+     *
+     * @param hasher         the Hasher used to hash tokens; must not be null
+     * @param size           how many values are in each signature; at most 192 for k-permutation
+     * @param onePermutation if true, use one-permutation MinHash, which is faster and allows any size
+     */
+    public MinHash(final Hasher hasher, final int size, final boolean onePermutation) {
+        if (size < 1 || (!onePermutation && size > Hasher.predefined.length))
+            throw new IllegalArgumentException("size must be between 1 and " + (onePermutation ? "2 to the 31" :
+                    Hasher.predefined.length) + ": " + size);
+        this.size = size;
+        this.onePermutation = onePermutation;
+        this.seed = hasher.seed;
+        this.hasher = hasher;
+        if (onePermutation) {
+            seeds = null;
+        } else {
+            seeds = new long[size];
+            for (int i = 0; i < size; i++) {
+                seeds[i] = Hasher.predefined[i].seed;
+            }
+        }
+    }
+
+    /**
+     * Prepares {@code signature} for a new set of tokens.
+     *
+     * @param signature a long array with a length of at least {@link #size}
+     * @return signature, for chaining
+     */
+    public long[] clear(final long[] signature) {
+        Arrays.fill(signature, 0, size, EMPTY);
+        return signature;
+    }
+
+    /**
+     * Updates {@code signature} with a token, given by its 64-bit hash.
+     *
+     * @param signature a signature prepared with {@link #clear(long[])}
+     * @param tokenHash a 64-bit hash of a token, well-mixed in all bits
+     */
+    public void update(final long[] signature, final long tokenHash) {
+        if (onePermutation) {
+            final int bin = (int) ((tokenHash >>> 32) * size >>> 32);
+            final long value = Hasher.randomize2(tokenHash ^ seed) >>> 1;
+            if (value < signature[bin]) signature[bin] = value;
+        } else {
+            final long[] seeds = this.seeds;
+            for (int i = 0; i < size; i++) {
+                final long value = Hasher.randomize2(tokenHash ^ seeds[i]) >>> 1;
+                if (value < signature[i]) signature[i] = value;
+            }
+        }
+    }
+
+    /**
+     * Updates {@code signature} with a token, hashed with {@link Hasher#hash64(CharSequence)}.
+     *
+     * @param signature a signature prepared with {@link #clear(long[])}
+     * @param token     a CharSequence; may be null
+     */
+    public void update(final long[] signature, final CharSequence token) {
+        update(signature, hasher.hash64(token));
+    }
+
+    /**
+     * Updates {@code signature} with a token, hashed with {@link Hasher#hash64(byte[])}.
+     *
+     * @param signature a signature prepared with {@link #clear(long[])}
+     * @param token     a byte array; may be null
+     */
+    public void update(final long[] signature, final byte[] token) {
+        update(signature, hasher.hash64(token));
+    }
+
+    /**
+     * Updates {@code signature} with every run of {@code width} chars in {@code text}, hashed in place with
+     * {@link Hasher#hash64(CharSequence, int, int)}. If text is shorter than width, all of it is one shingle.
+     *
+     * @param signature a signature prepared with {@link #clear(long[])}
+     * @param text      a CharSequence; may be null, which adds nothing
+     * @param width     how many chars are in each shingle; must be positive
+     */
+    public void updateShingles(final long[] signature, final CharSequence text, final int width) {
+        if (width < 1) throw new IllegalArgumentException("width must be positive: " + width);
+        if (text == null || text.length() == 0) return;
+        final int last = Math.max(0, text.length() - width);
+        for (int i = 0; i <= last; i++) {
+            update(signature, hasher.hash64(text, i, i + width));
+        }
+    }
+
+    /**
+     * Finishes {@code signature} after its last token. This only changes anything for one-permutation MinHash, where
+     * it fills empty bins; if no tokens were added at all, every slot stays {@link #EMPTY}.
+     *
+     * @param signature a signature that has been given all its tokens
+     * @return signature, for chaining
+     */
+    public long[] finish(final long[] signature) {
+        if (!onePermutation) return signature;
+        boolean any = false, empty = false;
+        for (int i = 0; i < size; i++) {
+            if (signature[i] == EMPTY) empty = true;
+            else any = true;
+        }
+        if (!any || !empty) return signature;
+        // Copies are marked by their sign bit, so only bins filled by tokens are copied from.
+        for (int i = 0; i < size; i++) {
+            if (signature[i] != EMPTY) continue;
+            long state = seed + i * Hasher.b2;
+            while (true) {
+                final int from = (int) ((Hasher.randomize1(state += Hasher.b1) >>> 32) * size >>> 32);
+                final long value = signature[from];
+                if (value >= 0L && value != EMPTY) {
+                    signature[i] = value | Long.MIN_VALUE;
+                    break;
+                }
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            signature[i] &= Long.MAX_VALUE;
+        }
+        return signature;
+    }
+
+    /**
+     * Estimates the Jaccard similarity of the two sets that made {@code a} and {@code b}, as the fraction of
+     * positions where they are equal. Both should come from MinHash objects with the same size, seed, and method.
+     *
+     * @param a a finished signature
+     * @param b another finished signature
+     * @return the estimated similarity, from 0.0 to 1.0
+     */
+    public static double similarity(final long[] a, final long[] b) {
+        final int n = Math.min(a.length, b.length);
+        if (n == 0) return 0.0;
+        int same = 0;
+        for (int i = 0; i < n; i++) {
+            if (a[i] == b[i]) same++;
+        }
+        return (double) same / n;
+    }
+
+    /**
+     * Shrinks each value of {@code signature} to 32 bits, so a signature takes half the memory. Equal values stay
+     * equal, and different values only become equal with probability 2 to the -32.
+     *
+     * @param signature a finished signature
+     * @param out       receives the shrunk values; must be at least as long as signature
+     * @return out, for chaining
+     */
+    public static int[] compact(final long[] signature, final int[] out) {
+        for (int i = 0; i < signature.length; i++) {
+            final long v = signature[i];
+            out[i] = (int) (v ^ v >>> 32);
+        }
+        return out;
+    }
+
+    /**
+     * Estimates the Jaccard similarity of the two sets that made {@code a} and {@code b}, as with
+     * {@link #similarity(long[], long[])}, for signatures shrunk by {@link #compact(long[], int[])}.
+     *
+     * @param a a compacted signature
+     * @param b another compacted signature
+     * @return the estimated similarity, from 0.0 to 1.0
+     */
+    public static double similarity(final int[] a, final int[] b) {
+        final int n = Math.min(a.length, b.length);
+        if (n == 0) return 0.0;
+        int same = 0;
+        for (int i = 0; i < n; i++) {
+            if (a[i] == b[i]) same++;
+        }
+        return (double) same / n;
+    }
+
+    @Override
+    public String toString() {
+        return "MinHash{size=" + size + ", onePermutation=" + onePermutation + ", seed=" + seed + '}';
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+/**
+ * Shared sizing and mixing for {@link LongLongMap}, {@link IntIntMap}, {@link LongObjectMap}, {@link IntSet}, and
+ * {@link LshIndex}.
+ */
+final class PrimitiveTables {
+    /**
+     * The largest table size, in slots.
+     */
+    static final int MAX_TABLE_SIZE = 1 << 30;
+
+    private PrimitiveTables() {
+    }
+
+    /**
+     * Gets the smallest power of two table size, at least 2, that can hold {@code capacity} entries without going
+     * over {@code loadFactor}.
+     */
+    static int tableSize(int capacity, float loadFactor) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("capacity must be >= 0: " + capacity);
+        final long needed = (long) Math.ceil(capacity / (double) loadFactor);
+        if (needed > MAX_TABLE_SIZE)
+            throw new IllegalArgumentException("The required capacity is too large: " + capacity);
+        return needed <= 2 ? 2 : Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    /**
+     * Gets the table size after {@code tableSize}, or throws if the table can't grow any more.
+     */
+    static int grow(int tableSize) {
+        if (tableSize >= MAX_TABLE_SIZE)
+            throw new IllegalStateException("The table can't grow past " + MAX_TABLE_SIZE + " slots.");
+        return tableSize << 1;
+    }
+
+    /**
+     * Mixes key with seed and keeps the top {@code 64 - shift} bits. Both multiplications are by odd numbers and
+     * the xors are reversible, so different keys never produce the same 64-bit mix.
+     */
+    static int place(final long key, final long seed, final int shift) {
+        final long h = (key ^ seed) * Hasher.b1;
+        return (int) ((h ^ h >>> 32 ^ seed) * Hasher.b4 >>> shift);
+    }
+}
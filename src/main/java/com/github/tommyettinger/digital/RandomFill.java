@@ -0,0 +1,635 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fills arrays with the results of {@link Hasher#randomize1(long)}, {@link Hasher#randomize2(long)}, and
+ * {@link Hasher#randomize3(long)}, or their Float, Double, and Bounded variants, given consecutive states. Each filled
+ * item is exactly what the scalar method returns for its state: after
+ * {@code fillRandomize2Floats(startState, out, offset, length)}, {@code out[offset + i]} is
+ * {@code Hasher.randomize2Float(startState + i)}. This makes the randomize methods usable as a counter-based random
+ * number generator for large buffers, such as noise, without a loop in user code.
+ * <br>
+ * The serial loops work on four consecutive states at a time, which don't depend on each other, so the CPU can
+ * overlap their multiplications. Ranges of more than {@link #PARALLEL_THRESHOLD} items are split into chunks that are
+ * filled on the {@link ForkJoinPool#commonPool()}; because each item only depends on its own state, the result is
+ * the same however the work is split.
+ * <br>
+ * This class uses {@link ForkJoinPool}, so it is not available on GWT; there, loop over the Hasher methods directly.
+ */
+public final class RandomFill {
+    /**
+     * Ranges with more items than this are filled in parallel chunks.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /**
+     * How many items each parallel task fills, at most.
+     */
+    private static final int CHUNK = 1 << 14;
+
+    private RandomFill() {
+    }
+
+    /**
+     * Fills all of {@code out} so that {@code out[i]} is {@link Hasher#randomize1(long)}
+     * given {@code startState + i}.
+     *
+     * @param startState the state used for the first item; later items use states counting up from it
+     * @param out        the long array to fill; if null, this does nothing
+     */
+    public static void fillRandomize1(long startState, long[] out) {
+        if (out == null) return;
+        fill(0, startState, 0, out, 0, out.length);
+    }
+
+    /**
+     * Fills {@code length} items of {@code out} starting at {@code offset}, so that {@code out[offset + i]} is
+     * {@link Hasher#randomize1(long)} given {@code startState + i}.
+     *
+     * @param startState the state used for {@code out[offset]}; later items use states counting up from it
+     * @param out        the long array to fill; if null, this does nothing
+     * @param offset     the first index to fill
+     * @param length     how many items to fill
+     * @throws IndexOutOfBoundsException if the range doesn't fit in out
+     */
+    public static void fillRandomize1(long startState, long[] out, int offset, int length) {
+        if (out == null) return;
+        check(out.length, offset, length);
+        fill(0, startState, 0, out, offset, length);
+    }
+
+    /**
+     * Fills all of {@code out} so that {@code out[i]} is {@link Hasher#randomize1Float(long)}
+     * given {@code startState + i}.
+     *
+     * @param startState the state used for the first item; later items use states counting up from it
+     * @param out        the float array to fill; if null, this does nothing
+     */
+    public static void fillRandomize1Floats(long startState, float[] out) {
+        if (out == null) return;
+        fill(1, startState, 0, out, 0, out.length);
+    }
+
+    /**
+     * Fills {@code length} items of {@code out} starting at {@code offset}, so that {@code out[offset + i]} is
+     * {@link Hasher#randomize1Float(long)} given {@code startState + i}.
+     *
+     * @param startState the state used for {@code out[offset]}; later items use states counting up from it
+     * @param out        the float array to fill; if null, this does nothing
+     * @param offset     the first index to fill
+     * @param length     how many items to fill
+     * @throws IndexOutOfBoundsException if the range doesn't fit in out
+     */
+    public static void fillRandomize1Floats(long startState, float[] out, int offset, int length) {
+        if (out == null) return;
+        check(out.length, offset, length);
+        fill(1, startState, 0, out, offset, length);
+    }
+
+    /**
+     * Fills all of {@code out} so that {@code out[i]} is {@link Hasher#randomize1Double(long)}
+     * given {@code startState + i}.
+     *
+     * @param startState the state used for the first item; later items use states counting up from it
+     * @param out        the double array to fill; if null, this does nothing
+     */
+    public static void fillRandomize1Doubles(long startState, double[] out) {
+        if (out == null) return;
+        fill(2, startState, 0, out, 0, out.length);
+    }
+
+    /**
+     * Fills {@code length} items of {@code out} starting at {@code offset}, so that {@code out[offset + i]} is
+     * {@link Hasher#randomize1Double(long)} given {@code startState + i}.
+     *
+     * @param startState the state used for {@code out[offset]}; later items use states counting up from it
+     * @param out        the double array to fill; if null, this does nothing
+     * @param offset     the first index to fill
+     * @param length     how many items to fill
+     * @throws IndexOutOfBoundsException if the range doesn't fit in out
+     */
+    public static void fillRandomize1Doubles(long startState, double[] out, int offset, int length) {
+        if (out == null) return;
+        check(out.length, offset, length);
+        fill(2, startState, 0, out, offset, length);
+    }
+
+    /**
+     * Fills all of {@code out} so that {@code out[i]} is {@link Hasher#randomize1Bounded(long, int)}
+     * given {@code startState + i}.
+     *
+     * @param startState the state used for the first item; later items use states counting up from it
+     * @param bound      the outer exclusive bound for each item; may be negative
+     * @param out        the int array to fill; if null, this does nothing
+     */
+    public static void fillRandomize1Bounded(long startState, int bound, int[] out) {
+        if (out == null) return;
+        fill(3, startState, bound, out, 0, out.length);
+    }
+
+    /**
+     * Fills {@code length} items of {@code out} starting at {@code offset}, so that {@code out[offset + i]} is
+     * {@link Hasher#randomize1Bounded(long, int)} given {@code startState + i}.
+     *
+     * @param startState the state used for {@code out[offset]}; later items use states counting up from it
+     * @param bound      the outer exclusive bound for each item; may be negative
+     * @param out        the int array to fill; if null, this does nothing
+     * @param offset     the first index to fill
+     * @param length     how many items to fill
+     * @throws IndexOutOfBoundsException if the range doesn't fit in out
+     */
+    public static void fillRandomize1Bounded(long startState, int bound, int[] out, int offset, int length) {
+        if (out == null) return;
+        check(out.length, offset, length);
+        fill(3, startState, bound, out, offset, length);
+    }
+
+    /**
+     * Fills all of {@code out} so that {@code out[i]} is {@link Hasher#randomize2(long)}
+     * given {@code startState + i}.
+     *
+     * @param startState the state used for the first item; later items use states counting up from it
+     * @param out        the long array to fill; if null, this does nothing
+     */
+    public static void fillRandomize2(long startState, long[] out) {
+        if (out == null) return;
+        fill(4, startState, 0, out, 0, out.length);
+    }
+
+    /**
+     * Fills {@code length} items of {@code out} starting at {@code offset}, so that {@code out[offset + i]} is
+     * {@link Hasher#randomize2(long)} given {@code startState + i}.
+     *
+     * @param startState the state used for {@code out[offset]}; later items use states counting up from it
+     * @param out        the long array to fill; if null, this does nothing
+     * @param offset     the first index to fill
+     * @param length     how many items to fill
+     * @throws IndexOutOfBoundsException if the range doesn't fit in out
+     */
+    public static void fillRandomize2(long startState, long[] out, int offset, int length) {
+        if (out == null) return;
+        check(out.length, offset, length);
+        fill(4, startState, 0, out, offset, length);
+    }
+
+    /**
+     * Fills all of {@code out} so that {@code out[i]} is {@link Hasher#randomize2Float(long)}
+     * given {@code startState + i}.
+     *
+     * @param startState the state used for the first item; later items use states counting up from it
+     * @param out        the float array to fill; if null, this does nothing
+     */
+    public static void fillRandomize2Floats(long startState, float[] out) {
+        if (out == null) return;
+        fill(5, startState, 0, out, 0, out.length);
+    }
+
+    /**
+     * Fills {@code length} items of {@code out} starting at {@code offset}, so that {@code out[offset + i]} is
+     * {@link Hasher#randomize2Float(long)} given {@code startState + i}.
+     *
+     * @param startState the state used for {@code out[offset]}; later items use states counting up from it
+     * @param out        the float array to fill; if null, this does nothing
+     * @param offset     the first index to fill
+     * @param length     how many items to fill
+     * @throws IndexOutOfBoundsException if the range doesn't fit in out
+     */
+    public static void fillRandomize2Floats(long startState, float[] out, int offset, int length) {
+        if (out == null) return;
+        check(out.length, offset, length);
+        fill(5, startState, 0, out, offset, length);
+    }
+
+    /**
+     * Fills all of {@code out} so that {@code out[i]} is {@link Hasher#randomize2Double(long)}
+     * given {@code startState + i}.
+     *
+     * @param startState the state used for the first item; later items use states counting up from it
+     * @param out        the double array to fill; if null, this does nothing
+     */
+    public static void fillRandomize2Doubles(long startState, double[] out) {
+        if (out == null) return;
+        fill(6, startState, 0, out, 0, out.length);
+    }
+
+    /**
+     * Fills {@code length} items of {@code out} starting at {@code offset}, so that {@code out[offset + i]} is
+     * {@link Hasher#randomize2Double(long)} given {@code startState + i}.
+     *
+     * @param startState the state used for {@code out[offset]}; later items use states counting up from it
+     * @param out        the double array to fill; if null, this does nothing
+     * @param offset     the first index to fill
+     * @param length     how many items to fill
+     * @throws IndexOutOfBoundsException if the range doesn't fit in out
+     */
+    public static void fillRandomize2Doubles(long startState, double[] out, int offset, int length) {
+        if (out == null) return;
+        check(out.length, offset, length);
+        fill(6, startState, 0, out, offset, length);
+    }
+
+    /**
+     * Fills all of {@code out} so that {@code out[i]} is {@link Hasher#randomize2Bounded(long, int)}
+     * given {@code startState + i}.
+     *
+     * @param startState the state used for the first item; later items use states counting up from it
+     * @param bound      the outer exclusive bound for each item; may be negative
+     * @param out        the int array to fill; if null, this does nothing
+     */
+    public static void fillRandomize2Bounded(long startState, int bound, int[] out) {
+        if (out == null) return;
+        fill(7, startState, bound, out, 0, out.length);
+    }
+
+    /**
+     * Fills {@code length} items of {@code out} starting at {@code offset}, so that {@code out[offset + i]} is
+     * {@link Hasher#randomize2Bounded(long, int)} given {@code startState + i}.
+     *
+     * @param startState the state used for {@code out[offset]}; later items use states counting up from it
+     * @param bound      the outer exclusive bound for each item; may be negative
+     * @param out        the int array to fill; if null, this does nothing
+     * @param offset     the first index to fill
+     * @param length     how many items to fill
+     * @throws IndexOutOfBoundsException if the range doesn't fit in out
+     */
+    public static void fillRandomize2Bounded(long startState, int bound, int[] out, int offset, int length) {
+        if (out == null) return;
+        check(out.length, offset, length);
+        fill(7, startState, bound, out, offset, length);
+    }
+
+    /**
+     * Fills all of {@code out} so that {@code out[i]} is {@link Hasher#randomize3(long)}
+     * given {@code startState + i}.
+     *
+     * @param startState the state used for the first item; later items use states counting up from it
+     * @param out        the long array to fill; if null, this does nothing
+     */
+    public static void fillRandomize3(long startState, long[] out) {
+        if (out == null) return;
+        fill(8, startState, 0, out, 0, out.length);
+    }
+
+    /**
+     * Fills {@code length} items of {@code out} starting at {@code offset}, so that {@code out[offset + i]} is
+     * {@link Hasher#randomize3(long)} given {@code startState + i}.
+     *
+     * @param startState the state used for {@code out[offset]}; later items use states counting up from it
+     * @param out        the long array to fill; if null, this does nothing
+     * @param offset     the first index to fill
+     * @param length     how many items to fill
+     * @throws IndexOutOfBoundsException if the range doesn't fit in out
+     */
+    public static void fillRandomize3(long startState, long[] out, int offset, int length) {
+        if (out == null) return;
+        check(out.length, offset, length);
+        fill(8, startState, 0, out, offset, length);
+    }
+
+    /**
+     * Fills all of {@code out} so that {@code out[i]} is {@link Hasher#randomize3Float(long)}
+     * given {@code startState + i}.
+     *
+     * @param startState the state used for the first item; later items use states counting up from it
+     * @param out        the float array to fill; if null, this does nothing
+     */
+    public static void fillRandomize3Floats(long startState, float[] out) {
+        if (out == null) return;
+        fill(9, startState, 0, out, 0, out.length);
+    }
+
+    /**
+     * Fills {@code length} items of {@code out} starting at {@code offset}, so that {@code out[offset + i]} is
+     * {@link Hasher#randomize3Float(long)} given {@code startState + i}.
+     *
+     * @param startState the state used for {@code out[offset]}; later items use states counting up from it
+     * @param out        the float array to fill; if null, this does nothing
+     * @param offset     the first index to fill
+     * @param length     how many items to fill
+     * @throws IndexOutOfBoundsException if the range doesn't fit in out
+     */
+    public static void fillRandomize3Floats(long startState, float[] out, int offset, int length) {
+        if (out == null) return;
+        check(out.length, offset, length);
+        fill(9, startState, 0, out, offset, length);
+    }
+
+    /**
+     * Fills all of {@code out} so that {@code out[i]} is {@link Hasher#randomize3Double(long)}
+     * given {@code startState + i}.
+     *
+     * @param startState the state used for the first item; later items use states counting up from it
+     * @param out        the double array to fill; if null, this does nothing
+     */
+    public static void fillRandomize3Doubles(long startState, double[] out) {
+        if (out == null) return;
+        fill(10, startState, 0, out, 0, out.length);
+    }
+
+    /**
+     * Fills {@code length} items of {@code out} starting at {@code offset}, so that {@code out[offset + i]} is
+     * {@link Hasher#randomize3Double(long)} given {@code startState + i}.
+     *
+     * @param startState the state used for {@code out[offset]}; later items use states counting up from it
+     * @param out        the double array to fill; if null, this does nothing
+     * @param offset     the first index to fill
+     * @param length     how many items to fill
+     * @throws IndexOutOfBoundsException if the range doesn't fit in out
+     */
+    public static void fillRandomize3Doubles(long startState, double[] out, int offset, int length) {
+        if (out == null) return;
+        check(out.length, offset, length);
+        fill(10, startState, 0, out, offset, length);
+    }
+
+    /**
+     * Fills all of {@code out} so that {@code out[i]} is {@link Hasher#randomize3Bounded(long, int)}
+     * given {@code startState + i}.
+     *
+     * @param startState the state used for the first item; later items use states counting up from it
+     * @param bound      the outer exclusive bound for each item; may be negative
+     * @param out        the int array to fill; if null, this does nothing
+     */
+    public static void fillRandomize3Bounded(long startState, int bound, int[] out) {
+        if (out == null) return;
+        fill(11, startState, bound, out, 0, out.length);
+    }
+
+    /**
+     * Fills {@code length} items of {@code out} starting at {@code offset}, so that {@code out[offset + i]} is
+     * {@link Hasher#randomize3Bounded(long, int)} given {@code startState + i}.
+     *
+     * @param startState the state used for {@code out[offset]}; later items use states counting up from it
+     * @param bound      the outer exclusive bound for each item; may be negative
+     * @param out        the int array to fill; if null, this does nothing
+     * @param offset     the first index to fill
+     * @param length     how many items to fill
+     * @throws IndexOutOfBoundsException if the range doesn't fit in out
+     */
+    public static void fillRandomize3Bounded(long startState, int bound, int[] out, int offset, int length) {
+        if (out == null) return;
+        check(out.length, offset, length);
+        fill(11, startState, bound, out, offset, length);
+    }
+
+    private static void check(int size, int offset, int length) {
+        if (offset < 0 || length < 0 || length > size - offset)
+            throw new IndexOutOfBoundsException("offset " + offset + " and length " + length + " don't fit in " + size);
+    }
+
+    /**
+     * Fills the range serially if it is small enough, or on the common pool otherwise. The kind is the randomize
+     * strength (0 to 2) times 4, plus 0 for longs, 1 for floats, 2 for doubles, or 3 for bounded ints.
+     */
+    private static void fill(int kind, long state, int bound, Object out, int offset, int length) {
+        if (length <= PARALLEL_THRESHOLD) serial(kind, state, bound, out, offset, offset + length);
+        else ForkJoinPool.commonPool().invoke(new Fill(kind, state, bound, out, offset, offset + length));
+    }
+
+    private static void serial(int kind, long state, int bound, Object out, int from, int to) {
+        switch (kind) {
+            case 0:
+                randomize1(state, (long[]) out, from, to);
+                break;
+            case 1:
+                randomize1Floats(state, (float[]) out, from, to);
+                break;
+            case 2:
+                randomize1Doubles(state, (double[]) out, from, to);
+                break;
+            case 3:
+                randomize1Bounded(state, bound, (int[]) out, from, to);
+                break;
+            case 4:
+                randomize2(state, (long[]) out, from, to);
+                break;
+            case 5:
+                randomize2Floats(state, (float[]) out, from, to);
+                break;
+            case 6:
+                randomize2Doubles(state, (double[]) out, from, to);
+                break;
+            case 7:
+                randomize2Bounded(state, bound, (int[]) out, from, to);
+                break;
+            case 8:
+                randomize3(state, (long[]) out, from, to);
+                break;
+            case 9:
+                randomize3Floats(state, (float[]) out, from, to);
+                break;
+            case 10:
+                randomize3Doubles(state, (double[]) out, from, to);
+                break;
+            case 11:
+                randomize3Bounded(state, bound, (int[]) out, from, to);
+                break;
+        }
+    }
+
+    /**
+     * Fills the range from {@code from} (inclusive) to {@code to} (exclusive), splitting in half until each task has
+     * at most {@link #CHUNK} items. The state always belongs to {@code from}.
+     */
+    private static final class Fill extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int kind, bound, from, to;
+        private final long state;
+        private final Object out;
+
+        Fill(int kind, long state, int bound, Object out, int from, int to) {
+            this.kind = kind;
+            this.state = state;
+            this.bound = bound;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CHUNK) {
+                final int mid = from + to >>> 1;
+                invokeAll(new Fill(kind, state, bound, out, from, mid),
+                        new Fill(kind, state + (mid - from), bound, out, mid, to));
+                return;
+            }
+            serial(kind, state, bound, out, from, to);
+        }
+    }
+
+    private static void randomize1(long state, final long[] out, final int from, final int to) {
+        int i = from;
+        for (final int end = to - 3; i < end; i += 4, state += 4) {
+            out[i] = Hasher.randomize1(state);
+            out[i + 1] = Hasher.randomize1(state + 1);
+            out[i + 2] = Hasher.randomize1(state + 2);
+            out[i + 3] = Hasher.randomize1(state + 3);
+        }
+        for (; i < to; i++) {
+            out[i] = Hasher.randomize1(state++);
+        }
+    }
+
+    private static void randomize1Floats(long state, final float[] out, final int from, final int to) {
+        int i = from;
+        for (final int end = to - 3; i < end; i += 4, state += 4) {
+            out[i] = Hasher.randomize1Float(state);
+            out[i + 1] = Hasher.randomize1Float(state + 1);
+            out[i + 2] = Hasher.randomize1Float(state + 2);
+            out[i + 3] = Hasher.randomize1Float(state + 3);
+        }
+        for (; i < to; i++) {
+            out[i] = Hasher.randomize1Float(state++);
+        }
+    }
+
+    private static void randomize1Doubles(long state, final double[] out, final int from, final int to) {
+        int i = from;
+        for (final int end = to - 3; i < end; i += 4, state += 4) {
+            out[i] = Hasher.randomize1Double(state);
+            out[i + 1] = Hasher.randomize1Double(state + 1);
+            out[i + 2] = Hasher.randomize1Double(state + 2);
+            out[i + 3] = Hasher.randomize1Double(state + 3);
+        }
+        for (; i < to; i++) {
+            out[i] = Hasher.randomize1Double(state++);
+        }
+    }
+
+    private static void randomize1Bounded(long state, final int bound, final int[] out, final int from, final int to) {
+        int i = from;
+        for (final int end = to - 3; i < end; i += 4, state += 4) {
+            out[i] = Hasher.randomize1Bounded(state, bound);
+            out[i + 1] = Hasher.randomize1Bounded(state + 1, bound);
+            out[i + 2] = Hasher.randomize1Bounded(state + 2, bound);
+            out[i + 3] = Hasher.randomize1Bounded(state + 3, bound);
+        }
+        for (; i < to; i++) {
+            out[i] = Hasher.randomize1Bounded(state++, bound);
+        }
+    }
+
+    private static void randomize2(long state, final long[] out, final int from, final int to) {
+        int i = from;
+        for (final int end = to - 3; i < end; i += 4, state += 4) {
+            out[i] = Hasher.randomize2(state);
+            out[i + 1] = Hasher.randomize2(state + 1);
+            out[i + 2] = Hasher.randomize2(state + 2);
+            out[i + 3] = Hasher.randomize2(state + 3);
+        }
+        for (; i < to; i++) {
+            out[i] = Hasher.randomize2(state++);
+        }
+    }
+
+    private static void randomize2Floats(long state, final float[] out, final int from, final int to) {
+        int i = from;
+        for (final int end = to - 3; i < end; i += 4, state += 4) {
+            out[i] = Hasher.randomize2Float(state);
+            out[i + 1] = Hasher.randomize2Float(state + 1);
+            out[i + 2] = Hasher.randomize2Float(state + 2);
+            out[i + 3] = Hasher.randomize2Float(state + 3);
+        }
+        for (; i < to; i++) {
+            out[i] = Hasher.randomize2Float(state++);
+        }
+    }
+
+    private static void randomize2Doubles(long state, final double[] out, final int from, final int to) {
+        int i = from;
+        for (final int end = to - 3; i < end; i += 4, state += 4) {
+            out[i] = Hasher.randomize2Double(state);
+            out[i + 1] = Hasher.randomize2Double(state + 1);
+            out[i + 2] = Hasher.randomize2Double(state + 2);
+            out[i + 3] = Hasher.randomize2Double(state + 3);
+        }
+        for (; i < to; i++) {
+            out[i] = Hasher.randomize2Double(state++);
+        }
+    }
+
+    private static void randomize2Bounded(long state, final int bound, final int[] out, final int from, final int to) {
+        int i = from;
+        for (final int end = to - 3; i < end; i += 4, state += 4) {
+            out[i] = Hasher.randomize2Bounded(state, bound);
+            out[i + 1] = Hasher.randomize2Bounded(state + 1, bound);
+            out[i + 2] = Hasher.randomize2Bounded(state + 2, bound);
+            out[i + 3] = Hasher.randomize2Bounded(state + 3, bound);
+        }
+        for (; i < to; i++) {
+            out[i] = Hasher.randomize2Bounded(state++, bound);
+        }
+    }
+
+    private static void randomize3(long state, final long[] out, final int from, final int to) {
+        int i = from;
+        for (final int end = to - 3; i < end; i += 4, state += 4) {
+            out[i] = Hasher.randomize3(state);
+            out[i + 1] = Hasher.randomize3(state + 1);
+            out[i + 2] = Hasher.randomize3(state + 2);
+            out[i + 3] = Hasher.randomize3(state + 3);
+        }
+        for (; i < to; i++) {
+            out[i] = Hasher.randomize3(state++);
+        }
+    }
+
+    private static void randomize3Floats(long state, final float[] out, final int from, final int to) {
+        int i = from;
+        for (final int end = to - 3; i < end; i += 4, state += 4) {
+            out[i] = Hasher.randomize3Float(state);
+            out[i + 1] = Hasher.randomize3Float(state + 1);
+            out[i + 2] = Hasher.randomize3Float(state + 2);
+            out[i + 3] = Hasher.randomize3Float(state + 3);
+        }
+        for (; i < to; i++) {
+            out[i] = Hasher.randomize3Float(state++);
+        }
+    }
+
+    private static void randomize3Doubles(long state, final double[] out, final int from, final int to) {
+        int i = from;
+        for (final int end = to - 3; i < end; i += 4, state += 4) {
+            out[i] = Hasher.randomize3Double(state);
+            out[i + 1] = Hasher.randomize3Double(state + 1);
+            out[i + 2] = Hasher.randomize3Double(state + 2);
+            out[i + 3] = Hasher.randomize3Double(state + 3);
+        }
+        for (; i < to; i++) {
+            out[i] = Hasher.randomize3Double(state++);
+        }
+    }
+
+    private static void randomize3Bounded(long state, final int bound, final int[] out, final int from, final int to) {
+        int i = from;
+        for (final int end = to - 3; i < end; i += 4, state += 4) {
+            out[i] = Hasher.randomize3Bounded(state, bound);
+            out[i + 1] = Hasher.randomize3Bounded(state + 1, bound);
+            out[i + 2] = Hasher.randomize3Bounded(state + 2, bound);
+            out[i + 3] = Hasher.randomize3Bounded(state + 3, bound);
+        }
+        for (; i < to; i++) {
+            out[i] = Hasher.randomize3Bounded(state++, bound);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+/**
+ * A rolling hash over a fixed-size window of bytes, using the cyclic polynomial (Buzhash) method with a table of 256
+ * random longs made from a seed. Once {@link #window} bytes have been given to {@link #update(byte)}, the window can
+ * be slid one byte at a time with {@link #roll(byte, byte)}, which removes the oldest byte and adds a new one in
+ * constant time, and {@link #hash()} is the same as it would be for those window bytes hashed from the start.
+ * This is useful for searching for substrings (see {@link #indexOf(byte[], int, int, byte[])}) and for comparing
+ * every window of a large input. To split data into content-defined chunks, {@link Chunker} is faster.
+ * <br>
+ * The table is the only allocation, made in the constructor; nothing else here allocates. A RollingHash is not safe to
+ * share between threads while it is being updated, though a copy can be made cheaply with {@link #copy()}.
+ */
+public class RollingHash {
+    /**
+     * The seed the table was made from; this is the same as the seed of the Hasher that created this, if any.
+     */
+    public final long seed;
+    /**
+     * How many bytes are in the window; {@link #roll(byte, byte)} expects the byte leaving to be this many bytes
+     * before the byte entering.
+     */
+    public final int window;
+
+    private final long[] table;
+    private final int shift;
+    private long hash;
+
+    /**
+     * Creates a RollingHash with a table made from the given Hasher's seed.
+     *
+     * @param hasher the Hasher whose seed will be used; must not be null
+     * @param window how many bytes the window holds; must be positive
+     */
+    public RollingHash(final Hasher hasher, final int window) {
+        this(hasher.seed, window);
+    }
+
+    /**
+     * Creates a RollingHash with a table made from the given seed.
+     *
+     * @param seed   any long
+     * @param window how many bytes the window holds; must be positive
+     */
+    public RollingHash(final long seed, final int window) {
+        if (window <= 0) throw new IllegalArgumentException("window must be positive: " + window);
+        this.seed = seed;
+        this.window = window;
+        this.shift = window & 63;
+        this.table = table(seed);
+    }
+
+    private RollingHash(final RollingHash other) {
+        this.seed = other.seed;
+        this.window = other.window;
+        this.shift = other.shift;
+        this.table = other.table;
+        this.hash = other.hash;
+    }
+
+    /**
+     * Makes the table of 256 random longs used for a seed; {@link Chunker} uses the same table.
+     *
+     * @param seed any long
+     * @return a new long array of length 256
+     */
+    static long[] table(final long seed) {
+        final long[] table = new long[256];
+        for (int i = 0; i < 256; i++) {
+            table[i] = Hasher.randomize3(seed + (i + 1) * Hasher.b1);
+        }
+        return table;
+    }
+
+    /**
+     * Creates a copy of this that shares its table, and has the same hash.
+     *
+     * @return a copy of this RollingHash
+     */
+    public RollingHash copy() {
+        return new RollingHash(this);
+    }
+
+    /**
+     * Clears the hash, so the window is empty.
+     *
+     * @return this, for chaining
+     */
+    public RollingHash reset() {
+        hash = 0L;
+        return this;
+    }
+
+    /**
+     * Adds a byte to the window without removing one. Use this for the first {@link #window} bytes.
+     *
+     * @param in the byte to add
+     * @return the hash after adding in
+     */
+    public long update(final byte in) {
+        return hash = (hash << 1 | hash >>> 63) ^ table[in & 255];
+    }
+
+    /**
+     * Slides the window by one byte, removing {@code out} and adding {@code in}. The window should already be full,
+     * and out should be the byte added {@link #window} bytes before in.
+     *
+     * @param out the oldest byte in the window, which is removed
+     * @param in  the byte to add
+     * @return the hash after sliding the window
+     */
+    public long roll(final byte out, final byte in) {
+        final long o = table[out & 255];
+        return hash = (hash << 1 | hash >>> 63) ^ (o << shift | o >>> -shift) ^ table[in & 255];
+    }
+
+    /**
+     * Gets the hash of the current window.
+     *
+     * @return the current hash
+     */
+    public long hash() {
+        return hash;
+    }
+
+    /**
+     * Resets this and hashes the {@link #window} bytes of {@code data} starting at {@code offset}.
+     *
+     * @param data   a byte array; must have at least window bytes after offset
+     * @param offset the first position in data to hash
+     * @return the hash of the window
+     */
+    public long hashWindow(final byte[] data, final int offset) {
+        long h = 0L;
+        for (int i = offset, end = offset + window; i < end; i++) {
+            h = (h << 1 | h >>> 63) ^ table[data[i] & 255];
+        }
+        return hash = h;
+    }
+
+    /**
+     * Finds the first place {@code pattern} occurs in {@code data}, between {@code from} (inclusive) and {@code to}
+     * (exclusive), using the Rabin-Karp method with this object's table. Each window of data with the same hash as
+     * pattern is compared byte by byte, so there are no false matches. This doesn't use or change {@link #window} or
+     * {@link #hash()}; the pattern length is used as the window. An empty pattern matches at from.
+     *
+     * @param data    the bytes to search in; must not be null
+     * @param from    the first position in data to search from
+     * @param to      the position in data after the last one to search
+     * @param pattern the bytes to search for; must not be null
+     * @return the first position in data where pattern starts, or -1 if it doesn't occur in the range
+     */
+    public int indexOf(final byte[] data, final int from, final int to, final byte[] pattern) {
+        if (from < 0 || to > data.length || from > to)
+            throw new IndexOutOfBoundsException("from: " + from + ", to: " + to + ", length: " + data.length);
+        final int n = pattern.length;
+        if (n == 0) return from;
+        if (to - from < n) return -1;
+        final int s = n & 63;
+        long target = 0L, h = 0L;
+        for (int i = 0; i < n; i++) {
+            target = (target << 1 | target >>> 63) ^ table[pattern[i] & 255];
+            h = (h << 1 | h >>> 63) ^ table[data[from + i] & 255];
+        }
+        for (int i = from, last = to - n; ; i++) {
+            if (h == target && matches(data, i, pattern)) return i;
+            if (i == last) return -1;
+            final long o = table[data[i] & 255];
+            h = (h << 1 | h >>> 63) ^ (o << s | o >>> -s) ^ table[data[i + n] & 255];
+        }
+    }
+
+    /**
+     * Finds the first place {@code pattern} occurs anywhere in {@code data}; see
+     * {@link #indexOf(byte[], int, int, byte[])}.
+     *
+     * @param data    the bytes to search in; must not be null
+     * @param pattern the bytes to search for; must not be null
+     * @return the first position in data where pattern starts, or -1 if it doesn't occur
+     */
+    public int indexOf(final byte[] data, final byte[] pattern) {
+        return indexOf(data, 0, data.length, pattern);
+    }
+
+    private static boolean matches(final byte[] data, final int offset, final byte[] pattern) {
+        for (int i = 0; i < pattern.length; i++) {
+            if (data[offset + i] != pattern[i]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "RollingHash{seed=" + seed + ", window=" + window + ", hash=" + hash + '}';
+    }
+}
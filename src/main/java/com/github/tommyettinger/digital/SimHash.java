@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.Arrays;
+
+/**
+ * Makes 64-bit SimHash fingerprints of weighted sets of tokens, so that documents with similar tokens get fingerprints
+ * that differ in few bits. Each token's 64-bit hash votes for each bit of the fingerprint, by its weight, and the
+ * fingerprint keeps the bits that got more votes for 1 than for 0. The votes are kept in an int array of length 64
+ * you provide: {@link #clear(int[])} it, {@link #update(int[], CharSequence)} it with each token in one pass, then
+ * {@link #finish(int[])} it to get the fingerprint. Updating doesn't allocate, and the order of tokens doesn't matter.
+ * Compare fingerprints with {@link #distance(long, long)}.
+ */
+public class SimHash {
+    /**
+     * The seed used to hash tokens.
+     */
+    public final long seed;
+
+    private final Hasher hasher;
+
+    /**
+     * Creates a SimHash that hashes tokens with the given Hasher.
+     *
+     * @param hasher the Hasher used to hash tokens; must not be null
+     */
+    public SimHash(final Hasher hasher) {
+        this.seed = hasher.seed;
+        this.hasher = hasher;
+    }
+
+    /**
+     * Prepares {@code votes} for a new set of tokens.
+     *
+     * @param votes an int array with a length of at least 64
+     * @return votes, for chaining
+     */
+    public int[] clear(final int[] votes) {
+        Arrays.fill(votes, 0, 64, 0);
+        return votes;
+    }
+
+    /**
+     * Adds the votes of a token, given by its 64-bit hash, with the given weight.
+     *
+     * @param votes     votes prepared with {@link #clear(int[])}
+     * @param tokenHash a 64-bit hash of a token, well-mixed in all bits
+     * @param weight    how much this token counts, such as how often it appears
+     */
+    public void update(final int[] votes, final long tokenHash, final int weight) {
+        final int twice = weight << 1;
+        for (int i = 0; i < 64; i++) {
+            votes[i] += ((int) (tokenHash >>> i) & 1) * twice - weight;
+        }
+    }
+
+    /**
+     * Adds the votes of a token, hashed with {@link Hasher#hash64(CharSequence)}, with a weight of 1.
+     *
+     * @param votes votes prepared with {@link #clear(int[])}
+     * @param token a CharSequence; may be null
+     */
+    public void update(final int[] votes, final CharSequence token) {
+        update(votes, hasher.hash64(token), 1);
+    }
+
+    /**
+     * Adds the votes of a token, hashed with {@link Hasher#hash64(CharSequence)}, with the given weight.
+     *
+     * @param votes  votes prepared with {@link #clear(int[])}
+     * @param token  a CharSequence; may be null
+     * @param weight how much this token counts, such as how often it appears
+     */
+    public void update(final int[] votes, final CharSequence token, final int weight) {
+        update(votes, hasher.hash64(token), weight);
+    }
+
+    /**
+     * Adds the votes of every run of {@code width} chars in {@code text}, with a weight of 1 each, hashed in place
+     * with {@link Hasher#hash64(CharSequence, int, int)}. If text is shorter than width, all of it is one shingle.
+     *
+     * @param votes votes prepared with {@link #clear(int[])}
+     * @param text  a CharSequence; may be null, which adds nothing
+     * @param width how many chars are in each shingle; must be positive
+     */
+    public void updateShingles(final int[] votes, final CharSequence text, final int width) {
+        if (width < 1) throw new IllegalArgumentException("width must be positive: " + width);
+        if (text == null || text.length() == 0) return;
+        final int last = Math.max(0, text.length() - width);
+        for (int i = 0; i <= last; i++) {
+            update(votes, hasher.hash64(text, i, i + width), 1);
+        }
+    }
+
+    /**
+     * Gets the fingerprint from the votes so far; bit i is 1 if votes[i] is positive.
+     *
+     * @param votes votes that have been given all their tokens
+     * @return the 64-bit SimHash fingerprint
+     */
+    public long finish(final int[] votes) {
+        long fingerprint = 0L;
+        for (int i = 0; i < 64; i++) {
+            fingerprint |= (long) (-votes[i] >>> 31) << i;
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Gets how many bits differ between two fingerprints; similar documents have small distances.
+     *
+     * @param a a fingerprint
+     * @param b another fingerprint
+     * @return the Hamming distance, from 0 to 64
+     */
+    public static int distance(final long a, final long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    @Override
+    public String toString() {
+        return "SimHash{seed=" + seed + '}';
+    }
+}
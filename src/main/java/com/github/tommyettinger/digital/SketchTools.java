@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Shared hashing, locking, and serialization for {@link BloomFilter}, {@link BlockedBloomFilter},
+ * {@link HyperLogLog}, {@link CountMinSketch}, and {@link SpaceSaving}.
+ */
+final class SketchTools {
+    /**
+     * How many locks the concurrent modes stripe their updates over.
+     */
+    static final int STRIPES = 64;
+
+    private SketchTools() {
+    }
+
+    /**
+     * Hashes a long item with a seed; for a fixed seed, different items always give different hashes.
+     */
+    static long hashLong(final long item, final long seed) {
+        return Hasher.randomize3(item ^ seed);
+    }
+
+    /**
+     * Makes {@link #STRIPES} lock objects.
+     */
+    static Object[] locks() {
+        final Object[] locks = new Object[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    static void putIntLE(final ByteBuffer buffer, final int value) {
+        buffer.putInt(buffer.order() == ByteOrder.LITTLE_ENDIAN ? value : Integer.reverseBytes(value));
+    }
+
+    static void putLongLE(final ByteBuffer buffer, final long value) {
+        buffer.putLong(buffer.order() == ByteOrder.LITTLE_ENDIAN ? value : Long.reverseBytes(value));
+    }
+
+    static int getIntLE(final ByteBuffer buffer) {
+        final int value = buffer.getInt();
+        return buffer.order() == ByteOrder.LITTLE_ENDIAN ? value : Integer.reverseBytes(value);
+    }
+
+    static long getLongLE(final ByteBuffer buffer) {
+        final long value = buffer.getLong();
+        return buffer.order() == ByteOrder.LITTLE_ENDIAN ? value : Long.reverseBytes(value);
+    }
+
+    /**
+     * Reads and checks the 4-byte tag at the start of a serialized sketch.
+     */
+    static void checkTag(final ByteBuffer buffer, final int tag, final String name) {
+        final int found = getIntLE(buffer);
+        if (found != tag)
+            throw new IllegalArgumentException("Not a serialized " + name + "; found tag 0x" + Integer.toHexString(found));
+    }
+}
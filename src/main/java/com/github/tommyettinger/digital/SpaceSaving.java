@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.util.Arrays;
+
+/**
+ * Tracks the most frequent long keys, such as ids or 64-bit hashes, in a stream, using the Space-Saving algorithm
+ * with a fixed number of counters. Any key added more than {@code total() / capacity} times is always being tracked,
+ * and its count is at most that much too high; {@link #error(long)} gives a tighter bound for each tracked key. When
+ * every counter is in use, a new key replaces the key with the smallest count, and starts from that count.
+ * <br>
+ * Everything is kept in primitive arrays: keys, counts, and errors, a min-heap of counters, and an open-addressing
+ * index from keys to counters, placed with the seed of a {@link Hasher}. Adding doesn't allocate. To track Strings or
+ * other objects, add their {@link Hasher#hash64(CharSequence)} or similar, and keep the few objects that matter.
+ * <br>
+ * If this is created as concurrent, the counters are split into stripes, up to {@value SketchTools#STRIPES}, and a
+ * key always goes to the stripe chosen by its hash; adds from many threads at once are safe, and only lock one stripe.
+ * Each stripe holds a share of the capacity and a share of the keys, so the error bounds are about the same, though
+ * they are per stripe. Summaries with the same capacity, seed, and stripes can be merged, giving counts that are
+ * still never too low for tracked keys; {@link #merge(SpaceSaving)} and {@link #clear()} lock every stripe in turn.
+ */
+public class SpaceSaving {
+    /**
+     * How many keys can be tracked at once.
+     */
+    public final int capacity;
+    /**
+     * The seed used to place and stripe keys; summaries need the same seed to be merged.
+     */
+    public final long seed;
+    /**
+     * If true, {@link #add(long, long)} is safe to call from many threads at once.
+     */
+    public final boolean concurrent;
+
+    private final Stripe[] stripes;
+    private final int stripeShift;
+
+    /**
+     * Creates a summary that isn't concurrent, tracking up to {@code capacity} keys, using the seed of
+     * {@link Hasher#predefined}[0].
+     *
+     * @param capacity how many keys to track; a few times more than the number of top keys needed works well
+     */
+    public SpaceSaving(final int capacity) {
+        this(capacity, Hasher.predefined[0], false);
+    }
+
+    /**
+     * Creates a summary tracking up to {@code capacity} keys, using the given Hasher's seed.
+     *
+     * @param capacity   how many keys to track; a few times more than the number of top keys needed works well
+     * @param hasher     the Hasher whose seed will be used; must not be null
+     * @param concurrent if true, keys can be added from many threads at once
+     */
+    public SpaceSaving(final int capacity, final Hasher hasher, final boolean concurrent) {
+        if (capacity < 1 || capacity > 1 << 28)
+            throw new IllegalArgumentException("capacity must be between 1 and 2 to the 28: " + capacity);
+        this.capacity = capacity;
+        this.seed = hasher.seed;
+        this.concurrent = concurrent;
+        final int count = concurrent
+                ? Math.max(1, Math.min(SketchTools.STRIPES, Integer.highestOneBit(capacity >>> 4))) : 1;
+        this.stripeShift = 64 - Integer.numberOfTrailingZeros(count);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe((capacity + i) / count, seed);
+        }
+    }
+
+    /**
+     * One independent Space-Saving summary, holding the keys whose hashes pick this stripe.
+     */
+    private static final class Stripe {
+        final int capacity;
+        final long seed;
+        final long[] keys, counts, errors;
+        /**
+         * A min-heap of counter indices, ordered by count, and where each counter is in it.
+         */
+        final int[] heap, positions;
+        /**
+         * Open addressing from keys to counter index + 1, with 0 for empty.
+         */
+        final int[] index;
+        final int mask, shift;
+        int size;
+        long total;
+
+        Stripe(final int capacity, final long seed) {
+            this.capacity = capacity;
+            this.seed = seed;
+            keys = new long[capacity];
+            counts = new long[capacity];
+            errors = new long[capacity];
+            heap = new int[capacity];
+            positions = new int[capacity];
+            final int tableSize = PrimitiveTables.tableSize(capacity, 0.5f);
+            index = new int[tableSize];
+            mask = tableSize - 1;
+            shift = Long.numberOfLeadingZeros(mask);
+        }
+
+        int find(final long key) {
+            for (int i = PrimitiveTables.place(key, seed, shift); ; i = i + 1 & mask) {
+                final int slot = index[i] - 1;
+                if (slot < 0) return -1;
+                if (keys[slot] == key) return slot;
+            }
+        }
+
+        void insert(final int slot) {
+            int i = PrimitiveTables.place(keys[slot], seed, shift);
+            while (index[i] != 0) i = i + 1 & mask;
+            index[i] = slot + 1;
+        }
+
+        void remove(final long key) {
+            int i = PrimitiveTables.place(key, seed, shift);
+            while (keys[index[i] - 1] != key) i = i + 1 & mask;
+            int entry;
+            for (int next = i + 1 & mask; (entry = index[next]) != 0; next = next + 1 & mask) {
+                final int placement = PrimitiveTables.place(keys[entry - 1], seed, shift);
+                if ((next - placement & mask) > (i - placement & mask)) {
+                    index[i] = entry;
+                    i = next;
+                }
+            }
+            index[i] = 0;
+        }
+
+        long add(final long key, final long count) {
+            total += count;
+            int slot = find(key);
+            if (slot >= 0) {
+                counts[slot] += count;
+                down(positions[slot]);
+                return counts[slot];
+            }
+            if (size < capacity) {
+                slot = size++;
+                keys[slot] = key;
+                counts[slot] = count;
+                errors[slot] = 0L;
+                insert(slot);
+                heap[slot] = slot;
+                positions[slot] = slot;
+                up(slot);
+                return count;
+            }
+            slot = heap[0];
+            final long min = counts[slot];
+            remove(keys[slot]);
+            keys[slot] = key;
+            counts[slot] = min + count;
+            errors[slot] = min;
+            insert(slot);
+            down(0);
+            return counts[slot];
+        }
+
+        /**
+         * Used when merging; keeps the key if there is room or its count beats the smallest one, and doesn't change
+         * the total.
+         */
+        void offer(final long key, final long count, final long error) {
+            int slot;
+            if (size < capacity) {
+                slot = size++;
+                heap[slot] = slot;
+                positions[slot] = slot;
+            } else {
+                slot = heap[0];
+                if (counts[slot] >= count) return;
+                remove(keys[slot]);
+            }
+            keys[slot] = key;
+            counts[slot] = count;
+            errors[slot] = error;
+            insert(slot);
+            up(positions[slot]);
+            down(positions[slot]);
+        }
+
+        long minimum() {
+            return size < capacity ? 0L : counts[heap[0]];
+        }
+
+        void up(int position) {
+            final int slot = heap[position];
+            final long count = counts[slot];
+            while (position > 0) {
+                final int parent = position - 1 >>> 1, other = heap[parent];
+                if (counts[other] <= count) break;
+                heap[position] = other;
+                positions[other] = position;
+                position = parent;
+            }
+            heap[position] = slot;
+            positions[slot] = position;
+        }
+
+        void down(int position) {
+            final int slot = heap[position];
+            final long count = counts[slot];
+            while (true) {
+                int child = (position << 1) + 1;
+                if (child >= size) break;
+                if (child + 1 < size && counts[heap[child + 1]] < counts[heap[child]]) child++;
+                final int other = heap[child];
+                if (counts[other] >= count) break;
+                heap[position] = other;
+                positions[other] = position;
+                position = child;
+            }
+            heap[position] = slot;
+            positions[slot] = position;
+        }
+
+        void clear() {
+            Arrays.fill(index, 0);
+            size = 0;
+            total = 0L;
+        }
+    }
+
+    private Stripe stripe(final long key) {
+        return stripes.length == 1 ? stripes[0] : stripes[(int) (SketchTools.hashLong(key, seed) >>> stripeShift)];
+    }
+
+    /**
+     * Adds {@code count} to a key.
+     *
+     * @param key   any long
+     * @param count how many times to count key; must not be negative
+     * @return the key's count afterwards, which may be too high by up to {@link #error(long)}
+     */
+    public long add(final long key, final long count) {
+        if (count < 0L) throw new IllegalArgumentException("count must not be negative: " + count);
+        final Stripe stripe = stripe(key);
+        if (!concurrent) return stripe.add(key, count);
+        synchronized (stripe) {
+            return stripe.add(key, count);
+        }
+    }
+
+    /**
+     * Adds 1 to a key.
+     *
+     * @param key any long
+     * @return the key's count afterwards, which may be too high by up to {@link #error(long)}
+     */
+    public long add(final long key) {
+        return add(key, 1L);
+    }
+
+    /**
+     * Gets the count of a key if it is tracked, which is never too low. If it isn't tracked, this returns the
+     * smallest count in its stripe, which is at least its true count, or 0 if the stripe has never been full.
+     *
+     * @param key any long
+     * @return an upper bound on how many times key was counted
+     */
+    public long estimate(final long key) {
+        final Stripe stripe = stripe(key);
+        synchronized (stripe) {
+            final int slot = stripe.find(key);
+            return slot >= 0 ? stripe.counts[slot] : stripe.minimum();
+        }
+    }
+
+    /**
+     * Gets how much the count of a tracked key could be too high; its true count is at least
+     * {@code estimate(key) - error(key)}. If key isn't tracked, this is the same as {@link #estimate(long)}.
+     *
+     * @param key any long
+     * @return the most the key's estimate could be too high
+     */
+    public long error(final long key) {
+        final Stripe stripe = stripe(key);
+        synchronized (stripe) {
+            final int slot = stripe.find(key);
+            return slot >= 0 ? stripe.errors[slot] : stripe.minimum();
+        }
+    }
+
+    /**
+     * Checks whether a key is being tracked.
+     *
+     * @param key any long
+     * @return true if key has a counter
+     */
+    public boolean contains(final long key) {
+        final Stripe stripe = stripe(key);
+        synchronized (stripe) {
+            return stripe.find(key) >= 0;
+        }
+    }
+
+    /**
+     * Gets how many keys are tracked.
+     *
+     * @return the number of keys with counters, at most {@link #capacity}
+     */
+    public int size() {
+        int size = 0;
+        for (final Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Gets the sum of all counts added.
+     *
+     * @return the total count
+     */
+    public long total() {
+        long total = 0L;
+        for (final Stripe stripe : stripes) {
+            synchronized (stripe) {
+                total += stripe.total;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Fills {@code keys} and {@code counts} with the tracked keys with the highest counts, highest first. The arrays
+     * should have the same length; at most that many keys are given.
+     *
+     * @param keys   receives the top keys
+     * @param counts receives the count of each key in keys
+     * @return how many keys were given, which is less than the arrays' length if fewer keys are tracked
+     */
+    public int top(final long[] keys, final long[] counts) {
+        final int limit = Math.min(keys.length, counts.length);
+        int n = 0;
+        for (final Stripe stripe : stripes) {
+            synchronized (stripe) {
+                for (int s = 0; s < stripe.size; s++) {
+                    final long count = stripe.counts[s];
+                    if (n == limit && (n == 0 || counts[n - 1] >= count)) continue;
+                    int i = n < limit ? n++ : n - 1;
+                    for (; i > 0 && counts[i - 1] < count; i--) {
+                        keys[i] = keys[i - 1];
+                        counts[i] = counts[i - 1];
+                    }
+                    keys[i] = stripe.keys[s];
+                    counts[i] = count;
+                }
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Checks whether {@code other} has the same capacity, seed, and stripes, so it can be merged with this.
+     *
+     * @param other another SpaceSaving; may be null
+     * @return true if other can be given to {@link #merge(SpaceSaving)}
+     */
+    public boolean isCompatible(final SpaceSaving other) {
+        return other != null && other.capacity == capacity && other.seed == seed
+                && other.stripes.length == stripes.length;
+    }
+
+    /**
+     * Combines the counts in {@code other} with this, as if this had also seen everything other did. A key tracked by
+     * only one summary is given the other's smallest count as well, since it could have been counted that many times
+     * there; then only the keys with the highest combined counts are kept.
+     *
+     * @param other a compatible SpaceSaving; see {@link #isCompatible(SpaceSaving)}
+     * @return this, for chaining
+     */
+    public SpaceSaving merge(final SpaceSaving other) {
+        if (!isCompatible(other))
+            throw new IllegalArgumentException("The summaries must have the same capacity, seed, and stripes");
+        for (int i = 0; i < stripes.length; i++) {
+            final Stripe a = stripes[i], b = other.stripes[i];
+            final long[] otherKeys, otherCounts, otherErrors;
+            final long minB, totalB;
+            synchronized (b) {
+                otherKeys = Arrays.copyOf(b.keys, b.size);
+                otherCounts = Arrays.copyOf(b.counts, b.size);
+                otherErrors = Arrays.copyOf(b.errors, b.size);
+                minB = b.minimum();
+                totalB = b.total;
+            }
+            synchronized (a) {
+                final long minA = a.minimum();
+                final int n = a.size;
+                final long[] keys = Arrays.copyOf(a.keys, n), counts = Arrays.copyOf(a.counts, n),
+                        errors = Arrays.copyOf(a.errors, n);
+                final boolean[] matched = new boolean[n], otherMatched = new boolean[otherKeys.length];
+                final long[] extraCounts = new long[n], extraErrors = new long[n];
+                for (int s = 0; s < otherKeys.length; s++) {
+                    final int t = a.find(otherKeys[s]);
+                    if (t >= 0) {
+                        matched[t] = true;
+                        otherMatched[s] = true;
+                        extraCounts[t] = otherCounts[s];
+                        extraErrors[t] = otherErrors[s];
+                    }
+                }
+                final long total = a.total + totalB;
+                a.clear();
+                a.total = total;
+                for (int s = 0; s < n; s++) {
+                    a.offer(keys[s], counts[s] + (matched[s] ? extraCounts[s] : minB),
+                            errors[s] + (matched[s] ? extraErrors[s] : minB));
+                }
+                for (int s = 0; s < otherKeys.length; s++) {
+                    if (!otherMatched[s])
+                        a.offer(otherKeys[s], otherCounts[s] + minA, otherErrors[s] + minA);
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Forgets every key and count.
+     */
+    public void clear() {
+        for (final Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SpaceSaving{capacity=" + capacity + ", stripes=" + stripes.length + ", size=" + size() + ", total=" + total() + '}';
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static com.github.tommyettinger.digital.Hasher.*;
+
+/**
+ * Hashes very large arrays and buffers using several threads at once, by splitting the input into fixed-size leaves,
+ * hashing each leaf on a {@link ForkJoinPool}, and then hashing the leaf hashes in order. Because the leaf size is a
+ * fixed number of bytes ({@link #LEAF_BYTES}), and the leaf hashes are always combined in the same order, the result
+ * only depends on the Hasher's seed and the data, never on how many threads were used or how the work was scheduled.
+ * <br>
+ * Input that fits in one leaf gets the same result as the matching method in {@link Hasher}: for a long[] this is
+ * {@link Hasher#hash64(long[])}, and for a byte[] or ByteBuffer this is {@link Hasher#hashBulk64(byte[])} or
+ * {@link Hasher#hash64(ByteBuffer)}. Larger input gets a different result than the sequential methods, and is
+ * only comparable with other results from TreeHasher.
+ * <br>
+ * This class uses {@link ForkJoinPool}, so it is not available on GWT.
+ */
+public final class TreeHasher {
+    /**
+     * How many bytes of input go into each leaf, 1 MiB. This is part of the definition of the output, so it can't
+     * change without changing every multi-leaf hash.
+     */
+    public static final int LEAF_BYTES = 1 << 20;
+
+    private TreeHasher() {
+    }
+
+    /**
+     * Hashes {@code data} with the given Hasher's seed, using the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param hasher the Hasher whose seed will be used
+     * @param data   the byte array to hash
+     * @return a 64-bit hash code for data
+     */
+    public static long hash64(final Hasher hasher, final byte[] data) {
+        return hash64(hasher, data, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Hashes {@code data} with the given Hasher's seed, using the given pool.
+     *
+     * @param hasher the Hasher whose seed will be used
+     * @param data   the byte array to hash
+     * @param pool   the ForkJoinPool to run on
+     * @return a 64-bit hash code for data
+     */
+    public static long hash64(final Hasher hasher, final byte[] data, final ForkJoinPool pool) {
+        if (data == null) return 0L;
+        if (data.length <= LEAF_BYTES) return hasher.hashBulk64(data);
+        return tree(hasher, data, data.length, LEAF_BYTES, pool);
+    }
+
+    /**
+     * Hashes {@code data} with the given Hasher's seed, using the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param hasher the Hasher whose seed will be used
+     * @param data   the int array to hash
+     * @return a 64-bit hash code for data
+     */
+    public static long hash64(final Hasher hasher, final int[] data) {
+        return hash64(hasher, data, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Hashes {@code data} with the given Hasher's seed, using the given pool.
+     *
+     * @param hasher the Hasher whose seed will be used
+     * @param data   the int array to hash
+     * @param pool   the ForkJoinPool to run on
+     * @return a 64-bit hash code for data
+     */
+    public static long hash64(final Hasher hasher, final int[] data, final ForkJoinPool pool) {
+        if (data == null) return 0L;
+        if (data.length <= LEAF_BYTES >>> 2) return hasher.hash64(data);
+        return tree(hasher, data, data.length, LEAF_BYTES >>> 2, pool);
+    }
+
+    /**
+     * Hashes {@code data} with the given Hasher's seed, using the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param hasher the Hasher whose seed will be used
+     * @param data   the long array to hash
+     * @return a 64-bit hash code for data
+     */
+    public static long hash64(final Hasher hasher, final long[] data) {
+        return hash64(hasher, data, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Hashes {@code data} with the given Hasher's seed, using the given pool.
+     *
+     * @param hasher the Hasher whose seed will be used
+     * @param data   the long array to hash
+     * @param pool   the ForkJoinPool to run on
+     * @return a 64-bit hash code for data
+     */
+    public static long hash64(final Hasher hasher, final long[] data, final ForkJoinPool pool) {
+        if (data == null) return 0L;
+        if (data.length <= LEAF_BYTES >>> 3) return hasher.hash64(data);
+        return tree(hasher, data, data.length, LEAF_BYTES >>> 3, pool);
+    }
+
+    /**
+     * Hashes {@code data} with the given Hasher's seed, using the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param hasher the Hasher whose seed will be used
+     * @param data   the double array to hash
+     * @return a 64-bit hash code for data
+     */
+    public static long hash64(final Hasher hasher, final double[] data) {
+        return hash64(hasher, data, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Hashes {@code data} with the given Hasher's seed, using the given pool.
+     *
+     * @param hasher the Hasher whose seed will be used
+     * @param data   the double array to hash
+     * @param pool   the ForkJoinPool to run on
+     * @return a 64-bit hash code for data
+     */
+    public static long hash64(final Hasher hasher, final double[] data, final ForkJoinPool pool) {
+        if (data == null) return 0L;
+        if (data.length <= LEAF_BYTES >>> 3) return hasher.hash64(data);
+        return tree(hasher, data, data.length, LEAF_BYTES >>> 3, pool);
+    }
+
+    /**
+     * Hashes the remaining bytes of {@code data} with the given Hasher's seed, using the
+     * {@link ForkJoinPool#commonPool()}. This doesn't change the buffer's position, limit, or byte order.
+     *
+     * @param hasher the Hasher whose seed will be used
+     * @param data   the ByteBuffer to hash the remaining bytes of
+     * @return a 64-bit hash code for the remaining bytes in data
+     */
+    public static long hash64(final Hasher hasher, final ByteBuffer data) {
+        return hash64(hasher, data, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Hashes the remaining bytes of {@code data} with the given Hasher's seed, using the given pool. This doesn't
+     * change the buffer's position, limit, or byte order. The result is the same as {@link #hash64(Hasher, byte[])}
+     * on an array holding the same bytes.
+     *
+     * @param hasher the Hasher whose seed will be used
+     * @param data   the ByteBuffer to hash the remaining bytes of
+     * @param pool   the ForkJoinPool to run on
+     * @return a 64-bit hash code for the remaining bytes in data
+     */
+    public static long hash64(final Hasher hasher, final ByteBuffer data, final ForkJoinPool pool) {
+        if (data == null) return 0L;
+        if (data.remaining() <= LEAF_BYTES) return hasher.hash64(data);
+        return tree(hasher, data, data.remaining(), LEAF_BYTES, pool);
+    }
+
+    /**
+     * Hashes each leaf of {@code data} in parallel, then hashes the leaf hashes in order with the Hasher's seed.
+     */
+    private static long tree(final Hasher hasher, final Object data, final int length, final int leafLength,
+                             final ForkJoinPool pool) {
+        final long[] leaves = new long[(length - 1) / leafLength + 1];
+        pool.invoke(new Leaves(hasher.seed, data, length, leafLength, leaves, 0, leaves.length));
+        return hasher.hash64(leaves);
+    }
+
+    /**
+     * Hashes the leaves from {@code from} (inclusive) to {@code to} (exclusive), splitting in half until only one leaf
+     * is left in each task.
+     */
+    private static final class Leaves extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long seed;
+        private final Object data;
+        private final int length, leafLength, from, to;
+        private final long[] leaves;
+
+        Leaves(long seed, Object data, int length, int leafLength, long[] leaves, int from, int to) {
+            this.seed = seed;
+            this.data = data;
+            this.length = length;
+            this.leafLength = leafLength;
+            this.leaves = leaves;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                final int mid = from + to >>> 1;
+                invokeAll(new Leaves(seed, data, length, leafLength, leaves, from, mid),
+                        new Leaves(seed, data, length, leafLength, leaves, mid, to));
+                return;
+            }
+            final int start = from * leafLength, count = Math.min(leafLength, length - start);
+            // Each leaf gets its own seed, so identical leaves at different positions hash differently.
+            final long leafSeed = seed + (from + 1L) * b0;
+            if (data instanceof byte[])
+                leaves[from] = new Hasher(leafSeed).hashBulk64((byte[]) data, start, count);
+            else if (data instanceof int[])
+                leaves[from] = new Hasher(leafSeed).hash64((int[]) data, start, count);
+            else if (data instanceof long[])
+                leaves[from] = new Hasher(leafSeed).hash64((long[]) data, start, count);
+            else if (data instanceof double[])
+                leaves[from] = new Hasher(leafSeed).hash64((double[]) data, start, count);
+            else {
+                final ByteBuffer buffer = ((ByteBuffer) data).duplicate();
+                buffer.position(buffer.position() + start).limit(buffer.position() + count);
+                leaves[from] = new Hasher(leafSeed).hash64(buffer);
+            }
+        }
+    }
+}
@@ -27,6 +27,8 @@ import com.google.gwt.typedarrays.shared.Int32Array;
 import com.google.gwt.typedarrays.shared.Int8Array;
 import com.google.gwt.typedarrays.shared.DataView;
 
+import java.nio.ByteBuffer;
+
 public final class BitConversion {
 	public static final Int8Array wba = Int8ArrayNative.create(8);
 	public static final Int32Array wia = Int32ArrayNative.create(wba.buffer(), 0, 2);
@@ -98,4 +100,16 @@ public final class BitConversion {
 		return num & ~(num - 1L);
 	}
 
+	public static long readLongLE(final byte[] bytes, final int index) {
+		final int lo = (bytes[index] & 0xFF) | (bytes[index + 1] & 0xFF) << 8 | (bytes[index + 2] & 0xFF) << 16 | bytes[index + 3] << 24;
+		final int hi = (bytes[index + 4] & 0xFF) | (bytes[index + 5] & 0xFF) << 8 | (bytes[index + 6] & 0xFF) << 16 | bytes[index + 7] << 24;
+		return (long) hi << 32 | (lo & 0xffffffffL);
+	}
+
+	public static long readLongLE(final ByteBuffer buffer, final int index) {
+		final int lo = (buffer.get(index) & 0xFF) | (buffer.get(index + 1) & 0xFF) << 8 | (buffer.get(index + 2) & 0xFF) << 16 | buffer.get(index + 3) << 24;
+		final int hi = (buffer.get(index + 4) & 0xFF) | (buffer.get(index + 5) & 0xFF) << 8 | (buffer.get(index + 6) & 0xFF) << 16 | buffer.get(index + 7) << 24;
+		return (long) hi << 32 | (lo & 0xffffffffL);
+	}
+
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2022 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.tommyettinger.digital;
+
+import com.google.gwt.typedarrays.client.Int32ArrayNative;
+import com.google.gwt.typedarrays.shared.Int32Array;
+
+final class Entropy {
+	private Entropy() {
+	}
+
+	static long[] secret128() {
+		final Int32Array bits = Int32ArrayNative.create(4);
+		fill(bits);
+		return new long[]{(long)bits.get(0) << 32 | (bits.get(1) & 0xffffffffL),
+			(long)bits.get(2) << 32 | (bits.get(3) & 0xffffffffL)};
+	}
+
+	private static native void fill(Int32Array bits) /*-{
+		var c = $wnd.crypto || $wnd.msCrypto;
+		if (c && c.getRandomValues) c.getRandomValues(bits);
+		else for (var i = 0; i < bits.length; i++) bits[i] = (Math.random() * 4294967296) | 0;
+	}-*/;
+}
@@ -6,6 +6,7 @@ import org.junit.Test;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class BaseTest {
 
@@ -390,6 +391,61 @@ public class BaseTest {
 		}
 	}
 
+	@Test
+	public void testAppendCharArray() {
+		long[] inputs = {0L, 1L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, 0x1234567890ABCDEFL, 0xFEDCBA0987654321L};
+		char[] buffer = new char[70];
+		for (Base enc : BASES) {
+			for (long i : inputs) {
+				Assert.assertEquals(enc.unsigned(i), String.valueOf(buffer, 3, enc.appendUnsigned(buffer, 3, i) - 3));
+				Assert.assertEquals(enc.signed(i), String.valueOf(buffer, 3, enc.appendSigned(buffer, 3, i) - 3));
+				Assert.assertEquals(enc.unsigned((int) i), String.valueOf(buffer, 0, enc.appendUnsigned(buffer, 0, (int) i)));
+				Assert.assertEquals(enc.signed((int) i), String.valueOf(buffer, 0, enc.appendSigned(buffer, 0, (int) i)));
+				Assert.assertEquals(enc.signed((short) i), String.valueOf(buffer, 0, enc.appendSigned(buffer, 0, (short) i)));
+				Assert.assertEquals(enc.signed((byte) i), String.valueOf(buffer, 0, enc.appendSigned(buffer, 0, (byte) i)));
+				Assert.assertEquals(enc.signed((char) i), String.valueOf(buffer, 0, enc.appendSigned(buffer, 0, (char) i)));
+			}
+		}
+	}
+
+	@Test
+	public void testConcurrentEncoding() throws InterruptedException {
+		final int threadCount = 8;
+		final AtomicInteger failures = new AtomicInteger();
+		Thread[] threads = new Thread[threadCount];
+		for (int t = 0; t < threadCount; t++) {
+			final long seed = t;
+			threads[t] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					Random random = new Random(seed);
+					StringBuilder sb = new StringBuilder(80);
+					char[] buffer = new char[80];
+					for (int i = 0; i < 20000; i++) {
+						long n = random.nextLong();
+						for (Base enc : BASES) {
+							if (n != enc.readLong(enc.signed(n))
+									|| n != enc.readLong(enc.unsigned(n))
+									|| (int) n != enc.readInt(enc.signed((int) n)))
+								failures.incrementAndGet();
+							sb.setLength(0);
+							if (n != enc.readLong(enc.appendSigned(sb, n))
+									|| n != enc.readLong(buffer, 0, enc.appendUnsigned(buffer, 0, n)))
+								failures.incrementAndGet();
+						}
+					}
+				}
+			});
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		Assert.assertEquals(0, failures.get());
+	}
+
 	public static void main(String[] args){
 		for(Base b : BASES){
 			System.out.println(b.serializeToString());
@@ -0,0 +1,160 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public class BloomFilterTest {
+    private static final int ITEMS = 100000;
+
+    @Test
+    public void testNoFalseNegativesAndRate() {
+        for (double rate : new double[]{0.05, 0.01, 0.001}) {
+            BloomFilter standard = new BloomFilter(Hasher.omega, ITEMS, rate);
+            BlockedBloomFilter blocked = new BlockedBloomFilter(Hasher.omega, ITEMS, rate);
+            int newStandard = 0, newBlocked = 0;
+            for (int i = 0; i < ITEMS; i++) {
+                String item = "item" + i;
+                if (standard.add(item)) newStandard++;
+                if (blocked.add(item)) newBlocked++;
+            }
+            // an add only reports an item as present if it was a false positive
+            Assert.assertTrue(newStandard > ITEMS * (1.0 - rate));
+            Assert.assertTrue(newBlocked > ITEMS * (1.0 - rate));
+            for (int i = 0; i < ITEMS; i++) {
+                String item = "item" + i;
+                Assert.assertTrue(standard.mightContain(item));
+                Assert.assertTrue(blocked.mightContain(item));
+                Assert.assertFalse(standard.add(item));
+                Assert.assertFalse(blocked.add(item));
+            }
+            int falseStandard = 0, falseBlocked = 0, trials = 400000;
+            for (int i = 0; i < trials; i++) {
+                String item = "other" + i;
+                if (standard.mightContain(item)) falseStandard++;
+                if (blocked.mightContain(item)) falseBlocked++;
+            }
+            Assert.assertEquals(rate, falseStandard / (double) trials, rate * 0.25);
+            Assert.assertEquals(rate, falseBlocked / (double) trials, rate * 0.25);
+            Assert.assertEquals(rate, standard.expectedFalsePositiveRate(), rate * 0.25);
+        }
+    }
+
+    @Test
+    public void testItemKinds() {
+        BloomFilter standard = new BloomFilter(Hasher.psi, 1000, 0.01);
+        BlockedBloomFilter blocked = new BlockedBloomFilter(Hasher.psi, 1000, 0.01);
+        byte[] bytes = {1, 2, 3};
+        standard.add(bytes);
+        standard.add(-77L);
+        blocked.add(bytes);
+        blocked.add(-77L);
+        Assert.assertTrue(standard.mightContain(new byte[]{1, 2, 3}));
+        Assert.assertTrue(standard.mightContain(-77L));
+        Assert.assertTrue(standard.mightContainHash(Hasher.psi.hash64(bytes)));
+        Assert.assertTrue(blocked.mightContain(new byte[]{1, 2, 3}));
+        Assert.assertTrue(blocked.mightContain(-77L));
+        Assert.assertTrue(blocked.mightContainHash(Hasher.psi.hash64(bytes)));
+        Assert.assertFalse(new BloomFilter(Hasher.psi, 1000, 0.01).mightContain(-77L));
+        Assert.assertFalse(new BlockedBloomFilter(Hasher.psi, 1000, 0.01).mightContain(-77L));
+    }
+
+    @Test
+    public void testUnionAndIntersection() {
+        BloomFilter a = new BloomFilter(Hasher.omega, 10000, 0.01), b = new BloomFilter(Hasher.omega, 10000, 0.01);
+        BlockedBloomFilter c = new BlockedBloomFilter(Hasher.omega, 10000, 0.01), d = new BlockedBloomFilter(Hasher.omega, 10000, 0.01);
+        for (long i = 0; i < 2000; i++) {
+            a.add(i);
+            c.add(i);
+            b.add(i + 1000);
+            d.add(i + 1000);
+        }
+        BloomFilter union = new BloomFilter(a).union(b), both = new BloomFilter(a).intersect(b);
+        BlockedBloomFilter blockedUnion = new BlockedBloomFilter(c).union(d), blockedBoth = new BlockedBloomFilter(c).intersect(d);
+        for (long i = 0; i < 3000; i++) {
+            Assert.assertTrue(union.mightContain(i));
+            Assert.assertTrue(blockedUnion.mightContain(i));
+        }
+        for (long i = 1000; i < 2000; i++) {
+            Assert.assertTrue(both.mightContain(i));
+            Assert.assertTrue(blockedBoth.mightContain(i));
+        }
+        int outside = 0;
+        for (long i = 3000; i < 13000; i++) {
+            if (both.mightContain(i)) outside++;
+        }
+        Assert.assertTrue(outside < 100);
+        try {
+            a.union(new BloomFilter(Hasher.psi, 10000, 0.01));
+            Assert.fail("different seeds should throw");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            c.intersect(new BlockedBloomFilter(Hasher.omega, 20000, 0.01));
+            Assert.fail("different sizes should throw");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testSerialization() {
+        BloomFilter standard = new BloomFilter(Hasher.omega, 5000, 0.02);
+        BlockedBloomFilter blocked = new BlockedBloomFilter(Hasher.omega, 5000, 0.02);
+        for (int i = 0; i < 5000; i++) {
+            standard.add("s" + i);
+            blocked.add("s" + i);
+        }
+        Assert.assertEquals(standard, BloomFilter.fromBytes(standard.toBytes()));
+        Assert.assertEquals(blocked, BlockedBloomFilter.fromBytes(blocked.toBytes()));
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(standard.serializedSize() + blocked.serializedSize() + 3).order(order);
+            buffer.put((byte) 9);
+            standard.write(buffer);
+            blocked.write(buffer);
+            buffer.flip();
+            buffer.get();
+            BloomFilter s = BloomFilter.read(buffer, true);
+            BlockedBloomFilter b = BlockedBloomFilter.read(buffer, true);
+            Assert.assertEquals(0, buffer.remaining());
+            Assert.assertEquals(standard, s);
+            Assert.assertEquals(blocked, b);
+            Assert.assertEquals(standard.hashCode(), s.hashCode());
+            Assert.assertTrue(s.concurrent && b.concurrent);
+            buffer.clear();
+            Assert.assertArrayEquals(standard.toBytes(), s.write(ByteBuffer.allocate(s.serializedSize())).array());
+        }
+        try {
+            BloomFilter.fromBytes(blocked.toBytes());
+            Assert.fail("the wrong kind of filter should throw");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testConcurrentAdds() throws InterruptedException {
+        final BloomFilter standard = new BloomFilter(Hasher.omega, 400000, 0.01, true);
+        final BlockedBloomFilter blocked = new BlockedBloomFilter(Hasher.omega, 400000, 0.01, true);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final long start = t * 100000L;
+            threads[t] = new Thread(() -> {
+                for (long i = start; i < start + 100000L; i++) {
+                    standard.add(i);
+                    blocked.add(i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) thread.join();
+        BloomFilter serialStandard = new BloomFilter(Hasher.omega, 400000, 0.01);
+        BlockedBloomFilter serialBlocked = new BlockedBloomFilter(Hasher.omega, 400000, 0.01);
+        for (long i = 0; i < 400000L; i++) {
+            serialStandard.add(i);
+            serialBlocked.add(i);
+        }
+        Assert.assertEquals(serialStandard, standard);
+        Assert.assertEquals(serialBlocked, blocked);
+    }
+}
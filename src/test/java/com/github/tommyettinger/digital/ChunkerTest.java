@@ -0,0 +1,140 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class ChunkerTest {
+    private static byte[] randomBytes(int size, long seed) {
+        byte[] data = new byte[size];
+        new Random(seed).nextBytes(data);
+        return data;
+    }
+
+    private static List<long[]> collect(Chunker chunker, byte[] data) {
+        List<long[]> chunks = new ArrayList<>();
+        chunker.chunk(data, (start, length, hash) -> chunks.add(new long[]{start, length, hash}));
+        return chunks;
+    }
+
+    @Test
+    public void testSizesAndHashes() {
+        byte[] data = randomBytes(1 << 20, 1L);
+        Chunker chunker = new Chunker(Hasher.omega, 512, 4096, 16384);
+        List<long[]> chunks = collect(chunker, data);
+        long expectedStart = 0L;
+        for (int i = 0; i < chunks.size(); i++) {
+            long[] c = chunks.get(i);
+            Assert.assertEquals(expectedStart, c[0]);
+            Assert.assertTrue(c[1] <= 16384);
+            if (i < chunks.size() - 1) Assert.assertTrue(c[1] >= 512);
+            Assert.assertEquals(Hasher.omega.hashBulk64(data, (int) c[0], (int) c[1]), c[2]);
+            expectedStart += c[1];
+        }
+        Assert.assertEquals(data.length, expectedStart);
+        double average = (double) data.length / chunks.size();
+        Assert.assertTrue("average " + average, average > 2048 && average < 8192);
+    }
+
+    @Test
+    public void testMatchesUnskippedGear() {
+        byte[] data = randomBytes(200000, 2L);
+        Chunker chunker = new Chunker(Hasher.psi, 300, 1024, 4000);
+        long[] gear = RollingHash.table(Hasher.psi.seed);
+        long maskS = -1L << 64 - 11, maskL = -1L << 64 - 9;
+        List<long[]> chunks = collect(chunker, data);
+        int start = 0;
+        for (long[] c : chunks) {
+            long h = 0L;
+            int i = start, size = 0;
+            while (i < data.length) {
+                h = (h << 1) + gear[data[i++] & 255];
+                size++;
+                if (size >= 300 && (h & (size < 1024 ? maskS : maskL)) == 0L || size >= 4000) break;
+            }
+            Assert.assertEquals(i - start, c[1]);
+            start = i;
+        }
+    }
+
+    @Test
+    public void testSameForEveryInput() throws IOException {
+        byte[] data = randomBytes(300000, 3L);
+        Chunker chunker = new Chunker(Hasher.omega, 1000, 2048, 8000);
+        List<long[]> expected = collect(chunker, data);
+
+        List<long[]> heap = new ArrayList<>();
+        ByteBuffer wrapped = ByteBuffer.wrap(data);
+        chunker.chunk(wrapped, (s, l, h) -> heap.add(new long[]{s, l, h}));
+        Assert.assertEquals(data.length, wrapped.position());
+
+        List<long[]> direct = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length + 10);
+        buffer.position(5);
+        buffer.put(data).flip().position(5);
+        chunker.chunk(buffer, (s, l, h) -> direct.add(new long[]{s, l, h}));
+
+        List<long[]> channel = new ArrayList<>();
+        long read = chunker.chunk(Channels.newChannel(new ByteArrayInputStream(data)), ByteBuffer.allocate(777),
+                (s, l, h) -> channel.add(new long[]{s, l, h}));
+        Assert.assertEquals(data.length, read);
+
+        List<long[]> directChannel = new ArrayList<>();
+        chunker.chunk(Channels.newChannel(new ByteArrayInputStream(data)), (s, l, h) -> directChannel.add(new long[]{s, l, h}));
+
+        List<long[]> pieces = new ArrayList<>();
+        Random random = new Random(4L);
+        int start = 0, position = 0;
+        chunker.reset();
+        while (position < data.length) {
+            int n = Math.min(data.length - position, random.nextInt(3000));
+            int found = chunker.findBoundary(data, position, n);
+            if (found < 0) {
+                position += n;
+            } else {
+                pieces.add(new long[]{start, found - start, Hasher.omega.hashBulk64(data, start, found - start)});
+                start = position = found;
+            }
+        }
+        if (start < data.length)
+            pieces.add(new long[]{start, data.length - start, Hasher.omega.hashBulk64(data, start, data.length - start)});
+
+        for (List<long[]> other : Arrays.asList(heap, direct, channel, directChannel, pieces)) {
+            Assert.assertEquals(expected.size(), other.size());
+            for (int i = 0; i < expected.size(); i++) Assert.assertArrayEquals(expected.get(i), other.get(i));
+        }
+    }
+
+    @Test
+    public void testEditsAreLocal() {
+        byte[] data = randomBytes(500000, 5L);
+        byte[] edited = new byte[data.length + 10];
+        System.arraycopy(data, 0, edited, 0, 250000);
+        System.arraycopy(data, 250000, edited, 250010, 250000);
+        Chunker chunker = new Chunker(Hasher.omega, 1024, 4096, 32768);
+        Set<Long> before = new HashSet<>();
+        for (long[] c : collect(chunker, data)) before.add(c[2]);
+        int changed = 0;
+        for (long[] c : collect(chunker, edited)) if (!before.contains(c[2])) changed++;
+        Assert.assertTrue("changed " + changed, changed >= 1 && changed <= 3);
+    }
+
+    @Test
+    public void testInvalidSizes() {
+        try {
+            new Chunker(1L, 100, 50, 200);
+            Assert.fail("averageSize below minSize should throw");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
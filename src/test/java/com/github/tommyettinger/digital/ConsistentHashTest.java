@@ -0,0 +1,100 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class ConsistentHashTest {
+    private static final ConsistentHash ROUTER = new ConsistentHash(Hasher.omega);
+
+    @Test
+    public void testJumpIsBalancedAndMinimal() {
+        int keys = 100000;
+        for (int n = 1; n < 40; n++) {
+            int[] counts = new int[n + 1];
+            int moved = 0;
+            for (long key = 0; key < keys; key++) {
+                int before = ROUTER.jump(key, n), after = ROUTER.jump(key, n + 1);
+                Assert.assertTrue(before >= 0 && before < n);
+                if (before != after) {
+                    Assert.assertEquals(n, after);
+                    moved++;
+                }
+                counts[after]++;
+            }
+            double expected = keys / (n + 1.0);
+            Assert.assertEquals(expected, moved, 6.0 * Math.sqrt(expected));
+            for (int c : counts) Assert.assertEquals(expected, c, 6.0 * Math.sqrt(expected));
+        }
+        Assert.assertEquals(ROUTER.jump("key", 1000), ROUTER.jump(new StringBuilder("key"), 1000));
+        Assert.assertEquals(0, ROUTER.jump(123L, 1));
+    }
+
+    @Test
+    public void testRendezvousOnlyMovesRemovedShard() {
+        long[] ids = {101, 202, 303, 404, 505, 606, 707};
+        long[] without = {101, 202, 303, 505, 606, 707};
+        int[] counts = new int[ids.length];
+        for (long key = 0; key < 70000; key++) {
+            int before = ROUTER.rendezvous(key, ids), after = ROUTER.rendezvous(key, without);
+            counts[before]++;
+            if (ids[before] != 404) Assert.assertEquals(ids[before], without[after]);
+            String s = "k" + key;
+            int byString = ROUTER.rendezvous(s, ids);
+            if (ids[byString] != 404) Assert.assertEquals(ids[byString], without[ROUTER.rendezvous(s, without)]);
+        }
+        for (int c : counts) Assert.assertEquals(10000, c, 600);
+        Assert.assertEquals(-1, ROUTER.rendezvous(1L, new long[0]));
+        ConsistentHash other = new ConsistentHash(Hasher.psi);
+        int same = 0;
+        for (long key = 0; key < 7000; key++) {
+            if (ROUTER.rendezvous(key, ids) == other.rendezvous(key, ids)) same++;
+        }
+        Assert.assertEquals(1000, same, 150);
+    }
+
+    @Test
+    public void testWeightedRendezvous() {
+        long[] ids = {1, 2, 3, 4};
+        double[] weights = {1.0, 2.0, 3.0, 0.0};
+        int[] counts = new int[ids.length];
+        for (long key = 0; key < 60000; key++) {
+            counts[ROUTER.rendezvous(key, ids, weights)]++;
+        }
+        Assert.assertEquals(10000, counts[0], 500);
+        Assert.assertEquals(20000, counts[1], 700);
+        Assert.assertEquals(30000, counts[2], 800);
+        Assert.assertEquals(0, counts[3]);
+        double[] heavier = {1.0, 4.0, 3.0, 0.0};
+        for (long key = 0; key < 20000; key++) {
+            int before = ROUTER.rendezvous(key, ids, weights), after = ROUTER.rendezvous(key, ids, heavier);
+            if (before != after) Assert.assertEquals(1, after);
+        }
+        Assert.assertEquals(-1, ROUTER.rendezvous("x", ids, new double[4]));
+    }
+
+    @Test
+    public void testBoundedLoads() {
+        long[] ids = {11, 22, 33, 44, 55};
+        double[] weights = {1, 1, 1, 1, 1};
+        long[] capacities = ConsistentHash.capacities(10000L, weights, 0.1, new long[5]);
+        Assert.assertArrayEquals(new long[]{2200, 2200, 2200, 2200, 2200}, capacities);
+        long[] loads = new long[5];
+        int moved = 0;
+        for (long key = 0; key < 10000; key++) {
+            int shard = ROUTER.rendezvousBounded(key, ids, loads, capacities);
+            Assert.assertTrue(shard >= 0);
+            if (shard != ROUTER.rendezvous(key, ids)) moved++;
+        }
+        Assert.assertEquals(10000L, Arrays.stream(loads).sum());
+        for (int i = 0; i < 5; i++) Assert.assertTrue(loads[i] <= capacities[i]);
+        Assert.assertTrue("moved " + moved, moved < 1000);
+        long[] full = {1, 1, 1, 1, 1};
+        Assert.assertEquals(-1, ROUTER.rendezvousBounded("x", ids, full, full));
+        long[] unbounded = {Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE};
+        for (long key = 0; key < 1000; key++) {
+            Assert.assertEquals(ROUTER.rendezvous(key, ids), ROUTER.rendezvousBounded(key, ids, new long[5], unbounded));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class CountMinSketchTest {
+    /**
+     * Zipf-like counts: key i is added about 100000 / (i + 1) times.
+     */
+    private static long[] zipf(int keys) {
+        long[] counts = new long[keys];
+        for (int i = 0; i < keys; i++) counts[i] = 100000L / (i + 1) + 1L;
+        return counts;
+    }
+
+    @Test
+    public void testNeverUnderestimates() {
+        long[] counts = zipf(20000);
+        CountMinSketch conservative = new CountMinSketch(0.001, 0.01);
+        long total = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            conservative.add(i * 7919L, counts[i]);
+            total += counts[i];
+        }
+        Assert.assertEquals(total, conservative.total());
+        int over = 0;
+        for (int i = 0; i < counts.length; i++) {
+            long estimate = conservative.estimate(i * 7919L);
+            Assert.assertTrue(estimate >= counts[i]);
+            if (estimate - counts[i] > 0.001 * total) over++;
+        }
+        Assert.assertTrue("over " + over, over <= counts.length * 0.01);
+    }
+
+    @Test
+    public void testSkewedStream() {
+        // 2M events drawn from a Zipf distribution with s = 1 over 100k keys
+        int keys = 100000, events = 2000000;
+        double[] cdf = new double[keys];
+        double sum = 0.0;
+        for (int i = 0; i < keys; i++) cdf[i] = sum += 1.0 / (i + 1);
+        Random random = new Random(2L);
+        long[] truth = new long[keys];
+        CountMinSketch sketch = new CountMinSketch(0.01, 0.01), shared = new CountMinSketch(0.01, 0.01, 0, true);
+        for (int n = 0; n < events; n++) {
+            int key = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+            if (key < 0) key = Math.min(-key - 1, keys - 1);
+            truth[key]++;
+            sketch.add(key * 31L);
+            shared.add(key * 31L);
+        }
+        int overEpsilon = 0, overTenth = 0;
+        for (int i = 0; i < keys; i++) {
+            long estimate = sketch.estimate(i * 31L);
+            Assert.assertEquals(estimate, shared.estimate(i * 31L));
+            if (estimate - truth[i] > 0.01 * events) overEpsilon++;
+            if (estimate - truth[i] > 0.001 * events) overTenth++;
+        }
+        // counters span whole rows, so light keys only share the hot keys' mass over all width columns
+        Assert.assertEquals(0, overEpsilon);
+        Assert.assertTrue("over a tenth of epsilon: " + overTenth, overTenth < keys / 100);
+    }
+
+    @Test
+    public void testConservativeBeatsPlainBound() {
+        CountMinSketch sketch = new CountMinSketch(256, 4, 10, false);
+        Random random = new Random(1L);
+        long[] truth = new long[5000];
+        for (int n = 0; n < 200000; n++) {
+            int key = (int) (Math.abs(random.nextGaussian()) * 800) % truth.length;
+            truth[key]++;
+            sketch.add("key" + key);
+        }
+        long error = 0L;
+        for (int i = 0; i < truth.length; i++) {
+            long estimate = sketch.estimate("key" + i);
+            Assert.assertTrue(estimate >= truth[i]);
+            error += estimate - truth[i];
+        }
+        // plain Count-Min would average about total / width = 781 too high per key
+        Assert.assertTrue("mean error " + error / truth.length, error / truth.length < 400);
+        Assert.assertEquals(0L, new CountMinSketch(256, 4, 10, false).estimate("key0"));
+    }
+
+    @Test
+    public void testItemKindsAndRows() {
+        CountMinSketch sketch = new CountMinSketch(1000, 5, 100, false);
+        Assert.assertEquals(1000, sketch.width);
+        Assert.assertEquals(3L, sketch.add(new byte[]{1, 2}, 3L));
+        Assert.assertEquals(4L, sketch.add(new byte[]{1, 2}));
+        Assert.assertEquals(1L, sketch.add("x"));
+        Assert.assertEquals(4L, sketch.estimate(new byte[]{1, 2}));
+        Assert.assertEquals(1L, sketch.estimate("x"));
+        Assert.assertEquals(0L, sketch.estimate(99L));
+        try {
+            new CountMinSketch(100, 10, 185, false);
+            Assert.fail("rows past the predefined Hashers should throw");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            sketch.add(5L, -1L);
+            Assert.fail("negative counts should throw");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testMerge() {
+        CountMinSketch a = new CountMinSketch(0.01, 0.01), b = new CountMinSketch(0.01, 0.01);
+        for (long i = 0; i < 1000; i++) {
+            a.add(i, i);
+            b.add(i + 500, 2L);
+        }
+        CountMinSketch merged = new CountMinSketch(a).merge(b);
+        Assert.assertEquals(a.total() + b.total(), merged.total());
+        for (long i = 0; i < 1500; i++) {
+            long truth = (i < 1000 ? i : 0L) + (i >= 500 ? 2L : 0L);
+            Assert.assertTrue(merged.estimate(i) >= truth);
+        }
+        try {
+            a.merge(new CountMinSketch(a.width, a.depth, 1, false));
+            Assert.fail("different first Hashers should throw");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testConcurrentAdds() throws InterruptedException {
+        final CountMinSketch sketch = new CountMinSketch(512, 4, 0, true);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int n = 0; n < 100000; n++) sketch.add(n % 3000);
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) thread.join();
+        Assert.assertEquals(400000L, sketch.total());
+        for (long i = 0; i < 3000; i++) {
+            long truth = 4L * (100000 / 3000 + (i < 100000 % 3000 ? 1 : 0));
+            Assert.assertTrue(sketch.estimate(i) >= truth);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+public class CounterRandomTest {
+    @Test
+    public void testMatchesRandomize() {
+        for (int strength = 1; strength <= 3; strength++) {
+            CounterRandom random = new CounterRandom(-5L, 0x1234567L, strength);
+            long state = -5L;
+            for (int i = 0; i < 100; i++) {
+                state += 0x1234567L;
+                long expected = strength == 1 ? Hasher.randomize1(state)
+                        : strength == 2 ? Hasher.randomize2(state) : Hasher.randomize3(state);
+                Assert.assertEquals(expected, random.nextLong());
+            }
+        }
+        Assert.assertEquals(new CounterRandom(77L).nextLong(), Hasher.randomize2(77L + CounterRandom.DEFAULT_STREAM));
+    }
+
+    @Test
+    public void testJumpAndCopy() {
+        CounterRandom random = new CounterRandom(123L, 456L);
+        CounterRandom jumped = random.copy().jump(1000L);
+        for (int i = 0; i < 1000; i++) random.nextLong();
+        Assert.assertEquals(random, jumped);
+        Assert.assertEquals(random.nextLong(), jumped.nextLong());
+        jumped.jump(-1L);
+        random.jump(-1L);
+        Assert.assertEquals(random.nextInt(), jumped.nextInt());
+        random.setSeed(9L);
+        Assert.assertEquals(new CounterRandom(9L).nextLong(), random.nextLong());
+    }
+
+    @Test
+    public void testSplit() {
+        CounterRandom random = new CounterRandom(1L);
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            CounterRandom child = random.split();
+            Assert.assertEquals(1, child.getStream() & 1L);
+            Assert.assertTrue(seen.add(child.nextLong()));
+        }
+        Assert.assertTrue(seen.add(random.nextLong()));
+    }
+
+    @Test
+    public void testBounds() {
+        CounterRandom random = new CounterRandom(42L);
+        for (int i = 0; i < 10000; i++) {
+            int a = random.nextInt(7);
+            Assert.assertTrue(a >= 0 && a < 7);
+            int b = random.nextInt(-100, Integer.MAX_VALUE);
+            Assert.assertTrue(b >= -100);
+            long c = random.nextLong(Long.MIN_VALUE + 1L, Long.MAX_VALUE);
+            Assert.assertTrue(c > Long.MIN_VALUE && c < Long.MAX_VALUE);
+            long d = random.nextLong(3L);
+            Assert.assertTrue(d >= 0L && d < 3L);
+            double e = random.nextDouble(), f = random.nextFloat();
+            Assert.assertTrue(e >= 0.0 && e < 1.0 && f >= 0.0 && f < 1.0);
+            Assert.assertFalse(Double.isNaN(random.nextGaussian()));
+        }
+        try {
+            random.nextInt(0);
+            Assert.fail("bound 0 should throw");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testNextBytes() {
+        byte[] bytes = new byte[13];
+        new CounterRandom(3L).nextBytes(bytes);
+        CounterRandom random = new CounterRandom(3L);
+        long a = random.nextLong(), b = random.nextLong();
+        for (int i = 0; i < 8; i++) Assert.assertEquals((byte) (a >>> (i << 3)), bytes[i]);
+        for (int i = 8; i < 13; i++) Assert.assertEquals((byte) (b >>> (i - 8 << 3)), bytes[i]);
+    }
+
+    @Test
+    public void testParallelStreamsMatchSequential() {
+        long[] sequential = new CounterRandom(5L).longs(100000L).toArray();
+        long[] parallel = new CounterRandom(5L).longs(100000L).parallel().toArray();
+        Assert.assertArrayEquals(sequential, parallel);
+        int[] ints = new CounterRandom(6L).ints(50000L, -10, 10).parallel().toArray();
+        Assert.assertArrayEquals(new CounterRandom(6L).ints(50000L, -10, 10).toArray(), ints);
+        for (int i : ints) Assert.assertTrue(i >= -10 && i < 10);
+        double[] doubles = new CounterRandom(7L).doubles(50000L, 2.0, 3.0).parallel().toArray();
+        Assert.assertArrayEquals(new CounterRandom(7L).doubles(50000L, 2.0, 3.0).toArray(), doubles, 0.0);
+        for (double d : doubles) Assert.assertTrue(d >= 2.0 && d < 3.0);
+        Assert.assertEquals(10, new CounterRandom(8L).ints().limit(10).count());
+        // a stream doesn't repeat what the generator gives afterwards
+        CounterRandom random = new CounterRandom(9L);
+        long first = random.longs(1L).sum();
+        Assert.assertNotEquals(first, random.nextLong());
+    }
+
+    @Test
+    public void testShuffle() {
+        int[] items = new int[100];
+        for (int i = 0; i < items.length; i++) items[i] = i;
+        int[] a = ArrayTools.shuffle(items.clone(), new CounterRandom(10L));
+        int[] b = ArrayTools.shuffle(items.clone(), new CounterRandom(10L));
+        Assert.assertArrayEquals(a, b);
+        Assert.assertFalse(Arrays.equals(items, a));
+        Arrays.sort(a);
+        Assert.assertArrayEquals(items, a);
+    }
+}
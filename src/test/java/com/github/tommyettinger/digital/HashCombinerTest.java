@@ -0,0 +1,49 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class HashCombinerTest {
+    @Test
+    public void testDeterministic() {
+        long a = Hasher.omega.combine().mix(123L).mix(7).mix("name").mix(0.5).finish();
+        long b = new HashCombiner(Hasher.omega.seed).mix(123L).mix(7).mix(new StringBuilder("name")).mix(0.5).finish();
+        Assert.assertEquals(a, b);
+        HashCombiner reused = Hasher.omega.combine().mix(99L).mix("other");
+        Assert.assertEquals(a, reused.reset().mix(123L).mix(7).mix("name").mix(0.5).finish());
+        Assert.assertEquals(Hasher.omega.combine().mix(7L).finish(), Hasher.omega.combine().mix(7).finish());
+        Assert.assertEquals(Hasher.omega.combine().mix(0L).finish(), Hasher.omega.combine().mix(0.0).finish());
+        Assert.assertEquals((int) a, Hasher.omega.combine().mix(123L).mix(7).mix("name").mix(0.5).finishInt());
+    }
+
+    @Test
+    public void testSensitivity() {
+        Set<Long> seen = new HashSet<>();
+        Assert.assertTrue(seen.add(Hasher.omega.combine().finish()));
+        Assert.assertTrue(seen.add(Hasher.omega.combine().mix(0L).finish()));
+        Assert.assertTrue(seen.add(Hasher.omega.combine().mix(0L).mix(0L).finish()));
+        Assert.assertTrue(seen.add(Hasher.omega.combine().mix(1L).mix(2L).finish()));
+        Assert.assertTrue(seen.add(Hasher.omega.combine().mix(2L).mix(1L).finish()));
+        Assert.assertTrue(seen.add(Hasher.psi.combine().mix(1L).mix(2L).finish()));
+        Assert.assertTrue(seen.add(Hasher.omega.combine().mix("ab").mix("c").finish()));
+        Assert.assertTrue(seen.add(Hasher.omega.combine().mix("a").mix("bc").finish()));
+        Assert.assertTrue(seen.add(Hasher.omega.combine().mix("").finish()));
+        Assert.assertTrue(seen.add(Hasher.omega.combine().mix((CharSequence) null).finish()));
+        Assert.assertTrue(seen.add(Hasher.omega.combine().mix(-0.0).finish()));
+        for (long i = 0; i < 10000; i++) {
+            Assert.assertTrue(seen.add(Hasher.omega.combine().mix(i).mix((int) (i >>> 3)).mix("x").finish()));
+        }
+    }
+
+    @Test
+    public void testFinishDoesNotChangeState() {
+        HashCombiner combiner = Hasher.omega.combine().mix(5L);
+        long first = combiner.finish();
+        Assert.assertEquals(first, combiner.finish());
+        Assert.assertNotEquals(first, combiner.mix(6L).finish());
+        Assert.assertEquals(Hasher.omega.combine().mix(5L).mix(6L).finish(), combiner.finish());
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+public class HashStreamTest {
+    @Test
+    public void testChunking() {
+        Random random = new Random(123L);
+        byte[] data = new byte[1000];
+        random.nextBytes(data);
+        HashStream stream = Hasher.astaroth.stream();
+        for (int length = 0; length <= data.length; length += 13) {
+            long expected = Hasher.astaroth.hashBulk64(data, 0, length);
+            for (int trial = 0; trial < 10; trial++) {
+                stream.reset();
+                for (int i = 0; i < length; ) {
+                    int n = Math.min(random.nextInt(70), length - i);
+                    stream.update(data, i, n);
+                    i += n;
+                }
+                Assert.assertEquals(length, stream.length());
+                Assert.assertEquals(expected, stream.finish());
+                Assert.assertEquals((int) expected, stream.finishInt());
+            }
+        }
+    }
+
+    @Test
+    public void testByteBuffers() {
+        Random random = new Random(456L);
+        byte[] data = new byte[777];
+        random.nextBytes(data);
+        long expected = Hasher.omega.hashBulk64(data);
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length).order(ByteOrder.BIG_ENDIAN);
+        direct.put(data).flip();
+        HashStream stream = Hasher.omega.stream();
+        while (direct.hasRemaining()) {
+            ByteBuffer slice = direct.slice();
+            slice.limit(Math.min(slice.limit(), random.nextInt(100)));
+            direct.position(direct.position() + slice.remaining());
+            stream.update(slice);
+            Assert.assertFalse(slice.hasRemaining());
+        }
+        Assert.assertEquals(expected, stream.finish());
+        Assert.assertEquals(expected, stream.reset().update(ByteBuffer.wrap(data)).finish());
+        Assert.assertEquals(expected, stream.reset().update(ByteBuffer.wrap(data).asReadOnlyBuffer()).finish());
+        ByteBuffer offset = ByteBuffer.wrap(new byte[data.length + 10], 5, data.length).slice();
+        offset.put(data).flip();
+        Assert.assertEquals(expected, stream.reset().update(offset).finish());
+    }
+
+    @Test
+    public void testLongsAndChars() {
+        String text = "The quick brown fox jumps over the lazy dog. ÆЖ中";
+        ByteBuffer bytes = ByteBuffer.allocate(text.length() * 2 + 24).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.putLong(-1L);
+        for (int i = 0; i < text.length(); i++) bytes.putChar(text.charAt(i));
+        bytes.putLong(0x0123456789ABCDEFL).putLong(42L);
+        long expected = Hasher.alpha.hashBulk64(bytes.array());
+        HashStream stream = Hasher.alpha.stream().update(-1L).update(text).update(0x0123456789ABCDEFL);
+        long partial = stream.finish();
+        Assert.assertEquals(partial, stream.finish());
+        Assert.assertEquals(expected, stream.update(42L).finish());
+        Assert.assertNotEquals(partial, expected);
+        Assert.assertEquals(expected, stream.reset().update(-1L).update(new StringBuilder(text)).update(0x0123456789ABCDEFL).update(42L).finish());
+        Assert.assertEquals(Hasher.alpha.hashBulk64(new byte[0]), stream.reset().update((CharSequence) null).finish());
+    }
+}
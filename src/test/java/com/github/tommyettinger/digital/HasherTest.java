@@ -3,6 +3,19 @@ package com.github.tommyettinger.digital;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
 public class HasherTest {
     @Test
     public void test2D() {
@@ -19,4 +32,293 @@ public class HasherTest {
         double[][] double2D = new double[10][10], double2D2 = new double[10][10];
         Assert.assertEquals(Hasher.astaroth.hash(double2D), Hasher.astaroth.hash(double2D2));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testBulkSections() {
+        Random random = new Random(123L);
+        byte[] data = new byte[300];
+        random.nextBytes(data);
+        for (int start = 0; start < 40; start++) {
+            for (int length = 0; start + length <= data.length; length += 7) {
+                byte[] section = Arrays.copyOfRange(data, start, start + length);
+                Assert.assertEquals(Hasher.astaroth.hashBulk64(section), Hasher.astaroth.hashBulk64(data, start, length));
+                Assert.assertEquals(Hasher.astaroth.hashBulk(section), Hasher.astaroth.hashBulk(data, start, length));
+                Assert.assertEquals(Hasher.hashBulk64(-1L, section), Hasher.hashBulk64(-1L, data, start, length));
+            }
+        }
+        Assert.assertEquals(0L, Hasher.astaroth.hashBulk64(null));
+        Assert.assertEquals(0L, Hasher.hashBulk64(1L, data, -1, 4));
+    }
+
+    @Test
+    public void testBulkDistinct() {
+        Set<Long> seen = new HashSet<>();
+        // arrays of only zeros, with every length up to 200, must all hash differently
+        for (int length = 0; length <= 200; length++) {
+            Assert.assertTrue(seen.add(Hasher.astaroth.hashBulk64(new byte[length])));
+        }
+        byte[] data = new byte[64];
+        // flipping any single bit must change the hash
+        for (int i = 0; i < data.length * 8; i++) {
+            data[i >>> 3] ^= (byte) (1 << (i & 7));
+            Assert.assertTrue(seen.add(Hasher.astaroth.hashBulk64(data)));
+            data[i >>> 3] ^= (byte) (1 << (i & 7));
+        }
+        Assert.assertNotEquals(Hasher.astaroth.hashBulk64(data), Hasher.alpha.hashBulk64(data));
+    }
+
+    @Test
+    public void testByteBuffers() {
+        Random random = new Random(789L);
+        for (int length = 0; length < 300; length += 11) {
+            byte[] data = new byte[length];
+            random.nextBytes(data);
+            long expected = Hasher.astaroth.hashBulk64(data);
+            long expectedStatic = Hasher.hashBulk64(-1L, data);
+            ByteBuffer direct = ByteBuffer.allocateDirect(length + 3);
+            direct.position(3);
+            direct.put(data).position(3);
+            Assert.assertEquals(expected, Hasher.astaroth.hash64(direct));
+            Assert.assertEquals(3, direct.position());
+            direct.order(ByteOrder.LITTLE_ENDIAN);
+            Assert.assertEquals(expected, Hasher.astaroth.hash64(direct));
+            Assert.assertEquals((int) expected, Hasher.astaroth.hash(direct));
+            Assert.assertEquals(expectedStatic, Hasher.hash64(-1L, direct));
+            Assert.assertEquals(expected, Hasher.astaroth.hash64(ByteBuffer.wrap(data)));
+            Assert.assertEquals(expected, Hasher.astaroth.hash64(ByteBuffer.wrap(data).asReadOnlyBuffer()));
+            Assert.assertEquals(expectedStatic, Hasher.hash64(-1L, ByteBuffer.wrap(data)));
+        }
+    }
+
+    @Test
+    public void testHashFile() throws IOException {
+        Random random = new Random(1011L);
+        for (int length : new int[]{0, 1, 31, 32, 33, 1000, 70000}) {
+            // a new file each time, because a mapped file can't be rewritten or deleted on some platforms
+            Path file = Files.createTempFile("digital", ".bin");
+            file.toFile().deleteOnExit();
+            byte[] data = new byte[length];
+            random.nextBytes(data);
+            Files.write(file, data);
+            long expected = Hasher.omega.hashBulk64(data);
+            Assert.assertEquals(expected, FileHasher.hashFile(Hasher.omega, file));
+            Assert.assertEquals(expected, FileHasher.hashFile(Hasher.omega, file, 100));
+            Assert.assertEquals(expected, FileHasher.hashFile(Hasher.omega, file, 4096));
+            Assert.assertEquals((int) expected, FileHasher.hashFileInt(Hasher.omega, file));
+        }
+    }
+
+    @Test
+    public void testHash128Types() {
+        Random random = new Random(1213L);
+        long[] expected = new long[2], actual = new long[2];
+        for (int length = 0; length < 100; length++) {
+            long[] longs = new long[length];
+            for (int i = 0; i < length; i++) longs[i] = random.nextLong();
+            ByteBuffer bytes = ByteBuffer.allocate(length * 8).order(ByteOrder.LITTLE_ENDIAN);
+            for (long n : longs) bytes.putLong(n);
+            Hasher.astaroth.hash128(bytes.array(), expected);
+            Assert.assertArrayEquals(expected, Hasher.astaroth.hash128(longs, actual));
+            bytes.clear();
+            int[] ints = new int[length * 2];
+            bytes.asIntBuffer().get(ints);
+            Assert.assertArrayEquals(expected, Hasher.astaroth.hash128(ints, actual));
+            char[] chars = new char[length * 4];
+            bytes.asCharBuffer().get(chars);
+            Assert.assertArrayEquals(expected, Hasher.astaroth.hash128(chars, actual));
+            Assert.assertArrayEquals(expected, Hasher.astaroth.hash128(String.valueOf(chars), actual));
+            Assert.assertArrayEquals(expected, Hasher.astaroth.hash128(bytes, actual));
+            ByteBuffer direct = ByteBuffer.allocateDirect(length * 8);
+            direct.put(bytes).flip();
+            Assert.assertArrayEquals(expected, Hasher.astaroth.hash128(direct, actual));
+            // odd numbers of bytes, chars, and ints
+            if (length > 0) {
+                int[] fewerInts = Arrays.copyOf(ints, ints.length - 1);
+                Hasher.astaroth.hash128(Arrays.copyOf(bytes.array(), fewerInts.length * 4), expected);
+                Assert.assertArrayEquals(expected, Hasher.astaroth.hash128(fewerInts, actual));
+                char[] fewerChars = Arrays.copyOf(chars, chars.length - 1);
+                Hasher.astaroth.hash128(Arrays.copyOf(bytes.array(), fewerChars.length * 2), expected);
+                Assert.assertArrayEquals(expected, Hasher.astaroth.hash128(fewerChars, actual));
+                Assert.assertArrayEquals(expected, Hasher.astaroth.hash128(new StringBuilder().append(fewerChars), actual));
+            }
+        }
+        Assert.assertArrayEquals(new long[2], Hasher.astaroth.hash128((long[]) null, actual));
+        Assert.assertArrayEquals(Hasher.hash128(5L, "static", expected), Hasher.hash128(5L, "static".toCharArray(), actual));
+    }
+
+    @Test
+    public void testHash128Distinct() {
+        Set<Long> seen = new HashSet<>();
+        long[] out = new long[2];
+        // each half of the result should be distinct for zero arrays of every length and all single-bit flips
+        for (int length = 0; length <= 200; length++) {
+            Hasher.astaroth.hash128(new byte[length], out);
+            Assert.assertTrue(seen.add(out[0]));
+            Assert.assertTrue(seen.add(out[1]));
+        }
+        long[] data = new long[9];
+        for (int i = 0; i < data.length * 64; i++) {
+            data[i >>> 6] ^= 1L << i;
+            Hasher.alpha.hash128(data, out);
+            Assert.assertTrue(seen.add(out[0]));
+            Assert.assertTrue(seen.add(out[1]));
+            data[i >>> 6] ^= 1L << i;
+        }
+        Hasher.alpha.hash128(data, out);
+        long lo = out[0], hi = out[1];
+        Hasher.omega.hash128(data, out);
+        Assert.assertNotEquals(lo, out[0]);
+        Assert.assertNotEquals(hi, out[1]);
+    }
+
+    @Test
+    public void testBatchMatchesSingle() {
+        Random random = new Random(1415L);
+        for (int count = 0; count < 40; count++) {
+            CharSequence[] strings = new CharSequence[count];
+            int[][] arrays = new int[count][];
+            long[] longs = new long[count];
+            for (int i = 0; i < count; i++) {
+                if (random.nextInt(10) == 0) continue;
+                char[] chars = new char[random.nextInt(30)];
+                for (int j = 0; j < chars.length; j++) chars[j] = (char) random.nextInt();
+                strings[i] = random.nextBoolean() ? String.valueOf(chars) : new StringBuilder().append(chars);
+                arrays[i] = new int[random.nextInt(30)];
+                for (int j = 0; j < arrays[i].length; j++) arrays[i][j] = random.nextInt();
+                longs[i] = random.nextLong();
+            }
+            long[] out64 = Hasher.omega.hash64All(strings, new long[count]);
+            int[] out32 = Hasher.omega.hashAll(strings, new int[count]);
+            for (int i = 0; i < count; i++) {
+                Assert.assertEquals(Hasher.omega.hash64(strings[i]), out64[i]);
+                Assert.assertEquals(Hasher.omega.hash(strings[i]), out32[i]);
+            }
+            Hasher.omega.hash64All(arrays, out64);
+            Hasher.omega.hashAll(arrays, out32);
+            for (int i = 0; i < count; i++) {
+                Assert.assertEquals(Hasher.omega.hash64(arrays[i]), out64[i]);
+                Assert.assertEquals(Hasher.omega.hash(arrays[i]), out32[i]);
+            }
+            Hasher.omega.hash64All(longs, out64);
+            Hasher.omega.hashAll(longs, out32);
+            for (int i = 0; i < count; i++) {
+                Assert.assertEquals(Hasher.omega.hash64(new long[]{longs[i]}), out64[i]);
+                Assert.assertEquals(Hasher.omega.hash(new long[]{longs[i]}), out32[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testHash3D() {
+        Random random = new Random(3333L);
+        Set<Long> seen = new HashSet<>();
+        for (int size = 0; size < 12; size++) {
+            byte[][][] bytes = new byte[size][size][size * 3 + 1];
+            int[][][] ints = new int[size][size][size + 1];
+            float[][][] floats = new float[size][size][size + 1];
+            long[][][] longs = new long[size][size][size + 1];
+            double[][][] doubles = new double[size][size][size + 1];
+            for (int x = 0; x < size; x++) {
+                for (int y = 0; y < size; y++) {
+                    random.nextBytes(bytes[x][y]);
+                    for (int z = 0; z <= size; z++) {
+                        ints[x][y][z] = random.nextInt();
+                        floats[x][y][z] = random.nextFloat();
+                        longs[x][y][z] = random.nextLong();
+                        doubles[x][y][z] = random.nextDouble();
+                    }
+                }
+            }
+            long[] hashes = {Hasher.omega.hash64(bytes), Hasher.omega.hash64(ints), Hasher.omega.hash64(floats),
+                    Hasher.omega.hash64(longs), Hasher.omega.hash64(doubles)};
+            for (long h : hashes) Assert.assertTrue(size == 0 || seen.add(h));
+            Assert.assertEquals(hashes[1], Hasher.omega.hash64(deepCopy(ints)));
+            Assert.assertEquals((int) hashes[3], Hasher.omega.hash(longs));
+            Assert.assertEquals(Hasher.hash64(123L, bytes), Hasher.hash64(123L, bytes));
+            if (size > 0) {
+                int[][][] changed = deepCopy(ints);
+                changed[size - 1][size - 1][size] ^= 1;
+                Assert.assertNotEquals(hashes[1], Hasher.omega.hash64(changed));
+            }
+        }
+        // the same items, split into rows and slices differently, or with nulls, should hash differently
+        int[][][] a = {{{1, 2, 3}, {4}}}, b = {{{1, 2}, {3, 4}}}, c = {{{1, 2, 3, 4}}}, d = {{{1, 2, 3}}, {{4}}},
+                e = {{{1, 2, 3}, {4}, {}}}, f = {{{1, 2, 3}, {4}, null}}, g = {{{1, 2, 3}, {4}}, null};
+        for (int[][][] grid : new int[][][][]{a, b, c, d, e, f, g}) Assert.assertTrue(seen.add(Hasher.omega.hash64(grid)));
+        Assert.assertEquals(0L, Hasher.omega.hash64((long[][][]) null));
+    }
+
+    @Test
+    public void testArraySections() {
+        Random random = new Random(1414L);
+        boolean[] bools = new boolean[90];
+        byte[] bytes = new byte[90];
+        short[] shorts = new short[90];
+        int[] ints = new int[90];
+        float[] floats = new float[90];
+        long[] longs = new long[90];
+        double[] doubles = new double[90];
+        random.nextBytes(bytes);
+        for (int i = 0; i < 90; i++) {
+            bools[i] = random.nextBoolean();
+            shorts[i] = (short) random.nextInt();
+            ints[i] = random.nextInt();
+            floats[i] = random.nextFloat();
+            longs[i] = random.nextLong();
+            doubles[i] = random.nextDouble();
+        }
+        for (int start = 0; start < 20; start++) {
+            // lengths past the end are clamped to what remains
+            for (int length = 0; start + length <= 100; length += 3) {
+                int end = Math.min(90, start + length);
+                Assert.assertEquals(Hasher.omega.hash64(Arrays.copyOfRange(bools, start, end)), Hasher.omega.hash64(bools, start, length));
+                Assert.assertEquals(Hasher.omega.hash64(Arrays.copyOfRange(bytes, start, end)), Hasher.omega.hash64(bytes, start, length));
+                Assert.assertEquals(Hasher.omega.hash64(Arrays.copyOfRange(shorts, start, end)), Hasher.omega.hash64(shorts, start, length));
+                Assert.assertEquals(Hasher.omega.hash64(Arrays.copyOfRange(ints, start, end)), Hasher.omega.hash64(ints, start, length));
+                Assert.assertEquals(Hasher.omega.hash64(Arrays.copyOfRange(floats, start, end)), Hasher.omega.hash64(floats, start, length));
+                Assert.assertEquals(Hasher.omega.hash64(Arrays.copyOfRange(longs, start, end)), Hasher.omega.hash64(longs, start, length));
+                Assert.assertEquals(Hasher.omega.hash64(Arrays.copyOfRange(doubles, start, end)), Hasher.omega.hash64(doubles, start, length));
+                Assert.assertEquals(Hasher.omega.hash(Arrays.copyOfRange(ints, start, end)), Hasher.omega.hash(ints, start, length));
+                Assert.assertEquals(Hasher.omega.hash(Arrays.copyOfRange(longs, start, end)), Hasher.omega.hash(longs, start, length));
+                Assert.assertEquals(Hasher.hash64(-5L, Arrays.copyOfRange(bools, start, end)), Hasher.hash64(-5L, bools, start, length));
+                Assert.assertEquals(Hasher.hash64(-5L, Arrays.copyOfRange(bytes, start, end)), Hasher.hash64(-5L, bytes, start, length));
+                Assert.assertEquals(Hasher.hash64(-5L, Arrays.copyOfRange(shorts, start, end)), Hasher.hash64(-5L, shorts, start, length));
+                Assert.assertEquals(Hasher.hash64(-5L, Arrays.copyOfRange(ints, start, end)), Hasher.hash64(-5L, ints, start, length));
+                Assert.assertEquals(Hasher.hash64(-5L, Arrays.copyOfRange(floats, start, end)), Hasher.hash64(-5L, floats, start, length));
+                Assert.assertEquals(Hasher.hash64(-5L, Arrays.copyOfRange(longs, start, end)), Hasher.hash64(-5L, longs, start, length));
+                Assert.assertEquals(Hasher.hash64(-5L, Arrays.copyOfRange(doubles, start, end)), Hasher.hash64(-5L, doubles, start, length));
+                Assert.assertEquals(Hasher.hash(-5L, Arrays.copyOfRange(floats, start, end)), Hasher.hash(-5L, floats, start, length));
+                Assert.assertEquals(Hasher.hash(-5L, Arrays.copyOfRange(doubles, start, end)), Hasher.hash(-5L, doubles, start, length));
+            }
+        }
+        Assert.assertEquals(0L, Hasher.omega.hash64((int[]) null, 0, 4));
+        Assert.assertEquals(0L, Hasher.omega.hash64(longs, -1, 4));
+        Assert.assertEquals(0, Hasher.hash(1L, bytes, 2, -4));
+    }
+
+    @Test
+    public void testPredefinedSeeds() throws IllegalAccessException {
+        // each predefined Hasher's precomputed seed must match hashing the name it was always created from
+        int count = 0;
+        for (Field field : Hasher.class.getFields()) {
+            if (field.getType() != Hasher.class || !Modifier.isStatic(field.getModifiers())) continue;
+            String name = field.getName();
+            if (name.endsWith("_")) name = name.substring(0, name.length() - 1).toUpperCase(Locale.ROOT);
+            Hasher hasher = (Hasher) field.get(null);
+            Assert.assertEquals(field.getName(), new Hasher(name).seed, hasher.seed);
+            Assert.assertTrue(Arrays.asList(Hasher.predefined).contains(hasher));
+            count++;
+        }
+        Assert.assertEquals(192, count);
+        Assert.assertEquals(192, Hasher.predefined.length);
+    }
+
+    private static int[][][] deepCopy(int[][][] grid) {
+        int[][][] copy = new int[grid.length][][];
+        for (int i = 0; i < grid.length; i++) {
+            copy[i] = new int[grid[i].length][];
+            for (int j = 0; j < grid[i].length; j++) copy[i][j] = grid[i][j].clone();
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,198 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public class HyperLogLogTest {
+    @Test
+    public void testAccuracy() {
+        for (int precision : new int[]{10, 14}) {
+            HyperLogLog sketch = new HyperLogLog(Hasher.omega, precision);
+            double limit = 4.0 * sketch.standardError();
+            long added = 0L;
+            for (long target : new long[]{1, 10, 100, 1000, 10000, 100000, 1000000}) {
+                for (; added < target; added++) {
+                    sketch.add(added * 31L);
+                    sketch.add(added * 31L);
+                }
+                double error = Math.abs(sketch.estimate() - target) / (double) target;
+                Assert.assertTrue("precision " + precision + ", " + target + " items, error " + error,
+                        error <= limit);
+            }
+            Assert.assertFalse(sketch.isSparse());
+        }
+        Assert.assertEquals(0L, new HyperLogLog(Hasher.omega).estimate());
+    }
+
+    @Test
+    public void testSparseMatchesDense() {
+        HyperLogLog sparse = new HyperLogLog(Hasher.psi, 12), dense = new HyperLogLog(Hasher.psi.seed, 12, false);
+        for (int i = 0; i < 5000; i++) {
+            Assert.assertEquals(dense.add("key" + i), sparse.add("key" + i));
+            if (i == 100) {
+                Assert.assertTrue(sparse.isSparse());
+                Assert.assertTrue(sparse.serializedSize() < dense.serializedSize());
+            }
+            if (i % 250 == 0) {
+                Assert.assertEquals(dense.estimate(), sparse.estimate());
+                Assert.assertEquals(dense, sparse);
+            }
+        }
+        Assert.assertFalse(sparse.isSparse());
+        Assert.assertEquals(dense, sparse);
+        sparse.clear();
+        Assert.assertTrue(sparse.isSparse());
+        Assert.assertEquals(0L, sparse.estimate());
+    }
+
+    @Test
+    public void testItemKinds() {
+        HyperLogLog sketch = new HyperLogLog(Hasher.omega);
+        Assert.assertTrue(sketch.add(new int[]{1, 2, 3}));
+        Assert.assertFalse(sketch.add(new int[]{1, 2, 3}));
+        Assert.assertTrue(sketch.add(new byte[]{4, 5, 6}));
+        Assert.assertFalse(sketch.addHash(Hasher.omega.hash64(new byte[]{4, 5, 6})));
+        Assert.assertTrue(sketch.add(12345L));
+        Assert.assertTrue(sketch.add("12345"));
+        Assert.assertEquals(4L, sketch.estimate());
+    }
+
+    @Test
+    public void testMerge() {
+        HyperLogLog a = new HyperLogLog(Hasher.omega), b = new HyperLogLog(Hasher.omega), all = new HyperLogLog(Hasher.omega);
+        for (long i = 0; i < 50000; i++) {
+            a.add(i);
+            all.add(i);
+        }
+        for (long i = 30000; i < 30500; i++) {
+            b.add(i + 40000);
+            all.add(i + 40000);
+        }
+        Assert.assertTrue(b.isSparse());
+        HyperLogLog merged = new HyperLogLog(b).merge(a);
+        Assert.assertEquals(all, merged);
+        Assert.assertEquals(all, new HyperLogLog(a).merge(b));
+        Assert.assertEquals(all.estimate(), merged.estimate());
+        try {
+            a.merge(new HyperLogLog(Hasher.omega, 12));
+            Assert.fail("different precisions should throw");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testCopy() {
+        HyperLogLog sparse = new HyperLogLog(Hasher.omega), grown = new HyperLogLog(Hasher.omega),
+                dense = new HyperLogLog(Hasher.omega.seed, 14, false);
+        for (int i = 0; i < 300; i++) {
+            sparse.add(i);
+            dense.add(i);
+        }
+        for (int i = 0; i < 300000; i++) grown.add(i);
+        for (HyperLogLog sketch : new HyperLogLog[]{sparse, grown, dense}) {
+            HyperLogLog copy = new HyperLogLog(sketch);
+            Assert.assertEquals(sketch, copy);
+            Assert.assertEquals(sketch.isSparse(), copy.isSparse());
+            Assert.assertEquals(sketch.estimate(), copy.estimate(), 0.0);
+            double before = sketch.estimate();
+            for (long i = 1000000; i < 1100000; i++) copy.add(i);
+            Assert.assertEquals(before, sketch.estimate(), 0.0);
+            Assert.assertTrue(copy.estimate() > before + 50000);
+            copy.clear();
+            sketch.clear();
+            Assert.assertEquals(sketch.isSparse(), copy.isSparse());
+        }
+        Assert.assertTrue(sparse.isSparse());
+        Assert.assertTrue(grown.isSparse());
+        Assert.assertFalse(dense.isSparse());
+    }
+
+    @Test
+    public void testSerialization() {
+        HyperLogLog sparse = new HyperLogLog(Hasher.omega), dense = new HyperLogLog(Hasher.omega);
+        for (int i = 0; i < 300; i++) sparse.add(i);
+        for (int i = 0; i < 300000; i++) dense.add(i);
+        for (HyperLogLog sketch : new HyperLogLog[]{sparse, dense}) {
+            byte[] bytes = sketch.toBytes();
+            Assert.assertEquals(sketch.serializedSize(), bytes.length);
+            HyperLogLog copy = HyperLogLog.fromBytes(bytes);
+            Assert.assertEquals(sketch, copy);
+            Assert.assertEquals(sketch.isSparse(), copy.isSparse());
+            Assert.assertEquals(sketch.estimate(), copy.estimate());
+            Assert.assertEquals(sketch.hashCode(), copy.hashCode());
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).order(ByteOrder.BIG_ENDIAN);
+            sketch.write(buffer).flip();
+            Assert.assertEquals(sketch, HyperLogLog.read(buffer));
+            Assert.assertEquals(0, buffer.remaining());
+        }
+        Assert.assertTrue(sparse.serializedSize() < 2000);
+    }
+
+    @Test
+    public void testReadRejectsCorruptSketches() {
+        HyperLogLog sparse = new HyperLogLog(Hasher.omega), dense = new HyperLogLog(Hasher.omega);
+        for (int i = 0; i < 300; i++) sparse.add(i);
+        for (int i = 0; i < 300000; i++) dense.add(i);
+        // the header is a 4-byte tag, 4-byte precision, 8-byte seed, and 1-byte mode
+        byte[] bytes = dense.toBytes();
+        bytes[17 + 5] = 100;
+        assertRejected(bytes);
+        bytes[17 + 5] = -1;
+        assertRejected(bytes);
+        bytes = dense.toBytes();
+        bytes[16] = 2;
+        assertRejected(bytes);
+        bytes = dense.toBytes();
+        bytes[4] = 30;
+        assertRejected(bytes);
+
+        byte[] good = sparse.toBytes();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes = good.clone()).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(17, Integer.MAX_VALUE);
+        assertRejected(bytes);
+        buffer = ByteBuffer.wrap(bytes = good.clone()).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(17, -1);
+        assertRejected(bytes);
+        buffer = ByteBuffer.wrap(bytes = good.clone()).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(21, (1 << sparse.precision) << 6 | 1);
+        assertRejected(bytes);
+        buffer = ByteBuffer.wrap(bytes = good.clone()).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(21, 5 << 6 | 65 - sparse.precision + 1);
+        assertRejected(bytes);
+        buffer = ByteBuffer.wrap(bytes = good.clone()).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(21, 5 << 6);
+        assertRejected(bytes);
+        buffer.putInt(21, 5 << 6 | 65 - sparse.precision);
+        Assert.assertTrue(HyperLogLog.fromBytes(bytes).estimate() > 0.0);
+    }
+
+    private static void assertRejected(byte[] bytes) {
+        try {
+            HyperLogLog.fromBytes(bytes);
+            Assert.fail("a corrupt sketch should not be read");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testConcurrentAdds() throws InterruptedException {
+        for (final boolean startSparse : new boolean[]{true, false}) {
+            final HyperLogLog sketch = new HyperLogLog(Hasher.omega.seed, 14, startSparse);
+            Thread[] threads = new Thread[4];
+            for (int t = 0; t < threads.length; t++) {
+                final long start = t * 100000L;
+                threads[t] = new Thread(() -> {
+                    for (long i = start; i < start + 200000L; i++) sketch.add(i);
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads) thread.join();
+            HyperLogLog serial = new HyperLogLog(Hasher.omega);
+            for (long i = 0; i < 500000L; i++) serial.add(i);
+            Assert.assertEquals(serial, sketch);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+
+public class KeyedHasherTest {
+    @Test
+    public void testEquivalentInputs() {
+        KeyedHasher keyed = KeyedHasher.process();
+        Assert.assertSame(keyed, KeyedHasher.process());
+        Random random = new Random(12L);
+        for (int len = 0; len < 40; len++) {
+            char[] chars = new char[len];
+            for (int i = 0; i < len; i++) chars[i] = (char) random.nextInt(0x10000);
+            Assert.assertEquals(keyed.hash64(chars), keyed.hash64(String.valueOf(chars)));
+            Assert.assertEquals(keyed.hash(chars), keyed.hash(new StringBuilder().append(chars)));
+        }
+        for (int i = 0; i < 100; i++) {
+            long l = random.nextLong();
+            int n = random.nextInt();
+            Assert.assertEquals(keyed.hash64(new long[]{l}), keyed.hash64(l));
+            Assert.assertEquals(keyed.hash64(new int[]{n}), keyed.hash64(n));
+        }
+        Assert.assertEquals(0L, keyed.hash64((CharSequence) null));
+        Assert.assertEquals(0L, keyed.hash64((byte[]) null));
+    }
+
+    @Test
+    public void testKeyMatters() {
+        KeyedHasher a = new KeyedHasher(1L, 2L), b = new KeyedHasher(1L, 3L), c = new KeyedHasher(0L, 2L);
+        Assert.assertEquals(a.hash64("hello, world"), new KeyedHasher(1L, 2L).hash64("hello, world"));
+        Assert.assertNotEquals(a.hash64("hello, world"), b.hash64("hello, world"));
+        Assert.assertNotEquals(a.hash64("hello, world"), c.hash64("hello, world"));
+        Assert.assertNotEquals(KeyedHasher.newRandom().hash64(123L), KeyedHasher.newRandom().hash64(123L));
+    }
+
+    @Test
+    public void testNoCollisionsOnSimilarInputs() {
+        KeyedHasher keyed = new KeyedHasher(0L, 0L);
+        HashSet<Long> seen = new HashSet<>();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            sb.setLength(0);
+            sb.append(i);
+            Assert.assertTrue(seen.add(keyed.hash64(sb)));
+            sb.append('\0');
+            Assert.assertTrue(seen.add(keyed.hash64(sb)));
+            Assert.assertTrue(seen.add(keyed.hash64((long) i)));
+            Assert.assertTrue(seen.add(keyed.hash64(new byte[]{(byte) i, (byte) (i >>> 8), (byte) (i >>> 16)})));
+        }
+    }
+}
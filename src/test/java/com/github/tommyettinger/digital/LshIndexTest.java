@@ -0,0 +1,73 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LshIndexTest {
+    private static final MinHash MIN_HASH = new MinHash(Hasher.omega, 128, true);
+
+    private static long[] signature(long start, long end) {
+        long[] sig = MIN_HASH.clear(new long[128]);
+        for (long t = start; t < end; t++) MIN_HASH.update(sig, Hasher.randomize3(t));
+        return MIN_HASH.finish(sig);
+    }
+
+    @Test
+    public void testFindsNearDuplicates() {
+        LshIndex index = new LshIndex(Hasher.kappa, 32, 4, 10);
+        Assert.assertEquals(Math.pow(1.0 / 32, 0.25), index.threshold(), 1e-12);
+        // documents i and i + 1000 are near-duplicates, sharing 95 of 105 tokens; the rest are unrelated
+        for (int i = 0; i < 1000; i++) {
+            index.add(i, signature(i * 1000L, i * 1000L + 100));
+        }
+        Assert.assertEquals(1000, index.size());
+        long[] out = new long[100];
+        int found = 0, falsePositives = 0;
+        for (int i = 0; i < 1000; i++) {
+            int n = index.query(signature(i * 1000L + 5, i * 1000L + 105), out);
+            for (int j = 0; j < n; j++) {
+                if (out[j] == i) found++;
+                else falsePositives++;
+            }
+        }
+        Assert.assertTrue(found > 990);
+        Assert.assertTrue(falsePositives < 10);
+    }
+
+    @Test
+    public void testDeduplicatesAndClears() {
+        LshIndex index = new LshIndex(Hasher.kappa, 16, 8, 0);
+        long[] sig = signature(0, 50);
+        index.add(7L, sig);
+        index.add(7L, sig);
+        index.add(8L, sig);
+        Assert.assertEquals(3, index.size());
+        long[] out = new long[4];
+        Assert.assertEquals(3, index.query(sig, out));
+        Assert.assertEquals(22L, out[0] + out[1] + out[2]);
+        long[] small = new long[1];
+        Assert.assertEquals(3, index.query(sig, small));
+        Assert.assertEquals(out[0], small[0]);
+        index.clear();
+        Assert.assertEquals(0, index.size());
+        Assert.assertEquals(0, index.query(sig, out));
+        Assert.assertEquals(0.0, index.candidateProbability(0.0), 0.0);
+        Assert.assertEquals(1.0, index.candidateProbability(1.0), 0.0);
+    }
+
+    @Test
+    public void testDuplicateClusters() {
+        LshIndex index = new LshIndex(Hasher.kappa, 32, 4, 1);
+        long[] sig = signature(0, 100), other = signature(5, 105), unrelated = signature(5000, 5100);
+        // 20000 identical documents share every band, and half again share most bands with them
+        for (int i = 0; i < 30000; i++) {
+            index.add(i, i < 20000 ? sig : other);
+        }
+        index.add(-1L, unrelated);
+        long[] out = new long[16];
+        Assert.assertEquals(30000, index.query(sig, out));
+        Assert.assertEquals(30000, index.query(other, out));
+        Assert.assertEquals(1, index.query(unrelated, out));
+        Assert.assertEquals(-1L, out[0]);
+    }
+}
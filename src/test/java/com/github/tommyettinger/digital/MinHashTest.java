@@ -0,0 +1,84 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MinHashTest {
+    /**
+     * Makes a signature of the tokens from start (inclusive) to end (exclusive).
+     */
+    private static long[] signature(MinHash minHash, long start, long end) {
+        long[] sig = minHash.clear(new long[minHash.size]);
+        for (long t = start; t < end; t++) minHash.update(sig, Hasher.randomize3(t));
+        return minHash.finish(sig);
+    }
+
+    @Test
+    public void testEstimatesJaccard() {
+        for (boolean one : new boolean[]{false, true}) {
+            MinHash minHash = new MinHash(Hasher.omega, 192, one);
+            // 1000 shared of 2000 total, 1/2
+            Assert.assertEquals(0.5, MinHash.similarity(signature(minHash, 0, 1500), signature(minHash, 500, 2000)), 0.12);
+            // 900 shared of 1100 total, 9/11
+            Assert.assertEquals(9.0 / 11.0, MinHash.similarity(signature(minHash, 0, 1000), signature(minHash, 100, 1100)), 0.1);
+            Assert.assertEquals(0.0, MinHash.similarity(signature(minHash, 0, 1000), signature(minHash, 1000, 2000)), 0.04);
+            Assert.assertEquals(1.0, MinHash.similarity(signature(minHash, 0, 1000), signature(minHash, 0, 1000)), 0.0);
+        }
+    }
+
+    @Test
+    public void testOrderAndRepeatsDoNotMatter() {
+        for (boolean one : new boolean[]{false, true}) {
+            MinHash minHash = new MinHash(Hasher.psi, 64, one);
+            long[] forward = signature(minHash, 0, 300);
+            long[] backward = minHash.clear(new long[64]);
+            for (long t = 299; t >= 0; t--) {
+                minHash.update(backward, Hasher.randomize3(t));
+                minHash.update(backward, Hasher.randomize3(t >> 1));
+            }
+            Assert.assertArrayEquals(forward, minHash.finish(backward));
+        }
+    }
+
+    @Test
+    public void testDensification() {
+        MinHash minHash = new MinHash(Hasher.mu, 500, true);
+        long[] a = signature(minHash, 0, 20), b = signature(minHash, 0, 20);
+        Assert.assertArrayEquals(a, b);
+        for (long v : a) Assert.assertTrue(v >= 0L && v != MinHash.EMPTY);
+        // 15 shared of 25 total
+        Assert.assertEquals(0.6, MinHash.similarity(signature(minHash, 0, 20), signature(minHash, 5, 25)), 0.2);
+        long[] empty = minHash.finish(minHash.clear(new long[500]));
+        for (long v : empty) Assert.assertEquals(MinHash.EMPTY, v);
+    }
+
+    @Test
+    public void testShinglesAndCompact() {
+        MinHash minHash = new MinHash(Hasher.lambda, 128, false);
+        String text = "the quick brown fox jumps over the lazy dog, again and again, all day long";
+        long[] a = minHash.clear(new long[128]), b = minHash.clear(new long[128]), c = minHash.clear(new long[128]);
+        minHash.updateShingles(a, text, 5);
+        minHash.updateShingles(b, new StringBuilder(text), 5);
+        minHash.updateShingles(c, text.replace("lazy", "sleepy"), 5);
+        Assert.assertArrayEquals(a, b);
+        double s = MinHash.similarity(a, c);
+        Assert.assertTrue(s > 0.6 && s < 1.0);
+        int[] ca = MinHash.compact(a, new int[128]), cc = MinHash.compact(c, new int[128]);
+        Assert.assertEquals(s, MinHash.similarity(ca, cc), 0.02);
+        long[] single = minHash.clear(new long[128]);
+        minHash.updateShingles(single, "abc", 5);
+        long[] whole = minHash.clear(new long[128]);
+        minHash.update(whole, Hasher.lambda.hash64("abc", 0, 3));
+        Assert.assertArrayEquals(whole, single);
+    }
+
+    @Test
+    public void testSizeLimits() {
+        Assert.assertEquals(1000, new MinHash(Hasher.omega, 1000, true).size);
+        try {
+            new MinHash(Hasher.omega, Hasher.predefined.length + 1, false);
+            Assert.fail("k-permutation size should be limited by the predefined Hashers");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
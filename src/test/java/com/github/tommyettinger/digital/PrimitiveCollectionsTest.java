@@ -0,0 +1,155 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Random;
+
+public class PrimitiveCollectionsTest {
+    /**
+     * Keys from a small range, so puts, removes, and the key 0 all happen often, and clusters form and get shifted.
+     */
+    private static long key(Random random) {
+        return random.nextInt(600) - 100;
+    }
+
+    @Test
+    public void testLongLongMapMatchesHashMap() {
+        Random random = new Random(1L);
+        LongLongMap map = new LongLongMap(4, 0.9f, Hasher.omega);
+        map.setDefaultValue(-1L);
+        HashMap<Long, Long> expected = new HashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            long k = key(random), v = random.nextLong();
+            switch (random.nextInt(4)) {
+                case 0:
+                case 1:
+                    Assert.assertEquals(expected.containsKey(k) ? expected.get(k) : -1L, map.put(k, v));
+                    expected.put(k, v);
+                    break;
+                case 2:
+                    Long old = expected.remove(k);
+                    Assert.assertEquals(old == null ? -1L : old, map.remove(k));
+                    break;
+                default:
+                    Assert.assertEquals(expected.containsKey(k), map.containsKey(k));
+                    Assert.assertEquals(expected.getOrDefault(k, -1L).longValue(), map.get(k));
+            }
+            Assert.assertEquals(expected.size(), map.size());
+        }
+        HashMap<Long, Long> visited = new HashMap<>();
+        map.forEach(visited::put);
+        Assert.assertEquals(expected, visited);
+        LongLongMap copy = new LongLongMap(map);
+        Assert.assertEquals(map, copy);
+        Assert.assertEquals(map.hashCode(), copy.hashCode());
+        copy.add(0L, 5L);
+        Assert.assertNotEquals(map, copy);
+        map.clear();
+        Assert.assertTrue(map.isEmpty());
+        Assert.assertEquals(-1L, map.get(5L));
+        Assert.assertEquals(3L, map.get(5L, 3L));
+    }
+
+    @Test
+    public void testIntIntMapMatchesHashMap() {
+        Random random = new Random(2L);
+        IntIntMap map = new IntIntMap();
+        HashMap<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            int k = (int) key(random), v = random.nextInt();
+            switch (random.nextInt(4)) {
+                case 0:
+                    Assert.assertEquals(expected.getOrDefault(k, 0) + v, map.add(k, v));
+                    expected.merge(k, v, Integer::sum);
+                    break;
+                case 1:
+                    Assert.assertEquals(expected.getOrDefault(k, 0).intValue(), map.put(k, v));
+                    expected.put(k, v);
+                    break;
+                case 2:
+                    Integer old = expected.remove(k);
+                    Assert.assertEquals(old == null ? 0 : old, map.remove(k));
+                    break;
+                default:
+                    Assert.assertEquals(expected.containsKey(k), map.containsKey(k));
+                    Assert.assertEquals(expected.getOrDefault(k, 0).intValue(), map.get(k));
+            }
+            Assert.assertEquals(expected.size(), map.size());
+        }
+        HashMap<Integer, Integer> visited = new HashMap<>();
+        map.forEach(visited::put);
+        Assert.assertEquals(expected, visited);
+        Assert.assertEquals(map, new IntIntMap(map));
+    }
+
+    @Test
+    public void testLongObjectMapMatchesHashMap() {
+        Random random = new Random(3L);
+        LongObjectMap<String> map = new LongObjectMap<>(0, 0.5f, 12345L);
+        HashMap<Long, String> expected = new HashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            long k = key(random) * 0x100000000L;
+            String v = random.nextInt(8) == 0 ? null : Integer.toString(random.nextInt(1000));
+            switch (random.nextInt(4)) {
+                case 0:
+                case 1:
+                    Assert.assertEquals(expected.put(k, v), map.put(k, v));
+                    break;
+                case 2:
+                    Assert.assertEquals(expected.remove(k), map.remove(k));
+                    break;
+                default:
+                    Assert.assertEquals(expected.containsKey(k), map.containsKey(k));
+                    Assert.assertEquals(expected.get(k), map.get(k));
+            }
+            Assert.assertEquals(expected.size(), map.size());
+        }
+        HashMap<Long, String> visited = new HashMap<>();
+        map.forEach(visited::put);
+        Assert.assertEquals(expected, visited);
+        Assert.assertEquals(map, new LongObjectMap<>(map));
+    }
+
+    @Test
+    public void testIntSetMatchesHashSet() {
+        Random random = new Random(4L);
+        IntSet set = new IntSet(1);
+        HashSet<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 100000; i++) {
+            int k = (int) key(random);
+            switch (random.nextInt(3)) {
+                case 0:
+                    Assert.assertEquals(expected.add(k), set.add(k));
+                    break;
+                case 1:
+                    Assert.assertEquals(expected.remove(k), set.remove(k));
+                    break;
+                default:
+                    Assert.assertEquals(expected.contains(k), set.contains(k));
+            }
+            Assert.assertEquals(expected.size(), set.size());
+        }
+        HashSet<Integer> visited = new HashSet<>();
+        set.forEach(visited::add);
+        Assert.assertEquals(expected, visited);
+        Assert.assertEquals(expected.size(), set.toArray().length);
+        IntSet other = new IntSet(16, 0.7f, Hasher.zeta);
+        other.addAll(set.toArray());
+        Assert.assertEquals(set, other);
+        Assert.assertEquals(set.hashCode(), other.hashCode());
+    }
+
+    @Test
+    public void testSeedChangesOrder() {
+        IntSet a = new IntSet(64, 0.7f, Hasher.alpha), b = new IntSet(64, 0.7f, Hasher.beta);
+        for (int i = 1; i <= 40; i++) {
+            a.add(i);
+            b.add(i);
+        }
+        Assert.assertEquals(a, b);
+        Assert.assertFalse(java.util.Arrays.equals(a.toArray(), b.toArray()));
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RandomFillTest {
+    private static final int[] SIZES = {0, 1, 3, 4, 7, 100, RandomFill.PARALLEL_THRESHOLD + 1, RandomFill.PARALLEL_THRESHOLD * 3 + 5};
+
+    @Test
+    public void testLongsMatchScalar() {
+        for (int size : SIZES) {
+            long start = -size * 31L + 0x12345L;
+            long[] a = new long[size], b = new long[size], c = new long[size];
+            RandomFill.fillRandomize1(start, a);
+            RandomFill.fillRandomize2(start, b);
+            RandomFill.fillRandomize3(start, c);
+            for (int i = 0; i < size; i++) {
+                Assert.assertEquals(Hasher.randomize1(start + i), a[i]);
+                Assert.assertEquals(Hasher.randomize2(start + i), b[i]);
+                Assert.assertEquals(Hasher.randomize3(start + i), c[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testFloatsAndDoublesMatchScalar() {
+        for (int size : SIZES) {
+            long start = Long.MAX_VALUE - size / 2;
+            float[] f1 = new float[size], f2 = new float[size], f3 = new float[size];
+            double[] d1 = new double[size], d2 = new double[size], d3 = new double[size];
+            RandomFill.fillRandomize1Floats(start, f1);
+            RandomFill.fillRandomize2Floats(start, f2);
+            RandomFill.fillRandomize3Floats(start, f3);
+            RandomFill.fillRandomize1Doubles(start, d1);
+            RandomFill.fillRandomize2Doubles(start, d2);
+            RandomFill.fillRandomize3Doubles(start, d3);
+            for (int i = 0; i < size; i++) {
+                Assert.assertEquals(Hasher.randomize1Float(start + i), f1[i], 0f);
+                Assert.assertEquals(Hasher.randomize2Float(start + i), f2[i], 0f);
+                Assert.assertEquals(Hasher.randomize3Float(start + i), f3[i], 0f);
+                Assert.assertEquals(Hasher.randomize1Double(start + i), d1[i], 0.0);
+                Assert.assertEquals(Hasher.randomize2Double(start + i), d2[i], 0.0);
+                Assert.assertEquals(Hasher.randomize3Double(start + i), d3[i], 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testBoundedMatchesScalar() {
+        for (int bound : new int[]{1, 10, -77, Integer.MAX_VALUE}) {
+            for (int size : SIZES) {
+                int[] a = new int[size], b = new int[size], c = new int[size];
+                RandomFill.fillRandomize1Bounded(bound, bound, a);
+                RandomFill.fillRandomize2Bounded(bound, bound, b);
+                RandomFill.fillRandomize3Bounded(bound, bound, c);
+                for (int i = 0; i < size; i++) {
+                    Assert.assertEquals(Hasher.randomize1Bounded((long) bound + i, bound), a[i]);
+                    Assert.assertEquals(Hasher.randomize2Bounded((long) bound + i, bound), b[i]);
+                    Assert.assertEquals(Hasher.randomize3Bounded((long) bound + i, bound), c[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRanges() {
+        int size = RandomFill.PARALLEL_THRESHOLD * 2 + 9;
+        long[] longs = new long[size + 20];
+        RandomFill.fillRandomize2(99L, longs, 13, size);
+        for (int i = 0; i < longs.length; i++) {
+            Assert.assertEquals(i < 13 || i >= 13 + size ? 0L : Hasher.randomize2(99L + i - 13), longs[i]);
+        }
+        int[] ints = new int[10];
+        RandomFill.fillRandomize3Bounded(5L, 100, ints, 10, 0);
+        Assert.assertArrayEquals(new int[10], ints);
+        RandomFill.fillRandomize1Doubles(0L, null);
+        try {
+            RandomFill.fillRandomize3Bounded(5L, 100, ints, 8, 3);
+            Assert.fail("the range should not fit");
+        } catch (IndexOutOfBoundsException expected) {
+            Assert.assertArrayEquals(new int[10], ints);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class RollingHashTest {
+    @Test
+    public void testRollMatchesWindow() {
+        byte[] data = new byte[1000];
+        new Random(1L).nextBytes(data);
+        for (int window : new int[]{1, 7, 64, 100}) {
+            RollingHash rolling = new RollingHash(Hasher.omega, window);
+            RollingHash fresh = rolling.copy();
+            for (int i = 0; i < window; i++) rolling.update(data[i]);
+            Assert.assertEquals(fresh.hashWindow(data, 0), rolling.hash());
+            for (int i = window; i < data.length; i++) {
+                long rolled = rolling.roll(data[i - window], data[i]);
+                Assert.assertEquals(fresh.hashWindow(data, i - window + 1), rolled);
+            }
+        }
+        Assert.assertNotEquals(new RollingHash(Hasher.omega, 8).hashWindow(data, 0),
+                new RollingHash(Hasher.psi, 8).hashWindow(data, 0));
+    }
+
+    @Test
+    public void testIndexOf() {
+        Random random = new Random(2L);
+        byte[] data = new byte[5000];
+        for (int i = 0; i < data.length; i++) data[i] = (byte) random.nextInt(3);
+        RollingHash rolling = new RollingHash(Hasher.omega, 16);
+        for (int trial = 0; trial < 200; trial++) {
+            byte[] pattern = new byte[1 + random.nextInt(12)];
+            for (int i = 0; i < pattern.length; i++) pattern[i] = (byte) random.nextInt(3);
+            int from = random.nextInt(100), to = data.length - random.nextInt(100);
+            Assert.assertEquals(naiveIndexOf(data, from, to, pattern), rolling.indexOf(data, from, to, pattern));
+        }
+        Assert.assertEquals(3, rolling.indexOf(data, 3, 3, new byte[0]));
+        Assert.assertEquals(-1, rolling.indexOf(new byte[2], new byte[3]));
+        Assert.assertEquals(0L, rolling.hash());
+    }
+
+    private static int naiveIndexOf(byte[] data, int from, int to, byte[] pattern) {
+        outer:
+        for (int i = from; i <= to - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+}
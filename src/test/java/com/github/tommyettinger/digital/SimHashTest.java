@@ -0,0 +1,43 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SimHashTest {
+    private static final SimHash SIM = new SimHash(Hasher.omega);
+
+    private static long fingerprint(String text) {
+        int[] votes = SIM.clear(new int[64]);
+        SIM.updateShingles(votes, text, 4);
+        return SIM.finish(votes);
+    }
+
+    @Test
+    public void testSimilarTextIsClose() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 200; i++) sb.append("word").append(Hasher.randomize1(i) & 1023).append(' ');
+        String text = sb.toString();
+        long a = fingerprint(text);
+        Assert.assertEquals(a, fingerprint(new StringBuilder(text).toString()));
+        long b = fingerprint(text.replace("word5", "WORD5"));
+        long c = fingerprint(text.toUpperCase());
+        Assert.assertTrue(SimHash.distance(a, b) < 12);
+        Assert.assertTrue(SimHash.distance(a, c) > 16);
+    }
+
+    @Test
+    public void testVotesAndWeights() {
+        int[] votes = SIM.clear(new int[64]);
+        SIM.update(votes, 0xF0F0F0F0F0F0F0F0L, 3);
+        SIM.update(votes, -1L, 2);
+        Assert.assertEquals(0xF0F0F0F0F0F0F0F0L, SIM.finish(votes));
+        Assert.assertEquals(5, votes[4]);
+        Assert.assertEquals(-1, votes[0]);
+        SIM.update(votes, 0L, 5);
+        Assert.assertEquals(0L, SIM.finish(votes));
+        votes = SIM.clear(votes);
+        SIM.update(votes, "token");
+        Assert.assertEquals(Hasher.omega.hash64("token"), SIM.finish(votes));
+        Assert.assertEquals(64, SimHash.distance(0L, -1L));
+    }
+}
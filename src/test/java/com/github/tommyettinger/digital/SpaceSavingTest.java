@@ -0,0 +1,106 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class SpaceSavingTest {
+    @Test
+    public void testFindsHeavyHitters() {
+        SpaceSaving summary = new SpaceSaving(100);
+        Random random = new Random(1L);
+        long[] truth = new long[100000];
+        for (int n = 0; n < 500000; n++) {
+            // keys 0..9 get half the stream, the rest is spread thinly
+            int key = random.nextBoolean() ? random.nextInt(10) : 10 + random.nextInt(truth.length - 10);
+            truth[key]++;
+            summary.add(key);
+        }
+        Assert.assertEquals(500000L, summary.total());
+        Assert.assertEquals(100, summary.size());
+        long[] keys = new long[10], counts = new long[10];
+        Assert.assertEquals(10, summary.top(keys, counts));
+        boolean[] seen = new boolean[10];
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(keys[i] < 10);
+            seen[(int) keys[i]] = true;
+            if (i > 0) Assert.assertTrue(counts[i] <= counts[i - 1]);
+            Assert.assertTrue(counts[i] >= truth[(int) keys[i]]);
+            Assert.assertTrue(counts[i] - summary.error(keys[i]) <= truth[(int) keys[i]]);
+            Assert.assertTrue(counts[i] - truth[(int) keys[i]] <= summary.total() / summary.capacity);
+        }
+        for (boolean b : seen) Assert.assertTrue(b);
+        for (int key = 0; key < truth.length; key++) {
+            Assert.assertTrue(summary.estimate(key) >= truth[key]);
+        }
+    }
+
+    @Test
+    public void testSmallAndExact() {
+        SpaceSaving summary = new SpaceSaving(8);
+        for (int i = 0; i < 5; i++) summary.add(i, i + 1);
+        long[] keys = new long[8], counts = new long[8];
+        Assert.assertEquals(5, summary.top(keys, counts));
+        Assert.assertArrayEquals(new long[]{4, 3, 2, 1, 0, 0, 0, 0}, keys);
+        Assert.assertArrayEquals(new long[]{5, 4, 3, 2, 1, 0, 0, 0}, counts);
+        Assert.assertEquals(0L, summary.error(3L));
+        Assert.assertEquals(0L, summary.estimate(99L));
+        Assert.assertFalse(summary.contains(99L));
+        for (int i = 5; i < 9; i++) summary.add(i, 10L);
+        Assert.assertFalse(summary.contains(0L));
+        Assert.assertEquals(11L, summary.estimate(8L));
+        Assert.assertEquals(1L, summary.error(8L));
+        summary.clear();
+        Assert.assertEquals(0, summary.size());
+        Assert.assertEquals(0L, summary.total());
+    }
+
+    @Test
+    public void testMerge() {
+        SpaceSaving a = new SpaceSaving(50), b = new SpaceSaving(50), all = new SpaceSaving(50);
+        Random random = new Random(2L);
+        long[] truth = new long[1000];
+        for (int n = 0; n < 100000; n++) {
+            int key = random.nextInt(4) == 0 ? random.nextInt(5) : random.nextInt(truth.length);
+            truth[key]++;
+            (n % 3 == 0 ? a : b).add(key);
+            all.add(key);
+        }
+        a.merge(b);
+        Assert.assertEquals(100000L, a.total());
+        long[] keys = new long[5], counts = new long[5];
+        Assert.assertEquals(5, a.top(keys, counts));
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(keys[i] < 5);
+            Assert.assertTrue(counts[i] >= truth[(int) keys[i]]);
+            Assert.assertTrue(counts[i] - a.error(keys[i]) <= truth[(int) keys[i]]);
+        }
+        try {
+            a.merge(new SpaceSaving(51));
+            Assert.fail("different capacities should throw");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testConcurrentAdds() throws InterruptedException {
+        final SpaceSaving summary = new SpaceSaving(1024, Hasher.omega, true);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int offset = t;
+            threads[t] = new Thread(() -> {
+                Random random = new Random(offset);
+                for (int n = 0; n < 100000; n++) {
+                    summary.add(random.nextBoolean() ? random.nextInt(20) : 100 + random.nextInt(1000000));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) thread.join();
+        Assert.assertEquals(400000L, summary.total());
+        long[] keys = new long[20], counts = new long[20];
+        Assert.assertEquals(20, summary.top(keys, counts));
+        for (long key : keys) Assert.assertTrue(key < 20);
+    }
+}
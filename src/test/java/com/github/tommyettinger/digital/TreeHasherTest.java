@@ -0,0 +1,80 @@
+package com.github.tommyettinger.digital;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class TreeHasherTest {
+    /**
+     * Hashes the leaves one at a time with the sequential Hasher methods, which is how TreeHasher's output is defined.
+     */
+    private static long expected(Hasher hasher, Object data, int length, int leafLength) {
+        long[] leaves = new long[(length - 1) / leafLength + 1];
+        for (int i = 0; i < leaves.length; i++) {
+            int start = i * leafLength, end = Math.min(length, start + leafLength);
+            Hasher leaf = new Hasher(hasher.seed + (i + 1L) * Hasher.b0);
+            if (data instanceof byte[]) leaves[i] = leaf.hashBulk64(Arrays.copyOfRange((byte[]) data, start, end));
+            else if (data instanceof int[]) leaves[i] = leaf.hash64(Arrays.copyOfRange((int[]) data, start, end));
+            else if (data instanceof long[]) leaves[i] = leaf.hash64(Arrays.copyOfRange((long[]) data, start, end));
+            else leaves[i] = leaf.hash64(Arrays.copyOfRange((double[]) data, start, end));
+        }
+        return hasher.hash64(leaves);
+    }
+
+    @Test
+    public void testThreadCountIndependence() {
+        Random random = new Random(1234L);
+        int longCount = (TreeHasher.LEAF_BYTES >>> 3) * 3 + 5;
+        long[] longs = new long[longCount];
+        double[] doubles = new double[longCount];
+        int[] ints = new int[(TreeHasher.LEAF_BYTES >>> 2) * 2 + 3];
+        byte[] bytes = new byte[TreeHasher.LEAF_BYTES * 2 + 77];
+        for (int i = 0; i < longCount; i++) {
+            longs[i] = random.nextLong();
+            doubles[i] = random.nextGaussian();
+        }
+        for (int i = 0; i < ints.length; i++) ints[i] = random.nextInt();
+        random.nextBytes(bytes);
+
+        long longHash = expected(Hasher.astaroth, longs, longs.length, TreeHasher.LEAF_BYTES >>> 3);
+        long doubleHash = expected(Hasher.astaroth, doubles, doubles.length, TreeHasher.LEAF_BYTES >>> 3);
+        long intHash = expected(Hasher.astaroth, ints, ints.length, TreeHasher.LEAF_BYTES >>> 2);
+        long byteHash = expected(Hasher.astaroth, bytes, bytes.length, TreeHasher.LEAF_BYTES);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        for (int threads = 1; threads <= 4; threads++) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                Assert.assertEquals(longHash, TreeHasher.hash64(Hasher.astaroth, longs, pool));
+                Assert.assertEquals(doubleHash, TreeHasher.hash64(Hasher.astaroth, doubles, pool));
+                Assert.assertEquals(intHash, TreeHasher.hash64(Hasher.astaroth, ints, pool));
+                Assert.assertEquals(byteHash, TreeHasher.hash64(Hasher.astaroth, bytes, pool));
+                Assert.assertEquals(byteHash, TreeHasher.hash64(Hasher.astaroth, ByteBuffer.wrap(bytes), pool));
+                Assert.assertEquals(byteHash, TreeHasher.hash64(Hasher.astaroth, direct, pool));
+                Assert.assertEquals(0, direct.position());
+            } finally {
+                pool.shutdown();
+            }
+        }
+        Assert.assertEquals(longHash, TreeHasher.hash64(Hasher.astaroth, longs));
+        Assert.assertNotEquals(longHash, TreeHasher.hash64(Hasher.omega, longs));
+    }
+
+    @Test
+    public void testSmallInputs() {
+        long[] longs = {1L, 2L, 3L, 4L, 5L};
+        int[] ints = {1, 2, 3, 4, 5, 6};
+        double[] doubles = {1.0, 2.5, -3.0};
+        byte[] bytes = "Hello, World!".getBytes();
+        Assert.assertEquals(Hasher.omega.hash64(longs), TreeHasher.hash64(Hasher.omega, longs));
+        Assert.assertEquals(Hasher.omega.hash64(ints), TreeHasher.hash64(Hasher.omega, ints));
+        Assert.assertEquals(Hasher.omega.hash64(doubles), TreeHasher.hash64(Hasher.omega, doubles));
+        Assert.assertEquals(Hasher.omega.hashBulk64(bytes), TreeHasher.hash64(Hasher.omega, bytes));
+        Assert.assertEquals(Hasher.omega.hashBulk64(bytes), TreeHasher.hash64(Hasher.omega, ByteBuffer.wrap(bytes)));
+        Assert.assertEquals(0L, TreeHasher.hash64(Hasher.omega, (long[]) null));
+    }
+}